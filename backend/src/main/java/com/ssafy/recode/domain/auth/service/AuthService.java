@@ -2,8 +2,8 @@ package com.ssafy.recode.domain.auth.service;
 
 import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.auth.repository.UserRepository;
+import com.ssafy.recode.domain.common.service.PresignedUrlCache;
 import com.ssafy.recode.domain.common.service.S3UploaderService;
-import com.ssafy.recode.domain.common.service.VideoTranscriptionService;
 import com.ssafy.recode.global.constant.AuthConstant;
 import com.ssafy.recode.global.dto.request.DeleteUserRequest;
 import com.ssafy.recode.global.dto.request.RegisterRequest;
@@ -30,13 +30,14 @@ public class AuthService {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final S3UploaderService s3UploaderService;
-  private final VideoTranscriptionService videoTranscriptionService;
+  private final PresignedUrlCache presignedUrlCache;
+  private final UserPrincipalCache userPrincipalCache;
 
   public UserProfileResponse getUser(User user) {
     String profileImageUrl = user.getProfileImageUrl();
     String presignedUrl = null;
     if (profileImageUrl != null && !profileImageUrl.isEmpty()) {
-      presignedUrl = videoTranscriptionService.presign(videoTranscriptionService.toS3Key(profileImageUrl), "image/jpeg", 15);
+      presignedUrl = presignedUrlCache.presign(profileImageUrl, "image/jpeg", 15);
      }
      return new UserProfileResponse(user, presignedUrl);
     }
@@ -44,7 +45,7 @@ public class AuthService {
     public String getPresignedUrl(User user){
       String profileImageUrl = user.getProfileImageUrl();
       if (profileImageUrl != null && !profileImageUrl.isEmpty()) {
-        return videoTranscriptionService.presign(videoTranscriptionService.toS3Key(profileImageUrl), "image/jpeg", 15);
+        return presignedUrlCache.presign(profileImageUrl, "image/jpeg", 15);
       }else{
         return "";
       }
@@ -165,7 +166,8 @@ public class AuthService {
       user.setRole(role);
     }
 
-    // 8) JPA Dirty Checking에 의해 자동 반영
+    // 8) JPA Dirty Checking에 의해 자동 반영 (커밋 후 모든 노드의 로그인 사용자 캐시 무효화)
+    userPrincipalCache.evict(user.getUuid());
     return user;
   }
 
@@ -194,6 +196,7 @@ public class AuthService {
 
     // 3) 회원 삭제
     userRepository.delete(user);
+    userPrincipalCache.evict(user.getUuid());
 
   }
 
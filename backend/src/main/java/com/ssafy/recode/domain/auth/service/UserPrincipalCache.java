@@ -0,0 +1,89 @@
+package com.ssafy.recode.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.auth.repository.UserRepository;
+import com.ssafy.recode.global.cache.CacheInvalidationBus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * UserPrincipalCache
+ *
+ * @LoginUser 해석 시 uuid → User 조회를 노드 내부에 캐싱합니다.
+ * - 인증된 요청마다 반복되던 users.uuid 조회를 TTL 동안 생략
+ * - 회원 정보 수정/탈퇴, 소셜 계정 연동 시 evict → CacheInvalidationBus로 모든 노드에 전파
+ *
+ * 적중률은 Caffeine 통계(userPrincipal), 돌려준 항목의 나이(적재 후 경과)는 auth.principal.cache.age(초)로 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+  private static final String CACHE_NAME = "userPrincipal";
+
+  private final UserRepository userRepository;
+  private final CacheInvalidationBus invalidationBus;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${auth.principal.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${auth.principal.cache.max-size:50000}")
+  private long maxSize;
+
+  @Value("${auth.principal.cache.ttl-seconds:300}")
+  private long ttlSeconds;
+
+  private Cache<String, CachedUser> cache;
+  private DistributionSummary age;
+
+  /** 조회한 User와 적재 시각 (적중 시 나이 측정용) */
+  private record CachedUser(User user, long loadedAtNanos) {}
+
+  @PostConstruct
+  void init() {
+    cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    age = DistributionSummary.builder("auth.principal.cache.age")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    invalidationBus.register(CACHE_NAME, cache::invalidate);
+  }
+
+  /**
+   * uuid의 사용자 (없으면 null)
+   */
+  public User get(String uuid) {
+    if (!enabled) {
+      return userRepository.findByUuid(uuid).orElse(null);
+    }
+    // 없는 사용자는 캐싱하지 않음 (null)
+    CachedUser cached = cache.get(uuid, key -> userRepository.findByUuid(key)
+        .map(user -> new CachedUser(user, System.nanoTime()))
+        .orElse(null));
+    if (cached == null) {
+      return null;
+    }
+    age.record((System.nanoTime() - cached.loadedAtNanos()) / 1_000_000_000.0);
+    return cached.user();
+  }
+
+  /** 사용자 정보가 바뀌었을 때 모든 노드에서 제거 (트랜잭션 안이면 커밋 후 전파) */
+  public void evict(String uuid) {
+    if (uuid != null) {
+      invalidationBus.invalidate(CACHE_NAME, uuid);
+    }
+  }
+}
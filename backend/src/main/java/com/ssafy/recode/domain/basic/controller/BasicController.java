@@ -1,10 +1,15 @@
 package com.ssafy.recode.domain.basic.controller;
 
 import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
 import com.ssafy.recode.domain.basic.entity.BasicQuestion;
 import com.ssafy.recode.global.dto.request.AnswerRequestDto;
+import com.ssafy.recode.global.dto.request.UploadUrlRequest;
+import com.ssafy.recode.global.dto.request.AnswerCommitRequest;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
 import com.ssafy.recode.global.dto.response.ApiResponse;
+import com.ssafy.recode.global.enums.AnswerType;
 import com.ssafy.recode.domain.basic.service.BasicService;
 import com.ssafy.recode.global.security.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +33,7 @@ import java.util.List;
 public class BasicController {
 
   private final BasicService basicService;
+  private final AnswerProcessingDispatcher answerDispatcher;
 
   @Operation(
       summary     = "기초 질문 답변 제출 및 적합도 평가",
@@ -54,11 +60,51 @@ public class BasicController {
       @LoginUser User user,
       @Valid @ModelAttribute AnswerRequestDto reqDto
   ) {
-    String wavKey = basicService.uploadMedia(reqDto.getVideoFile());
-    basicService.processAnswerAsync(reqDto.getQuestionId(), user.getId(), wavKey);
+    ProbedMedia media = basicService.uploadMedia(reqDto.getVideoFile());
+    answerDispatcher.dispatch(
+        AnswerType.BASIC, reqDto.getQuestionId(), user.getId(), media.mediaKey(), media.durationMs());
     return ApiResponse.successResponseWithMessage("업로드 완료, 답변 내용을 저장합니다.", null);
   }
 
+  @Operation(
+      summary     = "기초 질문 답변 직접 업로드 URL 발급",
+      description = "클라이언트가 영상을 S3로 직접 PUT 할 수 있는 Presigned URL과 mediaKey를 발급합니다. "
+          + "업로드가 끝나면 mediaKey로 /answers/commit 을 호출합니다."
+  )
+  @PostMapping(
+      path     = "/answers/upload-url",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> createUploadUrl(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody UploadUrlRequest reqDto
+  ) {
+    return ApiResponse.successResponse(
+        basicService.createUploadUrl(reqDto.fileName(), reqDto.contentType(),
+            reqDto.contentLength(), user.getId())
+    );
+  }
+
+  @Operation(
+      summary     = "기초 질문 직접 업로드 완료 처리",
+      description = "S3 업로드가 끝난 mediaKey를 확인한 뒤 STT → 평가 → 저장 파이프라인을 비동기로 시작합니다."
+  )
+  @PostMapping(
+      path     = "/answers/commit",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> commitAnswer(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody AnswerCommitRequest reqDto
+  ) {
+    ProbedMedia media = basicService.verifyUploadedMedia(reqDto.mediaKey(), user.getId());
+    answerDispatcher.dispatch(
+        AnswerType.BASIC, reqDto.questionId(), user.getId(), media.mediaKey(), media.durationMs());
+    return ApiResponse.successResponseWithMessage("업로드 확인 완료, 답변 내용을 저장합니다.", null);
+  }
+
   @Operation(
       summary     = "기초 질문 조회",
       description = "유저가 마지막으로 답변한 questionId 이후부터 3개씩 순차 조회합니다. "
@@ -22,6 +22,10 @@ public class BasicQuestion {
   @Column(columnDefinition = "TEXT")
   private String content;
 
+  /** 정답/키워드 ('|' 구분, 있으면 LLM 전에 로컬에서 먼저 채점) */
+  @Column(name = "expected_answers", columnDefinition = "TEXT")
+  private String expectedAnswers;
+
   @Column(name = "created_at")
   private LocalDateTime createdAt;
 }
\ No newline at end of file
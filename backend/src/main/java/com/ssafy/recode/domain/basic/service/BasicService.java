@@ -4,21 +4,22 @@ import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.basic.entity.BasicAnswer;
 import com.ssafy.recode.domain.basic.entity.BasicQuestion;
 import com.ssafy.recode.domain.basic.repository.BasicAnswerRepository;
-import com.ssafy.recode.domain.basic.repository.BasicAnswerRepository.BasicVideoRow;
 import com.ssafy.recode.domain.basic.repository.BasicQuestionRepository;
 import com.ssafy.recode.domain.calender.entity.DailyEmotionSummary;
 import com.ssafy.recode.domain.calender.repository.DailyEmotionSummaryRepository;
-import com.ssafy.recode.domain.common.service.AiPromptService;
-import com.ssafy.recode.domain.common.service.GenericPersistenceService;
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import com.ssafy.recode.domain.common.service.AnswerLifecycleService;
+import com.ssafy.recode.domain.common.service.AnswerScoringBatcher;
+import com.ssafy.recode.domain.common.service.DeferredScoringService;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.MediaProbeService;
 import com.ssafy.recode.domain.common.service.S3UploaderService;
+import com.ssafy.recode.domain.common.service.SttJobService;
 import com.ssafy.recode.domain.common.service.VideoTranscriptionService;
-import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
-import com.ssafy.recode.global.dto.response.calendar.VideoListResponse;
-import com.ssafy.recode.global.dto.response.calendar.VideoUrlItem;
-import com.ssafy.recode.global.dto.response.link.ElderSummaryResponse;
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
 import com.ssafy.recode.global.enums.AnswerType;
-import com.ssafy.recode.global.enums.Role;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,56 +33,132 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class BasicService {
 
-  private static final String FOLDER = "basic";
+  public static final String FOLDER = "basic";
   private static final double MATCH_THRESHOLD = 70.0;
 
+  private final MediaProbeService            mediaProbeService;
   private final S3UploaderService            uploader;
   private final VideoTranscriptionService    transcriptionService;
-  private final AiPromptService              aiPromptService;
+  private final SttJobService                sttJobService;
+  private final DeferredScoringService deferredScoringService;
+  private final AnswerScoringBatcher         scoringBatcher;
   private final BasicQuestionRepository      questionRepo;
   private final BasicAnswerRepository        answerRepo;
-  private final GenericPersistenceService    genericPersistenceService;
+  private final AnswerLifecycleService answerLifecycle;
   private final BasicAnswerRepository        basicAnswerRepository;
   private final DailyEmotionSummaryRepository dailyEmotionSummaryRepository;
-  private final GuardianElderRepository guardianElderRepository;
 
-  /** MP4 파일을 S3에 업로드하고 key 반환 */
-  public String uploadMedia(MultipartFile file) {
-    return uploader.uploadRawMedia(file, FOLDER);
+  /** 영상 헤더를 검사하면서 S3에 업로드하고 key/길이 반환 */
+  public ProbedMedia uploadMedia(MultipartFile file) {
+    return mediaProbeService.uploadProbed(file, FOLDER);
   }
 
-  /** 비동기로 STT 처리 및 평가, 결과 저장 */
+  /** 클라이언트가 S3로 직접 업로드할 Presigned PUT URL 발급 */
+  public PresignedUploadResponse createUploadUrl(String fileName, String contentType,
+      long contentLength, Long userId) {
+    return uploader.presignUpload(FOLDER, fileName, contentType, contentLength, userId);
+  }
+
+  /** 직접 업로드된 미디어가 이 폴더에 존재하는지 확인하고 헤더 검사 (통과하면 발급 기록 소비) */
+  public ProbedMedia verifyUploadedMedia(String mediaKey, Long userId) {
+    uploader.verifyUploaded(mediaKey, FOLDER, userId);
+    ProbedMedia media = mediaProbeService.probeStored(mediaKey);
+    uploader.consumeGrant(mediaKey, userId);
+    return media;
+  }
+
+  /**
+   * 비동기로 STT 처리 및 평가, 결과 저장
+   * - clova.completion=async이면 STT 작업만 등록하고 반환 (완료 시 completeAnswer가 이어서 실행)
+   */
   @Async
-  public void processAnswerAsync(Long questionId, Long userId, String mediaKey) {
+  public void processAnswerAsync(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    String answerText;
     try {
-      // 1) S3 업로드된 영상 → 텍스트 변환
-      String answerText = transcriptionService.transcribeVideo(mediaKey);
+      if (sttJobService.isAsync()) {
+        sttJobService.submit(AnswerType.BASIC, questionId, userId, mediaKey, durationMs);
+        return;
+      }
+      // S3 업로드된 영상 → 텍스트 변환
+      answerText = transcriptionService.transcribeVideo(mediaKey);
+    } catch (RuntimeException e) {
+      // Clova 장애(동시 호출 초과, 서킷 열림 등)로 전사하지 못한 경우: UPLOADED로 두고 나중에 STT부터 다시
+      if (deferredScoringService.deferTranscription(AnswerType.BASIC, questionId, userId, mediaKey,
+          durationMs, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(AnswerType.BASIC, mediaKey);
+      throw e;
+    }
+    completeAnswer(questionId, userId, mediaKey, durationMs, answerText);
+  }
 
-      // 2) 질문 내용 조회
-      BasicQuestion question = questionRepo.findById(questionId)
-          .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId));
+  /** STT 결과로 평가 후 저장 */
+  public void completeAnswer(Long questionId, Long userId, String mediaKey, Long durationMs,
+      String answerText) {
+    try {
+      answerLifecycle.markTranscribed(AnswerType.BASIC, mediaKey, answerText);
 
-      // 3) LLM 평가 → 점수 산출 및 매칭 여부 판단
-      double score   = aiPromptService.evaluateAnswer(question.getContent(), answerText);
-      boolean isMatch = score >= MATCH_THRESHOLD;
+      // 2) 질문 내용/정답 조회
+      ScoringQuestion question = getScoringQuestion(questionId);
 
-      // 4) BasicAnswer 엔티티 생성 및 저장
-      BasicAnswer answer = BasicAnswer.builder()
-          .questionId(questionId)
-          .userId(userId)
-          .answer(answerText)
-          .score(score)
-          .isMatch(isMatch)
-          .videoPath(mediaKey)
-          .build();
+      // 3) 평가 → 점수 산출 (정답이 뚜렷하면 로컬 판정, 아니면 다른 답변과 묶어 LLM 일괄 채점)
+      double score   = scoringBatcher.scoreBlocking(question, answerText);
 
-      genericPersistenceService.save(answer);
+      // 4) BasicAnswer 엔티티 생성 및 저장
+      saveAnswer(questionId, userId, mediaKey, durationMs, answerText, score);
 
     } catch (Exception e) {
+      // Gemini 장애로 채점만 못 한 경우: 전사 결과는 TRANSCRIBED로 두고 나중에 다시 채점
+      if (deferredScoringService.defer(AnswerType.BASIC, questionId, userId, mediaKey, durationMs,
+          answerText, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(AnswerType.BASIC, mediaKey);
       throw new RuntimeException("BasicAnswer 처리 중 오류 (questionId=" + questionId + ")", e);
     }
   }
 
+  /** 평가에 사용할 질문 내용과 정답 */
+  public ScoringQuestion getScoringQuestion(Long questionId) {
+    BasicQuestion question = questionRepo.findById(questionId)
+        .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId));
+    return new ScoringQuestion(question.getContent(), question.getExpectedAnswers());
+  }
+
+  /** 평가 점수와 함께 답변 행 갱신 → SCORED (매칭 여부는 점수로 판단) */
+  public void saveAnswer(Long questionId, Long userId, String mediaKey, Long durationMs,
+      String answerText, double score) {
+    BasicAnswer answer = answerRepo.findByVideoPath(mediaKey)
+        .orElseGet(() -> newAnswer(questionId, userId, mediaKey, durationMs));
+    answer.setAnswer(answerText);
+    answer.setScore(score);
+    answer.setIsMatch(score >= MATCH_THRESHOLD);
+    answer.setStatus(AnswerStatus.SCORED);
+
+    answerLifecycle.saveAndNotify(answer);
+  }
+
+  /**
+   * 업로드 직후 UPLOADED 상태의 답변 행 생성
+   * (같은 mediaKey 행이 있으면 그대로 두고, 실패한 행이면 UPLOADED로 되돌려 재처리)
+   * @return 처리를 새로 시작해야 하면 true
+   */
+  public boolean createUploadedAnswer(Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    return answerLifecycle.createUploaded(AnswerType.BASIC, mediaKey,
+        () -> newAnswer(questionId, userId, mediaKey, durationMs));
+  }
+
+  private BasicAnswer newAnswer(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    return BasicAnswer.builder()
+        .questionId(questionId)
+        .userId(userId)
+        .videoPath(mediaKey)
+        .durationMs(durationMs)
+        .build();
+  }
+
   /**
    * 유저가 마지막으로 답변한 questionId 이후의 질문 3개를 반환.
    * (답변이 없으면 처음 3개, 모자랄 경우 앞에서 채움)
@@ -108,8 +185,8 @@ public class BasicService {
     LocalDateTime startOfDay = today.atStartOfDay();
     LocalDateTime endOfDay = today.plusDays(1).atStartOfDay().minusNanos(1);
 
-    return basicAnswerRepository.existsByUserIdAndCreatedAtBetween(
-            userId, startOfDay, endOfDay
+    return basicAnswerRepository.existsByUserIdAndCreatedAtBetweenAndStatusNot(
+            userId, startOfDay, endOfDay, AnswerStatus.FAILED
     );
   }
 
@@ -127,31 +204,4 @@ public class BasicService {
     dailyEmotionSummaryRepository.save(dailyEmotionSummary);
   }
 
-  public VideoListResponse getBasicVideosByDate(User user, LocalDate date) {
-    Long elderId = user.getId();
-    if(user.getRole() != Role.ELDER){
-      List<ElderSummaryResponse> list = guardianElderRepository.findLinkedEldersByGuardianId(user.getId());
-      elderId = list.get(0).id();
-    }
-
-    // 1) DB에서 저장된 video_path(키 또는 URL) 조회
-    List<BasicVideoRow> rows = basicAnswerRepository.findVideoPathsByDate(elderId, date);
-
-    // 2) videoPath → S3 key 정규화 후 presign, answerId와 함께 DTO로
-    List<VideoUrlItem> items = rows.stream()
-        .filter(r -> r.getVideoPath() != null)
-        .map(r -> new VideoUrlItem(
-            r.getAnswerId(),
-            r.getQuestionId(),
-            r.getContent(),
-            transcriptionService.presign(transcriptionService.toS3Key(r.getVideoPath()),"video/mp4", 60),
-            r.getScore(),
-            r.getIsMatch(),
-            r.getCreatedAt()
-        ))
-        .toList();
-
-    return new VideoListResponse(date, !items.isEmpty(), items);
-  }
-
 }
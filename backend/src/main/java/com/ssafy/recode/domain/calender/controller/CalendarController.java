@@ -1,17 +1,12 @@
 package com.ssafy.recode.domain.calender.controller;
 
-import com.ssafy.recode.domain.auth.entity.User;
-import com.ssafy.recode.domain.basic.service.BasicService;
+import com.ssafy.recode.domain.calender.service.AnswerTimelineService;
 import com.ssafy.recode.domain.calender.service.CalendarService;
-import com.ssafy.recode.domain.cognitive.service.CognitiveService;
-import com.ssafy.recode.domain.personal.service.PersonalService;
 import com.ssafy.recode.domain.survey.service.SurveyService;
 import com.ssafy.recode.global.dto.response.ApiResponse;
 import com.ssafy.recode.global.dto.response.calendar.VideoListResponse;
-import com.ssafy.recode.global.enums.AnswerType;
-import com.ssafy.recode.global.security.annotation.LoginUser;
+import com.ssafy.recode.global.security.annotation.SubjectElder;
 import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -30,50 +25,54 @@ public class CalendarController {
 
   private final CalendarService calendarService;
   private final SurveyService surveyService;
-  private final BasicService basicService;
-  private final PersonalService personalService;
-  private final CognitiveService cognitiveService;
+  private final AnswerTimelineService answerTimelineService;
 
   /**
    *
-   * @param user
+   * @param elderId 조회 대상 노인 (보호자는 ?elderId= 로 선택 가능)
    * @param year
    * @param month
    * @return
    */
   @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<?> getMonthlyCalendar(
-      @LoginUser User user,
+      @SubjectElder Long elderId,
       @RequestParam int year,
       @RequestParam int month
   ){
-    return ResponseEntity.ok(ApiResponse.successResponse(surveyService.getMonthlyCalendar(user, year, month)));
+    return ResponseEntity.ok(ApiResponse.successResponse(surveyService.getMonthlyCalendar(elderId, year, month)));
   }
 
   @GetMapping("/{date}/emotions")
   public ResponseEntity<?> getEmotions(
-      @LoginUser User user,
+      @SubjectElder Long elderId,
       @PathVariable
       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
   ) {
-    return ResponseEntity.ok(ApiResponse.successResponse(calendarService.getEmotionsByDatePerType(user, date)));
+    return ResponseEntity.ok(ApiResponse.successResponse(calendarService.getEmotionsByDatePerType(elderId, date)));
   }
 
+  /**
+   * 날짜별 영상 목록 (answer_timeline 범위 조회 한 번)
+   */
   @GetMapping("/{date}/videos")
   public ResponseEntity<?> getVideos(
-      @LoginUser User user,
+      @SubjectElder Long elderId,
       @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
   ) {
-    VideoListResponse basicVideosByDate = basicService.getBasicVideosByDate(user, date);
-    VideoListResponse personalVideosByDate = personalService.getPersonalVideosByDate(user, date);
-    VideoListResponse cognitiveAudioVideoByDate = cognitiveService.getCognitiveVideosByDate(user, date, AnswerType.COGNITIVE_AUDIO);
-    VideoListResponse cognitiveImageVideoByDate = cognitiveService.getCognitiveVideosByDate(user, date, AnswerType.COGNITIVE_IMAGE);
-
-    Map<String, VideoListResponse> map = new HashMap<>();
-    map.put("basic", basicVideosByDate);
-    map.put("personal", personalVideosByDate);
-    map.put("cognitiveAudio", cognitiveAudioVideoByDate);
-    map.put("cognitiveImage", cognitiveImageVideoByDate);
+    Map<String, VideoListResponse> map = answerTimelineService.getVideosByDate(elderId, date);
     return ResponseEntity.ok(ApiResponse.successResponseWithMessage("", map));
   }
+
+  /**
+   * 주간/월간 답변 기록 (from~to, 날짜별)
+   */
+  @GetMapping("/history")
+  public ResponseEntity<?> getHistory(
+      @SubjectElder Long elderId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+  ) {
+    return ResponseEntity.ok(ApiResponse.successResponse(answerTimelineService.getHistory(elderId, from, to)));
+  }
 }
@@ -0,0 +1,80 @@
+package com.ssafy.recode.domain.calender.entity;
+
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 답변 타임라인 (캘린더 영상/기록 조회용 읽기 모델)
+ * - 기초/개인화/인지 답변이 처음 저장될 때 한 행 추가, 이후 처리 상태/점수만 갱신 (삭제 없음)
+ * - 질문 내용을 함께 저장해 조회 시 질문 테이블 조인 없음
+ * - (user_id, created_date, answer_type) 인덱스 범위 조회 한 번으로 하루/주/월 조회
+ */
+@Entity
+@Table(
+    name = "answer_timeline",
+    indexes = {
+        @Index(name = "idx_answer_timeline_user_date_type", columnList = "user_id, created_date, answer_type")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uq_answer_timeline_answer", columnNames = {"answer_type", "answer_id"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnswerTimeline {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "timeline_id")
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Column(name = "created_date", nullable = false)
+  private LocalDate createdDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "answer_type", nullable = false, length = 32)
+  private AnswerType answerType;
+
+  @Column(name = "answer_id", nullable = false)
+  private Long answerId;
+
+  @Column(name = "question_id", nullable = false)
+  private Long questionId;
+
+  @Column(name = "question_content", columnDefinition = "TEXT")
+  private String questionContent;
+
+  @Column(name = "video_path", length = 255)
+  private String videoPath;
+
+  @Column(name = "score")
+  private Double score;
+
+  @Column(name = "is_match")
+  private Boolean isMatch;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20, nullable = false)
+  private AnswerStatus status;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,56 @@
+package com.ssafy.recode.domain.calender.entity;
+
+import com.ssafy.recode.global.enums.AnswerType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 월간 활동 비트마스크 (캘린더 조회용 읽기 모델)
+ * - (user_id, activity_month=yyyyMM, answer_type)마다 한 행
+ * - day_mask의 (일-1)번째 비트: 그날 FAILED가 아닌 답변이 있으면 1
+ */
+@Entity
+@Table(name = "user_activity_month")
+@IdClass(UserActivityMonth.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserActivityMonth {
+
+  @Id
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Id
+  @Column(name = "activity_month", nullable = false)
+  private Integer activityMonth;
+
+  @Id
+  @Enumerated(EnumType.STRING)
+  @Column(name = "answer_type", nullable = false, length = 32)
+  private AnswerType answerType;
+
+  @Column(name = "day_mask", nullable = false)
+  private Integer dayMask;
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+
+    private Long userId;
+    private Integer activityMonth;
+    private AnswerType answerType;
+  }
+}
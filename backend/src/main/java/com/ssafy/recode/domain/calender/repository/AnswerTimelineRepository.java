@@ -0,0 +1,89 @@
+package com.ssafy.recode.domain.calender.repository;
+
+import com.ssafy.recode.domain.calender.entity.AnswerTimeline;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * AnswerTimelineRepository
+ *
+ * 답변 타임라인 조회/기록
+ * - 조회: (user_id, created_date) 범위 한 번 (하루/주/월 공통)
+ * - 기록: 상태/점수 갱신을 먼저 시도하고, 행이 없을 때만 질문 내용과 함께 추가
+ */
+public interface AnswerTimelineRepository extends JpaRepository<AnswerTimeline, Long> {
+
+  List<AnswerTimeline> findByUserIdAndCreatedDateBetweenOrderByCreatedAtAsc(
+      Long userId, LocalDate from, LocalDate to);
+
+  @Modifying
+  @Query(value = """
+      UPDATE answer_timeline
+         SET status = :status, score = :score, is_match = :isMatch, video_path = :videoPath
+       WHERE answer_type = :answerType AND answer_id = :answerId
+      """, nativeQuery = true)
+  int updateProgress(@Param("answerType") String answerType, @Param("answerId") Long answerId,
+      @Param("status") String status, @Param("score") Double score,
+      @Param("isMatch") Boolean isMatch, @Param("videoPath") String videoPath);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO answer_timeline
+        (user_id, created_date, answer_type, answer_id, question_id, question_content,
+         video_path, score, is_match, status, created_at)
+      VALUES
+        (:userId, DATE(:createdAt), :answerType, :answerId, :questionId, :content,
+         :videoPath, :score, :isMatch, :status, :createdAt)
+      ON DUPLICATE KEY UPDATE
+        status = VALUES(status), score = VALUES(score),
+        is_match = VALUES(is_match), video_path = VALUES(video_path)
+      """, nativeQuery = true)
+  void insert(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt,
+      @Param("answerType") String answerType, @Param("answerId") Long answerId,
+      @Param("questionId") Long questionId, @Param("content") String content,
+      @Param("videoPath") String videoPath, @Param("score") Double score,
+      @Param("isMatch") Boolean isMatch, @Param("status") String status);
+
+  @Modifying
+  @Query(value = """
+      INSERT IGNORE INTO answer_timeline
+        (user_id, created_date, answer_type, answer_id, question_id, question_content,
+         video_path, score, is_match, status, created_at)
+      SELECT ba.user_id, DATE(ba.created_at), 'BASIC', ba.answer_id, ba.question_id, bq.content,
+             ba.video_path, ba.score, ba.is_match, ba.status, ba.created_at
+        FROM basic_answers ba
+        JOIN basic_questions bq ON bq.question_id = ba.question_id
+      """, nativeQuery = true)
+  int backfillBasic();
+
+  @Modifying
+  @Query(value = """
+      INSERT IGNORE INTO answer_timeline
+        (user_id, created_date, answer_type, answer_id, question_id, question_content,
+         video_path, score, is_match, status, created_at)
+      SELECT pa.user_id, DATE(pa.created_at), 'PERSONAL', pa.answer_id, pa.question_id, pq.content,
+             pa.video_path, pa.score, pa.is_match, pa.status, pa.created_at
+        FROM personal_answers pa
+        JOIN personal_questions pq ON pq.question_id = pa.question_id
+      """, nativeQuery = true)
+  int backfillPersonal();
+
+  @Modifying
+  @Query(value = """
+      INSERT IGNORE INTO answer_timeline
+        (user_id, created_date, answer_type, answer_id, question_id, question_content,
+         video_path, score, is_match, status, created_at)
+      SELECT ca.user_id, DATE(ca.created_at),
+             CASE WHEN cq.media_type = 'image' THEN 'COGNITIVE_IMAGE' ELSE 'COGNITIVE_AUDIO' END,
+             ca.answer_id, ca.question_id, cq.content,
+             ca.video_path, ca.score, ca.is_match, ca.status, ca.created_at
+        FROM cognitive_answers ca
+        JOIN cognitive_questions cq ON cq.question_id = ca.question_id
+      """, nativeQuery = true)
+  int backfillCognitive();
+}
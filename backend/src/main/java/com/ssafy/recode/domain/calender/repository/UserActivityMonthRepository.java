@@ -0,0 +1,116 @@
+package com.ssafy.recode.domain.calender.repository;
+
+import com.ssafy.recode.domain.calender.entity.UserActivityMonth;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * UserActivityMonthRepository
+ *
+ * 월간 활동 비트마스크 조회/갱신
+ * - 조회: (user_id, activity_month) PK 접두 범위 한 번
+ * - 갱신: 답변 저장 시 해당 날짜 비트를 OR로 켜고, FAILED가 되면 같은 날 다른 답변이 없을 때만 끔
+ * - 백필: 답변 테이블별 GROUP BY + BIT_OR 한 번씩
+ */
+public interface UserActivityMonthRepository
+    extends JpaRepository<UserActivityMonth, UserActivityMonth.Key> {
+
+  List<UserActivityMonth> findByUserIdAndActivityMonth(Long userId, Integer activityMonth);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_activity_month (user_id, activity_month, answer_type, day_mask)
+      VALUES (:userId, :month, :answerType, :bit)
+      ON DUPLICATE KEY UPDATE day_mask = day_mask | :bit
+      """, nativeQuery = true)
+  void markDay(@Param("userId") Long userId, @Param("month") int month,
+      @Param("answerType") String answerType, @Param("bit") int bit);
+
+  @Modifying
+  @Query(value = """
+      UPDATE user_activity_month SET day_mask = day_mask & ~:bit
+      WHERE user_id = :userId AND activity_month = :month AND answer_type = 'BASIC'
+        AND NOT EXISTS (
+          SELECT 1 FROM basic_answers ba
+          WHERE ba.user_id = :userId AND ba.status <> 'FAILED'
+            AND ba.created_at >= :start AND ba.created_at < :end
+        )
+      """, nativeQuery = true)
+  void clearBasicDayIfIdle(@Param("userId") Long userId, @Param("month") int month,
+      @Param("bit") int bit, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  @Modifying
+  @Query(value = """
+      UPDATE user_activity_month SET day_mask = day_mask & ~:bit
+      WHERE user_id = :userId AND activity_month = :month AND answer_type = 'PERSONAL'
+        AND NOT EXISTS (
+          SELECT 1 FROM personal_answers pa
+          WHERE pa.user_id = :userId AND pa.status <> 'FAILED'
+            AND pa.created_at >= :start AND pa.created_at < :end
+        )
+      """, nativeQuery = true)
+  void clearPersonalDayIfIdle(@Param("userId") Long userId, @Param("month") int month,
+      @Param("bit") int bit, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  @Modifying
+  @Query(value = """
+      UPDATE user_activity_month SET day_mask = day_mask & ~:bit
+      WHERE user_id = :userId AND activity_month = :month AND answer_type = :answerType
+        AND NOT EXISTS (
+          SELECT 1 FROM cognitive_answers ca
+          WHERE ca.user_id = :userId AND ca.status <> 'FAILED'
+            AND ca.media_type = :mediaType
+            AND ca.created_at >= :start AND ca.created_at < :end
+        )
+      """, nativeQuery = true)
+  void clearCognitiveDayIfIdle(@Param("userId") Long userId, @Param("month") int month,
+      @Param("answerType") String answerType, @Param("mediaType") String mediaType,
+      @Param("bit") int bit, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_activity_month (user_id, activity_month, answer_type, day_mask)
+      SELECT m.user_id, m.activity_month, 'BASIC', m.day_mask FROM (
+        SELECT ba.user_id, YEAR(ba.created_at) * 100 + MONTH(ba.created_at) AS activity_month,
+               BIT_OR(1 << (DAY(ba.created_at) - 1)) AS day_mask
+        FROM basic_answers ba
+        WHERE ba.status <> 'FAILED'
+        GROUP BY ba.user_id, activity_month
+      ) m
+      ON DUPLICATE KEY UPDATE day_mask = user_activity_month.day_mask | m.day_mask
+      """, nativeQuery = true)
+  int backfillBasic();
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_activity_month (user_id, activity_month, answer_type, day_mask)
+      SELECT m.user_id, m.activity_month, 'PERSONAL', m.day_mask FROM (
+        SELECT pa.user_id, YEAR(pa.created_at) * 100 + MONTH(pa.created_at) AS activity_month,
+               BIT_OR(1 << (DAY(pa.created_at) - 1)) AS day_mask
+        FROM personal_answers pa
+        WHERE pa.status <> 'FAILED'
+        GROUP BY pa.user_id, activity_month
+      ) m
+      ON DUPLICATE KEY UPDATE day_mask = user_activity_month.day_mask | m.day_mask
+      """, nativeQuery = true)
+  int backfillPersonal();
+
+  @Modifying
+  @Query(value = """
+      INSERT INTO user_activity_month (user_id, activity_month, answer_type, day_mask)
+      SELECT m.user_id, m.activity_month, m.answer_type, m.day_mask FROM (
+        SELECT ca.user_id, YEAR(ca.created_at) * 100 + MONTH(ca.created_at) AS activity_month,
+               CASE WHEN ca.media_type = 'image' THEN 'COGNITIVE_IMAGE' ELSE 'COGNITIVE_AUDIO' END AS answer_type,
+               BIT_OR(1 << (DAY(ca.created_at) - 1)) AS day_mask
+        FROM cognitive_answers ca
+        WHERE ca.status <> 'FAILED'
+        GROUP BY ca.user_id, activity_month, answer_type
+      ) m
+      ON DUPLICATE KEY UPDATE day_mask = user_activity_month.day_mask | m.day_mask
+      """, nativeQuery = true)
+  int backfillCognitive();
+}
@@ -0,0 +1,184 @@
+package com.ssafy.recode.domain.calender.service;
+
+import com.ssafy.recode.domain.basic.entity.BasicAnswer;
+import com.ssafy.recode.domain.basic.entity.BasicQuestion;
+import com.ssafy.recode.domain.basic.repository.BasicQuestionRepository;
+import com.ssafy.recode.domain.calender.entity.AnswerTimeline;
+import com.ssafy.recode.domain.calender.repository.AnswerTimelineRepository;
+import com.ssafy.recode.domain.cognitive.entity.CognitiveAnswer;
+import com.ssafy.recode.domain.common.service.PresignedUrlCache;
+import com.ssafy.recode.domain.personal.entity.PersonalAnswer;
+import com.ssafy.recode.domain.personal.entity.PersonalQuestion;
+import com.ssafy.recode.domain.personal.repository.PersonalQuestionRepository;
+import com.ssafy.recode.global.dto.response.calendar.TimelineDayResponse;
+import com.ssafy.recode.global.dto.response.calendar.TimelineEntryResponse;
+import com.ssafy.recode.global.dto.response.calendar.VideoListResponse;
+import com.ssafy.recode.global.dto.response.calendar.VideoUrlItem;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * AnswerTimelineService
+ *
+ * 답변 타임라인(answer_timeline)을 기록하고, 캘린더의 날짜별 영상/기간 기록을 한 번의 범위 조회로 제공합니다.
+ * - 기록: 답변 저장(GenericPersistenceService.save)마다 상태/점수 갱신, 첫 저장이면 질문 내용과 함께 추가
+ * - 날짜별 영상: 하루치 타임라인을 읽어 유형별(basic/personal/cognitiveAudio/cognitiveImage)로 나누고 presign
+ * - 주/월 기록: 기간의 타임라인을 날짜별로 묶어 반환 (최대 max-range-days)
+ * - 테이블이 비어 있으면 시작 시 기존 답변으로 백필 (calendar.timeline.backfill=always면 매번)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerTimelineService {
+
+  private final AnswerTimelineRepository timelineRepository;
+  private final BasicQuestionRepository basicQuestionRepository;
+  private final PersonalQuestionRepository personalQuestionRepository;
+  private final PresignedUrlCache presignedUrlCache;
+
+  /** auto(비어 있을 때만) | always | never */
+  @Value("${calendar.timeline.backfill:auto}")
+  private String backfill;
+
+  @Value("${calendar.timeline.max-range-days:62}")
+  private int maxRangeDays;
+
+  /**
+   * 저장된 답변 엔티티를 타임라인에 반영 (답변이 아닌 엔티티는 무시)
+   */
+  public void onSaved(Object entity) {
+    if (entity instanceof BasicAnswer a) {
+      record(AnswerType.BASIC, a.getAnswerId(), a.getUserId(), a.getQuestionId(), a.getVideoPath(),
+          a.getScore(), a.getIsMatch(), a.getStatus(), a.getCreatedAt());
+    } else if (entity instanceof PersonalAnswer a) {
+      record(AnswerType.PERSONAL, a.getAnswerId(), a.getUserId(), a.getQuestionId(), a.getVideoPath(),
+          a.getScore(), a.getIsMatch(), a.getStatus(), a.getCreatedAt());
+    } else if (entity instanceof CognitiveAnswer a) {
+      AnswerType type = "image".equalsIgnoreCase(a.getMediaType())
+          ? AnswerType.COGNITIVE_IMAGE : AnswerType.COGNITIVE_AUDIO;
+      if (timelineRepository.updateProgress(type.name(), a.getAnswerId(), a.getStatus().name(),
+          a.getScore(), a.isMatch(), a.getVideoPath()) == 0) {
+        timelineRepository.insert(a.getUserId(), createdAt(a.getCreatedAt()), type.name(),
+            a.getAnswerId(), a.getQuestion().getQuestionId(), a.getQuestion().getContent(),
+            a.getVideoPath(), a.getScore(), a.isMatch(), a.getStatus().name());
+      }
+    }
+  }
+
+  private void record(AnswerType type, Long answerId, Long userId, Long questionId,
+      String videoPath, Double score, Boolean isMatch, AnswerStatus status, LocalDateTime createdAt) {
+    // 대부분은 이미 있는 행의 상태 갱신 — 질문 내용은 첫 저장 때만 조회
+    if (timelineRepository.updateProgress(type.name(), answerId, status.name(), score, isMatch,
+        videoPath) > 0) {
+      return;
+    }
+    timelineRepository.insert(userId, createdAt(createdAt), type.name(), answerId, questionId,
+        questionContent(type, questionId), videoPath, score, isMatch, status.name());
+  }
+
+  private String questionContent(AnswerType type, Long questionId) {
+    return switch (type) {
+      case BASIC -> basicQuestionRepository.findById(questionId)
+          .map(BasicQuestion::getContent).orElse(null);
+      case PERSONAL -> personalQuestionRepository.findById(questionId)
+          .map(PersonalQuestion::getContent).orElse(null);
+      default -> null;
+    };
+  }
+
+  private static LocalDateTime createdAt(LocalDateTime createdAt) {
+    return createdAt != null ? createdAt : LocalDateTime.now();
+  }
+
+  /**
+   * 날짜별 영상 목록 (유형별 presigned URL 포함)
+   */
+  @Transactional(readOnly = true)
+  public Map<String, VideoListResponse> getVideosByDate(Long elderId, LocalDate date) {
+    List<AnswerTimeline> rows = timelineRepository.findByUserIdAndCreatedDateBetweenOrderByCreatedAtAsc(
+        elderId, date, date);
+    // 하루치 영상을 한 번에 발급 (최근 발급한 URL은 캐시에서 재사용)
+    Map<String, String> presigned = presignedUrlCache.presignAll(
+        rows.stream().map(AnswerTimeline::getVideoPath).toList(), "video/mp4", 60);
+
+    Map<AnswerType, List<VideoUrlItem>> byType = new EnumMap<>(AnswerType.class);
+    for (AnswerTimeline row : rows) {
+      if (row.getVideoPath() == null) {
+        continue;
+      }
+      byType.computeIfAbsent(row.getAnswerType(), t -> new ArrayList<>()).add(new VideoUrlItem(
+          row.getAnswerId(),
+          row.getQuestionId(),
+          row.getQuestionContent(),
+          presigned.get(row.getVideoPath()),
+          row.getScore() != null ? row.getScore().intValue() : 0,
+          Boolean.TRUE.equals(row.getIsMatch()),
+          row.getCreatedAt(),
+          row.getStatus().name()
+      ));
+    }
+
+    Map<String, VideoListResponse> videos = new LinkedHashMap<>();
+    videos.put("basic", videoList(date, byType.get(AnswerType.BASIC)));
+    videos.put("personal", videoList(date, byType.get(AnswerType.PERSONAL)));
+    videos.put("cognitiveAudio", videoList(date, byType.get(AnswerType.COGNITIVE_AUDIO)));
+    videos.put("cognitiveImage", videoList(date, byType.get(AnswerType.COGNITIVE_IMAGE)));
+    return videos;
+  }
+
+  private static VideoListResponse videoList(LocalDate date, List<VideoUrlItem> items) {
+    List<VideoUrlItem> list = items != null ? items : List.of();
+    return new VideoListResponse(date, !list.isEmpty(), list);
+  }
+
+  /**
+   * from~to(포함) 기간의 답변 기록을 날짜별로 묶어 반환 (주간/월간 기록 화면)
+   */
+  @Transactional(readOnly = true)
+  public List<TimelineDayResponse> getHistory(Long elderId, LocalDate from, LocalDate to) {
+    if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+      throw new CustomException(ErrorCode.DATE_INVALID_ERROR);
+    }
+    Map<LocalDate, List<TimelineEntryResponse>> byDate = new TreeMap<>();
+    for (AnswerTimeline row : timelineRepository.findByUserIdAndCreatedDateBetweenOrderByCreatedAtAsc(
+        elderId, from, to)) {
+      byDate.computeIfAbsent(row.getCreatedDate(), d -> new ArrayList<>()).add(new TimelineEntryResponse(
+          row.getAnswerType(), row.getAnswerId(), row.getQuestionId(), row.getQuestionContent(),
+          row.getScore(), row.getIsMatch(), row.getStatus(), row.getCreatedAt()));
+    }
+    return byDate.entrySet().stream()
+        .map(e -> new TimelineDayResponse(e.getKey(), e.getValue()))
+        .toList();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfillOnStartup() {
+    if ("never".equals(backfill) || ("auto".equals(backfill) && timelineRepository.count() > 0)) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    int rows = timelineRepository.backfillBasic()
+        + timelineRepository.backfillPersonal()
+        + timelineRepository.backfillCognitive();
+    log.info("답변 타임라인 백필 완료 ({}행, {}ms)", rows, System.currentTimeMillis() - start);
+  }
+}
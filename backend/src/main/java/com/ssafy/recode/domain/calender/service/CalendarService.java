@@ -1,11 +1,7 @@
 package com.ssafy.recode.domain.calender.service;
 
-import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.calender.repository.DailyEmotionSummaryRepository;
-import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
 import com.ssafy.recode.global.dto.response.calendar.EmotionByTypeResponse;
-import com.ssafy.recode.global.dto.response.link.ElderSummaryResponse;
-import com.ssafy.recode.global.enums.Role;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.LocalDate;
@@ -19,14 +15,8 @@ import org.springframework.stereotype.Service;
 public class CalendarService {
 
   private final DailyEmotionSummaryRepository dailyEmotionSummaryRepository;
-  private final GuardianElderRepository guardianElderRepository;
 
-  public List<EmotionByTypeResponse> getEmotionsByDatePerType(User user, LocalDate date) {
-    Long elderId = user.getId();
-    if(user.getRole() != Role.ELDER){
-      List<ElderSummaryResponse> list = guardianElderRepository.findLinkedEldersByGuardianId(user.getId());
-      elderId = list.get(0).id();
-    }
+  public List<EmotionByTypeResponse> getEmotionsByDatePerType(Long elderId, LocalDate date) {
     return dailyEmotionSummaryRepository.findEmotionByDatePerTypeRaw(elderId, date).stream()
         .map(row -> {
           Long _userId = ((Number) row[0]).longValue();
@@ -0,0 +1,116 @@
+package com.ssafy.recode.domain.calender.service;
+
+import com.ssafy.recode.domain.basic.entity.BasicAnswer;
+import com.ssafy.recode.domain.calender.entity.UserActivityMonth;
+import com.ssafy.recode.domain.calender.repository.UserActivityMonthRepository;
+import com.ssafy.recode.domain.cognitive.entity.CognitiveAnswer;
+import com.ssafy.recode.domain.personal.entity.PersonalAnswer;
+import com.ssafy.recode.global.dto.response.calendar.MonthlyCalendarResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * UserActivityService
+ *
+ * 캘린더의 "그날 활동 여부"를 user_activity_month 비트마스크로 관리합니다.
+ * - 답변 저장(GenericPersistenceService.save)마다 해당 날짜 비트 갱신
+ *   · FAILED가 아니면 비트를 켬 (멱등 OR)
+ *   · FAILED면 같은 날 같은 유형의 다른 답변이 없을 때만 끔
+ * - 월간 캘린더는 (user_id, 월) 행 최대 4개를 읽어 OR
+ * - 테이블이 비어 있으면 시작 시 기존 답변으로 백필 (calendar.activity.backfill=always면 매번)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityService {
+
+  private final UserActivityMonthRepository activityRepository;
+
+  /** auto(비어 있을 때만) | always | never */
+  @Value("${calendar.activity.backfill:auto}")
+  private String backfill;
+
+  /**
+   * 저장된 답변 엔티티의 활동 비트 갱신 (답변이 아닌 엔티티는 무시)
+   */
+  public void onSaved(Object entity) {
+    if (entity instanceof BasicAnswer a) {
+      update(AnswerType.BASIC, a.getUserId(), a.getCreatedAt(), a.getStatus(), null);
+    } else if (entity instanceof PersonalAnswer a) {
+      update(AnswerType.PERSONAL, a.getUserId(), a.getCreatedAt(), a.getStatus(), null);
+    } else if (entity instanceof CognitiveAnswer a) {
+      AnswerType type = "image".equalsIgnoreCase(a.getMediaType())
+          ? AnswerType.COGNITIVE_IMAGE : AnswerType.COGNITIVE_AUDIO;
+      update(type, a.getUserId(), a.getCreatedAt(), a.getStatus(), a.getMediaType());
+    }
+  }
+
+  private void update(AnswerType type, Long userId, LocalDateTime createdAt, AnswerStatus status,
+      String mediaType) {
+    LocalDate date = createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+    int month = monthKey(YearMonth.from(date));
+    int bit = 1 << (date.getDayOfMonth() - 1);
+
+    if (status != AnswerStatus.FAILED) {
+      activityRepository.markDay(userId, month, type.name(), bit);
+      return;
+    }
+    LocalDateTime start = date.atStartOfDay();
+    LocalDateTime end = start.plusDays(1);
+    switch (type) {
+      case BASIC -> activityRepository.clearBasicDayIfIdle(userId, month, bit, start, end);
+      case PERSONAL -> activityRepository.clearPersonalDayIfIdle(userId, month, bit, start, end);
+      case COGNITIVE_AUDIO, COGNITIVE_IMAGE ->
+          activityRepository.clearCognitiveDayIfIdle(userId, month, type.name(), mediaType, bit, start, end);
+      default -> { }
+    }
+  }
+
+  /**
+   * 월간 캘린더 (1일~말일, 하루라도 답변이 있으면 hasData=true)
+   */
+  @Transactional(readOnly = true)
+  public List<MonthlyCalendarResponse> getMonthlyCalendar(Long userId, int year, int month) {
+    YearMonth yearMonth = YearMonth.of(year, month);
+    int mask = 0;
+    for (UserActivityMonth row : activityRepository.findByUserIdAndActivityMonth(userId, monthKey(yearMonth))) {
+      mask |= row.getDayMask();
+    }
+
+    List<MonthlyCalendarResponse> days = new ArrayList<>(yearMonth.lengthOfMonth());
+    for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+      days.add(new MonthlyCalendarResponse(yearMonth.atDay(day), (mask & (1 << (day - 1))) != 0));
+    }
+    return days;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfillOnStartup() {
+    if ("never".equals(backfill) || ("auto".equals(backfill) && activityRepository.count() > 0)) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    int rows = activityRepository.backfillBasic()
+        + activityRepository.backfillPersonal()
+        + activityRepository.backfillCognitive();
+    log.info("월간 활동 비트마스크 백필 완료 ({}행, {}ms)", rows, System.currentTimeMillis() - start);
+  }
+
+  /** yyyyMM */
+  private static int monthKey(YearMonth yearMonth) {
+    return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+  }
+}
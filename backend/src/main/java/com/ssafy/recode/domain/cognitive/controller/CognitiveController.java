@@ -1,9 +1,13 @@
 package com.ssafy.recode.domain.cognitive.controller;
 
 import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
 import com.ssafy.recode.domain.cognitive.entity.CognitiveQuestion;
 import com.ssafy.recode.domain.cognitive.service.CognitiveService;
 import com.ssafy.recode.global.dto.request.AnswerRequestDto;
+import com.ssafy.recode.global.dto.request.UploadUrlRequest;
+import com.ssafy.recode.global.dto.request.AnswerCommitRequest;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
 import com.ssafy.recode.global.dto.response.ApiResponse;
 import com.ssafy.recode.global.enums.AnswerType;
@@ -29,6 +33,7 @@ import java.util.List;
 public class CognitiveController {
 
   private final CognitiveService cognitiveService;
+  private final AnswerProcessingDispatcher answerDispatcher;
 
   @Operation(
       summary     = "인지 질문 답변 제출 및 적합도 평가",
@@ -54,18 +59,66 @@ public class CognitiveController {
       @Parameter(hidden = true) @LoginUser User user,
       @Valid @ModelAttribute AnswerRequestDto reqDto
   ) {
-    String mediaKey = cognitiveService.uploadMedia(reqDto.getVideoFile(), reqDto.getMediaType());
-    cognitiveService.processAnswerAsync(
+    ProbedMedia media = cognitiveService.uploadMedia(reqDto.getVideoFile(), reqDto.getMediaType());
+    answerDispatcher.dispatch(
+        AnswerProcessingDispatcher.cognitiveType(reqDto.getMediaType()),
         reqDto.getQuestionId(),
         user.getId(),
-        mediaKey,
-        reqDto.getMediaType()
+        media.mediaKey(),
+        media.durationMs()
     );
     return ApiResponse.successResponseWithMessage(
         "업로드 완료, 백그라운드에서 평가를 진행합니다.", null
     );
   }
 
+  @Operation(
+      summary     = "인지 질문 답변 직접 업로드 URL 발급",
+      description = "mediaType('audio'|'image') 폴더로 S3에 직접 PUT 할 수 있는 Presigned URL과 mediaKey를 발급합니다. "
+          + "업로드가 끝나면 mediaKey로 /answers/commit 을 호출합니다."
+  )
+  @PostMapping(
+      path     = "/answers/upload-url",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> createUploadUrl(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody UploadUrlRequest reqDto
+  ) {
+    return ApiResponse.successResponse(
+        cognitiveService.createUploadUrl(reqDto.fileName(), reqDto.contentType(),
+            reqDto.mediaType(), reqDto.contentLength(), user.getId())
+    );
+  }
+
+  @Operation(
+      summary     = "인지 질문 직접 업로드 완료 처리",
+      description = "S3 업로드가 끝난 mediaKey를 확인한 뒤 STT → 평가 → 저장 파이프라인을 비동기로 시작합니다."
+  )
+  @PostMapping(
+      path     = "/answers/commit",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> commitCognitiveAnswer(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody AnswerCommitRequest reqDto
+  ) {
+    ProbedMedia media = cognitiveService.verifyUploadedMedia(reqDto.mediaKey(), reqDto.mediaType(),
+        user.getId());
+    answerDispatcher.dispatch(
+        AnswerProcessingDispatcher.cognitiveType(reqDto.mediaType()),
+        reqDto.questionId(),
+        user.getId(),
+        media.mediaKey(),
+        media.durationMs()
+    );
+    return ApiResponse.successResponseWithMessage(
+        "업로드 확인 완료, 백그라운드에서 평가를 진행합니다.", null
+    );
+  }
+
   @Operation(
       summary = "인지 질문 조회(타입별)",
       description = "mediaType('audio'|'image') 기준으로, 유저가 마지막으로 답한 question_id 이후부터 3개를 반환합니다."
@@ -1,5 +1,8 @@
 package com.ssafy.recode.domain.cognitive.entity;
 
+import com.ssafy.recode.domain.common.answer.AnswerRecord;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -10,9 +13,11 @@ import java.time.LocalDateTime;
  * 인지 회상 훈련 답변 엔티티
  */
 @Entity
-@Table(name = "cognitive_answers")
+@Table(name = "cognitive_answers", indexes = {
+    @Index(name = "idx_cognitive_answers_video_path", columnList = "video_path", unique = true)
+})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
-public class CognitiveAnswer {
+public class CognitiveAnswer implements AnswerRecord {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,12 +33,12 @@ public class CognitiveAnswer {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    /** 전사된 텍스트 답변 */
+    /** 전사된 텍스트 답변 (STT 완료 전에는 null) */
     @Column(columnDefinition = "TEXT")
     private String answer;
 
-    /** 평가 점수(0~100) */
-    private double score;
+    /** 평가 점수(0~100), 평가 전에는 null */
+    private Double score;
 
     /** 적합 여부 (0|1) */
     @Column(name = "is_match")
@@ -47,8 +52,28 @@ public class CognitiveAnswer {
     @Column(name = "media_type", columnDefinition = "ENUM('audio','image')")
     private String mediaType;
 
+    /** 영상 길이(ms), 헤더로 알 수 없으면 null */
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    /** 처리 상태 (UPLOADED → TRANSCRIBED → SCORED | FAILED) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private AnswerStatus status = AnswerStatus.UPLOADED;
+
     /** 생성일시 */
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+
+    @Override
+    public AnswerType answerType() {
+        return "audio".equals(mediaType) ? AnswerType.COGNITIVE_AUDIO : AnswerType.COGNITIVE_IMAGE;
+    }
+
+    @Override
+    public Long getQuestionId() {
+        return question.getQuestionId();
+    }
 }
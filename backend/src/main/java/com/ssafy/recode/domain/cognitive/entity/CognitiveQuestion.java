@@ -23,6 +23,10 @@ public class CognitiveQuestion {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    /** 정답/키워드 ('|' 구분, 있으면 LLM 전에 로컬에서 먼저 채점) */
+    @Column(name = "expected_answers", columnDefinition = "TEXT")
+    private String expectedAnswers;
+
     /** 미디어(URL) */
     @Column(name = "media_url", length = 255)
     private String mediaUrl;
@@ -6,22 +6,25 @@ import com.ssafy.recode.domain.calender.repository.DailyEmotionSummaryRepository
 import com.ssafy.recode.domain.cognitive.entity.CognitiveAnswer;
 import com.ssafy.recode.domain.cognitive.entity.CognitiveQuestion;
 import com.ssafy.recode.domain.cognitive.repository.CognitiveAnswerRepository;
-import com.ssafy.recode.domain.cognitive.repository.CognitiveAnswerRepository.CognitiveVideoRow;
 import com.ssafy.recode.domain.cognitive.repository.CognitiveQuestionRepository;
-import com.ssafy.recode.domain.common.service.AiPromptService;
-import com.ssafy.recode.domain.common.service.GenericPersistenceService;
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import com.ssafy.recode.domain.common.service.AnswerLifecycleService;
+import com.ssafy.recode.domain.common.service.AnswerScoringBatcher;
+import com.ssafy.recode.domain.common.service.DeferredScoringService;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.MediaProbeService;
+import com.ssafy.recode.domain.common.service.PresignedUrlCache;
 import com.ssafy.recode.domain.common.service.S3UploaderService;
+import com.ssafy.recode.domain.common.service.SttJobService;
 import com.ssafy.recode.domain.common.service.VideoTranscriptionService;
-import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
-import com.ssafy.recode.global.dto.response.calendar.VideoListResponse;
-import com.ssafy.recode.global.dto.response.calendar.VideoUrlItem;
-import com.ssafy.recode.global.dto.response.link.ElderSummaryResponse;
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
 import com.ssafy.recode.global.enums.AnswerType;
-import com.ssafy.recode.global.enums.Role;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
@@ -33,26 +36,46 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class CognitiveService {
 
-  private static final String AUDIO_FOLDER    = "cognitive-sound";
-  private static final String IMAGE_FOLDER    = "cognitive-image";
+  public static final String AUDIO_FOLDER    = "cognitive-sound";
+  public static final String IMAGE_FOLDER    = "cognitive-image";
   private static final double MATCH_THRESHOLD = 70.0;
 
   private final VideoTranscriptionService   transcriptionService;
+  private final SttJobService               sttJobService;
   private final S3UploaderService           uploader;
-  private final AiPromptService             aiPromptService;
+  private final MediaProbeService           mediaProbeService;
+  private final PresignedUrlCache           presignedUrlCache;
+  private final DeferredScoringService deferredScoringService;
+  private final AnswerScoringBatcher        scoringBatcher;
   private final CognitiveQuestionRepository questionRepo;
   private final CognitiveAnswerRepository   answerRepo;
-  private final GenericPersistenceService   genericPersistenceService;
+  private final AnswerLifecycleService answerLifecycle;
   private final CognitiveAnswerRepository cognitiveAnswerRepository;
   private final DailyEmotionSummaryRepository dailyEmotionSummaryRepository;
-  private final GuardianElderRepository guardianElderRepository;
 
   /**
-   * mediaType에 따라 audio/mp4 또는 이미지 파일을 S3에 업로드
+   * mediaType 폴더에 영상 헤더를 검사하면서 업로드하고 key/길이 반환
    */
-  public String uploadMedia(MultipartFile file, String mediaType) {
-    String folder = "audio".equals(mediaType) ? AUDIO_FOLDER : IMAGE_FOLDER;
-    return uploader.uploadRawMedia(file, folder);
+  public ProbedMedia uploadMedia(MultipartFile file, String mediaType) {
+    return mediaProbeService.uploadProbed(file, folderOf(mediaType));
+  }
+
+  /** 클라이언트가 S3로 직접 업로드할 Presigned PUT URL 발급 */
+  public PresignedUploadResponse createUploadUrl(String fileName, String contentType,
+      String mediaType, long contentLength, Long userId) {
+    return uploader.presignUpload(folderOf(mediaType), fileName, contentType, contentLength, userId);
+  }
+
+  /** 직접 업로드된 미디어가 mediaType 폴더에 존재하는지 확인하고 헤더 검사 (통과하면 발급 기록 소비) */
+  public ProbedMedia verifyUploadedMedia(String mediaKey, String mediaType, Long userId) {
+    uploader.verifyUploaded(mediaKey, folderOf(mediaType), userId);
+    ProbedMedia media = mediaProbeService.probeStored(mediaKey);
+    uploader.consumeGrant(mediaKey, userId);
+    return media;
+  }
+
+  private String folderOf(String mediaType) {
+    return "audio".equals(mediaType) ? AUDIO_FOLDER : IMAGE_FOLDER;
   }
 
   /**
@@ -63,37 +86,112 @@ public class CognitiveService {
       Long questionId,
       Long userId,
       String mediaKey,
-      String mediaType
+      String mediaType,
+      Long durationMs
   ) {
+    String answerText;
     try {
+      if (sttJobService.isAsync()) {
+        sttJobService.submit(typeOf(mediaType), questionId, userId, mediaKey, durationMs);
+        return;
+      }
       // 1) 답변 텍스트 결정
-      String answerText = transcriptionService.transcribeVideo(mediaKey);
+      answerText = transcriptionService.transcribeVideo(mediaKey);
+    } catch (RuntimeException e) {
+      // Clova 장애(동시 호출 초과, 서킷 열림 등)로 전사하지 못한 경우: UPLOADED로 두고 나중에 STT부터 다시
+      if (deferredScoringService.deferTranscription(typeOf(mediaType), questionId, userId, mediaKey,
+          durationMs, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(typeOf(mediaType), mediaKey);
+      throw e;
+    }
+    completeAnswer(questionId, userId, mediaKey, mediaType, durationMs, answerText);
+  }
+
+  /**
+   * STT 결과로 평가 → 저장 (비동기 STT 완료 시에도 호출)
+   */
+  public void completeAnswer(
+      Long questionId,
+      Long userId,
+      String mediaKey,
+      String mediaType,
+      Long durationMs,
+      String answerText
+  ) {
+    try {
+      answerLifecycle.markTranscribed(typeOf(mediaType), mediaKey, answerText);
 
       // 2) 질문 조회
-      CognitiveQuestion question = questionRepo.findById(questionId)
-          .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId));
+      ScoringQuestion question = getScoringQuestion(questionId);
 
-      // 3) LLM 평가 → 점수, 매칭 여부
-      double score = aiPromptService.evaluateAnswer(question.getContent(), answerText);
-      boolean isMatch = score >= MATCH_THRESHOLD;
+      // 3) 평가 → 점수 (정답이 뚜렷하면 로컬 판정, 아니면 다른 답변과 묶어 LLM 일괄 채점)
+      double score = scoringBatcher.scoreBlocking(question, answerText);
 
       // 4) 결과 엔티티 생성 및 저장
-      CognitiveAnswer answer = CognitiveAnswer.builder()
-          .question(question)
-          .userId(userId)
-          .answer(answerText)
-          .score(score)
-          .isMatch(isMatch)
-          .videoPath(mediaKey)
-          .mediaType(mediaType)
-          .build();
-      genericPersistenceService.save(answer);
+      saveAnswer(questionId, userId, mediaKey, mediaType, durationMs, answerText, score);
 
     } catch (Exception e) {
+      // Gemini 장애로 채점만 못 한 경우: 전사 결과는 TRANSCRIBED로 두고 나중에 다시 채점
+      if (deferredScoringService.defer(typeOf(mediaType), questionId, userId, mediaKey, durationMs,
+          answerText, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(typeOf(mediaType), mediaKey);
       throw new RuntimeException(
           "CognitiveAnswer 처리 중 오류 (questionId=" + questionId + ")", e);
     }
   }
+
+  /** 평가에 사용할 질문 내용과 정답 */
+  public ScoringQuestion getScoringQuestion(Long questionId) {
+    CognitiveQuestion question = findQuestion(questionId);
+    return new ScoringQuestion(question.getContent(), question.getExpectedAnswers());
+  }
+
+  /** 평가 점수와 함께 답변 행 갱신 → SCORED (매칭 여부는 점수로 판단) */
+  public void saveAnswer(Long questionId, Long userId, String mediaKey, String mediaType,
+      Long durationMs, String answerText, double score) {
+    CognitiveAnswer answer = answerRepo.findByVideoPath(mediaKey)
+        .orElseGet(() -> newAnswer(questionId, userId, mediaKey, mediaType, durationMs));
+    answer.setAnswer(answerText);
+    answer.setScore(score);
+    answer.setMatch(score >= MATCH_THRESHOLD);
+    answer.setStatus(AnswerStatus.SCORED);
+    answerLifecycle.saveAndNotify(answer);
+  }
+
+  /**
+   * 업로드 직후 UPLOADED 상태의 답변 행 생성
+   * (같은 mediaKey 행이 있으면 그대로 두고, 실패한 행이면 UPLOADED로 되돌려 재처리)
+   * @return 처리를 새로 시작해야 하면 true
+   */
+  public boolean createUploadedAnswer(Long questionId, Long userId, String mediaKey,
+      String mediaType, Long durationMs) {
+    return answerLifecycle.createUploaded(typeOf(mediaType), mediaKey,
+        () -> newAnswer(questionId, userId, mediaKey, mediaType, durationMs));
+  }
+
+  private CognitiveAnswer newAnswer(Long questionId, Long userId, String mediaKey, String mediaType,
+      Long durationMs) {
+    return CognitiveAnswer.builder()
+        .question(findQuestion(questionId))
+        .userId(userId)
+        .videoPath(mediaKey)
+        .mediaType(mediaType)
+        .durationMs(durationMs)
+        .build();
+  }
+
+  private static AnswerType typeOf(String mediaType) {
+    return "audio".equals(mediaType) ? AnswerType.COGNITIVE_AUDIO : AnswerType.COGNITIVE_IMAGE;
+  }
+
+  private CognitiveQuestion findQuestion(Long questionId) {
+    return questionRepo.findById(questionId)
+        .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId));
+  }
   /**
    * 유저가 마지막으로 답변한 questionId(해당 mediaType 기준) 이후의 질문 3개 반환.
    * 부족하면 같은 mediaType의 앞부분에서 채움.
@@ -112,22 +210,19 @@ public class CognitiveService {
           questionRepo.findTop3ByMediaTypeOrderByQuestionIdAsc(mediaType);
       next.addAll(head.subList(0, Math.min(needed, head.size())));
     }
+    // 질문 미디어는 한 번에 발급 (최근 발급한 URL은 캐시에서 재사용)
+    String contentType = "audio".equals(mediaType) ? "audio/mpeg" : "image/jpeg";
+    Map<String, String> presigned = presignedUrlCache.presignAll(
+        next.stream().map(CognitiveQuestion::getMediaUrl).toList(), contentType, 15);
     return  next.stream()
-        .map(question -> {
-          String presignedUrl = null;
-          if(question.getMediaUrl() != null && !question.getMediaUrl().isEmpty()){
-            String s3Key = transcriptionService.toS3Key(question.getMediaUrl());
-            String contentType = "audio".equals(mediaType) ? "audio/mpeg" : "image/jpeg";
-            presignedUrl = transcriptionService.presign(s3Key, contentType, 15);
-          }
-          return CognitiveQuestion.builder()
-              .questionId(question.getQuestionId())
-              .mediaType(question.getMediaType())
-              .content(question.getContent())
-              .mediaUrl(presignedUrl)
-              .createdAt(question.getCreatedAt())
-              .build();
-        }).collect(Collectors.toList());
+        .map(question -> CognitiveQuestion.builder()
+            .questionId(question.getQuestionId())
+            .mediaType(question.getMediaType())
+            .content(question.getContent())
+            .mediaUrl(question.getMediaUrl() != null ? presigned.get(question.getMediaUrl()) : null)
+            .createdAt(question.getCreatedAt())
+            .build())
+        .collect(Collectors.toList());
   }
 
   public boolean isCognitiveCompleted(Long userId, String mediaType) {
@@ -135,8 +230,8 @@ public class CognitiveService {
     LocalDateTime startOfDay = today.atStartOfDay();
     LocalDateTime endOfDay = today.plusDays(1).atStartOfDay().minusNanos(1);
 
-    return cognitiveAnswerRepository.existsByUserIdAndCreatedAtBetweenAndMediaType(
-            userId, startOfDay, endOfDay, mediaType
+    return cognitiveAnswerRepository.existsByUserIdAndCreatedAtBetweenAndMediaTypeAndStatusNot(
+            userId, startOfDay, endOfDay, mediaType, AnswerStatus.FAILED
     );
   }
 
@@ -153,31 +248,4 @@ public class CognitiveService {
 
     dailyEmotionSummaryRepository.save(dailyEmotionSummary);
   }
-
-  public VideoListResponse getCognitiveVideosByDate(User user, LocalDate date, AnswerType answerType) {
-    Long elderId = user.getId();
-    if(user.getRole() != Role.ELDER){
-      List<ElderSummaryResponse> list = guardianElderRepository.findLinkedEldersByGuardianId(user.getId());
-      elderId = list.get(0).id();
-    }
-    String answerTypeStr = answerType.equals(AnswerType.COGNITIVE_AUDIO) ? "audio" : "image";
-    // 1) DB에서 저장된 video_path(키 또는 URL) 조회
-    List<CognitiveVideoRow> rows = cognitiveAnswerRepository.findVideoPathsByDate(elderId, date, answerTypeStr);
-
-    // 2) videoPath → S3 key 정규화 후 presign, answerId와 함께 DTO로
-    List<VideoUrlItem> items = rows.stream()
-        .filter(r -> r.getVideoPath() != null)
-        .map(r -> new VideoUrlItem(
-            r.getAnswerId(),
-            r.getQuestionId(),
-            r.getContent(),
-            transcriptionService.presign(transcriptionService.toS3Key(r.getVideoPath()),"video/mp4", 60),
-            r.getScore(),
-            r.getIsMatch(),
-            r.getCreatedAt()
-        ))
-        .toList();
-
-    return new VideoListResponse(date, !items.isEmpty(), items);
-  }
 }
\ No newline at end of file
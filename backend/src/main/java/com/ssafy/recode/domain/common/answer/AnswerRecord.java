@@ -0,0 +1,39 @@
+package com.ssafy.recode.domain.common.answer;
+
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.time.LocalDateTime;
+
+/**
+ * 영상 답변 엔티티(기초/개인화/인지/설문)의 공통 처리 상태
+ * - AnswerLifecycleService가 답변 유형과 관계없이 상태 전환과 알림을 처리할 수 있도록 각 엔티티가 구현
+ */
+public interface AnswerRecord {
+
+  /** 답변 유형 (인지 답변은 미디어 타입에 따라 결정) */
+  AnswerType answerType();
+
+  Long getAnswerId();
+
+  Long getQuestionId();
+
+  Long getUserId();
+
+  String getVideoPath();
+
+  /** STT 결과 (STT 완료 전에는 null) */
+  String getAnswer();
+
+  /** 평가 점수 (평가 전이거나 설문이면 null) */
+  Double getScore();
+
+  Long getDurationMs();
+
+  AnswerStatus getStatus();
+
+  LocalDateTime getCreatedAt();
+
+  void setAnswer(String answer);
+
+  void setStatus(AnswerStatus status);
+}
@@ -0,0 +1,11 @@
+package com.ssafy.recode.domain.common.answer;
+
+import java.util.Optional;
+
+/**
+ * 답변 유형별 Repository가 공통으로 제공하는 mediaKey 조회
+ */
+public interface AnswerRecordRepository<T extends AnswerRecord> {
+
+  Optional<T> findByVideoPath(String videoPath);
+}
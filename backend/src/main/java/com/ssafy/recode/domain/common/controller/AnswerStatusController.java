@@ -0,0 +1,94 @@
+package com.ssafy.recode.domain.common.controller;
+
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.common.service.AnswerEventService;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
+import com.ssafy.recode.global.dto.request.AnswerRetryRequest;
+import com.ssafy.recode.global.dto.response.ApiResponse;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.security.annotation.LoginUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * AnswerStatusController
+ * - 업로드한 답변의 처리 상태(UPLOADED → TRANSCRIBED → SCORED | FAILED) 조회
+ * - 실패한 답변을 다시 업로드하지 않고 재처리
+ * - 처리 단계 변경을 SSE로 실시간 수신 (본인 + 연동 보호자)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/answers")
+@Tag(name = "Answer", description = "답변 처리 상태 API")
+public class AnswerStatusController {
+
+  private final AnswerProcessingDispatcher answerDispatcher;
+  private final AnswerEventService answerEventService;
+
+  @Operation(
+      summary     = "답변 처리 상태 구독 (SSE)",
+      description = "본인과 연동된 어르신의 답변 처리 단계가 바뀔 때마다 answer-status 이벤트를 받습니다. "
+          + "캘린더 영상 목록을 폴링하는 대신 사용합니다."
+  )
+  @GetMapping(
+      path     = "/events",
+      produces = MediaType.TEXT_EVENT_STREAM_VALUE
+  )
+  public SseEmitter subscribe(
+      @Parameter(hidden = true) @LoginUser User user,
+      HttpServletResponse response
+  ) {
+    // nginx 버퍼링을 끄지 않으면 이벤트가 모였다가 한꺼번에 전달됨
+    response.setHeader("X-Accel-Buffering", "no");
+    return answerEventService.subscribe(user.getId());
+  }
+
+  @Operation(
+      summary     = "답변 처리 상태 조회",
+      description = "업로드 시 받은 mediaKey로 답변의 처리 상태, STT 결과, 평가 점수를 조회합니다."
+  )
+  @GetMapping(
+      path     = "/status",
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> getStatus(
+      @Parameter(hidden = true) @LoginUser User user,
+      @RequestParam AnswerType answerType,
+      @RequestParam String mediaKey
+  ) {
+    return ApiResponse.successResponse(
+        answerDispatcher.getStatus(answerType, mediaKey, user.getId())
+    );
+  }
+
+  @Operation(
+      summary     = "실패한 답변 재처리",
+      description = "FAILED 상태의 답변을 STT 결과가 있으면 평가 단계부터, 없으면 STT 단계부터 다시 처리합니다."
+  )
+  @PostMapping(
+      path     = "/retry",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ApiResponse<?> retry(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @RequestBody AnswerRetryRequest request
+  ) {
+    return ApiResponse.successResponseWithMessage(
+        "재처리를 시작했습니다.",
+        answerDispatcher.retry(request.answerType(), request.mediaKey(), user.getId())
+    );
+  }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.recode.domain.common.controller;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * ClovaStubController
+ *
+ * 로컬 테스트용 Clova Speech 대역 (clova-stub 프로파일에서만 등록)
+ * - POST .../recognizer/url : sync면 바로 결과, async면 토큰 반환
+ * - GET  .../recognizer/{token} : 지연 시간이 지나기 전에는 PROCESSING, 이후 COMPLETED
+ * - async 요청에 callback이 있으면 지연 후 해당 URL로 결과를 POST
+ */
+@Slf4j
+@Hidden
+@Profile("clova-stub")
+@RestController
+@RequestMapping("/stub/clova/external/v1/{domainCode}/{domainId}/recognizer")
+public class ClovaStubController {
+
+  private final Map<String, Long> jobs = new ConcurrentHashMap<>();
+  private final WebClient webClient = WebClient.create();
+
+  @Value("${clova.stub.delay-ms:10000}")
+  private long delayMs;
+
+  @Value("${clova.stub.text:오늘 아침에는 가족들과 함께 된장찌개를 먹었습니다}")
+  private String text;
+
+  @PostMapping(path = "/url", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Map<String, Object> recognize(@RequestBody Map<String, Object> request) {
+    if (!"async".equals(request.get("completion"))) {
+      return Map.of("result", "COMPLETED", "message", "Succeeded", "text", text);
+    }
+    String token = UUID.randomUUID().toString().replace("-", "");
+    jobs.put(token, System.currentTimeMillis() + delayMs);
+
+    Object callback = request.get("callback");
+    if (callback != null) {
+      CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS).execute(() ->
+          webClient.post()
+              .uri(callback.toString())
+              .contentType(MediaType.APPLICATION_JSON)
+              .bodyValue(completed(token))
+              .retrieve()
+              .toBodilessEntity()
+              .timeout(Duration.ofSeconds(10))
+              .subscribe(
+                  ok -> log.info("[stub] 콜백 전송 token={}", token),
+                  e -> log.warn("[stub] 콜백 실패 token={}", token, e)));
+    }
+    return Map.of("result", "STARTED", "token", token);
+  }
+
+  @GetMapping(path = "/{token}", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Map<String, Object> status(@PathVariable String token) {
+    Long readyAt = jobs.get(token);
+    if (readyAt == null) {
+      return Map.of("token", token, "result", "FAILED", "message", "unknown token");
+    }
+    if (System.currentTimeMillis() < readyAt) {
+      return Map.of("token", token, "result", "PROCESSING", "progress", 50);
+    }
+    return completed(token);
+  }
+
+  private Map<String, Object> completed(String token) {
+    return Map.of("token", token, "result", "COMPLETED", "message", "Succeeded", "text", text);
+  }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.recode.domain.common.controller;
+
+import com.ssafy.recode.domain.common.service.SttJobService;
+import com.ssafy.recode.global.dto.request.stt.ClovaCallbackRequest;
+import com.ssafy.recode.global.dto.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * SttCallbackController
+ * - Clova Speech 비동기 인식 완료 콜백 수신 (JWT 대신 clova.callback-secret으로 검증)
+ */
+@Slf4j
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/stt")
+public class SttCallbackController {
+
+  private final SttJobService sttJobService;
+
+  @PostMapping(
+      path     = "/callback",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ResponseEntity<?> callback(
+      @RequestParam(required = false) String secret,
+      @RequestBody ClovaCallbackRequest request
+  ) {
+    if (!sttJobService.isValidCallbackSecret(secret)) {
+      log.warn("STT 콜백 시크릿 불일치 token={}", request.token());
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    sttJobService.handleResult(request.token(), request.result(), request.text(), request.message());
+    return ResponseEntity.ok(ApiResponse.successResponseWithMessage("콜백 처리 완료", null));
+  }
+}
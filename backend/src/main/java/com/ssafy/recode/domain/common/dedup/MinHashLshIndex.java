@@ -0,0 +1,175 @@
+package com.ssafy.recode.domain.common.dedup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * MinHashLshIndex
+ *
+ * 질문 텍스트의 유사 중복을 찾는 메모리 MinHash/LSH 인덱스.
+ * - 질문마다 shingle 집합(QuestionShingler)의 MinHash 서명(bands × rows개)을 계산
+ * - 서명을 band로 나눠 버킷에 넣고, 같은 버킷을 공유하는 질문만 후보로 비교
+ *   (후보 기준 유사도 ≈ (1/bands)^(1/rows))
+ * - 후보는 저장해 둔 shingle 집합으로 정확한 Jaccard 유사도를 계산해 threshold와 비교
+ *
+ * 조회/추가는 버킷 몇 개와 후보 몇 개만 보므로 질문 수와 관계없이 1ms 미만입니다.
+ * 메서드 단위로 동기화되어 있어 여러 스레드에서 사용해도 됩니다.
+ */
+public class MinHashLshIndex {
+
+  /** 가장 비슷한 기존 질문과 Jaccard 유사도 */
+  public record Match(String question, double similarity) {}
+
+  private record Entry(String question, int[] shingles) {}
+
+  private final int bands;
+  private final int rows;
+  private final double threshold;
+  private final int[] seeds;
+
+  private final List<Entry> entries = new ArrayList<>();
+  private final List<Map<Long, List<Integer>>> buckets = new ArrayList<>();
+
+  public MinHashLshIndex(int bands, int rows, double threshold) {
+    this.bands = bands;
+    this.rows = rows;
+    this.threshold = threshold;
+    this.seeds = new int[bands * rows];
+    for (int i = 0; i < seeds.length; i++) {
+      seeds[i] = fmix32(0x9E3779B9 * (i + 1));
+    }
+    for (int b = 0; b < bands; b++) {
+      buckets.add(new HashMap<>());
+    }
+  }
+
+  /**
+   * threshold 이상으로 비슷한 기존 질문 (가장 비슷한 것)
+   */
+  public synchronized Optional<Match> findNearDuplicate(String question) {
+    int[] shingles = QuestionShingler.shingles(question);
+    return findNearDuplicate(shingles, bandKeys(signature(shingles)));
+  }
+
+  /**
+   * 비슷한 질문이 없을 때만 추가 (조회와 추가를 한 번에)
+   *
+   * @return 비슷한 기존 질문이 있으면 그 질문 (추가하지 않음), 없으면 empty (추가됨)
+   */
+  public synchronized Optional<Match> addIfAbsent(String question) {
+    int[] shingles = QuestionShingler.shingles(question);
+    long[] keys = bandKeys(signature(shingles));
+    Optional<Match> duplicate = findNearDuplicate(shingles, keys);
+    if (duplicate.isEmpty()) {
+      add(question, shingles, keys);
+    }
+    return duplicate;
+  }
+
+  /**
+   * 비교 없이 추가 (기존 질문으로 인덱스를 채울 때)
+   */
+  public synchronized void add(String question) {
+    int[] shingles = QuestionShingler.shingles(question);
+    add(question, shingles, bandKeys(signature(shingles)));
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private Optional<Match> findNearDuplicate(int[] shingles, long[] keys) {
+    if (shingles.length == 0) {
+      return Optional.empty();
+    }
+    Set<Integer> candidates = new LinkedHashSet<>();
+    for (int b = 0; b < bands; b++) {
+      List<Integer> bucket = buckets.get(b).get(keys[b]);
+      if (bucket != null) {
+        candidates.addAll(bucket);
+      }
+    }
+    Match best = null;
+    for (int id : candidates) {
+      Entry entry = entries.get(id);
+      double similarity = jaccard(shingles, entry.shingles());
+      if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+        best = new Match(entry.question(), similarity);
+      }
+    }
+    return Optional.ofNullable(best);
+  }
+
+  private void add(String question, int[] shingles, long[] keys) {
+    if (shingles.length == 0) {
+      return;
+    }
+    int id = entries.size();
+    entries.add(new Entry(question, shingles));
+    for (int b = 0; b < bands; b++) {
+      buckets.get(b).computeIfAbsent(keys[b], k -> new ArrayList<>(1)).add(id);
+    }
+  }
+
+  private int[] signature(int[] shingles) {
+    int[] signature = new int[seeds.length];
+    Arrays.fill(signature, Integer.MAX_VALUE);
+    for (int shingle : shingles) {
+      for (int i = 0; i < seeds.length; i++) {
+        int h = fmix32(shingle ^ seeds[i]);
+        if (h < signature[i]) {
+          signature[i] = h;
+        }
+      }
+    }
+    return signature;
+  }
+
+  private long[] bandKeys(int[] signature) {
+    long[] keys = new long[bands];
+    for (int b = 0; b < bands; b++) {
+      long key = 1125899906842597L;
+      for (int r = 0; r < rows; r++) {
+        key = 31 * key + signature[b * rows + r];
+      }
+      keys[b] = key;
+    }
+    return keys;
+  }
+
+  /** 정렬된 두 집합의 Jaccard 유사도 */
+  static double jaccard(int[] a, int[] b) {
+    int i = 0;
+    int j = 0;
+    int common = 0;
+    while (i < a.length && j < b.length) {
+      if (a[i] == b[j]) {
+        common++;
+        i++;
+        j++;
+      } else if (a[i] < b[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    int union = a.length + b.length - common;
+    return union == 0 ? 0.0 : (double) common / union;
+  }
+
+  /** MurmurHash3 finalizer */
+  private static int fmix32(int h) {
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.recode.domain.common.dedup;
+
+import com.ssafy.recode.domain.common.scoring.KoreanAnswerMatcher;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * QuestionShingler
+ *
+ * 생성된 질문을 유사 중복 비교용 자모 n-gram(shingle) 해시 집합으로 바꿉니다.
+ * - "당신이", "무엇이었나요" 같은 질문 공통 표현과 의문형 어미를 먼저 지움
+ * - 나머지는 KoreanAnswerMatcher 정규화(조사 제거 + 자모 분해) 후 자모 3-gram
+ *   → "다니셨던"/"다녔던"처럼 활용만 다른 표현도 많은 shingle을 공유
+ */
+public final class QuestionShingler {
+
+  static final int SHINGLE_SIZE = 3;
+
+  /** 질문마다 반복되는 표현 (어절 단위로 제거) */
+  private static final Set<String> FILLER_TOKENS = Set.of(
+      "당신", "당신이", "당신의", "당신은", "어르신", "어르신의", "어르신이", "혹시",
+      "무엇", "무엇이었나요", "무엇인가요", "무엇이었어요", "무엇이었습니까", "무엇입니까", "뭐였나요",
+      "기억하시나요", "기억나시나요", "있나요", "있으신가요"
+  );
+
+  /** 어절 끝 의문형 어미 (긴 것부터 검사) */
+  private static final String[] QUESTION_ENDINGS = {
+      "이었나요", "였나요", "인가요", "었나요", "았나요", "셨나요", "나요", "습니까", "까요"
+  };
+
+  private QuestionShingler() {
+  }
+
+  /**
+   * @return 정렬된 shingle 해시 (중복 없음)
+   */
+  public static int[] shingles(String question) {
+    String normalized = KoreanAnswerMatcher.normalize(stripFillers(question));
+    if (normalized.length() <= SHINGLE_SIZE) {
+      return normalized.isEmpty() ? new int[0] : new int[]{normalized.hashCode()};
+    }
+    int[] hashes = new int[normalized.length() - SHINGLE_SIZE + 1];
+    for (int i = 0; i < hashes.length; i++) {
+      hashes[i] = normalized.substring(i, i + SHINGLE_SIZE).hashCode();
+    }
+    return Arrays.stream(hashes).distinct().sorted().toArray();
+  }
+
+  static String stripFillers(String question) {
+    StringBuilder out = new StringBuilder();
+    for (String token : question.replaceAll("[^\\p{L}\\p{N}\\s]", " ").trim().split("\\s+")) {
+      if (token.isEmpty() || FILLER_TOKENS.contains(token)) {
+        continue;
+      }
+      for (String ending : QUESTION_ENDINGS) {
+        if (token.endsWith(ending) && token.length() > ending.length()) {
+          token = token.substring(0, token.length() - ending.length());
+          break;
+        }
+      }
+      out.append(token).append(' ');
+    }
+    return out.toString();
+  }
+}
@@ -0,0 +1,17 @@
+package com.ssafy.recode.domain.common.event;
+
+import com.ssafy.recode.global.enums.AnswerType;
+
+/**
+ * 비동기 STT 작업이 끝났을 때 발행되는 이벤트
+ * - AnswerProcessingDispatcher가 받아 답변 유형별 평가/저장 단계를 이어서 실행합니다.
+ */
+public record TranscriptionCompletedEvent(
+    AnswerType answerType,
+    Long questionId,
+    Long userId,
+    String mediaKey,
+    Long durationMs,
+    String answerText
+) {
+}
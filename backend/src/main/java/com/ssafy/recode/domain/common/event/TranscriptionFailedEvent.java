@@ -0,0 +1,14 @@
+package com.ssafy.recode.domain.common.event;
+
+import com.ssafy.recode.global.enums.AnswerType;
+
+/**
+ * 비동기 STT 작업이 실패했거나 폴링 횟수를 넘겼을 때 발행되는 이벤트
+ * - AnswerProcessingDispatcher가 받아 답변 행을 FAILED로 바꿉니다.
+ */
+public record TranscriptionFailedEvent(
+    AnswerType answerType,
+    String mediaKey,
+    String reason
+) {
+}
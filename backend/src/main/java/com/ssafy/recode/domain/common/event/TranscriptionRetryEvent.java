@@ -0,0 +1,16 @@
+package com.ssafy.recode.domain.common.event;
+
+import com.ssafy.recode.global.enums.AnswerType;
+
+/**
+ * Clova 장애로 보류했던 답변의 STT를 다시 시작할 때 발행되는 이벤트
+ * - AnswerProcessingDispatcher가 받아 현재 파이프라인 모드로 STT부터 다시 실행합니다.
+ */
+public record TranscriptionRetryEvent(
+    AnswerType answerType,
+    Long questionId,
+    Long userId,
+    String mediaKey,
+    Long durationMs
+) {
+}
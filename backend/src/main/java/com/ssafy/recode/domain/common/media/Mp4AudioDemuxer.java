@@ -0,0 +1,355 @@
+package com.ssafy.recode.domain.common.media;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mp4AudioDemuxer
+ *
+ * MP4에서 AAC 오디오 트랙만 골라 재인코딩 없이 오디오 전용 M4A로 다시 씁니다.
+ * - 입력은 메모리 매핑된 ByteBuffer (파일 전체를 힙에 올리지 않음)
+ * - 원본의 stsd/stts/stsz/mdhd/hdlr 박스는 그대로 복사하고,
+ *   샘플은 하나의 청크로 이어 붙여 stsc/stco만 새로 만듭니다.
+ * - 조각(fragmented) MP4, AAC가 아닌 오디오, 오디오 없는 파일은 지원하지 않습니다(null 반환).
+ */
+public final class Mp4AudioDemuxer {
+
+  private Mp4AudioDemuxer() {
+  }
+
+  /**
+   * 원본에서 찾은 오디오 트랙 정보
+   */
+  public record AudioTrack(
+      Box mdhd,
+      Box hdlr,
+      Box smhd,
+      Box stsd,
+      Box stts,
+      Box stsz,
+      int sampleCount,
+      long timescale,
+      long duration,
+      long[] chunkOffsets,
+      long[] chunkSizes
+  ) {
+
+    /** 추출될 오디오 데이터 총 바이트 */
+    public long dataSize() {
+      long total = 0;
+      for (long size : chunkSizes) {
+        total += size;
+      }
+      return total;
+    }
+  }
+
+  /** 버퍼 안의 박스 위치 [start, end) */
+  public record Box(String type, int start, int headerSize, int end) {
+
+    int body() {
+      return start + headerSize;
+    }
+  }
+
+  /**
+   * moov에서 첫 번째 AAC(mp4a) 사운드 트랙을 찾습니다.
+   * @return 트랙 정보, 추출할 수 없으면 null
+   */
+  public static AudioTrack findAudioTrack(ByteBuffer buf) {
+    try {
+      Box moov = find(buf, 0, buf.limit(), "moov");
+      if (moov == null || find(buf, moov.body(), moov.end(), "mvex") != null) {
+        return null; // moov 없음 또는 조각 MP4 (샘플이 moof에 있음)
+      }
+      for (Box trak : children(buf, moov.body(), moov.end())) {
+        if (!"trak".equals(trak.type())) {
+          continue;
+        }
+        AudioTrack track = parseTrack(buf, trak);
+        if (track != null) {
+          return track;
+        }
+      }
+      return null;
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      return null; // 깨진 박스 구조
+    }
+  }
+
+  /**
+   * 오디오 트랙을 M4A(ftyp + moov + mdat)로 씁니다.
+   * @return 기록한 바이트 수
+   */
+  public static long writeM4a(ByteBuffer src, AudioTrack track, WritableByteChannel out)
+      throws IOException {
+    byte[] ftyp = box("ftyp", concat(
+        ascii("M4A "), u32(0), ascii("M4A "), ascii("mp42"), ascii("isom")));
+
+    // moov 크기는 청크 오프셋(stco) 값과 무관하게 고정되므로 먼저 크기만 계산
+    long dataOffset = ftyp.length + buildMoov(src, track, 0).length + 8L;
+    byte[] moov = buildMoov(src, track, dataOffset);
+
+    long dataSize = track.dataSize();
+    if (dataSize + 8 > 0xFFFFFFFFL) {
+      throw new IOException("오디오 데이터가 너무 큽니다: " + dataSize);
+    }
+
+    long written = 0;
+    written += writeFully(out, ByteBuffer.wrap(ftyp));
+    written += writeFully(out, ByteBuffer.wrap(moov));
+    written += writeFully(out, ByteBuffer.wrap(concat(u32(dataSize + 8), ascii("mdat"))));
+    for (int i = 0; i < track.chunkOffsets().length; i++) {
+      written += writeFully(out,
+          src.slice((int) track.chunkOffsets()[i], (int) track.chunkSizes()[i]));
+    }
+    return written;
+  }
+
+  private static AudioTrack parseTrack(ByteBuffer buf, Box trak) {
+    Box mdia = require(buf, trak, "mdia");
+    Box hdlr = require(buf, mdia, "hdlr");
+    if (!"soun".equals(ascii(buf, hdlr.body() + 8))) {
+      return null;
+    }
+    Box mdhd = require(buf, mdia, "mdhd");
+    Box minf = require(buf, mdia, "minf");
+    Box stbl = require(buf, minf, "stbl");
+    Box stsd = require(buf, stbl, "stsd");
+    // stsd: version/flags(4) + entry_count(4) + 첫 번째 샘플 엔트리
+    if (!"mp4a".equals(ascii(buf, stsd.body() + 12))) {
+      return null;
+    }
+
+    int mdhdVersion = buf.get(mdhd.body()) & 0xFF;
+    long timescale = mdhdVersion == 1 ? u32(buf, mdhd.body() + 20) : u32(buf, mdhd.body() + 12);
+    long duration = mdhdVersion == 1 ? buf.getLong(mdhd.body() + 24) : u32(buf, mdhd.body() + 16);
+
+    Box stsz = require(buf, stbl, "stsz");
+    long fixedSize = u32(buf, stsz.body() + 4);
+    // 크기가 고정이면 샘플 크기 테이블이 없으므로 전체 크기가 파일 안에 들어가는지로 확인
+    int sampleCount = entryCount(buf, stsz, stsz.body() + 8, fixedSize != 0 ? 0 : 4);
+    if (sampleCount == 0) {
+      return null;
+    }
+    if (fixedSize * sampleCount > buf.limit()) {
+      throw new IllegalArgumentException("stsz 샘플 크기 합이 파일보다 큽니다.");
+    }
+
+    long[] offsets = chunkOffsets(buf, stbl);
+    long[] sizes = new long[offsets.length];
+
+    // stsc: first_chunk(1부터) → samples_per_chunk 구간
+    Box stsc = require(buf, stbl, "stsc");
+    int stscCount = entryCount(buf, stsc, stsc.body() + 4, 12);
+    int sample = 0;
+    for (int entry = 0; entry < stscCount; entry++) {
+      int p = stsc.body() + 8 + entry * 12;
+      long firstChunk = u32(buf, p);
+      long perChunk = u32(buf, p + 4);
+      long nextFirst = entry + 1 < stscCount ? u32(buf, p + 12) : offsets.length + 1L;
+      for (long chunk = firstChunk; chunk < nextFirst && chunk <= offsets.length; chunk++) {
+        long size = 0;
+        for (long s = 0; s < perChunk; s++, sample++) {
+          if (sample >= sampleCount) {
+            throw new IllegalArgumentException("stsc/stsz 샘플 수 불일치");
+          }
+          size += fixedSize != 0 ? fixedSize : u32(buf, stsz.body() + 12 + sample * 4);
+        }
+        sizes[(int) chunk - 1] = size;
+      }
+    }
+    if (sample != sampleCount) {
+      throw new IllegalArgumentException("stsc/stsz 샘플 수 불일치");
+    }
+    for (int i = 0; i < offsets.length; i++) {
+      if (offsets[i] < 0 || offsets[i] + sizes[i] > buf.limit()) {
+        throw new IllegalArgumentException("청크 위치가 파일 범위를 벗어났습니다.");
+      }
+    }
+
+    Box smhd = find(buf, minf.body(), minf.end(), "smhd");
+    Box stts = require(buf, stbl, "stts");
+    return new AudioTrack(mdhd, hdlr, smhd, stsd, stts, stsz, sampleCount,
+        timescale, duration, offsets, sizes);
+  }
+
+  private static long[] chunkOffsets(ByteBuffer buf, Box stbl) {
+    Box stco = find(buf, stbl.body(), stbl.end(), "stco");
+    if (stco != null) {
+      long[] offsets = new long[entryCount(buf, stco, stco.body() + 4, 4)];
+      for (int i = 0; i < offsets.length; i++) {
+        offsets[i] = u32(buf, stco.body() + 8 + i * 4);
+      }
+      return offsets;
+    }
+    Box co64 = require(buf, stbl, "co64");
+    long[] offsets = new long[entryCount(buf, co64, co64.body() + 4, 8)];
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = buf.getLong(co64.body() + 8 + i * 8);
+    }
+    return offsets;
+  }
+
+  /**
+   * 테이블 박스의 entry_count (바로 뒤에 entrySize 바이트짜리 엔트리가 이어짐)
+   * - 박스 본문에 다 들어가지 않는 개수면 거절 → 조작된 개수로 큰 배열을 만들거나 오래 돌지 않음
+   */
+  private static int entryCount(ByteBuffer buf, Box box, int countAt, int entrySize) {
+    long count = u32(buf, countAt);
+    long available = box.end() - (countAt + 4L);
+    if (available < 0 || count * entrySize > available || count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(box.type() + " 엔트리 수가 박스 크기를 넘습니다: " + count);
+    }
+    return (int) count;
+  }
+
+  private static byte[] buildMoov(ByteBuffer src, AudioTrack track, long dataOffset) {
+    byte[] identity = concat(
+        u32(0x00010000), u32(0), u32(0),
+        u32(0), u32(0x00010000), u32(0),
+        u32(0), u32(0), u32(0x40000000));
+
+    byte[] mvhd = box("mvhd", concat(
+        u32(0x01000000),                      // version 1, flags 0
+        u64(0), u64(0),                       // creation / modification time
+        u32(track.timescale()), u64(track.duration()),
+        u32(0x00010000), u16(0x0100), u16(0), u64(0),  // rate, volume, reserved
+        identity,
+        new byte[24],                         // pre_defined
+        u32(2)));                             // next_track_ID
+
+    byte[] tkhd = box("tkhd", concat(
+        u32(0x01000003),                      // version 1, enabled | in_movie
+        u64(0), u64(0),
+        u32(1), u32(0),                       // track_ID, reserved
+        u64(track.duration()), u64(0),        // duration(mvhd timescale와 동일), reserved
+        u16(0), u16(0), u16(0x0100), u16(0),  // layer, alternate_group, volume, reserved
+        identity,
+        u32(0), u32(0)));                     // width, height
+
+    byte[] smhd = track.smhd() != null
+        ? copy(src, track.smhd())
+        : box("smhd", concat(u32(0), u16(0), u16(0)));
+    byte[] dinf = box("dinf", box("dref", concat(
+        u32(0), u32(1), box("url ", u32(1)))));
+
+    byte[] stbl = box("stbl", concat(
+        copy(src, track.stsd()),
+        copy(src, track.stts()),
+        box("stsc", concat(u32(0), u32(1), u32(1), u32(track.sampleCount()), u32(1))),
+        copy(src, track.stsz()),
+        box("stco", concat(u32(0), u32(1), u32(dataOffset)))));
+
+    byte[] mdia = box("mdia", concat(
+        copy(src, track.mdhd()),
+        copy(src, track.hdlr()),
+        box("minf", concat(smhd, dinf, stbl))));
+
+    return box("moov", concat(mvhd, box("trak", concat(tkhd, mdia))));
+  }
+
+  // ---------------------------------------------------------------------
+  // 박스 탐색
+  // ---------------------------------------------------------------------
+
+  private static List<Box> children(ByteBuffer buf, int from, int to) {
+    List<Box> boxes = new ArrayList<>();
+    int p = from;
+    while (p + 8 <= to) {
+      long size = u32(buf, p);
+      String type = ascii(buf, p + 4);
+      int headerSize = 8;
+      if (size == 1) {
+        size = buf.getLong(p + 8);
+        headerSize = 16;
+      } else if (size == 0) {
+        size = to - p;
+      }
+      if (size < headerSize || p + size > to) {
+        throw new IllegalArgumentException("박스 크기가 올바르지 않습니다: " + type);
+      }
+      boxes.add(new Box(type, p, headerSize, (int) (p + size)));
+      p += (int) size;
+    }
+    return boxes;
+  }
+
+  private static Box find(ByteBuffer buf, int from, int to, String type) {
+    for (Box box : children(buf, from, to)) {
+      if (type.equals(box.type())) {
+        return box;
+      }
+    }
+    return null;
+  }
+
+  private static Box require(ByteBuffer buf, Box parent, String type) {
+    Box box = find(buf, parent.body(), parent.end(), type);
+    if (box == null) {
+      throw new IllegalArgumentException(type + " 박스가 없습니다.");
+    }
+    return box;
+  }
+
+  // ---------------------------------------------------------------------
+  // 바이트 유틸
+  // ---------------------------------------------------------------------
+
+  private static long u32(ByteBuffer buf, int p) {
+    return buf.getInt(p) & 0xFFFFFFFFL;
+  }
+
+  private static String ascii(ByteBuffer buf, int p) {
+    byte[] b = new byte[4];
+    buf.get(p, b);
+    return new String(b, StandardCharsets.ISO_8859_1);
+  }
+
+  private static byte[] copy(ByteBuffer buf, Box box) {
+    byte[] b = new byte[box.end() - box.start()];
+    buf.get(box.start(), b);
+    return b;
+  }
+
+  private static byte[] box(String type, byte[] body) {
+    return concat(u32(8L + body.length), ascii(type), body);
+  }
+
+  private static byte[] u16(int v) {
+    return new byte[]{(byte) (v >>> 8), (byte) v};
+  }
+
+  private static byte[] u32(long v) {
+    return new byte[]{(byte) (v >>> 24), (byte) (v >>> 16), (byte) (v >>> 8), (byte) v};
+  }
+
+  private static byte[] u64(long v) {
+    return concat(u32(v >>> 32), u32(v));
+  }
+
+  private static byte[] ascii(String s) {
+    return s.getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+
+  private static long writeFully(WritableByteChannel out, ByteBuffer data) throws IOException {
+    long total = 0;
+    while (data.hasRemaining()) {
+      total += out.write(data);
+    }
+    return total;
+  }
+}
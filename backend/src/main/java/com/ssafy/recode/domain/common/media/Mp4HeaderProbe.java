@@ -0,0 +1,347 @@
+package com.ssafy.recode.domain.common.media;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mp4HeaderProbe
+ *
+ * 업로드 스트림에 흘려보내는(feed) 방식으로 동작하는 ISO BMFF(MP4) 박스 파서.
+ * - 최상위 박스 헤더만 따라가며 ftyp(브랜드)와 moov/mvhd(길이)를 읽습니다.
+ * - mdat 같은 큰 박스는 버퍼링 없이 건너뛰므로 메모리 사용량이 일정합니다.
+ * - MP4가 아니거나, 박스 구조가 깨졌거나, 최대 길이를 넘으면 첫 몇 KB 안에서 REJECTED가 됩니다.
+ *
+ * 스레드 안전하지 않으며 업로드 1건당 하나씩 생성해서 사용합니다.
+ */
+public class Mp4HeaderProbe {
+
+  public enum State { NEED_MORE, ACCEPTED, REJECTED }
+
+  /** WebM/Matroska(EBML) 시그니처: 브라우저 MediaRecorder가 MP4를 지원하지 않을 때 사용 */
+  private static final byte[] EBML_MAGIC = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3};
+  /** 파일 첫 박스로 허용하는 타입 */
+  private static final String[] LEADING_BOXES = {"ftyp", "moov", "mdat", "free", "skip", "wide", "pnot"};
+  /** ftyp 본문 최대 크기 (브랜드 목록) */
+  private static final int MAX_FTYP_SIZE = 4 * 1024;
+  /** moov 앞부분에서 mvhd를 찾기 위해 버퍼링하는 최대 크기 */
+  private static final int MOOV_SCAN_LIMIT = 64 * 1024;
+
+  private final long maxDurationMs;
+
+  private State state = State.NEED_MORE;
+  private String rejectReason;
+  private String container;
+  private String majorBrand;
+  private Long durationMs;
+
+  /** 지금까지 소비한 절대 바이트 위치 */
+  private long position;
+  /** 현재 박스 헤더 버퍼 (size(4) + type(4) + largesize(8)) */
+  private final byte[] header = new byte[16];
+  private int headerLen;
+  /** 현재 박스 본문 중 남은 바이트 (건너뛰거나 버퍼링할 양) */
+  private long remaining;
+  /** size == 0: 파일 끝까지 이어지는 박스 */
+  private boolean toEnd;
+  /** 본문을 버퍼링 중인 박스 (ftyp/moov), 아니면 null */
+  private String bufferingType;
+  private byte[] body;
+  private int bodyLen;
+  private boolean firstBox = true;
+  private boolean sawFtyp;
+
+  public Mp4HeaderProbe(long maxDurationMs) {
+    this.maxDurationMs = maxDurationMs;
+  }
+
+  /**
+   * 다음 바이트 묶음을 흘려보냅니다. 결론이 난 뒤의 호출은 무시됩니다.
+   */
+  public State feed(byte[] buf, int off, int len) {
+    int i = off;
+    int end = off + len;
+    while (i < end && state == State.NEED_MORE) {
+      if (remaining > 0 || toEnd) {
+        int n = (int) Math.min(end - i, toEnd ? Long.MAX_VALUE : remaining);
+        if (bufferingType != null) {
+          int copy = Math.min(n, body.length - bodyLen);
+          System.arraycopy(buf, i, body, bodyLen, copy);
+          bodyLen += copy;
+        }
+        i += n;
+        position += n;
+        if (!toEnd) {
+          remaining -= n;
+        }
+        if (bufferingType != null && bodyLen == body.length) {
+          finishBufferedBox();
+        }
+        continue;
+      }
+
+      // 박스 헤더 수집
+      header[headerLen++] = buf[i++];
+      position++;
+      if (firstBox && headerLen == 4 && startsWith(header, EBML_MAGIC)) {
+        container = "webm";
+        state = State.ACCEPTED;
+        break;
+      }
+      if (headerLen == 8 || headerLen == 16) {
+        parseHeader();
+      }
+    }
+    return state;
+  }
+
+  /**
+   * 스트림 끝에서 호출. moov를 끝내 찾지 못했으면 REJECTED.
+   */
+  public State finish() {
+    if (state == State.NEED_MORE) {
+      if (bufferingType != null && "moov".equals(bufferingType) && bodyLen > 0) {
+        finishBufferedBox();
+      }
+      if (state == State.NEED_MORE) {
+        reject(sawFtyp ? "moov 박스가 없습니다." : "MP4 컨테이너가 아닙니다.");
+      }
+    }
+    return state;
+  }
+
+  /**
+   * 큰 박스를 건너뛰는 중이라면, 다음 박스가 시작하는 절대 오프셋. 아니면 -1.
+   * (S3 Range 요청으로 중간을 뛰어넘을 때 사용)
+   */
+  public long nextBoxOffset() {
+    if (state != State.NEED_MORE || bufferingType != null || toEnd || remaining == 0) {
+      return -1;
+    }
+    return position + remaining;
+  }
+
+  /**
+   * 건너뛰는 중인 박스의 나머지를 읽지 않고 넘어갑니다.
+   * 이후 feed에는 nextBoxOffset() 위치부터의 바이트를 넘겨야 합니다.
+   */
+  public void skipToNextBox() {
+    long next = nextBoxOffset();
+    if (next < 0) {
+      throw new IllegalStateException("건너뛸 박스가 없습니다.");
+    }
+    position = next;
+    remaining = 0;
+  }
+
+  private void parseHeader() {
+    long size = readUInt32(header, 0);
+    String type = new String(header, 4, 4, StandardCharsets.ISO_8859_1);
+
+    if (size == 1 && headerLen == 8) {
+      return; // largesize(8바이트) 대기
+    }
+    if (firstBox && !isLeadingBox(type)) {
+      reject("MP4 컨테이너가 아닙니다.");
+      return;
+    }
+    int headerSize = headerLen;
+    if (size == 1) {
+      size = readInt64(header, 8);
+    }
+    if (size != 0 && size < headerSize) {
+      reject("박스 크기가 올바르지 않습니다: " + type);
+      return;
+    }
+
+    firstBox = false;
+    headerLen = 0;
+    toEnd = size == 0;
+    remaining = toEnd ? 0 : size - headerSize;
+
+    if ("ftyp".equals(type)) {
+      sawFtyp = true;
+      if (remaining < 8 || remaining > MAX_FTYP_SIZE) {
+        reject("ftyp 박스가 올바르지 않습니다.");
+        return;
+      }
+      startBuffering(type, (int) remaining);
+    } else if ("moov".equals(type)) {
+      if (toEnd) {
+        reject("moov 박스 크기가 올바르지 않습니다.");
+        return;
+      }
+      startBuffering(type, (int) Math.min(remaining, MOOV_SCAN_LIMIT));
+    }
+  }
+
+  private void startBuffering(String type, int size) {
+    bufferingType = type;
+    body = new byte[size];
+    bodyLen = 0;
+    if (size == 0) {
+      finishBufferedBox();
+    }
+  }
+
+  private void finishBufferedBox() {
+    String type = bufferingType;
+    bufferingType = null;
+    if ("ftyp".equals(type)) {
+      majorBrand = new String(body, 0, 4, StandardCharsets.ISO_8859_1).trim();
+      container = "mp4";
+    } else if ("moov".equals(type)) {
+      parseMoov(body, bodyLen);
+    }
+    body = null;
+  }
+
+  /**
+   * moov 자식 박스 중 mvhd를 찾아 길이(ms)를 계산합니다.
+   */
+  private void parseMoov(byte[] moov, int len) {
+    int p = 0;
+    while (p + 8 <= len) {
+      long size = readUInt32(moov, p);
+      String type = new String(moov, p + 4, 4, StandardCharsets.ISO_8859_1);
+      int headerSize = 8;
+      if (size == 1) {
+        if (p + 16 > len) {
+          break;
+        }
+        size = readInt64(moov, p + 8);
+        headerSize = 16;
+      }
+      if (size < headerSize) {
+        reject("moov 내부 박스 크기가 올바르지 않습니다.");
+        return;
+      }
+      if ("mvhd".equals(type)) {
+        parseMvhd(moov, p + headerSize, len);
+        return;
+      }
+      if (p + size > len) {
+        break;
+      }
+      p += (int) size;
+    }
+    reject("mvhd 박스를 찾을 수 없습니다.");
+  }
+
+  private void parseMvhd(byte[] buf, int p, int len) {
+    if (p + 4 > len) {
+      reject("mvhd 박스가 잘렸습니다.");
+      return;
+    }
+    int version = buf[p] & 0xFF;
+    long timescale;
+    long duration;
+    if (version == 1) {
+      if (p + 32 > len) {
+        reject("mvhd 박스가 잘렸습니다.");
+        return;
+      }
+      timescale = readUInt32(buf, p + 20);
+      duration = readInt64(buf, p + 24);
+    } else {
+      if (p + 20 > len) {
+        reject("mvhd 박스가 잘렸습니다.");
+        return;
+      }
+      timescale = readUInt32(buf, p + 12);
+      duration = readUInt32(buf, p + 16);
+    }
+    if (container == null) {
+      container = "mp4";
+    }
+    // 조각(fragmented) MP4는 mvhd 길이가 0 또는 최대값 → 길이 미상으로 통과
+    if (timescale == 0 || duration == 0 || duration == 0xFFFFFFFFL || duration < 0) {
+      state = State.ACCEPTED;
+      return;
+    }
+    // duration * 1000은 64비트 길이(version 1)에서 넘칠 수 있으므로 나눈 뒤 곱함
+    long ms;
+    try {
+      ms = Math.addExact(Math.multiplyExact(duration / timescale, 1000L),
+          duration % timescale * 1000 / timescale);
+    } catch (ArithmeticException e) {
+      reject("영상 길이 값이 올바르지 않습니다.");
+      return;
+    }
+    if (ms <= 0) {
+      reject("영상 길이 값이 올바르지 않습니다.");
+      return;
+    }
+    durationMs = ms;
+    if (maxDurationMs > 0 && durationMs > maxDurationMs) {
+      reject("영상 길이가 최대 허용 길이를 초과했습니다: " + durationMs + "ms");
+      return;
+    }
+    state = State.ACCEPTED;
+  }
+
+  private void reject(String reason) {
+    state = State.REJECTED;
+    rejectReason = reason;
+    body = null;
+  }
+
+  private static boolean isLeadingBox(String type) {
+    for (String leading : LEADING_BOXES) {
+      if (leading.equals(type)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 파일 앞부분으로 컨테이너 판별 (EBML 시그니처면 "webm", 아니면 "mp4")
+   */
+  public static String containerOf(byte[] head) {
+    return head != null && head.length >= EBML_MAGIC.length && startsWith(head, EBML_MAGIC)
+        ? "webm" : "mp4";
+  }
+
+  private static boolean startsWith(byte[] buf, byte[] prefix) {
+    for (int i = 0; i < prefix.length; i++) {
+      if (buf[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long readUInt32(byte[] b, int p) {
+    return ((long) (b[p] & 0xFF) << 24) | ((b[p + 1] & 0xFF) << 16)
+        | ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+  }
+
+  private static long readInt64(byte[] b, int p) {
+    return (readUInt32(b, p) << 32) | readUInt32(b, p + 4);
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  public String getRejectReason() {
+    return rejectReason;
+  }
+
+  /** "mp4" | "webm" | null(판별 전) */
+  public String getContainer() {
+    return container;
+  }
+
+  public String getMajorBrand() {
+    return majorBrand;
+  }
+
+  /** 영상 길이(ms), 알 수 없으면 null */
+  public Long getDurationMs() {
+    return durationMs;
+  }
+
+  public long getPosition() {
+    return position;
+  }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.recode.domain.common.media;
+
+/**
+ * 업로드 + 헤더 검사를 마친 미디어 정보
+ *
+ * @param mediaKey   S3 객체 키
+ * @param container  "mp4" | "webm"
+ * @param durationMs 영상 길이(ms), 조각 MP4/WebM처럼 헤더로 알 수 없으면 null
+ */
+public record ProbedMedia(
+    String mediaKey,
+    String container,
+    Long durationMs
+) {
+}
@@ -0,0 +1,72 @@
+package com.ssafy.recode.domain.common.media;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * ProbingInputStream
+ *
+ * 읽히는 바이트를 그대로 Mp4HeaderProbe에 흘려보내는 스트림 래퍼.
+ * 프로브가 REJECTED가 되는 순간 MediaRejectedException을 던져 업로드를 중단시킵니다.
+ */
+public class ProbingInputStream extends FilterInputStream {
+
+  private final Mp4HeaderProbe probe;
+
+  public ProbingInputStream(InputStream in, Mp4HeaderProbe probe) {
+    super(in);
+    this.probe = probe;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] one = new byte[1];
+    int n = read(one, 0, 1);
+    return n < 0 ? -1 : one[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n > 0 && probe.getState() == Mp4HeaderProbe.State.NEED_MORE
+        && probe.feed(b, off, n) == Mp4HeaderProbe.State.REJECTED) {
+      throw new MediaRejectedException(probe.getRejectReason());
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    // 건너뛴 바이트도 프로브가 봐야 하므로 read로 처리
+    byte[] buf = new byte[(int) Math.min(n, 8192)];
+    long skipped = 0;
+    while (skipped < n) {
+      int r = read(buf, 0, (int) Math.min(buf.length, n - skipped));
+      if (r < 0) {
+        break;
+      }
+      skipped += r;
+    }
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  public Mp4HeaderProbe getProbe() {
+    return probe;
+  }
+
+  /**
+   * 프로브가 미디어를 거절했을 때 업로드 스트림을 끊기 위한 예외
+   */
+  public static class MediaRejectedException extends IOException {
+
+    public MediaRejectedException(String reason) {
+      super(reason);
+    }
+  }
+}
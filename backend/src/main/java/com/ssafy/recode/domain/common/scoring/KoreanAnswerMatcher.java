@@ -0,0 +1,169 @@
+package com.ssafy.recode.domain.common.scoring;
+
+import java.util.Locale;
+
+/**
+ * KoreanAnswerMatcher
+ *
+ * 정답이 정해진 질문(기본/인지)의 STT 답변을 정답 후보와 비교하는 JVM 내부 유사도 계산기.
+ * - 정규화: 소문자화, 문장부호 제거, 어절 끝 조사/어미 제거, 한글 음절을 자모(초·중·종성)로 분해
+ * - 유사도: 답변 안에서 정답과 가장 가까운 구간의 자모 편집 거리 (근사 문자열 매칭)
+ *   → 문장으로 길게 답해도 정답이 포함돼 있으면 1.0, STT 오인식 한두 글자는 부분 점수
+ * - 정답 후보가 여러 개면 '|'로 구분하고 가장 높은 유사도를 사용
+ *
+ * 상태가 없으므로 스레드 안전합니다.
+ */
+public final class KoreanAnswerMatcher {
+
+  /** 정답 후보 구분자 */
+  public static final String ALTERNATIVE_SEPARATOR = "\\|";
+
+  private static final int SYLLABLE_BASE = 0xAC00;
+  private static final int SYLLABLE_LAST = 0xD7A3;
+  private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+  private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+  private static final char[] JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+  /** 어절 끝에서 떼어낼 조사/종결 어미 (긴 것부터 검사) */
+  private static final String[] SUFFIXES = {
+      "이었습니다", "였습니다", "이었어요", "였어요", "입니다", "이에요", "에서는", "이었다",
+      "에요", "예요", "였다", "이다", "이요", "에서", "으로", "이랑", "하고", "까지", "부터",
+      "요", "은", "는", "이", "가", "을", "를", "에", "의", "도", "와", "과", "로", "랑"
+  };
+
+  /** 부정/모름 표현 — 정답 단어가 들어 있어도 로컬에서 확정하지 않음 */
+  private static final String[] NEGATIONS = {"아니", "않", "안 ", "모르", "몰라", "없"};
+
+  private KoreanAnswerMatcher() {
+  }
+
+  /**
+   * 답변과 정답 후보들 사이의 최대 유사도 (0.0 ~ 1.0)
+   *
+   * @param answer          STT 답변
+   * @param expectedAnswers '|'로 구분한 정답 후보
+   */
+  public static double similarity(String answer, String expectedAnswers) {
+    String normalizedAnswer = normalize(answer);
+    double best = 0.0;
+    for (String expected : expectedAnswers.split(ALTERNATIVE_SEPARATOR)) {
+      String normalizedExpected = normalize(expected);
+      if (normalizedExpected.isEmpty()) {
+        continue;
+      }
+      best = Math.max(best, bestSubstringSimilarity(normalizedAnswer, normalizedExpected));
+    }
+    return best;
+  }
+
+  /**
+   * 부정/모름 표현 포함 여부
+   */
+  public static boolean containsNegation(String answer) {
+    String text = answer + " ";
+    for (String negation : NEGATIONS) {
+      if (text.contains(negation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 비교용 정규화: 어절별 조사 제거 후 공백 없이 이어 붙이고 자모로 분해
+   */
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    StringBuilder joined = new StringBuilder();
+    for (String token : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+      String cleaned = stripSymbols(token);
+      if (cleaned.isEmpty() || (joined.length() > 0 && isSuffix(cleaned))) {
+        continue; // STT가 조사를 띄어 쓴 경우 ("사과 를")
+      }
+      joined.append(stripSuffix(cleaned));
+    }
+    return decompose(joined);
+  }
+
+  /**
+   * 한글 음절 → 초성/중성/종성 자모, 그 외 문자는 그대로
+   */
+  static String decompose(CharSequence text) {
+    StringBuilder out = new StringBuilder(text.length() * 3);
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+        int index = c - SYLLABLE_BASE;
+        out.append(CHOSEONG[index / 588]);
+        out.append(JUNGSEONG[(index % 588) / 28]);
+        int jong = index % 28;
+        if (jong != 0) {
+          out.append(JONGSEONG[jong]);
+        }
+      } else {
+        out.append(c);
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * answer의 임의 구간과 expected 사이 최소 편집 거리로 계산한 유사도
+   * (첫 행을 0으로 두는 근사 문자열 매칭 — 구간 시작 위치 비용 없음)
+   */
+  static double bestSubstringSimilarity(String answer, String expected) {
+    int m = expected.length();
+    int[] prev = new int[m + 1];
+    int[] curr = new int[m + 1];
+    for (int j = 0; j <= m; j++) {
+      prev[j] = j;
+    }
+    int best = m;
+    for (int i = 1; i <= answer.length(); i++) {
+      curr[0] = 0;
+      char a = answer.charAt(i - 1);
+      for (int j = 1; j <= m; j++) {
+        int cost = a == expected.charAt(j - 1) ? 0 : 1;
+        curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+      }
+      best = Math.min(best, curr[m]);
+      int[] tmp = prev;
+      prev = curr;
+      curr = tmp;
+    }
+    return 1.0 - (double) best / m;
+  }
+
+  private static String stripSymbols(String token) {
+    StringBuilder out = new StringBuilder(token.length());
+    for (int i = 0; i < token.length(); i++) {
+      char c = token.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        out.append(c);
+      }
+    }
+    return out.toString();
+  }
+
+  private static boolean isSuffix(String token) {
+    for (String suffix : SUFFIXES) {
+      if (suffix.equals(token)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String stripSuffix(String token) {
+    for (String suffix : SUFFIXES) {
+      // 한 글자 조사는 두 글자 이상 남을 때만 제거 (예: '나이'의 '이'는 유지)
+      int minRemaining = suffix.length() == 1 ? 2 : 1;
+      if (token.endsWith(suffix) && token.length() - suffix.length() >= minRemaining) {
+        return token.substring(0, token.length() - suffix.length());
+      }
+    }
+    return token;
+  }
+}
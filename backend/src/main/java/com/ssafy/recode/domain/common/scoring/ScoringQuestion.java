@@ -0,0 +1,18 @@
+package com.ssafy.recode.domain.common.scoring;
+
+/**
+ * 채점에 필요한 질문 정보
+ *
+ * @param content         질문 원문 (LLM 프롬프트용)
+ * @param expectedAnswers '|'로 구분한 정답/키워드, 정답이 없는 질문(개인화 등)은 null
+ */
+public record ScoringQuestion(String content, String expectedAnswers) {
+
+  public static ScoringQuestion of(String content) {
+    return new ScoringQuestion(content, null);
+  }
+
+  public boolean hasExpectedAnswers() {
+    return expectedAnswers != null && !expectedAnswers.isBlank();
+  }
+}
@@ -2,9 +2,16 @@
 package com.ssafy.recode.domain.common.service;
 
 import com.ssafy.recode.domain.auth.entity.User;
+import java.time.LocalDate;
 import java.util.List;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public interface AiPromptService {
+
+    /** 일괄 채점 대상 (질문 원문, 전사된 답변) */
+    record ScoringItem(String question, String answer) {}
+
     /**
      * @param question  질문 원문
      * @param answer    전사된 답변 텍스트
@@ -12,7 +19,28 @@ public interface AiPromptService {
      */
     double evaluateAnswer(String question, String answer) throws Exception;
 
+    /**
+     * evaluateAnswer의 논블로킹 버전 (스레드를 점유하지 않음)
+     */
+    Mono<Double> evaluateAnswerReactive(String question, String answer);
+
+    /**
+     * 여러 답변을 한 번의 LLM 호출로 채점
+     * @return items와 같은 순서의 0~100 점수 목록
+     */
+    Mono<List<Double>> evaluateAnswersReactive(List<ScoringItem> items);
+
     List<String> generateDailyQuestions() throws Exception;
 
+    /**
+     * 월간 설문 질문을 생성되는 대로 한 줄(질문 1개)씩 내보냄
+     */
+    Flux<String> streamDailyQuestions();
+
     void generatePersonalQuestions(User user) throws Exception;
+
+    /**
+     * answeredOn 날짜의 일일 설문 답변으로 개인화 질문 생성 (야간 일괄 생성용)
+     */
+    void generatePersonalQuestions(User user, LocalDate answeredOn) throws Exception;
 }
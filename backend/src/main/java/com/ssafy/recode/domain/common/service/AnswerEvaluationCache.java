@@ -0,0 +1,133 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.recode.domain.common.scoring.KoreanAnswerMatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AnswerEvaluationCache
+ *
+ * LLM 채점 결과를 (프롬프트 버전, 채점 날짜, 정규화한 질문, 정규화한 답변) 해시로 캐싱합니다.
+ * - 채점 프롬프트에 오늘 날짜가 들어가므로 날짜가 바뀌면 같은 답변도 다시 채점
+ * - L1: 노드 내부 Caffeine (크기 제한 + TTL)
+ * - L2: Redis llm:eval:{sha256} (노드 간 공유, TTL)
+ * - 같은 질문에 "서울", "서울이요"처럼 같은 짧은 답이 반복될 때 Gemini 호출을 생략
+ *
+ * Redis 장애 시에는 캐시 미스로 보고 LLM 채점을 그대로 진행합니다.
+ * 조회/적중 수는 answer.evaluation.cache{tier, result}와 Caffeine 통계로 Prometheus에 노출됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerEvaluationCache {
+
+  private static final String KEY_PREFIX = "llm:eval:";
+  private static final String METRIC = "answer.evaluation.cache";
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${answer.evaluation.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${answer.evaluation.cache.local-max-size:10000}")
+  private long localMaxSize;
+
+  @Value("${answer.evaluation.cache.local-ttl-minutes:60}")
+  private long localTtlMinutes;
+
+  @Value("${answer.evaluation.cache.redis-ttl-hours:24}")
+  private long redisTtlHours;
+
+  private Cache<String, Double> local;
+
+  @PostConstruct
+  void init() {
+    local = Caffeine.newBuilder()
+        .maximumSize(localMaxSize)
+        .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, local, "answerEvaluationL1");
+  }
+
+  /**
+   * 캐시된 점수 (L1 → L2 순서), 없으면 null
+   */
+  public Double get(String question, String answer) {
+    if (!enabled) {
+      return null;
+    }
+    String key = key(question, answer);
+    Double score = local.getIfPresent(key);
+    if (score != null) {
+      count("l1", "hit");
+      return score;
+    }
+    count("l1", "miss");
+
+    try {
+      Object cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+      if (cached instanceof Number number) {
+        count("l2", "hit");
+        local.put(key, number.doubleValue());
+        return number.doubleValue();
+      }
+      count("l2", "miss");
+    } catch (RuntimeException e) {
+      count("l2", "error");
+      log.warn("평가 캐시(Redis) 조회 실패", e);
+    }
+    return null;
+  }
+
+  /**
+   * LLM 채점 결과 저장 — Redis 쓰기는 호출 스레드(이벤트 루프 포함)를 막지 않도록 별도 스레드에서
+   */
+  public void put(String question, String answer, double score) {
+    if (!enabled) {
+      return;
+    }
+    String key = key(question, answer);
+    local.put(key, score);
+    Schedulers.boundedElastic().schedule(() -> {
+      try {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, score, Duration.ofHours(redisTtlHours));
+      } catch (RuntimeException e) {
+        log.warn("평가 캐시(Redis) 저장 실패", e);
+      }
+    });
+  }
+
+  private void count(String tier, String result) {
+    meterRegistry.counter(METRIC, "tier", tier, "result", result).increment();
+  }
+
+  /** sha256(프롬프트 버전 + 채점 날짜 + 정규화 질문 + 정규화 답변) */
+  static String key(String question, String answer) {
+    String source = CommonAiPromptService.SCORE_PROMPT_VERSION + "\n"
+        + CommonAiPromptService.scoringDate() + "\n"
+        + KoreanAnswerMatcher.normalize(question) + "\n"
+        + KoreanAnswerMatcher.normalize(answer);
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
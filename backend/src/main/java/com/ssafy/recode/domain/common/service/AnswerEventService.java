@@ -0,0 +1,143 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.recode.domain.link.service.GuardianLinkCache;
+import com.ssafy.recode.global.dto.response.answer.AnswerStatusResponse;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * AnswerEventService
+ *
+ * 답변 처리 상태가 바뀔 때마다 SSE로 본인과 연동된 보호자에게 알립니다.
+ * - 수신 보호자 목록은 GuardianLinkCache(노인 → 보호자)에서 조회
+ * - 상태 변경은 Redis pub/sub(answer:status)으로 모든 노드에 전파
+ * - 각 노드는 자기에게 연결된 SseEmitter에만 전송 → 여러 백엔드 뒤(nginx)에서도 동작
+ * - 프록시가 유휴 연결을 끊지 않도록 주기적으로 heartbeat 주석을 보냄
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerEventService implements MessageListener {
+
+  public static final String CHANNEL = "answer:status";
+  private static final String EVENT_NAME = "answer-status";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final GuardianLinkCache guardianLinkCache;
+
+  // userId → 이 노드에 연결된 SSE 목록 (여러 탭/기기)
+  private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+  @Value("${answer.events.timeout-ms:1800000}")
+  private long timeoutMs;
+
+  /** 수신자 목록과 상태를 함께 전파 (수신 노드마다 연동 조회를 반복하지 않도록) */
+  record AnswerStatusMessage(List<Long> recipients, AnswerStatusResponse status) {}
+
+  @PostConstruct
+  void listen() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /**
+   * SSE 구독 (연결이 끊기면 클라이언트가 다시 연결)
+   */
+  public SseEmitter subscribe(Long userId) {
+    SseEmitter emitter = new SseEmitter(timeoutMs);
+    Set<SseEmitter> userEmitters = emitters.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet());
+    userEmitters.add(emitter);
+    Runnable remove = () -> removeEmitter(userId, emitter);
+    emitter.onCompletion(remove);
+    emitter.onTimeout(remove);
+    emitter.onError(e -> remove.run());
+
+    try {
+      emitter.send(SseEmitter.event().name("connected").data("ok"));
+    } catch (IOException e) {
+      removeEmitter(userId, emitter);
+    }
+    return emitter;
+  }
+
+  /**
+   * 상태 변경 전파 — 실패해도 답변 처리에는 영향 없음
+   */
+  public void publish(AnswerStatusResponse status) {
+    try {
+      List<Long> recipients = new ArrayList<>();
+      recipients.add(status.userId());
+      // 상태 변경마다 연동 조회를 반복하지 않도록 캐시 사용 (연동 변경 시 무효화)
+      recipients.addAll(guardianLinkCache.guardianIdsOf(status.userId()));
+      String payload = objectMapper.writeValueAsString(new AnswerStatusMessage(recipients, status));
+      redisTemplate.convertAndSend(CHANNEL, payload);
+    } catch (Exception e) {
+      log.warn("답변 상태 이벤트 발행 실패 key={}", status.mediaKey(), e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    AnswerStatusMessage event;
+    try {
+      event = objectMapper.readValue(message.getBody(), AnswerStatusMessage.class);
+    } catch (IOException e) {
+      log.warn("답변 상태 이벤트 파싱 실패", e);
+      return;
+    }
+    for (Long recipient : event.recipients()) {
+      Set<SseEmitter> userEmitters = emitters.get(recipient);
+      if (userEmitters == null) {
+        continue;
+      }
+      for (SseEmitter emitter : userEmitters) {
+        try {
+          emitter.send(SseEmitter.event().name(EVENT_NAME).data(event.status()));
+        } catch (Exception e) {
+          removeEmitter(recipient, emitter);
+        }
+      }
+    }
+  }
+
+  /**
+   * 유휴 연결 유지 (nginx proxy_read_timeout보다 짧게)
+   */
+  @Scheduled(fixedDelayString = "${answer.events.heartbeat-ms:25000}")
+  public void heartbeat() {
+    emitters.forEach((userId, userEmitters) -> {
+      for (SseEmitter emitter : userEmitters) {
+        try {
+          emitter.send(SseEmitter.event().comment("ping"));
+        } catch (Exception e) {
+          removeEmitter(userId, emitter);
+        }
+      }
+    });
+  }
+
+  private void removeEmitter(Long userId, SseEmitter emitter) {
+    emitters.computeIfPresent(userId, (id, set) -> {
+      set.remove(emitter);
+      return set.isEmpty() ? null : set;
+    });
+  }
+}
@@ -0,0 +1,87 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.global.enums.AnswerType;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * AnswerJobQueue
+ *
+ * answer.pipeline.mode=stream일 때 답변 처리 작업을 Redis Stream(answer:jobs)에 기록합니다.
+ * - API 노드는 XADD만 하고 바로 응답 → 노드가 재시작돼도 작업은 Redis에 남음
+ * - 실제 처리는 worker 프로필로 띄운 AnswerStreamWorker가 컨슈머 그룹으로 가져가서 실행
+ * - 재시도 횟수를 넘긴 작업은 answer:jobs:dead 로 옮겨 보관
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerJobQueue {
+
+  public static final String STREAM_KEY = "answer:jobs";
+  public static final String DEAD_LETTER_KEY = "answer:jobs:dead";
+  public static final String GROUP = "answer-workers";
+
+  private final StringRedisTemplate redisTemplate;
+
+  /** async(기본) | reactive | stream */
+  @Value("${answer.pipeline.mode:async}")
+  private String mode;
+
+  /** 실패 작업 보관 개수 (대략적으로 자름) */
+  @Value("${answer.stream.dead-letter-max-length:10000}")
+  private long deadLetterMaxLength;
+
+  public boolean isEnabled() {
+    return "stream".equalsIgnoreCase(mode);
+  }
+
+  /**
+   * 답변 처리 작업 등록
+   */
+  public RecordId enqueue(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    Map<String, String> job = new HashMap<>();
+    job.put("type", type.name());
+    job.put("questionId", String.valueOf(questionId));
+    job.put("userId", String.valueOf(userId));
+    job.put("mediaKey", mediaKey);
+    if (durationMs != null) {
+      job.put("durationMs", String.valueOf(durationMs));
+    }
+    RecordId id = redisTemplate.opsForStream()
+        .add(StreamRecords.string(job).withStreamKey(STREAM_KEY));
+    log.info("답변 작업 등록 id={}, type={}, key={}", id, type, mediaKey);
+    return id;
+  }
+
+  /**
+   * 처리 완료 → ACK 후 스트림에서 삭제
+   */
+  public void complete(RecordId id) {
+    redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, id);
+    redisTemplate.opsForStream().delete(STREAM_KEY, id);
+  }
+
+  /**
+   * 재시도 불가 작업을 dead-letter 스트림으로 옮기고 원본은 완료 처리
+   */
+  public void deadLetter(RecordId id, Map<Object, Object> job, long deliveries, String reason) {
+    Map<String, String> dead = new HashMap<>();
+    job.forEach((k, v) -> dead.put(String.valueOf(k), String.valueOf(v)));
+    dead.put("sourceId", id.getValue());
+    dead.put("deliveries", String.valueOf(deliveries));
+    dead.put("reason", reason != null ? reason : "unknown");
+    redisTemplate.opsForStream().add(StreamRecords.string(dead).withStreamKey(DEAD_LETTER_KEY));
+    redisTemplate.opsForStream().trim(DEAD_LETTER_KEY, deadLetterMaxLength, true);
+    complete(id);
+    log.error("답변 작업 dead-letter 이동 id={}, deliveries={}, job={}, reason={}",
+        id, deliveries, job, reason);
+  }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.basic.repository.BasicAnswerRepository;
+import com.ssafy.recode.domain.cognitive.repository.CognitiveAnswerRepository;
+import com.ssafy.recode.domain.common.answer.AnswerRecord;
+import com.ssafy.recode.domain.common.answer.AnswerRecordRepository;
+import com.ssafy.recode.domain.personal.repository.PersonalAnswerRepository;
+import com.ssafy.recode.domain.survey.repository.SurveyAnswerRepository;
+import com.ssafy.recode.global.dto.response.answer.AnswerStatusResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * AnswerLifecycleService
+ *
+ * 답변 유형(AnswerType)과 관계없이 같은 답변 행의 처리 상태를 전환하고 SSE로 알립니다.
+ * - UPLOADED(업로드 직후) → TRANSCRIBED(STT 완료) → SCORED | FAILED
+ * - 유형별 서비스는 새 답변 엔티티 생성과 평가 결과 기록만 담당
+ */
+@Service
+@RequiredArgsConstructor
+public class AnswerLifecycleService {
+
+  private final BasicAnswerRepository basicAnswerRepository;
+  private final PersonalAnswerRepository personalAnswerRepository;
+  private final CognitiveAnswerRepository cognitiveAnswerRepository;
+  private final SurveyAnswerRepository surveyAnswerRepository;
+  private final GenericPersistenceService genericPersistenceService;
+  private final AnswerEventService answerEventService;
+
+  /**
+   * 업로드 직후 UPLOADED 상태의 답변 행 생성
+   * (같은 mediaKey 행이 있으면 그대로 두고, 실패한 행이면 UPLOADED로 되돌려 재처리)
+   * - video_path는 UNIQUE → 같은 mediaKey를 동시에 커밋해도 한 요청만 행을 만들고 나머지는 기존 행 사용
+   * @return 새로 만들었거나 FAILED에서 되돌렸으면 true (이때만 파이프라인을 시작)
+   */
+  public boolean createUploaded(AnswerType type, String mediaKey,
+      Supplier<? extends AnswerRecord> newAnswer) {
+    AnswerRecord answer = find(type, mediaKey).orElse(null);
+    if (answer == null) {
+      try {
+        saveAndNotify(newAnswer.get());
+        return true;
+      } catch (DataIntegrityViolationException e) {
+        // 다른 요청이 먼저 저장한 행이 있으면 그 요청이 처리를 시작하므로 여기서는 건너뜀
+        if (find(type, mediaKey).isEmpty()) {
+          throw e;
+        }
+        return false;
+      }
+    }
+    if (answer.getStatus() == AnswerStatus.FAILED) {
+      answer.setStatus(AnswerStatus.UPLOADED);
+      saveAndNotify(answer);
+      return true;
+    }
+    return false;
+  }
+
+  /** STT 결과 기록 → TRANSCRIBED */
+  public void markTranscribed(AnswerType type, String mediaKey, String answerText) {
+    find(type, mediaKey).ifPresent(answer -> {
+      answer.setAnswer(answerText);
+      answer.setStatus(AnswerStatus.TRANSCRIBED);
+      saveAndNotify(answer);
+    });
+  }
+
+  /** 처리 실패 기록 → FAILED */
+  public void markFailed(AnswerType type, String mediaKey) {
+    find(type, mediaKey).ifPresent(answer -> {
+      answer.setStatus(AnswerStatus.FAILED);
+      saveAndNotify(answer);
+    });
+  }
+
+  /** mediaKey의 처리 상태 */
+  public Optional<AnswerStatusResponse> findStatus(AnswerType type, String mediaKey) {
+    return find(type, mediaKey).map(AnswerLifecycleService::toStatus);
+  }
+
+  /** 저장 후 상태 변경 알림 (SSE) */
+  public void saveAndNotify(AnswerRecord answer) {
+    genericPersistenceService.save(answer);
+    answerEventService.publish(toStatus(answer));
+  }
+
+  private Optional<? extends AnswerRecord> find(AnswerType type, String mediaKey) {
+    return repositoryOf(type).findByVideoPath(mediaKey);
+  }
+
+  private AnswerRecordRepository<? extends AnswerRecord> repositoryOf(AnswerType type) {
+    return switch (type) {
+      case BASIC -> basicAnswerRepository;
+      case PERSONAL -> personalAnswerRepository;
+      case COGNITIVE_AUDIO, COGNITIVE_IMAGE -> cognitiveAnswerRepository;
+      case SURVEY -> surveyAnswerRepository;
+    };
+  }
+
+  private static AnswerStatusResponse toStatus(AnswerRecord a) {
+    return new AnswerStatusResponse(
+        a.answerType(), a.getAnswerId(), a.getQuestionId(),
+        a.getUserId(), a.getVideoPath(), a.getStatus(),
+        a.getAnswer(), a.getScore(), a.getDurationMs(), a.getCreatedAt());
+  }
+}
@@ -0,0 +1,75 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.scoring.KoreanAnswerMatcher;
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.OptionalDouble;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * AnswerPreScorer
+ *
+ * 정답/키워드가 등록된 질문은 LLM 호출 전에 JVM 안에서 먼저 채점합니다.
+ * - 유사도 ≥ accept-similarity: 정답으로 확정 (점수 = 유사도 × 100)
+ * - 유사도 ≤ reject-similarity: 오답으로 확정
+ * - 그 사이이거나 부정/모름 표현이 있으면 판단을 LLM에 넘김
+ *
+ * 판정 결과는 answer.prescore.decisions{outcome}, 유사도 분포는 answer.prescore.similarity로
+ * 기록되므로 Prometheus에서 로컬 확정 비율을 보며 두 기준값을 조정할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnswerPreScorer {
+
+  private static final String DECISIONS = "answer.prescore.decisions";
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${answer.prescore.enabled:true}")
+  private boolean enabled;
+
+  @Value("${answer.prescore.accept-similarity:0.9}")
+  private double acceptSimilarity;
+
+  @Value("${answer.prescore.reject-similarity:0.3}")
+  private double rejectSimilarity;
+
+  /**
+   * 로컬에서 확정한 점수, LLM 판단이 필요하면 empty
+   */
+  public OptionalDouble preScore(ScoringQuestion question, String answer) {
+    if (!enabled || !question.hasExpectedAnswers()) {
+      return OptionalDouble.empty();
+    }
+    if (answer == null || answer.isBlank()) {
+      count("blank");
+      return OptionalDouble.of(0);
+    }
+    double similarity = KoreanAnswerMatcher.similarity(answer, question.expectedAnswers());
+    DistributionSummary.builder("answer.prescore.similarity")
+        .register(meterRegistry)
+        .record(similarity);
+
+    if (KoreanAnswerMatcher.containsNegation(answer)) {
+      count("negation");
+      return OptionalDouble.empty();
+    }
+    if (similarity >= acceptSimilarity) {
+      count("accept");
+      return OptionalDouble.of(Math.round(similarity * 100));
+    }
+    if (similarity <= rejectSimilarity) {
+      count("reject");
+      return OptionalDouble.of(Math.round(similarity * 100));
+    }
+    count("ambiguous");
+    return OptionalDouble.empty();
+  }
+
+  private void count(String outcome) {
+    meterRegistry.counter(DECISIONS, "outcome", outcome).increment();
+  }
+}
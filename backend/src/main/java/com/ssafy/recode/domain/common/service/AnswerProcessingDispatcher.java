@@ -0,0 +1,225 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.basic.service.BasicService;
+import com.ssafy.recode.domain.cognitive.service.CognitiveService;
+import com.ssafy.recode.domain.common.event.TranscriptionCompletedEvent;
+import com.ssafy.recode.domain.common.event.TranscriptionFailedEvent;
+import com.ssafy.recode.domain.common.event.TranscriptionRetryEvent;
+import com.ssafy.recode.domain.personal.service.PersonalService;
+import com.ssafy.recode.domain.survey.service.SurveyService;
+import com.ssafy.recode.global.dto.response.answer.AnswerStatusResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * AnswerProcessingDispatcher
+ *
+ * 답변 유형(AnswerType)에 따라 업로드 폴더를 결정하고,
+ * 업로드가 끝난 미디어 키를 해당 도메인의 비동기 파이프라인(processAnswerAsync)으로 넘기고,
+ * 비동기 STT가 끝나면 해당 도메인의 평가/저장 단계(completeAnswer)를 이어서 실행합니다.
+ * 답변 행은 업로드 직후 UPLOADED 상태로 만들어지고, 각 단계가 같은 행의 상태를 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerProcessingDispatcher {
+
+  private final BasicService basicService;
+  private final PersonalService personalService;
+  private final CognitiveService cognitiveService;
+  private final SurveyService surveyService;
+  private final ReactiveAnswerPipeline reactivePipeline;
+  private final AnswerJobQueue answerJobQueue;
+  private final SttJobService sttJobService;
+  private final VideoTranscriptionService transcriptionService;
+  private final DeferredScoringService deferredScoringService;
+  private final AnswerLifecycleService answerLifecycle;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 답변 유형별 S3 폴더
+   */
+  public String folderOf(AnswerType type) {
+    return switch (type) {
+      case BASIC -> BasicService.FOLDER;
+      case PERSONAL -> PersonalService.FOLDER;
+      case COGNITIVE_AUDIO -> CognitiveService.AUDIO_FOLDER;
+      case COGNITIVE_IMAGE -> CognitiveService.IMAGE_FOLDER;
+      case SURVEY -> SurveyService.FOLDER;
+    };
+  }
+
+  /**
+   * 인지 질문 mediaType('audio'|'image') → 답변 유형
+   */
+  public static AnswerType cognitiveType(String mediaType) {
+    return "image".equalsIgnoreCase(mediaType) ? AnswerType.COGNITIVE_IMAGE : AnswerType.COGNITIVE_AUDIO;
+  }
+
+  /**
+   * 업로드 완료된 mediaKey로 STT → 평가 → 저장 파이프라인 시작
+   * (answer.pipeline.mode=stream이면 Redis Stream 대기열, reactive면 Reactor 파이프라인,
+   *  아니면 도메인별 @Async 파이프라인)
+   * - 같은 mediaKey가 이미 처리 중이거나 끝났으면(UPLOADED/TRANSCRIBED/SCORED) 다시 시작하지 않음
+   */
+  public void dispatch(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    if (!createUploadedAnswer(type, questionId, userId, mediaKey, durationMs)) {
+      log.info("이미 처리 중이거나 완료된 답변 key={}", mediaKey);
+      return;
+    }
+    try {
+      route(type, questionId, userId, mediaKey, durationMs);
+    } catch (RuntimeException e) {
+      // 대기열/스레드풀 거절 등으로 시작하지 못하면 행이 UPLOADED로 남지 않게 실패 처리
+      markFailed(type, mediaKey);
+      throw e;
+    }
+  }
+
+  private void route(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    if (answerJobQueue.isEnabled()) {
+      answerJobQueue.enqueue(type, questionId, userId, mediaKey, durationMs);
+      return;
+    }
+    if (reactivePipeline.isEnabled()) {
+      reactivePipeline.submit(type, questionId, userId, mediaKey, durationMs);
+      return;
+    }
+    switch (type) {
+      case BASIC -> basicService.processAnswerAsync(questionId, userId, mediaKey, durationMs);
+      case PERSONAL -> personalService.processAnswerAsync(questionId, userId, mediaKey, durationMs);
+      case COGNITIVE_AUDIO ->
+          cognitiveService.processAnswerAsync(questionId, userId, mediaKey, "audio", durationMs);
+      case COGNITIVE_IMAGE ->
+          cognitiveService.processAnswerAsync(questionId, userId, mediaKey, "image", durationMs);
+      case SURVEY -> surveyService.processAnswerAsync(questionId, userId, mediaKey, durationMs);
+    }
+  }
+
+  /**
+   * 호출 스레드에서 STT → 평가 → 저장을 끝까지 실행 (대기열 워커용, 실패 시 예외 전파)
+   * - clova.completion=async면 STT 작업 등록까지만 실행 (이후는 Redis에 저장된 작업으로 이어짐)
+   * - Clova 장애로 STT를 못 하면 보류했다가 나중에 다시 (대기열 재시도와 별개)
+   */
+  public void process(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    String text;
+    try {
+      if (sttJobService.isAsync()) {
+        sttJobService.submit(type, questionId, userId, mediaKey, durationMs);
+        return;
+      }
+      text = transcriptionService.transcribeVideo(mediaKey);
+    } catch (RuntimeException e) {
+      if (deferredScoringService.deferTranscription(type, questionId, userId, mediaKey,
+          durationMs, e)) {
+        return;
+      }
+      markFailed(type, mediaKey);
+      throw e;
+    }
+    // 평가/저장 단계는 실패 시 스스로 보류하거나 FAILED 처리
+    complete(type, questionId, userId, mediaKey, durationMs, text);
+  }
+
+  /**
+   * 답변 처리 상태 조회 (본인 답변만)
+   */
+  public AnswerStatusResponse getStatus(AnswerType type, String mediaKey, Long userId) {
+    return answerLifecycle.findStatus(type, mediaKey)
+        .filter(status -> status.userId().equals(userId))
+        .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
+  }
+
+  /**
+   * 실패한 답변을 다시 업로드하지 않고 실패한 단계부터 재처리
+   * - STT 결과가 있으면 평가/저장부터, 없으면 STT부터
+   */
+  public AnswerStatusResponse retry(AnswerType type, String mediaKey, Long userId) {
+    AnswerStatusResponse status = getStatus(type, mediaKey, userId);
+    if (status.status() != AnswerStatus.FAILED) {
+      throw new CustomException(ErrorCode.ANSWER_NOT_RETRYABLE);
+    }
+    // 이전에 보류됐던 작업이 사용자 재처리와 따로 재개되지 않도록 정리
+    deferredScoringService.discard(mediaKey);
+    if (status.answerText() != null) {
+      eventPublisher.publishEvent(new TranscriptionCompletedEvent(type, status.questionId(),
+          userId, mediaKey, status.durationMs(), status.answerText()));
+    } else {
+      dispatch(type, status.questionId(), userId, mediaKey, status.durationMs());
+    }
+    return getStatus(type, mediaKey, userId);
+  }
+
+  /**
+   * 비동기 STT 완료 → 평가/저장 (콜백·폴링 스레드를 붙잡지 않도록 비동기 실행)
+   */
+  @Async
+  @EventListener
+  public void onTranscriptionCompleted(TranscriptionCompletedEvent event) {
+    complete(event.answerType(), event.questionId(), event.userId(), event.mediaKey(),
+        event.durationMs(), event.answerText());
+  }
+
+  /**
+   * Clova 장애로 보류했던 답변 → 현재 파이프라인 모드로 STT부터 다시
+   */
+  @EventListener
+  public void onTranscriptionRetry(TranscriptionRetryEvent event) {
+    try {
+      route(event.answerType(), event.questionId(), event.userId(), event.mediaKey(),
+          event.durationMs());
+    } catch (RuntimeException e) {
+      log.warn("보류했던 STT 재시작 실패 key={}", event.mediaKey(), e);
+      markFailed(event.answerType(), event.mediaKey());
+    }
+  }
+
+  /**
+   * 비동기 STT 실패 → 답변 행 FAILED
+   */
+  @EventListener
+  public void onTranscriptionFailed(TranscriptionFailedEvent event) {
+    markFailed(event.answerType(), event.mediaKey());
+  }
+
+  private boolean createUploadedAnswer(AnswerType type, Long questionId, Long userId,
+      String mediaKey, Long durationMs) {
+    return switch (type) {
+      case BASIC -> basicService.createUploadedAnswer(questionId, userId, mediaKey, durationMs);
+      case PERSONAL -> personalService.createUploadedAnswer(questionId, userId, mediaKey, durationMs);
+      case COGNITIVE_AUDIO ->
+          cognitiveService.createUploadedAnswer(questionId, userId, mediaKey, "audio", durationMs);
+      case COGNITIVE_IMAGE ->
+          cognitiveService.createUploadedAnswer(questionId, userId, mediaKey, "image", durationMs);
+      case SURVEY -> surveyService.createUploadedAnswer(questionId, userId, mediaKey, durationMs);
+    };
+  }
+
+  private void markFailed(AnswerType type, String mediaKey) {
+    answerLifecycle.markFailed(type, mediaKey);
+  }
+
+  private void complete(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs, String text) {
+    switch (type) {
+      case BASIC -> basicService.completeAnswer(questionId, userId, mediaKey, durationMs, text);
+      case PERSONAL -> personalService.completeAnswer(questionId, userId, mediaKey, durationMs, text);
+      case COGNITIVE_AUDIO ->
+          cognitiveService.completeAnswer(questionId, userId, mediaKey, "audio", durationMs, text);
+      case COGNITIVE_IMAGE ->
+          cognitiveService.completeAnswer(questionId, userId, mediaKey, "image", durationMs, text);
+      case SURVEY -> surveyService.completeAnswer(questionId, userId, mediaKey, durationMs, text);
+    }
+  }
+}
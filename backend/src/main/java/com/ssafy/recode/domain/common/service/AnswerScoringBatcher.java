@@ -0,0 +1,194 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import com.ssafy.recode.domain.common.service.AiPromptService.ScoringItem;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.concurrent.ArrayBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+
+/**
+ * AnswerScoringBatcher
+ *
+ * STT가 끝난 답변들의 LLM 채점을 짧은 시간 동안 모아 한 번의 Gemini 호출로 처리합니다.
+ * - window-ms 동안 또는 max-size개가 모이면 evaluateAnswersReactive로 일괄 채점
+ * - 같은 프롬프트 머리말을 답변마다 반복하지 않아 호출 수와 토큰이 함께 줄어듦
+ * - 일괄 채점이 실패하면(응답 개수 불일치 등) 해당 묶음만 개별 채점으로 대체
+ * - 대기열이 가득 차거나 비활성화(enabled=false)면 바로 개별 채점
+ * - 정답이 등록된 질문은 AnswerPreScorer가 먼저 판단해, 확실한 경우 LLM을 호출하지 않음
+ * - 같은 질문/답변의 이전 채점 결과가 AnswerEvaluationCache에 있으면 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnswerScoringBatcher {
+
+  private final AiPromptService aiPromptService;
+  private final AnswerPreScorer preScorer;
+  private final AnswerEvaluationCache evaluationCache;
+
+  @Value("${answer.scoring.batch.enabled:true}")
+  private boolean enabled;
+
+  @Value("${answer.scoring.batch.max-size:12}")
+  private int maxSize;
+
+  @Value("${answer.scoring.batch.window-ms:500}")
+  private long windowMs;
+
+  /** 동시에 진행할 일괄 채점 호출 수 */
+  @Value("${answer.scoring.batch.max-in-flight:4}")
+  private int maxInFlight;
+
+  @Value("${answer.scoring.batch.queue-size:1000}")
+  private int queueSize;
+
+  /** 묶음 결과를 기다리는 최대 시간 — 넘으면 개별 채점으로 대체 */
+  @Value("${answer.scoring.batch.result-timeout-ms:30000}")
+  private long resultTimeoutMs;
+
+  private Sinks.Many<PendingScore> sink;
+  private Disposable subscription;
+  private volatile boolean stopped;
+
+  private record PendingScore(ScoringItem item, Sinks.One<Double> result) {}
+
+  @PostConstruct
+  void start() {
+    if (!enabled) {
+      return;
+    }
+    subscribe();
+  }
+
+  /**
+   * 대기열 → 묶음 → 일괄 채점 파이프라인 구독
+   * - bufferTimeout은 fairBackpressure(true)로, 진행 중인 묶음이 max-in-flight개여도 창이 닫힐 때 예외 없이 대기
+   * - 그래도 파이프라인이 끝나면 로그를 남기고 새 대기열로 다시 구독 (남은 요청은 result-timeout 후 개별 채점)
+   */
+  private synchronized void subscribe() {
+    Sinks.Many<PendingScore> next = Sinks.many().unicast()
+        .onBackpressureBuffer(new ArrayBlockingQueue<>(queueSize));
+    sink = next;
+    subscription = next.asFlux()
+        .bufferTimeout(maxSize, Duration.ofMillis(windowMs), true)
+        .flatMap(this::scoreBatch, maxInFlight)
+        .subscribe(
+            unused -> {},
+            e -> {
+              log.error("일괄 채점 파이프라인 중단, 다시 구독합니다", e);
+              resubscribe(next);
+            });
+  }
+
+  private synchronized void resubscribe(Sinks.Many<PendingScore> failed) {
+    if (sink == failed && !stopped) {
+      subscribe();
+    }
+  }
+
+  @PreDestroy
+  synchronized void stop() {
+    stopped = true;
+    if (subscription != null) {
+      subscription.dispose();
+    }
+  }
+
+  /**
+   * 채점 요청 — 로컬 판정 → 평가 캐시 → 묶음 LLM 채점 순서
+   */
+  public Mono<Double> score(ScoringQuestion scoringQuestion, String answer) {
+    OptionalDouble local = preScorer.preScore(scoringQuestion, answer);
+    if (local.isPresent()) {
+      return Mono.just(local.getAsDouble());
+    }
+    String question = scoringQuestion.content();
+    Double cached = evaluationCache.get(question, answer);
+    if (cached != null) {
+      return Mono.just(cached);
+    }
+    return scoreRemote(question, answer)
+        .doOnNext(score -> evaluationCache.put(question, answer, score));
+  }
+
+  private Mono<Double> scoreRemote(String question, String answer) {
+    if (!enabled) {
+      return aiPromptService.evaluateAnswerReactive(question, answer);
+    }
+    Sinks.One<Double> result = Sinks.one();
+    EmitResult emitted;
+    synchronized (this) {
+      emitted = sink.tryEmitNext(new PendingScore(new ScoringItem(question, answer), result));
+    }
+    if (emitted.isFailure()) {
+      log.warn("일괄 채점 대기열 거절 ({}), 개별 채점으로 처리", emitted);
+      return aiPromptService.evaluateAnswerReactive(question, answer);
+    }
+    // 묶음이 버려져 결과가 오지 않는 경우에도 호출자가 멈추지 않도록
+    return result.asMono()
+        .timeout(Duration.ofMillis(resultTimeoutMs), Mono.defer(() -> {
+          log.warn("일괄 채점 결과 대기 시간 초과, 개별 채점으로 처리");
+          return aiPromptService.evaluateAnswerReactive(question, answer);
+        }));
+  }
+
+  /**
+   * score의 블로킹 버전 (@Async 파이프라인용) — 시간 안에 결과가 없으면 개별 채점
+   */
+  public double scoreBlocking(ScoringQuestion question, String answer) {
+    Double score;
+    try {
+      // 내부 대기(result-timeout) + 개별 채점 대체까지 기다림
+      score = score(question, answer).block(Duration.ofMillis(resultTimeoutMs * 2));
+    } catch (IllegalStateException timeout) {
+      log.warn("채점 대기 시간 초과, 개별 채점으로 처리", timeout);
+      score = null;
+    }
+    if (score == null) {
+      score = aiPromptService.evaluateAnswerReactive(question.content(), answer)
+          .block(Duration.ofMillis(resultTimeoutMs));
+    }
+    if (score == null) {
+      throw new IllegalStateException("채점 결과 없음");
+    }
+    return score;
+  }
+
+  private Mono<Void> scoreBatch(List<PendingScore> batch) {
+    if (batch.size() == 1) {
+      return scoreSingle(batch.get(0));
+    }
+    List<ScoringItem> items = batch.stream().map(PendingScore::item).toList();
+    return aiPromptService.evaluateAnswersReactive(items)
+        .doOnNext(scores -> {
+          for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().tryEmitValue(scores.get(i));
+          }
+        })
+        .then()
+        .onErrorResume(e -> {
+          log.warn("일괄 채점 실패 (size={}), 개별 채점으로 재시도", batch.size(), e);
+          return Flux.fromIterable(batch).flatMap(this::scoreSingle).then();
+        });
+  }
+
+  private Mono<Void> scoreSingle(PendingScore pending) {
+    return aiPromptService.evaluateAnswerReactive(pending.item().question(), pending.item().answer())
+        .doOnNext(score -> pending.result().tryEmitValue(score))
+        .doOnError(e -> pending.result().tryEmitError(e))
+        .onErrorResume(e -> Mono.empty())
+        .then();
+  }
+}
@@ -0,0 +1,271 @@
+package com.ssafy.recode.domain.common.service;
+
+import static com.ssafy.recode.domain.common.service.AnswerJobQueue.GROUP;
+import static com.ssafy.recode.domain.common.service.AnswerJobQueue.STREAM_KEY;
+
+import com.ssafy.recode.global.enums.AnswerType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * AnswerStreamWorker (worker 프로필 전용)
+ *
+ * Redis Stream(answer:jobs)을 컨슈머 그룹으로 읽어 STT → 평가 → 저장을 실행합니다.
+ * - 비어 있는 처리 슬롯 수만큼만 XREADGROUP → 처리 성공 시 XACK + XDEL
+ * - 실패하면 ACK하지 않고 남겨 둠 → claim-idle-ms 이후 아무 워커나 XCLAIM해서 재시도
+ *   (워커가 죽은 경우도 같은 방식으로 다른 워커가 이어받음)
+ * - 처리 중인 작업은 renew-interval-ms마다 자기 자신에게 XCLAIM(JUSTID)해 idle 시간을 초기화
+ *   → STT 응답 대기처럼 claim-idle-ms보다 오래 걸려도 다른 워커가 중복 처리하지 않음
+ * - 전달 횟수가 max-attempts에 도달하면 dead-letter 스트림으로 이동
+ *
+ * API 노드와 별도로 워커 인스턴스만 늘려 처리량을 확장할 수 있습니다.
+ */
+@Slf4j
+@Service
+@Profile("worker")
+@RequiredArgsConstructor
+public class AnswerStreamWorker {
+
+  // 한 번의 재할당 검사에서 확인할 미처리(PEL) 작업 수
+  private static final int PENDING_SCAN = 100;
+
+  // 그룹에 아직 전달되지 않은 새 작업부터 읽기 (read(...)의 가변 인자로 넘길 배열을 한 번만 생성)
+  private static final StreamOffset<String>[] NEW_JOBS =
+      offsets(StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+
+  private final StringRedisTemplate redisTemplate;
+  private final AnswerJobQueue jobQueue;
+  private final AnswerProcessingDispatcher dispatcher;
+
+  @Value("${answer.worker.concurrency:4}")
+  private int concurrency;
+
+  @Value("${answer.worker.max-attempts:3}")
+  private int maxAttempts;
+
+  /** 이 시간 동안 갱신되지 않은 미처리 작업만 다른 워커가 가져감 (처리 중인 작업은 renew()가 갱신) */
+  @Value("${answer.worker.claim-idle-ms:300000}")
+  private long claimIdleMs;
+
+  /** 처리 중인 작업의 소유 갱신 주기 — claim-idle-ms의 절반 이하여야 갱신이 한 번 늦어도 안전 */
+  @Value("${answer.worker.renew-interval-ms:60000}")
+  private long renewIntervalMs;
+
+  // pid@host — 재시작하면 새 컨슈머가 되고, 이전 컨슈머의 미처리 작업은 재할당으로 회수
+  private final String consumerName = ManagementFactory.getRuntimeMXBean().getName();
+
+  // 이 워커에서 실행 중인 작업 ID (renew() 대상)
+  private final Set<RecordId> inFlight = ConcurrentHashMap.newKeySet();
+
+  private ThreadPoolTaskExecutor executor;
+  private Semaphore slots;
+
+  @PostConstruct
+  void start() {
+    if (renewIntervalMs * 2 > claimIdleMs) {
+      throw new IllegalStateException("answer.worker.renew-interval-ms(" + renewIntervalMs
+          + ")는 answer.worker.claim-idle-ms(" + claimIdleMs + ")의 절반 이하여야 합니다");
+    }
+    slots = new Semaphore(concurrency);
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(concurrency);
+    executor.setMaxPoolSize(concurrency);
+    // 슬롯(Semaphore)이 동시 실행 수를 제한하므로 큐는 스레드 반납 직전의 짧은 틈만 메움
+    executor.setQueueCapacity(concurrency);
+    executor.setThreadNamePrefix("answer-worker-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+    createGroup();
+    log.info("답변 워커 시작 consumer={}, concurrency={}", consumerName, concurrency);
+  }
+
+  @PreDestroy
+  void stop() {
+    executor.shutdown();
+  }
+
+  /**
+   * 새 작업 읽기 (빈 슬롯 수만큼)
+   */
+  @Scheduled(fixedDelayString = "${answer.worker.poll-interval-ms:1000}")
+  public void poll() {
+    int free = slots.availablePermits();
+    if (free == 0) {
+      return;
+    }
+    try {
+      List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+          Consumer.from(GROUP, consumerName),
+          StreamReadOptions.empty().count(free),
+          NEW_JOBS);
+      if (records != null) {
+        records.forEach(record -> run(record, 1));
+      }
+    } catch (RuntimeException e) {
+      if (isMissingGroup(e)) {
+        createGroup(); // 스트림/그룹이 지워진 경우 다시 생성
+      } else {
+        log.warn("답변 작업 읽기 실패", e);
+      }
+    }
+  }
+
+  @SafeVarargs
+  private static StreamOffset<String>[] offsets(StreamOffset<String>... offsets) {
+    return offsets;
+  }
+
+  /**
+   * 오래 ACK되지 않은 작업(실패 또는 워커 종료) 재할당
+   */
+  @Scheduled(fixedDelayString = "${answer.worker.reclaim-interval-ms:30000}")
+  public void reclaim() {
+    PendingMessages pending;
+    try {
+      pending = redisTemplate.opsForStream()
+          .pending(STREAM_KEY, GROUP, Range.unbounded(), PENDING_SCAN);
+    } catch (RuntimeException e) {
+      log.warn("미처리 답변 작업 조회 실패", e);
+      return;
+    }
+    for (PendingMessage message : pending) {
+      if (message.getElapsedTimeSinceLastDelivery().toMillis() < claimIdleMs) {
+        continue;
+      }
+      boolean exhausted = message.getTotalDeliveryCount() >= maxAttempts;
+      if (!exhausted && slots.availablePermits() == 0) {
+        break;
+      }
+      // XCLAIM에 성공한 워커만 이어서 처리 (여러 워커가 동시에 검사해도 한 곳만 가져감)
+      List<MapRecord<String, Object, Object>> claimed = redisTemplate.opsForStream().claim(
+          STREAM_KEY, GROUP, consumerName, Duration.ofMillis(claimIdleMs), message.getId());
+      for (MapRecord<String, Object, Object> record : claimed) {
+        if (exhausted) {
+          jobQueue.deadLetter(record.getId(), record.getValue(), message.getTotalDeliveryCount(),
+              "재시도 횟수 초과");
+        } else {
+          run(record, message.getTotalDeliveryCount() + 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * 실행 중인 작업을 자기 자신에게 다시 XCLAIM해 idle 시간 초기화 (전달 횟수는 그대로)
+   * - 아직 이 컨슈머 소유인 작업만 갱신 → 멈춰 있던 사이 다른 워커가 가져간 작업은 되찾지 않음
+   */
+  @Scheduled(fixedDelayString = "${answer.worker.renew-interval-ms:60000}")
+  public void renew() {
+    Consumer self = Consumer.from(GROUP, consumerName);
+    for (RecordId id : inFlight) {
+      try {
+        PendingMessages owned = redisTemplate.opsForStream()
+            .pending(STREAM_KEY, self, Range.closed(id.getValue(), id.getValue()), 1);
+        if (owned.isEmpty()) {
+          continue;
+        }
+        redisTemplate.execute((RedisCallback<List<RecordId>>) connection ->
+            connection.streamCommands().xClaimJustId(
+                STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, consumerName,
+                XClaimOptions.minIdleMs(0).ids(id)));
+      } catch (RuntimeException e) {
+        log.warn("답변 작업 소유 갱신 실패 id={}", id, e);
+      }
+    }
+  }
+
+  private void run(MapRecord<String, Object, Object> record, long deliveries) {
+    slots.acquireUninterruptibly();
+    inFlight.add(record.getId());
+    try {
+      executor.execute(() -> {
+        try {
+          handle(record, deliveries);
+        } finally {
+          inFlight.remove(record.getId());
+          slots.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlight.remove(record.getId());
+      slots.release(); // 종료 중: ACK하지 않았으므로 다른 워커가 재할당으로 가져감
+      log.warn("답변 작업 실행 거절 id={}", record.getId(), e);
+    }
+  }
+
+  private void handle(MapRecord<String, Object, Object> record, long deliveries) {
+    Map<Object, Object> job = record.getValue();
+    try {
+      Object durationMs = job.get("durationMs");
+      dispatcher.process(
+          AnswerType.valueOf((String) job.get("type")),
+          Long.valueOf((String) job.get("questionId")),
+          Long.valueOf((String) job.get("userId")),
+          (String) job.get("mediaKey"),
+          durationMs != null ? Long.valueOf((String) durationMs) : null);
+      jobQueue.complete(record.getId());
+    } catch (Exception e) {
+      if (deliveries >= maxAttempts) {
+        jobQueue.deadLetter(record.getId(), job, deliveries, e.getMessage());
+      } else {
+        log.warn("답변 작업 실패, {}ms 후 재시도 id={}, deliveries={}",
+            claimIdleMs, record.getId(), deliveries, e);
+      }
+    }
+  }
+
+  private void createGroup() {
+    try {
+      redisTemplate.execute((RedisCallback<Object>) connection -> {
+        createGroup(connection);
+        return null;
+      });
+    } catch (RuntimeException e) {
+      if (!String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+          .contains("BUSYGROUP")) {
+        throw e;
+      }
+    }
+  }
+
+  private static void createGroup(RedisConnection connection) {
+    // MKSTREAM: 아직 작업이 한 번도 없어도 그룹 생성
+    connection.streamCommands().xGroupCreate(
+        STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true);
+  }
+
+  private static boolean isMissingGroup(RuntimeException e) {
+    return String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+        .contains("NOGROUP");
+  }
+}
@@ -0,0 +1,113 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.media.Mp4AudioDemuxer;
+import com.ssafy.recode.domain.common.media.Mp4AudioDemuxer.AudioTrack;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * AudioDemuxService
+ *
+ * STT에는 오디오만 필요하므로, 업로드된 MP4에서 AAC 트랙만 뽑아
+ * 원본 옆에 "{원본 키}.audio.m4a"로 저장합니다. (재인코딩 없음)
+ * - 원본은 임시 파일로 받아 메모리 매핑해서 읽고, 처리 후 임시 파일은 바로 삭제
+ * - WebM, 조각 MP4, AAC가 아닌 오디오 등 추출할 수 없으면 null → 호출 측은 원본을 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioDemuxService {
+
+  public static final String AUDIO_SUFFIX = ".audio.m4a";
+
+  private final S3Client s3Client;
+  private final S3UploaderService uploader;
+
+  @Value("${cloud.aws.s3.bucket}")
+  private String bucket;
+
+  @Value("${media.demux.enabled:true}")
+  private boolean enabled;
+
+  /**
+   * 원본 mediaKey에서 오디오 트랙을 추출해 업로드
+   * @return 오디오 전용 객체 키, 추출할 수 없으면 null
+   */
+  public String extractAudio(String mediaKey) {
+    if (!enabled) {
+      return null;
+    }
+    Path source = null;
+    Path audio = null;
+    try {
+      source = Files.createTempFile("demux-", ".mp4");
+      try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(
+          GetObjectRequest.builder().bucket(bucket).key(mediaKey).build())) {
+        Files.copy(in, source, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+        if (channel.size() > Integer.MAX_VALUE) {
+          return null;
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        AudioTrack track = Mp4AudioDemuxer.findAudioTrack(mapped);
+        if (track == null) {
+          log.info("오디오 추출 불가, 원본 사용 key={}", mediaKey);
+          return null;
+        }
+
+        audio = Files.createTempFile("demux-", ".m4a");
+        try (FileChannel out = FileChannel.open(audio, StandardOpenOption.WRITE)) {
+          Mp4AudioDemuxer.writeM4a(mapped, track, out);
+        }
+        log.info("오디오 추출 key={}, {} → {} bytes", mediaKey, channel.size(), Files.size(audio));
+      }
+
+      String audioKey = audioKeyOf(mediaKey);
+      try (InputStream in = Files.newInputStream(audio)) {
+        uploader.uploadStream(in, audioKey, "audio/mp4");
+      }
+      return audioKey;
+    } catch (Exception e) {
+      log.warn("오디오 추출 실패, 원본 사용 key={}", mediaKey, e);
+      return null;
+    } finally {
+      deleteQuietly(source);
+      deleteQuietly(audio);
+    }
+  }
+
+  /** 원본 키 → 오디오 전용 키 (확장자 교체) */
+  public static String audioKeyOf(String mediaKey) {
+    int slash = mediaKey.lastIndexOf('/');
+    int dot = mediaKey.lastIndexOf('.');
+    String base = dot > slash ? mediaKey.substring(0, dot) : mediaKey;
+    return base + AUDIO_SUFFIX;
+  }
+
+  private static void deleteQuietly(Path path) {
+    if (path == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("임시 파일 삭제 실패 {}", path, e);
+    }
+  }
+}
@@ -7,9 +7,13 @@ import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.personal.entity.PersonalQuestion;
 import com.ssafy.recode.domain.survey.service.SurveyService;
 import com.ssafy.recode.global.dto.response.survey.SurveyQAResponse;
+import com.ssafy.recode.global.resilience.ExternalApiResilience;
+import com.ssafy.recode.global.resilience.RequestHedger;
+import com.ssafy.recode.global.util.JsonStreamReader;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +21,13 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -27,20 +35,42 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class CommonAiPromptService implements AiPromptService {
 
+    /** 채점 프롬프트 버전 — 프롬프트를 바꾸면 올려서 이전 평가 캐시를 무효화 */
+    public static final String SCORE_PROMPT_VERSION = "score-v1";
+
+    // URI 템플릿으로 호출해야 http.client.requests의 uri 태그가 "none" 대신 작업별로 남고, 키가 태그에 들어가지 않음
+    private static final String GENERATE_URI = "/gemini-2.0-flash:generateContent?key={key}";
+    private static final String STREAM_URI = "/gemini-2.0-flash:streamGenerateContent?alt=sse&key={key}";
+
     private final SurveyService surveyService;
     private final GenericPersistenceService genericPersistenceService;
+    private final QuestionDeduplicator questionDeduplicator;
+    private final ObjectMapper objectMapper;
+    // 공용 커넥션 풀/타임아웃/메트릭이 적용된 클라이언트 (WebClientConfig)
+    private final WebClient geminiWebClient;
+    // 서킷 브레이커/벌크헤드/재시도 (ExternalApiResilience)
+    private final ExternalApiResilience resilience;
+    private final RequestHedger requestHedger;
 
     @Value("${gms.api-key}")
     private String apiKey;
 
-    private final WebClient client = WebClient.builder()
-        .baseUrl("https://gms.ssafy.io/gmsapi/generativelanguage.googleapis.com/v1beta/models")
-        .build();
+    /**
+     * 채점 프롬프트에 넣는 오늘 날짜 ("오늘은 며칠인가요?" 같은 질문 채점용)
+     * 점수가 날짜에 따라 달라질 수 있으므로 평가 캐시 키(AnswerEvaluationCache)에도 포함
+     */
+    public static String scoringDate() {
+        return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy년 M월 d일"));
+    }
 
     @Override
     public double evaluateAnswer(String question, String answer) throws Exception {
-        String today = LocalDate.now()
-            .format(DateTimeFormatter.ofPattern("yyyy년 M월 d일"));
+        return evaluateAnswerReactive(question, answer).block();
+    }
+
+    @Override
+    public Mono<Double> evaluateAnswerReactive(String question, String answer) {
+        String today = scoringDate();
         String prompt = """
             당신은 채점 전문가입니다.
             오늘 날짜는 %s 입니다.
@@ -60,25 +90,93 @@ public class CommonAiPromptService implements AiPromptService {
             )
         );
 
-        String resp = client.post()
-            .uri(uri -> uri
-                .path("/gemini-2.0-flash:generateContent")
-                .queryParam("key", apiKey)
-                .build()
+        // 응답이 최근 지연 분포의 꼬리보다 늦으면 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+        return requestHedger.hedge(() -> resilience.gemini(geminiWebClient.post()
+                .uri(GENERATE_URI, apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(s -> !s.is2xxSuccessful(), ClientResponse::createError)
+                .bodyToMono(String.class)))
+            .map(this::parseScore);
+    }
+
+    @Override
+    public Mono<List<Double>> evaluateAnswersReactive(List<ScoringItem> items) {
+        String today = scoringDate();
+        List<Map<String, Object>> numbered = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            numbered.add(Map.of(
+                "id", i + 1,
+                "question", items.get(i).question(),
+                "answer", items.get(i).answer()
+            ));
+        }
+        String itemsJson;
+        try {
+            itemsJson = objectMapper.writeValueAsString(numbered);
+        } catch (Exception e) {
+            return Mono.error(e);
+        }
+
+        String prompt = """
+            당신은 채점 전문가입니다.
+            오늘 날짜는 %s 입니다.
+            아래 JSON 배열의 각 항목에 대해 “이 답변이 질문에 얼마나 적절한지” 0에서 100 사이 정수로 채점해주세요.
+            조건:
+            - 항목끼리 서로 영향을 주지 않도록 각각 독립적으로 채점해주세요.
+            - 출력은 id 순서대로 점수만 담은 JSON 정수 배열 하나로만 답해주세요. (항목 %d개 → 점수 %d개)
+
+            항목:
+            %s
+            """.formatted(today, items.size(), items.size(), itemsJson);
+
+        // 응답 형식을 정수 배열로 고정해 파싱 실패를 줄임
+        Map<String,Object> body = Map.of(
+            "contents", List.of(
+                Map.of("parts", List.of(
+                    Map.of("text", prompt)
+                ))
+            ),
+            "generationConfig", Map.of(
+                "responseMimeType", "application/json",
+                "responseSchema", Map.of(
+                    "type", "ARRAY",
+                    "items", Map.of("type", "INTEGER")
+                )
             )
+        );
+
+        return resilience.gemini(geminiWebClient.post()
+            .uri(GENERATE_URI, apiKey)
             .contentType(MediaType.APPLICATION_JSON)
             .bodyValue(body)
             .retrieve()
-            .onStatus(s -> !s.is2xxSuccessful(),
-                      r -> r.bodyToMono(String.class)
-                            .flatMap(b -> Mono.error(new RuntimeException(b))))
-            .bodyToMono(String.class)
-            .block();
+            .onStatus(s -> !s.is2xxSuccessful(), ClientResponse::createError)
+            .bodyToMono(String.class))
+            .map(resp -> parseScores(resp, items.size()));
+    }
 
-        JsonNode root = new ObjectMapper().readTree(resp);
-        String text = root.path("candidates").get(0)
-            .path("content").path("parts").get(0)
-            .path("text").asText().trim();
+    private List<Double> parseScores(String resp, int expected) {
+        JsonNode scores;
+        try {
+            scores = objectMapper.readTree(candidateText(resp));
+        } catch (Exception e) {
+            throw new RuntimeException("Gemini 일괄 채점 응답 파싱 실패: " + resp, e);
+        }
+        if (!scores.isArray() || scores.size() != expected) {
+            throw new RuntimeException("일괄 채점 점수 개수 불일치 (expected=" + expected + "): " + scores);
+        }
+
+        List<Double> result = new ArrayList<>(expected);
+        for (JsonNode score : scores) {
+            result.add(Math.max(0, Math.min(100, score.asDouble())));
+        }
+        return result;
+    }
+
+    private double parseScore(String resp) {
+        String text = candidateText(resp);
 
         try {
             return Double.parseDouble(text.replaceAll("[^0-9]", ""));
@@ -87,8 +185,34 @@ public class CommonAiPromptService implements AiPromptService {
         }
     }
 
+    /**
+     * candidates[0].content.parts[0].text만 스트리밍으로 읽음 (응답 전체를 트리로 만들지 않음)
+     */
+    private String candidateText(String resp) {
+        String text;
+        try {
+            text = JsonStreamReader.readText(objectMapper.getFactory(), resp,
+                "candidates", "0", "content", "parts", "0", "text");
+        } catch (Exception e) {
+            throw new RuntimeException("Gemini 응답 파싱 실패: " + resp, e);
+        }
+        if (text == null) {
+            throw new RuntimeException("Gemini 응답에 텍스트가 없습니다: " + resp);
+        }
+        return text.trim();
+    }
+
     @Override
     public List<String> generateDailyQuestions() throws Exception {
+        return streamDailyQuestions().collectList().block();
+    }
+
+    /**
+     * streamGenerateContent(SSE)로 받은 조각을 이어 붙이며 줄이 완성될 때마다 질문을 내보냄
+     * → 전체 응답을 버퍼링하지 않고, 생성이 느려도 앞쪽 질문부터 바로 저장할 수 있음
+     */
+    @Override
+    public Flux<String> streamDailyQuestions() {
         String prompt = """
             치매 예방을 위한 회상 치료용 퀴즈형 설문 질문을 100개 생성해 주세요.
             각 질문은 노년층(65세 이상)의 **개인적인 과거 경험**을 떠올릴 수 있도록 설계되어야 하며, **정확한 정답**이 존재해야 합니다.
@@ -116,36 +240,56 @@ public class CommonAiPromptService implements AiPromptService {
             )
         );
 
-        String resp = client.post()
-            .uri(uri -> uri
-                .path("/gemini-2.0-flash:generateContent")
-                .queryParam("key", apiKey)
-                .build()
-            )
-            .contentType(MediaType.APPLICATION_JSON)
-            .bodyValue(body)
-            .retrieve()
-            .onStatus(s -> !s.is2xxSuccessful(),
-                r -> r.bodyToMono(String.class)
-                    .flatMap(b -> Mono.error(new RuntimeException(b))))
-            .bodyToMono(String.class)
-            .block();
-
-        JsonNode root = new ObjectMapper().readTree(resp);
-        String text = root.path("candidates").get(0)
-            .path("content").path("parts").get(0)
-            .path("text").asText().trim();
-
-        List<String> questions = Arrays.stream(text.split("\n\n"))
+        return Flux.defer(() -> {
+            // 아직 줄바꿈이 오지 않은 마지막 조각
+            StringBuilder pending = new StringBuilder();
+            return resilience.gemini(geminiWebClient.post()
+                .uri(STREAM_URI, apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(body)
+                .retrieve()
+                .onStatus(s -> !s.is2xxSuccessful(), ClientResponse::createError)
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<String>>() {}))
+                .mapNotNull(ServerSentEvent::data)
+                .map(this::candidateChunk)
+                .concatMapIterable(chunk -> completeLines(pending, chunk))
+                .concatWith(Mono.fromSupplier(pending::toString));
+        })
             .map(String::trim)
-            .filter(s -> !s.isBlank())
-            .collect(Collectors.toList());
+            .filter(s -> !s.isBlank());
+    }
 
-        return questions;
+    /** 스트리밍 조각의 텍스트 (공백/줄바꿈 유지, 텍스트가 없는 마지막 조각은 빈 문자열) */
+    private String candidateChunk(String chunk) {
+        try {
+            String text = JsonStreamReader.readText(objectMapper.getFactory(), chunk,
+                "candidates", "0", "content", "parts", "0", "text");
+            return text != null ? text : "";
+        } catch (Exception e) {
+            throw new RuntimeException("Gemini 스트리밍 응답 파싱 실패: " + chunk, e);
+        }
+    }
+
+    /** pending에 chunk를 이어 붙이고, 줄바꿈으로 끝난 줄들만 떼어 반환 */
+    private static List<String> completeLines(StringBuilder pending, String chunk) {
+        pending.append(chunk);
+        int last = pending.lastIndexOf("\n");
+        if (last < 0) {
+            return List.of();
+        }
+        List<String> lines = Arrays.asList(pending.substring(0, last).split("\n"));
+        pending.delete(0, last + 1);
+        return lines;
     }
 
     @Override
     public void generatePersonalQuestions(User user) throws Exception {
+        generatePersonalQuestions(user, LocalDate.now());
+    }
+
+    @Override
+    public void generatePersonalQuestions(User user, LocalDate answeredOn) throws Exception {
         StringBuilder promptBuilder = new StringBuilder("""
             당신은 노년층의 회상 치료를 돕는 전문가입니다.
             아래는 한 사용자가 오늘 회상 설문에서 답변한 질문과 응답입니다.
@@ -163,7 +307,7 @@ public class CommonAiPromptService implements AiPromptService {
             입력:
         """);
 
-        List<SurveyQAResponse> todayAnswers = surveyService.getTodayPersonalQA(user.getId());
+        List<SurveyQAResponse> todayAnswers = surveyService.getPersonalQA(user.getId(), answeredOn);
 
         for (SurveyQAResponse answer : todayAnswers) {
             promptBuilder.append("질문: ").append(answer.getQuestionContent()).append("\n")
@@ -183,39 +327,36 @@ public class CommonAiPromptService implements AiPromptService {
             )
         );
 
-        String resp = client.post()
-            .uri(uri -> uri
-                .path("/gemini-2.0-flash:generateContent")
-                .queryParam("key", apiKey)
-                .build()
-            )
+        String resp = resilience.gemini(geminiWebClient.post()
+            .uri(GENERATE_URI, apiKey)
             .contentType(MediaType.APPLICATION_JSON)
             .bodyValue(body)
             .retrieve()
-            .onStatus(s -> !s.is2xxSuccessful(),
-                r -> r.bodyToMono(String.class)
-                    .flatMap(b -> Mono.error(new RuntimeException(b))))
-            .bodyToMono(String.class)
+            .onStatus(s -> !s.is2xxSuccessful(), ClientResponse::createError)
+            .bodyToMono(String.class))
             .block();
 
-        JsonNode root = new ObjectMapper().readTree(resp);
-        String text = root.path("candidates").get(0)
-            .path("content").path("parts").get(0)
-            .path("text").asText().trim();
+        String text = candidateText(resp);
 
         List<String> questions = Arrays.stream(text.split("\n\n"))
             .map(String::trim)
             .filter(s -> !s.isBlank())
             .collect(Collectors.toList());
 
+        List<PersonalQuestion> personalQuestions = new ArrayList<>();
         for (String question : questions) {
-            PersonalQuestion personalQuestion = PersonalQuestion.builder()
+            // 이전에 만든 질문과 표현만 다른 질문은 저장하지 않음
+            if (!questionDeduplicator.acceptPersonalQuestion(user.getId(), question)) {
+                continue;
+            }
+            personalQuestions.add(PersonalQuestion.builder()
                 .content(question)
                 .userId(user.getId())
                 .createdAt(LocalDateTime.now())
-                .build();
-            genericPersistenceService.save(personalQuestion);
+                .build());
         }
+        // 생성된 질문은 한 트랜잭션에서 함께 저장
+        genericPersistenceService.saveAll(personalQuestions);
 
     }
 }
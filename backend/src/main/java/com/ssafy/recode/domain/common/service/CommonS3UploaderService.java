@@ -1,18 +1,60 @@
 package com.ssafy.recode.domain.common.service;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+@Slf4j
 @Service
 public class CommonS3UploaderService implements S3UploaderService {
 
   private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
+  private final Executor uploadExecutor;
+  private final StringRedisTemplate redisTemplate;
+
+  // Redis 키: upload:grant:{mediaKey} → Presigned PUT URL을 발급받은 userId (URL 유효 시간 + 업로드 유예 시간 동안, commit 시 소비)
+  private static final String GRANT_PREFIX = "upload:grant:";
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
@@ -20,42 +62,387 @@ public class CommonS3UploaderService implements S3UploaderService {
   @Value("${aws.s3.prefix}")
   private String prefix;
 
-  public CommonS3UploaderService(S3Client s3Client) {
+  /** 멀티파트 파트 크기 (S3 최소 5MB, 마지막 파트 제외) */
+  @Value("${aws.s3.multipart.part-size:8388608}")
+  private int partSize;
+
+  /** 업로드 1건당 동시에 전송 중일 수 있는 파트 수 */
+  @Value("${aws.s3.multipart.max-in-flight:3}")
+  private int maxInFlight;
+
+  /** 노드 전체에서 공유하는 파트 버퍼 개수 (메모리 상한 = part-size * buffer-pool-size) */
+  @Value("${aws.s3.multipart.buffer-pool-size:8}")
+  private int bufferPoolSize;
+
+  /** 버퍼 풀이 비었을 때 기다리는 최대 시간 (넘기면 UPLOAD_BUSY) */
+  @Value("${aws.s3.multipart.buffer-wait-ms:30000}")
+  private long bufferWaitMs;
+
+  /** 직접 업로드용 Presigned PUT URL 유효 시간(분) */
+  @Value("${aws.s3.presigned-put-minutes:15}")
+  private int presignedPutMinutes;
+
+  /** 직접 업로드 한 건의 최대 크기(바이트) */
+  @Value("${aws.s3.presigned-put-max-bytes:1073741824}")
+  private long presignedPutMaxBytes;
+
+  // URL 만료 직전에 시작한 큰 업로드도 commit 할 수 있도록 발급 기록은 URL보다 이만큼 더 유지
+  @Value("${aws.s3.upload-grant-grace-minutes:60}")
+  private int uploadGrantGraceMinutes;
+
+  private BlockingQueue<byte[]> bufferPool;
+
+  public CommonS3UploaderService(S3Client s3Client, S3Presigner s3Presigner,
+      @Qualifier("s3UploadExecutor") Executor uploadExecutor, StringRedisTemplate redisTemplate) {
     this.s3Client = s3Client;
+    this.s3Presigner = s3Presigner;
+    this.uploadExecutor = uploadExecutor;
+    this.redisTemplate = redisTemplate;
+  }
+
+  @PostConstruct
+  public void init() {
+    bufferPool = new ArrayBlockingQueue<>(bufferPoolSize);
+    for (int i = 0; i < bufferPoolSize; i++) {
+      bufferPool.add(new byte[partSize]);
+    }
   }
 
   /**
    * MP4 등 원본 미디어를 변환 없이 업로드
+   * - 멀티파트 요청은 서블릿 컨테이너가 먼저 받아 두므로(큰 파일은 임시 파일로 스풀),
+   *   여기서는 받아 둔 파일을 파트 단위로 읽어 S3 멀티파트 업로드로 전송합니다.
+   * - 임시 파일 없이 올리려면 presignUpload(직접 업로드)나 재개 가능한 청크 업로드를 사용
    */
   @Override
   public String uploadRawMedia(MultipartFile file, String folder) {
+    String key = createKey(folder, file.getOriginalFilename());
+    try (InputStream in = file.getInputStream()) {
+      uploadStream(in, key, file.getContentType());
+      return key;
+    } catch (IOException e) {
+      throw new RuntimeException("미디어 업로드 실패", e);
+    }
+  }
+
+  /**
+   * 입력 스트림을 part-size 단위로 읽어 업로드합니다.
+   * - 첫 파트에서 스트림이 끝나면 단일 PutObject로 처리
+   * - 그 외에는 멀티파트 업로드로, 공유 버퍼 풀과 업로드별 세마포어로 메모리/동시성을 제한
+   * - 파트 하나라도 실패하면 더 읽지 않고 전송 중인 파트를 기다린 뒤 업로드를 중단
+   */
+  @Override
+  public void uploadStream(InputStream in, String key, String contentType) {
+    byte[] first = acquireBuffer();
+    int firstLen;
+    try {
+      firstLen = readFully(in, first);
+    } catch (IOException e) {
+      releaseBuffer(first);
+      throw new RuntimeException("미디어 업로드 실패", e);
+    }
+
+    // 1) 파트 하나로 끝나는 작은 파일은 단일 요청으로 업로드
+    if (firstLen < partSize) {
+      try {
+        s3Client.putObject(
+            PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build(),
+            RequestBody.fromInputStream(new ByteArrayInputStream(first, 0, firstLen), firstLen)
+        );
+        return;
+      } catch (Exception e) {
+        throw new RuntimeException("미디어 업로드 실패", e);
+      } finally {
+        releaseBuffer(first);
+      }
+    }
+
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    AtomicReference<Throwable> partFailure = new AtomicReference<>();
+    String uploadId = null;
+    byte[] pending = first;
+    try {
+      // 2) 멀티파트 업로드 시작 (실패해도 finally에서 첫 버퍼 반납)
+      uploadId = startMultipartUpload(key, contentType);
+
+      int len = firstLen;
+      int partNumber = 1;
+      while (len > 0) {
+        inFlight.acquire();
+        failFast(partFailure);
+        byte[] buffer = pending;
+        pending = null;
+        CompletableFuture<CompletedPart> part =
+            submitPart(key, uploadId, partNumber++, buffer, len, inFlight);
+        part.whenComplete((ok, ex) -> {
+          if (ex != null) {
+            partFailure.compareAndSet(null, ex);
+          }
+        });
+        parts.add(part);
+
+        if (len < partSize) {
+          break; // 마지막 파트
+        }
+        pending = acquireBuffer();
+        failFast(partFailure);
+        len = readFully(in, pending);
+      }
+
+      Map<Integer, String> eTags = new HashMap<>();
+      parts.stream()
+          .map(CompletableFuture::join)
+          .forEach(part -> eTags.put(part.partNumber(), part.eTag()));
+
+      completeMultipartUpload(key, uploadId, eTags);
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      // 전송 중인 파트가 버퍼를 반납할 때까지 기다린 뒤 업로드를 중단
+      CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+          .exceptionally(ex -> null)
+          .join();
+      if (uploadId != null) {
+        abortMultipartUpload(key, uploadId);
+      }
+      if (e instanceof CustomException ce) {
+        throw ce; // 버퍼 대기 초과 등은 그대로 응답 코드로
+      }
+      Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+      throw new RuntimeException("미디어 업로드 실패", cause);
+    } finally {
+      if (pending != null) {
+        releaseBuffer(pending);
+      }
+    }
+  }
+
+  /**
+   * 클라이언트 직접 업로드용 Presigned PUT URL 발급
+   * - 서명에 Content-Type과 Content-Length가 포함되므로 클라이언트는 같은 헤더로 PUT 해야 합니다.
+   * - 발급한 키는 URL 유효 시간 + 업로드 유예 시간 동안 userId에 묶어 두고, commit 시 verifyUploaded에서 확인
+   */
+  @Override
+  public PresignedUploadResponse presignUpload(String folder, String fileName, String contentType,
+      long contentLength, Long userId) {
+    if (contentLength <= 0 || contentLength > presignedPutMaxBytes) {
+      throw new CustomException(ErrorCode.UPLOAD_SIZE_INVALID);
+    }
+    String key = createKey(folder, fileName);
+    Duration duration = Duration.ofMinutes(presignedPutMinutes);
+    redisTemplate.opsForValue().set(GRANT_PREFIX + key, String.valueOf(userId),
+        duration.plusMinutes(uploadGrantGraceMinutes));
+
+    String url = s3Presigner.presignPutObject(
+        PutObjectPresignRequest.builder()
+            .signatureDuration(duration)
+            .putObjectRequest(PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build())
+            .build()
+    ).url().toString();
+
+    return new PresignedUploadResponse(key, url, (int) duration.toSeconds());
+  }
+
+  /**
+   * commit 시점에 키 위조(다른 폴더/다른 버킷 경로, 다른 사용자의 키)와 미완료 업로드를 차단
+   */
+  @Override
+  public void verifyUploaded(String key, String folder, Long userId) {
+    if (key == null || key.contains("..") || !key.startsWith(prefix + folder + "/")) {
+      throw new CustomException(ErrorCode.MEDIA_KEY_INVALID);
+    }
+    // 발급 기록이 없거나(만료 포함) 다른 사용자에게 발급된 키면 거절
+    String owner = redisTemplate.opsForValue().get(GRANT_PREFIX + key);
+    if (owner == null || !owner.equals(String.valueOf(userId))) {
+      throw new CustomException(ErrorCode.MEDIA_KEY_FORBIDDEN);
+    }
+    try {
+      s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+    } catch (NoSuchKeyException e) {
+      throw new CustomException(ErrorCode.MEDIA_NOT_UPLOADED);
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        throw new CustomException(ErrorCode.MEDIA_NOT_UPLOADED);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public void consumeGrant(String key, Long userId) {
+    // GETDEL: 동시에 들어온 commit 중 하나만 발급 기록을 가져감
+    String owner = redisTemplate.opsForValue().getAndDelete(GRANT_PREFIX + key);
+    if (owner == null || !owner.equals(String.valueOf(userId))) {
+      throw new CustomException(ErrorCode.MEDIA_KEY_FORBIDDEN);
+    }
+  }
+
+  @Override
+  public long objectSize(String key) {
+    return s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build())
+        .contentLength();
+  }
+
+  @Override
+  public byte[] readRange(String key, long start, long endInclusive) {
+    return s3Client.getObjectAsBytes(
+        GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .range("bytes=" + start + "-" + endInclusive)
+            .build()
+    ).asByteArray();
+  }
+
+  /**
+   * 실패해도 예외를 던지지 않음 (남은 객체는 버킷 수명주기 규칙으로 정리)
+   */
+  @Override
+  public void deleteObject(String key) {
+    try {
+      s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+    } catch (Exception e) {
+      log.warn("객체 삭제 실패 key={}", key, e);
+    }
+  }
+
+  /**
+   * 파트 하나를 업로드 전용 풀에서 전송하고, 완료되면 버퍼와 세마포어를 반환합니다.
+   */
+  private CompletableFuture<CompletedPart> submitPart(String key, String uploadId, int partNumber,
+      byte[] buffer, int len, Semaphore inFlight) {
+    return CompletableFuture.supplyAsync(() -> {
+      try {
+        String eTag = uploadPart(key, uploadId, partNumber,
+            new ByteArrayInputStream(buffer, 0, len), len);
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+      } finally {
+        releaseBuffer(buffer);
+        inFlight.release();
+      }
+    }, uploadExecutor);
+  }
+
+  @Override
+  public String startMultipartUpload(String key, String contentType) {
+    return s3Client.createMultipartUpload(
+        CreateMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .build()
+    ).uploadId();
+  }
+
+  @Override
+  public String uploadPart(String key, String uploadId, int partNumber, InputStream in, long length) {
+    return s3Client.uploadPart(
+        UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength(length)
+            .build(),
+        RequestBody.fromInputStream(in, length)
+    ).eTag();
+  }
+
+  @Override
+  public void completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags) {
+    List<CompletedPart> completed = eTags.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(e -> CompletedPart.builder().partNumber(e.getKey()).eTag(e.getValue()).build())
+        .toList();
+
+    s3Client.completeMultipartUpload(
+        CompleteMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+            .build()
+    );
+  }
+
+  /**
+   * 실패해도 예외를 던지지 않음 (남은 파트는 버킷 수명주기 규칙으로 정리)
+   */
+  @Override
+  public void abortMultipartUpload(String key, String uploadId) {
     try {
-      String orig = file.getOriginalFilename();
-      String base = (orig != null)
-          ? orig.replaceFirst("\\.[^.]+$", "")
-          : UUID.randomUUID().toString();
-      String extension = (orig != null && orig.contains("."))
-          ? orig.substring(orig.lastIndexOf('.'))
-          : ".mp4";
-      String uuid = UUID.randomUUID().toString();
-
-      // 임시 파일 생성 (같은 확장자로)
-      Path tmp = Files.createTempFile("media-", "-" + uuid + "-" + base + extension);
-      file.transferTo(tmp.toFile());
-
-      // S3에 업로드할 key: prefix/folder/UUID_base.extension
-      String key = String.format("%s%s/%s_%s%s", prefix, folder, uuid, base, extension);
-      s3Client.putObject(
-          PutObjectRequest.builder()
+      s3Client.abortMultipartUpload(
+          AbortMultipartUploadRequest.builder()
               .bucket(bucket)
               .key(key)
-              .build(),
-          tmp
+              .uploadId(uploadId)
+              .build()
       );
-      Files.deleteIfExists(tmp);
-      return key;
     } catch (Exception e) {
-      throw new RuntimeException("미디어 업로드 실패", e);
+      log.warn("멀티파트 업로드 중단 실패 key={}, uploadId={}", key, uploadId, e);
+    }
+  }
+
+  /** S3에 업로드할 key: prefix/folder/UUID_base.extension */
+  @Override
+  public String createKey(String folder, String orig) {
+    String base = (orig != null)
+        ? orig.replaceFirst("\\.[^.]+$", "")
+        : UUID.randomUUID().toString();
+    String extension = (orig != null && orig.contains("."))
+        ? orig.substring(orig.lastIndexOf('.'))
+        : ".mp4";
+    String uuid = UUID.randomUUID().toString();
+    return String.format("%s%s/%s_%s%s", prefix, folder, uuid, base, extension);
+  }
+
+  /** 이미 실패한 파트가 있으면 남은 스트림을 더 읽지 않고 중단 */
+  private static void failFast(AtomicReference<Throwable> partFailure) {
+    Throwable failure = partFailure.get();
+    if (failure != null) {
+      throw failure instanceof CompletionException ce ? ce : new CompletionException(failure);
+    }
+  }
+
+  /** 버퍼가 가득 차거나 스트림이 끝날 때까지 읽고, 읽은 바이트 수를 반환 */
+  private static int readFully(InputStream in, byte[] buffer) throws IOException {
+    int total = 0;
+    while (total < buffer.length) {
+      int n = in.read(buffer, total, buffer.length - total);
+      if (n < 0) {
+        break;
+      }
+      total += n;
     }
+    return total;
+  }
+
+  /** 풀에서 버퍼를 빌림 — buffer-wait-ms 안에 반납되는 버퍼가 없으면 UPLOAD_BUSY */
+  private byte[] acquireBuffer() {
+    try {
+      byte[] buffer = bufferPool.poll(bufferWaitMs, TimeUnit.MILLISECONDS);
+      if (buffer == null) {
+        throw new CustomException(ErrorCode.UPLOAD_BUSY);
+      }
+      return buffer;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("업로드 버퍼 대기 중 인터럽트", e);
+    }
+  }
+
+  private void releaseBuffer(byte[] buffer) {
+    bufferPool.offer(buffer);
   }
 }
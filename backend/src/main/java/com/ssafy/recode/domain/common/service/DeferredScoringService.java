@@ -0,0 +1,231 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.event.TranscriptionCompletedEvent;
+import com.ssafy.recode.domain.common.event.TranscriptionRetryEvent;
+import com.ssafy.recode.global.dto.response.answer.AnswerStatusResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.resilience.ExternalApiResilience;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * DeferredScoringService
+ *
+ * 외부 API 장애(서킷 열림, 동시 호출 초과, 재시도 소진)로 처리하지 못한 답변을 보관했다가 나중에 이어서 처리합니다.
+ * - 채점(Gemini): 전사 결과는 이미 TRANSCRIBED로 저장되어 있으므로 그대로 두고,
+ *   retry-delay-ms 뒤 Gemini 서킷이 닫혀 있으면 TranscriptionCompletedEvent로 평가/저장 단계를 다시 실행
+ * - 전사(Clova): 답변 행은 UPLOADED로 두고, Clova 서킷이 닫혀 있으면 TranscriptionRetryEvent로 STT부터 다시 실행
+ * - 다시 실패하면 같은 경로로 재보관, 두 단계를 합쳐 max-attempts를 넘기면 포기(FAILED 처리는 호출한 쪽)
+ * - 재개할 때는 작업을 대기열에서 내리지 않고 lease-ms 뒤로 미뤄 둠 → 처리 중 노드가 죽으면 그때 다시 재개
+ *   (다음에 꺼냈을 때 답변이 이미 그 단계를 지났으면 작업만 정리, 재보관되면 defer가 덮어씀)
+ * - 시도 횟수는 별도 키에 TTL 동안만 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeferredScoringService {
+
+  // Redis 키: answer:scoring:deferred:{mediaKey} (답변 정보 해시), answer:scoring:deferred (mediaKey → 재시도 시각),
+  //          answer:scoring:deferred:attempts:{mediaKey} (보관 횟수), answer:scoring:deferred:lease:{mediaKey} (재개 중인 노드)
+  private static final String JOB_PREFIX = "answer:scoring:deferred:";
+  private static final String ATTEMPTS_PREFIX = "answer:scoring:deferred:attempts:";
+  private static final String LEASE_PREFIX = "answer:scoring:deferred:lease:";
+  private static final Duration LEASE_LOCK_TTL = Duration.ofMinutes(1);
+  private static final String DUE_KEY = "answer:scoring:deferred";
+  private static final Duration TTL = Duration.ofDays(1);
+  private static final int BATCH = 50;
+  private static final String STAGE_SCORING = "scoring";
+  private static final String STAGE_TRANSCRIPTION = "transcription";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ExternalApiResilience resilience;
+  private final MeterRegistry meterRegistry;
+  private final AnswerLifecycleService answerLifecycle;
+
+  @Value("${answer.scoring.deferred.retry-delay-ms:60000}")
+  private long retryDelayMs;
+
+  @Value("${answer.scoring.deferred.max-attempts:10}")
+  private int maxAttempts;
+
+  /** 재개한 답변을 다시 꺼내기까지의 시간 — 한 답변의 STT + 채점 최악 시간보다 길게 */
+  @Value("${answer.scoring.deferred.lease-ms:1800000}")
+  private long leaseMs;
+
+  /**
+   * 채점 실패가 Gemini 장애 때문이면 나중에 채점하도록 보관
+   * @return 보관했으면 true (호출한 쪽은 FAILED 처리하지 않음)
+   */
+  public boolean defer(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs, String answerText, Throwable cause) {
+    return store(STAGE_SCORING, type, questionId, userId, mediaKey, durationMs, answerText, cause);
+  }
+
+  /**
+   * STT 실패가 Clova 장애(동시 호출 초과, 서킷 열림 등) 때문이면 나중에 STT부터 다시 하도록 보관
+   * @return 보관했으면 true (호출한 쪽은 FAILED 처리하지 않음)
+   */
+  public boolean deferTranscription(AnswerType type, Long questionId, Long userId,
+      String mediaKey, Long durationMs, Throwable cause) {
+    return store(STAGE_TRANSCRIPTION, type, questionId, userId, mediaKey, durationMs, "", cause);
+  }
+
+  private boolean store(String stage, AnswerType type, Long questionId, Long userId,
+      String mediaKey, Long durationMs, String answerText, Throwable cause) {
+    if (!ExternalApiResilience.isUnavailable(cause)) {
+      return false;
+    }
+    String jobKey = JOB_PREFIX + mediaKey;
+    String attemptsKey = ATTEMPTS_PREFIX + mediaKey;
+    try {
+      Long attempts = redisTemplate.opsForValue().increment(attemptsKey);
+      redisTemplate.expire(attemptsKey, TTL);
+      if (attempts == null || attempts > maxAttempts) {
+        // 사용자가 FAILED 답변을 다시 처리하면 처음부터 세도록 정리
+        redisTemplate.delete(List.of(jobKey, attemptsKey));
+        count("exhausted");
+        return false;
+      }
+      Map<String, String> job = new LinkedHashMap<>();
+      job.put("stage", stage);
+      job.put("answerType", type.name());
+      job.put("questionId", String.valueOf(questionId));
+      job.put("userId", String.valueOf(userId));
+      job.put("durationMs", durationMs != null ? String.valueOf(durationMs) : "");
+      job.put("answerText", answerText);
+      redisTemplate.opsForHash().putAll(jobKey, job);
+      redisTemplate.expire(jobKey, TTL);
+      redisTemplate.opsForZSet().add(DUE_KEY, mediaKey, System.currentTimeMillis() + retryDelayMs);
+    } catch (RuntimeException e) {
+      log.warn("답변 처리 보류 저장 실패 key={} stage={}", mediaKey, stage, e);
+      return false;
+    }
+    count("deferred");
+    log.warn("외부 API 장애로 답변 처리 보류 key={} stage={} ({})", mediaKey, stage, cause.toString());
+    return true;
+  }
+
+  /**
+   * 재시도 시각이 된 답변을 이어서 처리 (해당 단계의 공급자 서킷이 열려 있으면 다시 미룸)
+   */
+  @Scheduled(fixedDelayString = "${answer.scoring.deferred.poll-interval-ms:10000}")
+  public void resumeDue() {
+    Set<String> due = redisTemplate.opsForZSet()
+        .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, BATCH);
+    if (due == null) {
+      return;
+    }
+    for (String mediaKey : due) {
+      if (!lease(mediaKey)) {
+        continue;
+      }
+      try {
+        resume(mediaKey);
+      } catch (RuntimeException e) {
+        // 대기열에 남아 있으므로 lease-ms 뒤 다시 시도
+        log.warn("보류한 답변 재개 실패 key={}", mediaKey, e);
+      } finally {
+        redisTemplate.delete(LEASE_PREFIX + mediaKey);
+      }
+    }
+  }
+
+  /**
+   * 보류 작업 정리 (사용자가 FAILED 답변을 다시 처리하면 이전 보류 작업이 따로 재개되지 않도록)
+   */
+  public void discard(String mediaKey) {
+    redisTemplate.opsForZSet().remove(DUE_KEY, mediaKey);
+    redisTemplate.delete(List.of(JOB_PREFIX + mediaKey, ATTEMPTS_PREFIX + mediaKey));
+  }
+
+  /**
+   * 여러 노드가 같은 답변을 동시에 재개하지 않도록 먼저 잡은 노드만 처리하고, 대기열 점수를 lease-ms 뒤로 미룸
+   */
+  private boolean lease(String mediaKey) {
+    String leaseKey = LEASE_PREFIX + mediaKey;
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(leaseKey, "1", LEASE_LOCK_TTL))) {
+      return false;
+    }
+    // 다른 노드가 방금 재개해서 뒤로 미룬 답변이면 건너뜀
+    Double score = redisTemplate.opsForZSet().score(DUE_KEY, mediaKey);
+    if (score == null || score > System.currentTimeMillis()) {
+      redisTemplate.delete(leaseKey);
+      return false;
+    }
+    redisTemplate.opsForZSet().add(DUE_KEY, mediaKey, System.currentTimeMillis() + leaseMs);
+    return true;
+  }
+
+  private void resume(String mediaKey) {
+    String jobKey = JOB_PREFIX + mediaKey;
+    Map<Object, Object> job = redisTemplate.opsForHash().entries(jobKey);
+    if (job.isEmpty()) {
+      redisTemplate.opsForZSet().remove(DUE_KEY, mediaKey);
+      return;
+    }
+    boolean transcription = STAGE_TRANSCRIPTION.equals(job.get("stage"));
+    AnswerType type = AnswerType.valueOf((String) job.get("answerType"));
+
+    // 보류한 단계에 머물러 있는 답변만 재개 (이미 채점됐거나 FAILED면 이전에 재개한 처리가 끝난 것)
+    AnswerStatus expected = transcription ? AnswerStatus.UPLOADED : AnswerStatus.TRANSCRIBED;
+    AnswerStatus current = answerLifecycle.findStatus(type, mediaKey)
+        .map(AnswerStatusResponse::status)
+        .orElse(null);
+    if (current != expected) {
+      redisTemplate.opsForZSet().remove(DUE_KEY, mediaKey);
+      redisTemplate.delete(jobKey);
+      return;
+    }
+
+    if (resilience.isOpen(transcription ? ExternalApiResilience.CLOVA : ExternalApiResilience.GEMINI)) {
+      redisTemplate.opsForZSet().add(DUE_KEY, mediaKey, System.currentTimeMillis() + retryDelayMs);
+      return;
+    }
+    count("resumed");
+    eventPublisher.publishEvent(transcription
+        ? toRetryEvent(mediaKey, job)
+        : toEvent(mediaKey, job));
+  }
+
+  private TranscriptionCompletedEvent toEvent(String mediaKey, Map<Object, Object> job) {
+    return new TranscriptionCompletedEvent(
+        AnswerType.valueOf((String) job.get("answerType")),
+        Long.valueOf((String) job.get("questionId")),
+        Long.valueOf((String) job.get("userId")),
+        mediaKey,
+        durationMsOf(job),
+        (String) job.get("answerText"));
+  }
+
+  private TranscriptionRetryEvent toRetryEvent(String mediaKey, Map<Object, Object> job) {
+    return new TranscriptionRetryEvent(
+        AnswerType.valueOf((String) job.get("answerType")),
+        Long.valueOf((String) job.get("questionId")),
+        Long.valueOf((String) job.get("userId")),
+        mediaKey,
+        durationMsOf(job));
+  }
+
+  private static Long durationMsOf(Map<Object, Object> job) {
+    String durationMs = (String) job.get("durationMs");
+    return durationMs == null || durationMs.isEmpty() ? null : Long.valueOf(durationMs);
+  }
+
+  private void count(String result) {
+    meterRegistry.counter("answer.scoring.deferred", "result", result).increment();
+  }
+}
@@ -2,6 +2,8 @@ package com.ssafy.recode.domain.common.service;
 
 import com.ssafy.recode.domain.basic.entity.BasicAnswer;
 import com.ssafy.recode.domain.basic.repository.BasicAnswerRepository;
+import com.ssafy.recode.domain.calender.service.AnswerTimelineService;
+import com.ssafy.recode.domain.calender.service.UserActivityService;
 import com.ssafy.recode.domain.cognitive.entity.CognitiveAnswer;
 import com.ssafy.recode.domain.cognitive.repository.CognitiveAnswerRepository;
 import com.ssafy.recode.domain.personal.entity.PersonalAnswer;
@@ -12,6 +14,7 @@ import com.ssafy.recode.domain.survey.entity.SurveyAnswer;
 import com.ssafy.recode.domain.survey.repository.SurveyRepository;
 import jakarta.annotation.PostConstruct;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -35,6 +38,8 @@ public class GenericPersistenceService {
     private final SurveyRepository surveyRepository;
     // 개인화 질문 리포지토리
     private final PersonalQuestionRepository personalQuestionRepository;
+    private final UserActivityService userActivityService;
+    private final AnswerTimelineService answerTimelineService;
 
     // 엔티티 클래스 타입을 Key로, 해당 리포지토리를 Value로 갖는 맵
     private final Map<Class<?>, JpaRepository<?, ?>> repositoryMap = new HashMap<>();
@@ -62,12 +67,42 @@ public class GenericPersistenceService {
             throw new IllegalArgumentException("저장할 엔티티는 null일 수 없습니다.");
         }
 
-        JpaRepository repository = repositoryMap.get(entity.getClass());
+        JpaRepository<T, ?> repository = repositoryFor(entity.getClass());
+
+        repository.save(entity);
+        // 답변이면 캘린더 월간 활동 비트마스크와 답변 타임라인도 같은 트랜잭션에서 갱신
+        userActivityService.onSaved(entity);
+        answerTimelineService.onSaved(entity);
+    }
+
+    /**
+     * 같은 타입의 엔티티 여러 개를 하나의 트랜잭션에서 저장
+     * @param entities
+     * @param <T>
+     */
+    @Transactional
+    public <T> void saveAll(List<T> entities) {
+        if(entities == null || entities.isEmpty()){
+            return;
+        }
+
+        JpaRepository<T, ?> repository = repositoryFor(entities.get(0).getClass());
+
+        repository.saveAll(entities);
+    }
+
+    /**
+     * 엔티티 클래스에 매핑된 리포지토리 조회
+     * (init()에서 클래스마다 그 엔티티의 리포지토리만 등록하므로 캐스팅은 여기 한 곳에서만 수행)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> JpaRepository<T, ?> repositoryFor(Class<?> entityType) {
+        JpaRepository<?, ?> repository = repositoryMap.get(entityType);
 
         if(repository == null){
-            throw new IllegalArgumentException("지원되지 않는 엔티티 타입입니다: " + entity.getClass().getName());
+            throw new IllegalArgumentException("지원되지 않는 엔티티 타입입니다: " + entityType.getName());
         }
 
-        repository.save(entity);
+        return (JpaRepository<T, ?>) repository;
     }
 }
@@ -0,0 +1,112 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.media.Mp4HeaderProbe;
+import com.ssafy.recode.domain.common.media.Mp4HeaderProbe.State;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.media.ProbingInputStream;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * MediaProbeService
+ *
+ * STT로 보내기 전에 업로드된 영상의 컨테이너/길이를 검사합니다.
+ * - 서버 경유 업로드: 업로드 스트림을 그대로 검사하다가 거절되면 즉시 업로드를 중단
+ * - S3 직접/이어 올리기 업로드: Range GET으로 헤더 부분만 읽어 검사 (mdat은 건너뜀)
+ * 거절된 객체는 삭제하고 CustomException을 던집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaProbeService {
+
+  /** Range GET 한 번에 읽는 크기 (ftyp + moov 앞부분이 보통 이 안에 들어옴) */
+  private static final int RANGE_SIZE = 64 * 1024;
+  /** mdat을 건너뛰며 moov를 찾을 때 최대 Range 요청 횟수 */
+  private static final int MAX_RANGE_READS = 8;
+
+  private final S3UploaderService uploader;
+
+  /** 답변 영상 최대 길이(초), 0이면 제한 없음 */
+  @Value("${media.probe.max-duration-seconds:600}")
+  private long maxDurationSeconds;
+
+  public Mp4HeaderProbe newProbe() {
+    return new Mp4HeaderProbe(maxDurationSeconds * 1000);
+  }
+
+  /**
+   * 업로드 스트림을 검사하면서 S3에 업로드
+   */
+  public ProbedMedia uploadProbed(MultipartFile file, String folder) {
+    String key = uploader.createKey(folder, file.getOriginalFilename());
+    Mp4HeaderProbe probe = newProbe();
+    try (InputStream in = new ProbingInputStream(file.getInputStream(), probe)) {
+      uploader.uploadStream(in, key, file.getContentType());
+    } catch (IOException | RuntimeException e) {
+      if (probe.getState() == State.REJECTED) {
+        // 업로드는 uploadStream 안에서 이미 중단됨
+        throw rejected(key, probe);
+      }
+      throw (e instanceof RuntimeException re) ? re : new RuntimeException("미디어 업로드 실패", e);
+    }
+    return conclude(key, probe);
+  }
+
+  /**
+   * 이미 S3에 올라간 객체를 헤더만 읽어 검사
+   */
+  public ProbedMedia probeStored(String key) {
+    long size = uploader.objectSize(key);
+    Mp4HeaderProbe probe = newProbe();
+
+    long offset = 0;
+    for (int i = 0; i < MAX_RANGE_READS && offset < size && probe.getState() == State.NEED_MORE; i++) {
+      long end = Math.min(size, offset + RANGE_SIZE) - 1;
+      byte[] bytes = uploader.readRange(key, offset, end);
+      probe.feed(bytes, 0, bytes.length);
+
+      long next = probe.nextBoxOffset();
+      if (next >= 0) {
+        // 큰 박스(mdat 등)는 읽지 않고 다음 박스 위치로 이동
+        probe.skipToNextBox();
+        offset = next;
+      } else {
+        offset = probe.getPosition();
+      }
+    }
+    if (probe.getState() == State.NEED_MORE && offset < size) {
+      throw rejected(key, probe);
+    }
+    return conclude(key, probe);
+  }
+
+  private ProbedMedia conclude(String key, Mp4HeaderProbe probe) {
+    if (probe.finish() == State.REJECTED) {
+      throw rejected(key, probe);
+    }
+    return new ProbedMedia(key, probe.getContainer(), probe.getDurationMs());
+  }
+
+  /**
+   * 거절된 프로브 → 클라이언트에 돌려줄 예외 (길이를 읽었으면 길이 초과, 아니면 형식 오류)
+   */
+  public CustomException rejection(Mp4HeaderProbe probe) {
+    return new CustomException(probe.getDurationMs() != null
+        ? ErrorCode.MEDIA_TOO_LONG
+        : ErrorCode.MEDIA_FORMAT_INVALID);
+  }
+
+  private CustomException rejected(String key, Mp4HeaderProbe probe) {
+    log.info("미디어 거절 key={}, reason={}", key, probe.getRejectReason());
+    uploader.deleteObject(key);
+    return rejection(probe);
+  }
+}
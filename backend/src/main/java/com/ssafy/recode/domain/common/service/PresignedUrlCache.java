@@ -0,0 +1,148 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * PresignedUrlCache
+ *
+ * S3 GET presigned URL을 (미디어 키, 콘텐츠 타입, 유효 시간) 단위로 노드 내부에 캐싱합니다.
+ * - 같은 미디어를 짧은 간격으로 다시 조회(캘린더 새로고침, 프로필 조회)할 때 SigV4 서명과 URL 파싱을 생략
+ * - 발급된 URL은 남은 유효 시간이 min-remaining-ratio 아래로 내려가기 전까지만 재사용
+ * - presignAll: 목록 화면용 일괄 발급 (중복 제거 후 미스만 한 번에 서명)
+ *
+ * 서명 시간은 media.presign{mode=single|batch} 타이머, 적중률은 Caffeine 통계(presignedUrl)로 노출됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PresignedUrlCache {
+
+  private static final String METRIC = "media.presign";
+
+  private final VideoTranscriptionService transcriptionService;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${media.presign.cache.enabled:true}")
+  private boolean enabled;
+
+  @Value("${media.presign.cache.max-size:20000}")
+  private long maxSize;
+
+  /** 유효 시간 중 이 비율 이상이 남아 있을 때만 재사용 (0.5 → 60분 URL은 발급 후 30분까지 재사용) */
+  @Value("${media.presign.cache.min-remaining-ratio:0.5}")
+  private double minRemainingRatio;
+
+  private Cache<CacheKey, Signed> cache;
+
+  private record CacheKey(String urlOrKey, String contentType, int minutes) {}
+
+  /** 발급된 URL과 재사용 마감 시각 */
+  private record Signed(String url, long reuseUntilNanos) {}
+
+  @PostConstruct
+  void init() {
+    cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfter(new Expiry<CacheKey, Signed>() {
+          @Override
+          public long expireAfterCreate(CacheKey key, Signed value, long currentTime) {
+            return Math.max(0, value.reuseUntilNanos() - currentTime);
+          }
+
+          @Override
+          public long expireAfterUpdate(CacheKey key, Signed value, long currentTime,
+              long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(CacheKey key, Signed value, long currentTime,
+              long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "presignedUrl");
+  }
+
+  /**
+   * URL 또는 S3 키의 presigned GET URL (없으면 null)
+   */
+  public String presign(String urlOrKey, String contentType, int minutes) {
+    if (urlOrKey == null || urlOrKey.isEmpty()) {
+      return null;
+    }
+    if (!enabled) {
+      return timed("single", () -> sign(urlOrKey, contentType, minutes)).url();
+    }
+    return cache.get(new CacheKey(urlOrKey, contentType, minutes),
+        key -> timed("single", () -> sign(key.urlOrKey(), contentType, minutes))).url();
+  }
+
+  /**
+   * 여러 미디어를 한 번에 발급 — 중복을 제거하고 캐시 미스만 모아 서명
+   * @return 입력 URL/키 → presigned URL (빈 값은 제외)
+   */
+  public Map<String, String> presignAll(Collection<String> urlOrKeys, String contentType,
+      int minutes) {
+    Set<CacheKey> keys = new LinkedHashSet<>();
+    for (String urlOrKey : urlOrKeys) {
+      if (urlOrKey != null && !urlOrKey.isEmpty()) {
+        keys.add(new CacheKey(urlOrKey, contentType, minutes));
+      }
+    }
+    if (keys.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<CacheKey, Signed> signed = enabled
+        ? cache.getAll(keys, this::signAll)
+        : signAll(keys);
+
+    Map<String, String> urls = new LinkedHashMap<>();
+    signed.forEach((key, value) -> urls.put(key.urlOrKey(), value.url()));
+    return urls;
+  }
+
+  private Map<CacheKey, Signed> signAll(Set<? extends CacheKey> missing) {
+    return timed("batch", () -> {
+      Map<CacheKey, Signed> result = new HashMap<>();
+      for (CacheKey key : missing) {
+        result.put(key, sign(key.urlOrKey(), key.contentType(), key.minutes()));
+      }
+      return result;
+    });
+  }
+
+  private Signed sign(String urlOrKey, String contentType, int minutes) {
+    long signedAt = System.nanoTime();
+    String url = transcriptionService.presign(transcriptionService.toS3Key(urlOrKey), contentType,
+        minutes);
+    long reusable = (long) (TimeUnit.MINUTES.toNanos(minutes) * (1 - minRemainingRatio));
+    return new Signed(url, signedAt + reusable);
+  }
+
+  private <T> T timed(String mode, Supplier<T> signer) {
+    return Timer.builder(METRIC)
+        .tag("mode", mode)
+        .register(meterRegistry)
+        .record(signer);
+  }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.recode.domain.common.dedup.MinHashLshIndex;
+import com.ssafy.recode.domain.common.dedup.MinHashLshIndex.Match;
+import com.ssafy.recode.domain.personal.repository.PersonalQuestionRepository;
+import com.ssafy.recode.domain.survey.repository.SurveyRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * QuestionDeduplicator
+ *
+ * LLM이 만든 질문을 저장하기 전에 기존 질문과 표현만 다른 유사 중복인지 검사합니다.
+ * - 설문 질문: 전체 질문으로 MinHash/LSH 인덱스를 시작 시 구성, 월간 생성 전에 다시 구성
+ * - 개인화 질문: 사용자별 인덱스를 처음 필요할 때 DB에서 구성 (일정 시간 미사용 시 제거)
+ * - 통과한 질문은 바로 인덱스에 추가되므로 같은 배치 안의 중복도 걸러짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionDeduplicator {
+
+  private final SurveyRepository surveyRepository;
+  private final PersonalQuestionRepository personalQuestionRepository;
+
+  @Value("${question.dedup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${question.dedup.threshold:0.65}")
+  private double threshold;
+
+  @Value("${question.dedup.bands:20}")
+  private int bands;
+
+  @Value("${question.dedup.rows:4}")
+  private int rows;
+
+  private volatile MinHashLshIndex surveyIndex;
+
+  private final Cache<Long, MinHashLshIndex> personalIndexes = Caffeine.newBuilder()
+      .maximumSize(10_000)
+      .expireAfterAccess(Duration.ofMinutes(30))
+      .build();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildSurveyIndex() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.currentTimeMillis();
+    surveyIndex = build(surveyRepository.findAllContents());
+    log.info("설문 질문 유사 중복 인덱스 구성 완료 ({}개, {}ms)",
+        surveyIndex.size(), System.currentTimeMillis() - start);
+  }
+
+  /**
+   * 새 설문 질문이면 인덱스에 추가하고 true, 유사 중복이면 false
+   */
+  public boolean acceptSurveyQuestion(String question) {
+    if (!enabled) {
+      return true;
+    }
+    if (surveyIndex == null) {
+      rebuildSurveyIndex();
+    }
+    return accept(surveyIndex, question);
+  }
+
+  /**
+   * 해당 사용자의 개인화 질문 중 유사 중복이 없으면 인덱스에 추가하고 true
+   */
+  public boolean acceptPersonalQuestion(Long userId, String question) {
+    if (!enabled) {
+      return true;
+    }
+    MinHashLshIndex index = personalIndexes.get(userId,
+        id -> build(personalQuestionRepository.findContentsByUserId(id)));
+    return accept(index, question);
+  }
+
+  private boolean accept(MinHashLshIndex index, String question) {
+    Optional<Match> duplicate = index.addIfAbsent(question);
+    duplicate.ifPresent(match -> log.info("⚠️ 유사 중복 질문 제외: '{}' ≈ '{}' ({})",
+        question, match.question(), String.format("%.2f", match.similarity())));
+    return duplicate.isEmpty();
+  }
+
+  private MinHashLshIndex build(List<String> questions) {
+    MinHashLshIndex index = new MinHashLshIndex(bands, rows, threshold);
+    questions.forEach(index::add);
+    return index;
+  }
+}
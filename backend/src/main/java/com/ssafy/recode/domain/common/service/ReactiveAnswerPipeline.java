@@ -0,0 +1,201 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.basic.service.BasicService;
+import com.ssafy.recode.domain.cognitive.service.CognitiveService;
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import com.ssafy.recode.domain.personal.service.PersonalService;
+import com.ssafy.recode.domain.survey.service.SurveyService;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.EmitResult;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * ReactiveAnswerPipeline
+ *
+ * answer.pipeline.mode=reactive일 때 STT → LLM 평가 → 저장을 Reactor 체인으로 실행합니다.
+ * - Clova/Gemini 호출은 WebClient Mono로 이어 붙여, 응답을 기다리는 동안 스레드를 점유하지 않음
+ * - 동시에 진행하는 답변 수는 flatMap 동시성(max-concurrency)으로 제한
+ * - JPA 조회/저장만 전용 bounded 스케줄러(answer-jpa)에서 실행해 DB 커넥션 수 이상으로 몰리지 않게 함
+ * - 대기열(queue-size)이 가득 차면 ANSWER_PIPELINE_BUSY로 거절
+ *
+ * 이 모드에서는 clova.completion 설정과 관계없이 동기 인식 요청을 논블로킹으로 기다립니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAnswerPipeline {
+
+  private final VideoTranscriptionService transcriptionService;
+  private final AnswerScoringBatcher scoringBatcher;
+  private final DeferredScoringService deferredScoringService;
+  private final AnswerLifecycleService answerLifecycle;
+  private final BasicService basicService;
+  private final PersonalService personalService;
+  private final CognitiveService cognitiveService;
+  private final SurveyService surveyService;
+
+  /** async(기본, @Async 스레드풀) | reactive */
+  @Value("${answer.pipeline.mode:async}")
+  private String mode;
+
+  @Value("${answer.pipeline.reactive.max-concurrency:32}")
+  private int maxConcurrency;
+
+  @Value("${answer.pipeline.reactive.queue-size:500}")
+  private int queueSize;
+
+  @Value("${answer.pipeline.reactive.jpa-threads:8}")
+  private int jpaThreads;
+
+  @Value("${answer.pipeline.reactive.timeout-seconds:900}")
+  private long timeoutSeconds;
+
+  private Sinks.Many<AnswerJob> sink;
+  private Scheduler jpaScheduler;
+  private Disposable subscription;
+
+  private record AnswerJob(AnswerType type, Long questionId, Long userId, String mediaKey,
+                           Long durationMs) {}
+
+  @PostConstruct
+  void start() {
+    if (!isEnabled()) {
+      return;
+    }
+    jpaScheduler = Schedulers.newBoundedElastic(jpaThreads, queueSize, "answer-jpa");
+    sink = Sinks.many().unicast().onBackpressureBuffer(new ArrayBlockingQueue<>(queueSize));
+    // process는 오류를 삼키지만, 그래도 구독이 끝나면 이후 submit이 모두 거절되므로 오류는 기록
+    subscription = sink.asFlux()
+        .flatMap(this::process, maxConcurrency)
+        .subscribe(
+            unused -> {},
+            e -> log.error("Reactive 답변 파이프라인 중단", e));
+    log.info("Reactive 답변 파이프라인 시작 (concurrency={}, jpaThreads={})", maxConcurrency, jpaThreads);
+  }
+
+  @PreDestroy
+  void stop() {
+    if (subscription != null) {
+      subscription.dispose();
+    }
+    if (jpaScheduler != null) {
+      jpaScheduler.dispose();
+    }
+  }
+
+  public boolean isEnabled() {
+    return "reactive".equalsIgnoreCase(mode);
+  }
+
+  /**
+   * 답변 처리 요청을 대기열에 넣고 바로 반환
+   */
+  public synchronized void submit(AnswerType type, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    EmitResult result = sink.tryEmitNext(new AnswerJob(type, questionId, userId, mediaKey, durationMs));
+    if (result.isFailure()) {
+      log.warn("Reactive 파이프라인 대기열 거절 ({}) key={}", result, mediaKey);
+      throw new CustomException(ErrorCode.ANSWER_PIPELINE_BUSY);
+    }
+  }
+
+  private Mono<Void> process(AnswerJob job) {
+    return transcriptionService.transcribeVideoReactive(job.mediaKey())
+        .onErrorResume(e -> deferTranscriptionOrError(job, e))
+        .flatMap(text -> blocking(() -> markTranscribed(job, text))
+            .then(evaluate(job, text))
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(score -> blocking(() -> save(job, text, score.orElse(null))))
+            .onErrorResume(e -> deferOrError(job, text, e)))
+        .timeout(Duration.ofSeconds(timeoutSeconds))
+        .doOnError(e -> log.error("{} 답변 처리 중 오류 (questionId={}, key={})",
+            job.type(), job.questionId(), job.mediaKey(), e))
+        .onErrorResume(e -> blocking(() -> markFailed(job)))
+        // FAILED 기록마저 실패해도(DB 장애 등) 이 작업만 끝내고 파이프라인은 유지
+        .onErrorResume(e -> {
+          log.error("{} 답변 FAILED 기록 실패 (key={})", job.type(), job.mediaKey(), e);
+          return Mono.empty();
+        })
+        .then();
+  }
+
+  /** 질문 조회(JPA) 후 평가 (로컬 판정 또는 LLM) — 설문은 평가하지 않음 */
+  private Mono<Double> evaluate(AnswerJob job, String text) {
+    if (job.type() == AnswerType.SURVEY) {
+      return Mono.empty();
+    }
+    return Mono.fromCallable(() -> scoringQuestion(job))
+        .subscribeOn(jpaScheduler)
+        .flatMap(question -> scoringBatcher.score(question, text));
+  }
+
+  private ScoringQuestion scoringQuestion(AnswerJob job) {
+    return switch (job.type()) {
+      case BASIC -> basicService.getScoringQuestion(job.questionId());
+      case PERSONAL -> personalService.getScoringQuestion(job.questionId());
+      case COGNITIVE_AUDIO, COGNITIVE_IMAGE -> cognitiveService.getScoringQuestion(job.questionId());
+      case SURVEY -> throw new IllegalStateException("설문 답변은 평가하지 않습니다.");
+    };
+  }
+
+  private void markTranscribed(AnswerJob job, String text) {
+    // 설문은 저장 단계에서 바로 완료
+    if (job.type() != AnswerType.SURVEY) {
+      answerLifecycle.markTranscribed(job.type(), job.mediaKey(), text);
+    }
+  }
+
+  private void markFailed(AnswerJob job) {
+    answerLifecycle.markFailed(job.type(), job.mediaKey());
+  }
+
+  private void save(AnswerJob job, String text, Double score) {
+    Long q = job.questionId();
+    Long u = job.userId();
+    String key = job.mediaKey();
+    Long durationMs = job.durationMs();
+    switch (job.type()) {
+      case BASIC -> basicService.saveAnswer(q, u, key, durationMs, text, score);
+      case PERSONAL -> personalService.saveAnswer(q, u, key, durationMs, text, score);
+      case COGNITIVE_AUDIO -> cognitiveService.saveAnswer(q, u, key, "audio", durationMs, text, score);
+      case COGNITIVE_IMAGE -> cognitiveService.saveAnswer(q, u, key, "image", durationMs, text, score);
+      case SURVEY -> surveyService.completeAnswer(q, u, key, durationMs, text);
+    }
+  }
+
+  /** Gemini 장애로 채점하지 못했으면 TRANSCRIBED로 두고 나중에 다시 채점, 아니면 실패 처리로 */
+  private Mono<Void> deferOrError(AnswerJob job, String text, Throwable e) {
+    return Mono.fromCallable(() -> deferredScoringService.defer(job.type(), job.questionId(),
+            job.userId(), job.mediaKey(), job.durationMs(), text, e))
+        .subscribeOn(jpaScheduler)
+        .flatMap(deferred -> deferred ? Mono.<Void>empty() : Mono.error(e));
+  }
+
+  /** Clova 장애(동시 호출 초과, 서킷 열림 등)로 전사하지 못했으면 UPLOADED로 두고 나중에 STT부터 다시 */
+  private Mono<String> deferTranscriptionOrError(AnswerJob job, Throwable e) {
+    return Mono.fromCallable(() -> deferredScoringService.deferTranscription(job.type(),
+            job.questionId(), job.userId(), job.mediaKey(), job.durationMs(), e))
+        .subscribeOn(jpaScheduler)
+        .flatMap(deferred -> deferred ? Mono.<String>empty() : Mono.error(e));
+  }
+
+  private Mono<Void> blocking(Runnable task) {
+    return Mono.fromRunnable(task).subscribeOn(jpaScheduler).then();
+  }
+}
@@ -1,5 +1,8 @@
 package com.ssafy.recode.domain.common.service;
 
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
+import java.io.InputStream;
+import java.util.Map;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface S3UploaderService {
@@ -11,4 +14,80 @@ public interface S3UploaderService {
    */
   String uploadRawMedia(MultipartFile file, String folder);
 
-}
\ No newline at end of file
+  /**
+   * 입력 스트림을 중간 파일 없이 파트 단위로 S3에 업로드
+   * @param in          업로드할 데이터 스트림 (호출자가 닫음)
+   * @param key         저장할 S3 객체 키
+   * @param contentType 콘텐츠 타입 (null 허용)
+   */
+  void uploadStream(InputStream in, String key, String contentType);
+
+  /**
+   * 클라이언트가 S3로 직접 업로드할 수 있는 Presigned PUT URL 발급
+   * - 발급한 키는 URL 유효 시간 + 업로드 유예 시간 동안 요청한 사용자에게만 묶임 (verifyUploaded에서 확인)
+   * @param folder        S3 키 접두사
+   * @param fileName      원본 파일명 (확장자 추출용, null 허용)
+   * @param contentType   업로드할 Content-Type (null 허용)
+   * @param contentLength 업로드할 크기(바이트) — 서명에 포함되어 다른 크기로는 PUT 할 수 없음
+   * @param userId        URL을 요청한 사용자
+   * @return              생성된 키와 PUT URL
+   */
+  PresignedUploadResponse presignUpload(String folder, String fileName, String contentType,
+      long contentLength, Long userId);
+
+  /**
+   * 직접 업로드된 객체가 해당 폴더에 실제로 존재하고, userId가 발급받은 키인지 확인
+   * @throws com.ssafy.recode.global.error.CustomException 키가 폴더에 속하지 않거나, 다른 사용자의 키이거나, 객체가 없을 때
+   */
+  void verifyUploaded(String key, String folder, Long userId);
+
+  /**
+   * commit이 성공하면 발급 기록을 원자적으로 소비 (같은 키로 다시 commit 할 수 없음)
+   * @throws com.ssafy.recode.global.error.CustomException 이미 소비됐거나 다른 사용자의 키일 때
+   */
+  void consumeGrant(String key, Long userId);
+
+  /**
+   * 업로드된 객체 크기(바이트)
+   */
+  long objectSize(String key);
+
+  /**
+   * 객체의 일부 구간만 읽기 (HTTP Range, 양 끝 포함)
+   */
+  byte[] readRange(String key, long start, long endInclusive);
+
+  /**
+   * 객체 삭제 (검사에서 거절된 업로드 정리용)
+   */
+  void deleteObject(String key);
+
+  /**
+   * 폴더/파일명 규칙에 맞는 새 S3 키 생성 (prefix/folder/UUID_base.extension)
+   */
+  String createKey(String folder, String fileName);
+
+  /**
+   * 멀티파트 업로드 시작
+   * @return S3 uploadId
+   */
+  String startMultipartUpload(String key, String contentType);
+
+  /**
+   * 파트 하나 업로드 (같은 partNumber로 다시 올리면 덮어씀)
+   * @param partNumber 1부터 시작하는 파트 번호
+   * @return 파트 ETag
+   */
+  String uploadPart(String key, String uploadId, int partNumber, InputStream in, long length);
+
+  /**
+   * 파트 번호 → ETag 목록으로 멀티파트 업로드 완료
+   */
+  void completeMultipartUpload(String key, String uploadId, Map<Integer, String> eTags);
+
+  /**
+   * 멀티파트 업로드 중단 (업로드된 파트 정리)
+   */
+  void abortMultipartUpload(String key, String uploadId);
+
+}
@@ -0,0 +1,288 @@
+package com.ssafy.recode.domain.common.service;
+
+import com.ssafy.recode.domain.common.event.TranscriptionCompletedEvent;
+import com.ssafy.recode.domain.common.event.TranscriptionFailedEvent;
+import com.ssafy.recode.global.dto.request.stt.ClovaCallbackRequest;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * SttJobService
+ *
+ * Clova 비동기(async) 인식 작업을 관리합니다.
+ * - 작업 등록 후 토큰과 답변 정보를 Redis에 저장하고 스레드는 바로 반환
+ * - 결과는 콜백(handleResult) 또는 스케줄러 폴링(pollDueJobs, 지수 백오프)으로 수신
+ * - 폴링은 작업을 임대(lease)해서 전용 풀에서 조회하고, 결과를 처리했거나 다시 예약한 뒤에만 대기열에서 내림
+ *   (조회 중 노드가 죽어도 임대가 끝나면 다른 노드가 이어서 조회)
+ * - 결과 수신 시 TranscriptionCompletedEvent를 발행해 평가/저장 단계를 이어서 실행
+ *
+ * clova.completion=sync(기본)이면 사용되지 않고 기존 동기 방식으로 동작합니다.
+ */
+@Slf4j
+@Service
+public class SttJobService {
+
+  // Redis 키: stt:job:{token} (작업 정보 해시), stt:jobs (token → 다음 폴링 시각 epoch ms),
+  //          stt:lease:{token} (조회 중인 노드의 임대)
+  private static final String JOB_PREFIX = "stt:job:";
+  private static final String DUE_KEY = "stt:jobs";
+  private static final String LEASE_PREFIX = "stt:lease:";
+  // 작업 정보 보관 기간 (Clova 결과 보관 기간보다 짧게)
+  private static final Duration TTL = Duration.ofHours(6);
+  // 한 번의 폴링에서 처리할 최대 작업 수
+  private static final int POLL_BATCH = 20;
+
+  private final VideoTranscriptionService transcriptionService;
+  private final StringRedisTemplate redisTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final Executor pollExecutor;
+
+  /** sync | async */
+  @Value("${clova.completion:sync}")
+  private String completion;
+
+  /** Clova가 결과를 POST할 공개 URL (비어 있으면 폴링만 사용) */
+  @Value("${clova.callback-url:}")
+  private String callbackUrl;
+
+  @Value("${clova.callback-secret:}")
+  private String callbackSecret;
+
+  @Value("${clova.poll.initial-delay-ms:5000}")
+  private long initialDelayMs;
+
+  @Value("${clova.poll.max-delay-ms:60000}")
+  private long maxDelayMs;
+
+  @Value("${clova.poll.max-attempts:30}")
+  private int maxAttempts;
+
+  /** 한 번의 상태 조회에 주는 시간 — 이 안에 끝나지 않으면 다른 노드가 다시 조회할 수 있음 (중복 조회는 무해) */
+  @Value("${clova.poll.lease-ms:120000}")
+  private long leaseMs;
+
+  public SttJobService(VideoTranscriptionService transcriptionService,
+      StringRedisTemplate redisTemplate, ApplicationEventPublisher eventPublisher,
+      @Qualifier("sttPollExecutor") Executor pollExecutor) {
+    this.transcriptionService = transcriptionService;
+    this.redisTemplate = redisTemplate;
+    this.eventPublisher = eventPublisher;
+    this.pollExecutor = pollExecutor;
+  }
+
+  public boolean isAsync() {
+    return "async".equalsIgnoreCase(completion);
+  }
+
+  /**
+   * 인식 작업 등록 후 바로 반환
+   */
+  public void submit(AnswerType answerType, Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    String token = transcriptionService.submitTranscription(mediaKey, callbackUrlWithSecret());
+
+    Map<String, String> job = new HashMap<>();
+    job.put("answerType", answerType.name());
+    job.put("questionId", String.valueOf(questionId));
+    job.put("userId", String.valueOf(userId));
+    job.put("mediaKey", mediaKey);
+    if (durationMs != null) {
+      job.put("durationMs", String.valueOf(durationMs));
+    }
+    job.put("attempts", "0");
+
+    String jobKey = JOB_PREFIX + token;
+    redisTemplate.opsForHash().putAll(jobKey, job);
+    redisTemplate.expire(jobKey, TTL);
+    schedule(token, initialDelayMs);
+  }
+
+  /**
+   * 콜백 시크릿 확인
+   */
+  public boolean isValidCallbackSecret(String secret) {
+    // 응답 시간으로 시크릿을 한 글자씩 맞춰 볼 수 없도록 상수 시간 비교
+    return !callbackSecret.isBlank() && secret != null
+        && MessageDigest.isEqual(callbackSecret.getBytes(StandardCharsets.UTF_8),
+            secret.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 콜백/폴링으로 받은 결과 처리 (먼저 작업을 가져간 쪽만 처리)
+   */
+  public void handleResult(String token, String result, String text, String message) {
+    if ("COMPLETED".equalsIgnoreCase(result)) {
+      Map<Object, Object> job = take(token);
+      if (job != null) {
+        eventPublisher.publishEvent(toEvent(job, text));
+      }
+    } else if ("FAILED".equalsIgnoreCase(result)) {
+      Map<Object, Object> job = take(token);
+      if (job != null) {
+        log.error("Clova STT 실패 token={}, mediaKey={}, message={}", token, job.get("mediaKey"), message);
+        eventPublisher.publishEvent(toFailedEvent(job, message));
+      }
+    }
+  }
+
+  /**
+   * 폴링 시각이 된 작업을 임대해 전용 풀에서 상태를 조회하고, 아직 진행 중이면 지수 백오프로 다시 예약
+   * (스케줄러 스레드는 Clova 호출을 기다리지 않음)
+   */
+  @Scheduled(fixedDelayString = "${clova.poll.interval-ms:2000}")
+  public void pollDueJobs() {
+    if (!isAsync()) {
+      return;
+    }
+    Set<String> due = redisTemplate.opsForZSet()
+        .rangeByScore(DUE_KEY, 0, System.currentTimeMillis(), 0, POLL_BATCH);
+    if (due == null) {
+      return;
+    }
+    for (String token : due) {
+      if (!lease(token)) {
+        continue;
+      }
+      try {
+        pollExecutor.execute(() -> pollLeased(token));
+      } catch (TaskRejectedException e) {
+        // 풀이 가득 차면 임대를 풀고 다음 주기에 다시
+        schedule(token, 0);
+        redisTemplate.delete(LEASE_PREFIX + token);
+        return;
+      }
+    }
+  }
+
+  /**
+   * 여러 노드가 같은 작업을 동시에 조회하지 않도록 임대를 먼저 잡은 노드만 처리
+   * - 대기열 점수를 임대 만료 시각으로 미뤄 두므로, 처리 중 노드가 죽으면 그때 다시 폴링 대상이 됨
+   */
+  private boolean lease(String token) {
+    String leaseKey = LEASE_PREFIX + token;
+    if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+        .setIfAbsent(leaseKey, "1", Duration.ofMillis(leaseMs)))) {
+      return false;
+    }
+    // 다른 노드가 방금 처리를 끝내고 다시 예약한 작업이면 아직 조회할 때가 아님
+    Double score = redisTemplate.opsForZSet().score(DUE_KEY, token);
+    if (score == null || score > System.currentTimeMillis()) {
+      redisTemplate.delete(leaseKey);
+      return false;
+    }
+    schedule(token, leaseMs);
+    return true;
+  }
+
+  private void pollLeased(String token) {
+    try {
+      poll(token);
+    } catch (RuntimeException e) {
+      // Redis 오류 등: 대기열에 남아 있으므로 임대가 끝나면 다시 조회
+      log.warn("Clova STT 폴링 처리 실패 token={}", token, e);
+    } finally {
+      redisTemplate.delete(LEASE_PREFIX + token);
+    }
+  }
+
+  private void poll(String token) {
+    String jobKey = JOB_PREFIX + token;
+    Long attempts = redisTemplate.opsForHash().increment(jobKey, "attempts", 1);
+    if (redisTemplate.opsForHash().get(jobKey, "mediaKey") == null) {
+      // 그 사이 콜백으로 처리됐거나 작업 정보가 만료됨
+      redisTemplate.delete(jobKey);
+      redisTemplate.opsForZSet().remove(DUE_KEY, token);
+      return;
+    }
+    try {
+      ClovaCallbackRequest status = transcriptionService.fetchTranscription(token);
+      String result = status.result();
+      if ("COMPLETED".equalsIgnoreCase(result) || "FAILED".equalsIgnoreCase(result)) {
+        handleResult(token, result, status.text(), status.message());
+        return;
+      }
+    } catch (Exception e) {
+      log.warn("Clova STT 상태 조회 실패 token={}, attempts={}", token, attempts, e);
+    }
+
+    if (!Boolean.TRUE.equals(redisTemplate.hasKey(jobKey))) {
+      return; // 그 사이 콜백으로 처리됨 (take가 대기열에서도 내림)
+    }
+    if (attempts >= maxAttempts) {
+      Map<Object, Object> job = take(token);
+      if (job != null) {
+        log.error("Clova STT 폴링 횟수 초과 token={}, mediaKey={}", token, job.get("mediaKey"));
+        eventPublisher.publishEvent(toFailedEvent(job, "폴링 횟수 초과"));
+      }
+      return;
+    }
+    schedule(token, backoff(attempts));
+  }
+
+  /** initialDelay * 2^attempts, 최대 maxDelay */
+  private long backoff(long attempts) {
+    long delay = initialDelayMs << Math.min(attempts, 16);
+    return Math.min(delay, maxDelayMs);
+  }
+
+  private void schedule(String token, long delayMs) {
+    redisTemplate.opsForZSet().add(DUE_KEY, token, System.currentTimeMillis() + delayMs);
+  }
+
+  /**
+   * 작업 정보를 읽고 삭제 — 삭제에 성공한 호출만 작업을 가져감 (콜백/폴링 중복 처리 방지)
+   */
+  private Map<Object, Object> take(String token) {
+    String jobKey = JOB_PREFIX + token;
+    Map<Object, Object> job = redisTemplate.opsForHash().entries(jobKey);
+    redisTemplate.opsForZSet().remove(DUE_KEY, token);
+    if (job.isEmpty() || !Boolean.TRUE.equals(redisTemplate.delete(jobKey))) {
+      return null;
+    }
+    return job;
+  }
+
+  private TranscriptionCompletedEvent toEvent(Map<Object, Object> job, String text) {
+    Object durationMs = job.get("durationMs");
+    return new TranscriptionCompletedEvent(
+        AnswerType.valueOf((String) job.get("answerType")),
+        Long.valueOf((String) job.get("questionId")),
+        Long.valueOf((String) job.get("userId")),
+        (String) job.get("mediaKey"),
+        durationMs != null ? Long.valueOf((String) durationMs) : null,
+        text
+    );
+  }
+
+  private TranscriptionFailedEvent toFailedEvent(Map<Object, Object> job, String reason) {
+    return new TranscriptionFailedEvent(
+        AnswerType.valueOf((String) job.get("answerType")),
+        (String) job.get("mediaKey"),
+        reason
+    );
+  }
+
+  /** 콜백 URL과 시크릿이 모두 설정된 경우에만 콜백 사용 */
+  private String callbackUrlWithSecret() {
+    if (callbackUrl.isBlank() || callbackSecret.isBlank()) {
+      return null;
+    }
+    return callbackUrl + (callbackUrl.contains("?") ? "&" : "?")
+        + "secret=" + URLEncoder.encode(callbackSecret, StandardCharsets.UTF_8);
+  }
+}
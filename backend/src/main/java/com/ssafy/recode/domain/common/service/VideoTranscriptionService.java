@@ -1,10 +1,14 @@
 package com.ssafy.recode.domain.common.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.recode.domain.common.media.Mp4HeaderProbe;
+import com.ssafy.recode.global.dto.request.stt.ClovaCallbackRequest;
+import com.ssafy.recode.global.resilience.ExternalApiResilience;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,6 +17,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
@@ -27,6 +33,9 @@ public class VideoTranscriptionService {
   private final S3Presigner s3Presigner;
   private final WebClient   clovaWebClient;
   private final ObjectMapper objectMapper;
+  private final AudioDemuxService audioDemuxService;
+  private final S3UploaderService uploader;
+  private final ExternalApiResilience resilience;
 
   @Value("${cloud.aws.s3.bucket}")
   private String bucket;
@@ -44,42 +53,131 @@ public class VideoTranscriptionService {
 
   /**
    * S3에 저장된 mediaKey의 비디오를 Clova로 전송해 텍스트를 동기적으로 반환합니다.
+   * 오디오 트랙을 추출할 수 있으면 오디오 전용 M4A만 전송합니다.
    */
   public String transcribeVideo(String mediaKey) {
-    // Presigned URL 생성
-    String presignedUrl = s3Presigner.presignGetObject(
-        GetObjectPresignRequest.builder()
-            .signatureDuration(PRESIGN_DURATION)
-            .getObjectRequest(r -> r.bucket(bucket).key(mediaKey))
-            .build()
-    ).url().toString();
-
     // 동기 STT 요청 및 결과 리턴
     try {
-      String payload = objectMapper.writeValueAsString(Map.of(
-          "url", presignedUrl,
-          "language", "ko-KR",
-          "completion", "sync",
-          "mediaFormat", "mp4",
-          "ignorePunctuation", true
-      ));
-
-      String response = clovaWebClient.post()
-          .uri("/external/v1/{domainCode}/{domainId}/recognizer/url", domainCode, domainId)
-          .contentType(MediaType.APPLICATION_JSON)
+      ClovaCallbackRequest response = requestRecognition(mediaKey, "sync", null);
+      String text = response.text() != null ? response.text() : "";
+      log.info("◀◀◀ Clova 응답 = {}", text);
+      return text;
+    } catch (Exception e) {
+      throw new RuntimeException("Clova STT 동기 요청 실패: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 비동기(async) 인식 요청: Clova에 작업만 등록하고 작업 토큰을 바로 반환합니다.
+   * 결과는 callbackUrl 호출 또는 {@link #fetchTranscription(String)} 폴링으로 받습니다.
+   */
+  public String submitTranscription(String mediaKey, String callbackUrl) {
+    try {
+      ClovaCallbackRequest response = requestRecognition(mediaKey, "async", callbackUrl);
+      String token = response.token();
+      if (token == null || token.isBlank()) {
+        throw new IllegalStateException("작업 토큰이 없습니다: " + response);
+      }
+      log.info("▶▶▶ Clova 비동기 작업 등록 key={}, token={}", mediaKey, token);
+      return token;
+    } catch (Exception e) {
+      throw new RuntimeException("Clova STT 비동기 요청 실패: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 비동기 작업 상태 조회
+   * @return Clova 응답 (result: COMPLETED | PROCESSING | FAILED, text)
+   */
+  public ClovaCallbackRequest fetchTranscription(String token) {
+    try {
+      String response = resilience.clova(clovaWebClient.get()
+          .uri("/external/v1/{domainCode}/{domainId}/recognizer/{token}", domainCode, domainId, token)
           .header("X-CLOVASPEECH-API-KEY", clovaSecretKey)
-          .bodyValue(payload)
           .retrieve()
-          .bodyToMono(String.class)
+          .bodyToMono(String.class))
           .block();
+      return readResult(response);
+    } catch (Exception e) {
+      throw new RuntimeException("Clova STT 상태 조회 실패: " + e.getMessage(), e);
+    }
+  }
 
-      log.info("◀◀◀ Clova 응답 = {}", objectMapper.readTree(response).path("text").asText());
-      return objectMapper.readTree(response).path("text").asText();
+  /**
+   * 동기 인식 요청의 논블로킹 버전
+   * - 오디오 추출/Presign(블로킹 I/O)은 boundedElastic에서, Clova 호출은 WebClient로 스레드 점유 없이 대기
+   */
+  public Mono<String> transcribeVideoReactive(String mediaKey) {
+    return Mono.fromCallable(() -> recognitionPayload(mediaKey, "sync", null))
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMap(this::postRecognition)
+        .map(response -> {
+          String text = readResult(response).text();
+          return text != null ? text : "";
+        })
+        .doOnNext(text -> log.info("◀◀◀ Clova 응답 = {}", text));
+  }
+
+  private ClovaCallbackRequest requestRecognition(String mediaKey, String completion,
+      String callbackUrl) throws Exception {
+    String payload = recognitionPayload(mediaKey, completion, callbackUrl);
+    return readResult(postRecognition(payload).block());
+  }
+
+  /**
+   * 필요한 필드(token/result/message/text)만 바인딩 — segments 등은 트리로 만들지 않고 건너뜀
+   */
+  private ClovaCallbackRequest readResult(String response) {
+    try {
+      return objectMapper.readValue(response, ClovaCallbackRequest.class);
     } catch (Exception e) {
-      throw new RuntimeException("Clova STT 동기 요청 실패: " + e.getMessage(), e);
+      throw new RuntimeException("Clova 응답 파싱 실패: " + response, e);
     }
   }
 
+  /** 인식 요청 (서킷 브레이커/벌크헤드/재시도 적용) */
+  private Mono<String> postRecognition(String payload) {
+    return resilience.clova(clovaWebClient.post()
+        .uri("/external/v1/{domainCode}/{domainId}/recognizer/url", domainCode, domainId)
+        .contentType(MediaType.APPLICATION_JSON)
+        .header("X-CLOVASPEECH-API-KEY", clovaSecretKey)
+        .bodyValue(payload)
+        .retrieve()
+        .bodyToMono(String.class));
+  }
+
+  private String recognitionPayload(String mediaKey, String completion, String callbackUrl)
+      throws Exception {
+    // 오디오만 추출 (불가능하면 원본 영상 사용 — WebM이면 mediaFormat도 webm으로)
+    String audioKey = audioDemuxService.extractAudio(mediaKey);
+    String sttKey = audioKey != null ? audioKey : mediaKey;
+    String mediaFormat = audioKey != null ? "m4a" : sourceFormat(mediaKey);
+
+    // Presigned URL 생성
+    String presignedUrl = s3Presigner.presignGetObject(
+        GetObjectPresignRequest.builder()
+            .signatureDuration(PRESIGN_DURATION)
+            .getObjectRequest(r -> r.bucket(bucket).key(sttKey))
+            .build()
+    ).url().toString();
+
+    Map<String, Object> body = new LinkedHashMap<>();
+    body.put("url", presignedUrl);
+    body.put("language", "ko-KR");
+    body.put("completion", completion);
+    body.put("mediaFormat", mediaFormat);
+    body.put("ignorePunctuation", true);
+    if (callbackUrl != null && !callbackUrl.isBlank()) {
+      body.put("callback", callbackUrl);
+    }
+    return objectMapper.writeValueAsString(body);
+  }
+
+  /** 원본 컨테이너 (앞 4바이트만 읽어 EBML 시그니처 확인) */
+  private String sourceFormat(String mediaKey) {
+    return Mp4HeaderProbe.containerOf(uploader.readRange(mediaKey, 0, 3));
+  }
+
   // Presigned URL 생성 (GET 전용)
   public String presign(String key, String contentType, int time) {
     GetObjectRequest get = GetObjectRequest.builder()
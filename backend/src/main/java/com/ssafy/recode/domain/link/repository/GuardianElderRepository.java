@@ -2,6 +2,7 @@ package com.ssafy.recode.domain.link.repository;
 
 import com.ssafy.recode.domain.link.entity.GuardianElder;
 import com.ssafy.recode.domain.link.entity.GuardianElderId;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -12,4 +13,10 @@ public interface GuardianElderRepository extends JpaRepository<GuardianElder, Gu
   boolean existsByGuardianIdAndElderId(Long guardianId, Long elderId);
   void deleteByGuardianIdAndElderId(Long guardianId, Long elderId);
 
+  /** 보호자의 연동 목록 (연동 순서대로, user 조인 없이) */
+  List<GuardianElder> findByGuardianIdOrderByCreatedAtAsc(Long guardianId);
+
+  /** 노인과 연동된 보호자 매핑 (user 조인 없이) */
+  List<GuardianElder> findByElderId(Long elderId);
+
 }
@@ -0,0 +1,111 @@
+package com.ssafy.recode.domain.link.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.link.entity.GuardianElder;
+import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
+import com.ssafy.recode.global.cache.CacheInvalidationBus;
+import com.ssafy.recode.global.enums.Role;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * GuardianLinkCache
+ *
+ * 보호자 → 연동 노인 ID 목록(연동 순서)과 노인 → 연동 보호자 ID 목록을 노드 내부에 캐싱하고, 조회 대상 노인을 결정합니다.
+ * - 보호자 화면의 모든 조회가 연동 목록 조인을 반복하지 않도록 함
+ * - 답변 상태가 바뀔 때마다 알림 수신자(보호자)를 DB에서 다시 찾지 않도록 함 (AnswerEventService)
+ * - 연동 수락/해제 시 LinkService가 evict → CacheInvalidationBus로 모든 노드에 전파
+ */
+@Service
+@RequiredArgsConstructor
+public class GuardianLinkCache {
+
+  private static final String CACHE_NAME = "guardianLinks";
+  private static final String ELDER_CACHE_NAME = "elderGuardians";
+
+  private final GuardianElderRepository guardianElderRepository;
+  private final MeterRegistry meterRegistry;
+  private final CacheInvalidationBus invalidationBus;
+
+  @Value("${link.cache.max-size:10000}")
+  private long maxSize;
+
+  @Value("${link.cache.ttl-minutes:10}")
+  private long ttlMinutes;
+
+  private LoadingCache<Long, List<Long>> eldersByGuardian;
+  private LoadingCache<Long, List<Long>> guardiansByElder;
+
+  @PostConstruct
+  void init() {
+    eldersByGuardian = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+        .recordStats()
+        .build(guardianId -> guardianElderRepository.findByGuardianIdOrderByCreatedAtAsc(guardianId)
+            .stream()
+            .map(GuardianElder::getElderId)
+            .toList());
+    CaffeineCacheMetrics.monitor(meterRegistry, eldersByGuardian, CACHE_NAME);
+    invalidationBus.register(CACHE_NAME, key -> eldersByGuardian.invalidate(Long.valueOf(key)));
+
+    guardiansByElder = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+        .recordStats()
+        .build(elderId -> guardianElderRepository.findByElderId(elderId)
+            .stream()
+            .map(GuardianElder::getGuardianId)
+            .toList());
+    CaffeineCacheMetrics.monitor(meterRegistry, guardiansByElder, ELDER_CACHE_NAME);
+    invalidationBus.register(ELDER_CACHE_NAME, key -> guardiansByElder.invalidate(Long.valueOf(key)));
+  }
+
+  /** 보호자와 연동된 노인 ID (연동 순서) */
+  public List<Long> elderIdsOf(Long guardianId) {
+    return eldersByGuardian.get(guardianId);
+  }
+
+  /** 노인과 연동된 보호자 ID */
+  public List<Long> guardianIdsOf(Long elderId) {
+    return guardiansByElder.get(elderId);
+  }
+
+  /**
+   * 조회 대상 노인 ID
+   * @param user 로그인 사용자
+   * @param requestedElderId 보호자가 고른 노인 (없으면 null → 가장 먼저 연동된 노인)
+   */
+  public Long resolveElderId(User user, Long requestedElderId) {
+    if (user.getRole() == Role.ELDER) {
+      return user.getId();
+    }
+    List<Long> elderIds = elderIdsOf(user.getId());
+    if (requestedElderId != null) {
+      if (!elderIds.contains(requestedElderId)) {
+        throw new CustomException(ErrorCode.LINK_NOT_FOUND);
+      }
+      return requestedElderId;
+    }
+    if (elderIds.isEmpty()) {
+      throw new CustomException(ErrorCode.LINK_NOT_FOUND);
+    }
+    return elderIds.get(0);
+  }
+
+  /** 연동 변경 시 모든 노드에서 보호자/노인 양쪽 항목 제거 (트랜잭션 안이면 커밋 후 전파) */
+  public void evict(Long guardianId, Long elderId) {
+    invalidationBus.invalidate(CACHE_NAME, String.valueOf(guardianId));
+    invalidationBus.invalidate(ELDER_CACHE_NAME, String.valueOf(elderId));
+  }
+}
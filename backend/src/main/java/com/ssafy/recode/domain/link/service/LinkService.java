@@ -26,6 +26,7 @@ public class LinkService {
   private final LinkRequestRepository linkRequestRepository;             // 연동 요청 테이블
   private final GuardianElderRepository guardianElderRepository; // 연동 확정 테이블
   private final UserRepository userRepository;
+  private final GuardianLinkCache guardianLinkCache;            // 보호자 ↔ 연동 노인 캐시
 
   /**
    * 보호자가 연동 토큰을 제출했을 때 호출되는 메서드
@@ -82,6 +83,7 @@ public class LinkService {
           .guardianId(linkApprovalRequest.guardianId())
           .build();
       guardianElderRepository.save(link);
+      guardianLinkCache.evict(linkApprovalRequest.guardianId(), elderId);
 
     } else {
       // ❌ 거절 처리
@@ -133,6 +135,7 @@ public class LinkService {
 
     guardianElderRepository.deleteByGuardianIdAndElderId(guardianId, targetUserId);
     linkRequestRepository.deleteByGuardianIdAndElderId(guardianId, targetUserId);
+    guardianLinkCache.evict(guardianId, targetUserId);
   }
 
   /**
@@ -1,11 +1,16 @@
 package com.ssafy.recode.domain.personal.controller;
 
 import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
 import com.ssafy.recode.domain.personal.entity.PersonalQuestion;
 import com.ssafy.recode.domain.personal.service.PersonalService;
 import com.ssafy.recode.global.dto.request.AnswerRequestDto;
+import com.ssafy.recode.global.dto.request.UploadUrlRequest;
+import com.ssafy.recode.global.dto.request.AnswerCommitRequest;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
 import com.ssafy.recode.global.dto.response.ApiResponse;
+import com.ssafy.recode.global.enums.AnswerType;
 import com.ssafy.recode.global.security.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,6 +32,7 @@ import jakarta.validation.Valid;
 public class PersonalController {
 
   private final PersonalService personalService;
+  private final AnswerProcessingDispatcher answerDispatcher;
 
   @PostMapping(
       path     = "/answers",
@@ -52,17 +58,65 @@ public class PersonalController {
       @Parameter(hidden = true) @LoginUser User user,
       @Valid @ModelAttribute AnswerRequestDto dto
   ) {
-    String wavKey = personalService.uploadMedia(dto.getVideoFile());
-    personalService.processAnswerAsync(
+    ProbedMedia media = personalService.uploadMedia(dto.getVideoFile());
+    answerDispatcher.dispatch(
+        AnswerType.PERSONAL,
         dto.getQuestionId(),
         user.getId(),
-        wavKey
+        media.mediaKey(),
+        media.durationMs()
     );
     return ApiResponse.successResponseWithMessage(
         "개인화 질문 답변 업로드 완료, 평가를 진행 중입니다.", null
     );
   }
 
+  @PostMapping(
+      path     = "/answers/upload-url",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  @Operation(
+      summary     = "개인화 질문 답변 직접 업로드 URL 발급",
+      description = "클라이언트가 영상을 S3로 직접 PUT 할 수 있는 Presigned URL과 mediaKey를 발급합니다. "
+          + "업로드가 끝나면 mediaKey로 /answers/commit 을 호출합니다."
+  )
+  public ApiResponse<?> createUploadUrl(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody UploadUrlRequest dto
+  ) {
+    return ApiResponse.successResponse(
+        personalService.createUploadUrl(dto.fileName(), dto.contentType(),
+            dto.contentLength(), user.getId())
+    );
+  }
+
+  @PostMapping(
+      path     = "/answers/commit",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  @Operation(
+      summary     = "개인화 질문 직접 업로드 완료 처리",
+      description = "S3 업로드가 끝난 mediaKey를 확인한 뒤 STT → 평가 → 저장 파이프라인을 비동기로 시작합니다."
+  )
+  public ApiResponse<?> commitAnswer(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @org.springframework.web.bind.annotation.RequestBody AnswerCommitRequest dto
+  ) {
+    ProbedMedia media = personalService.verifyUploadedMedia(dto.mediaKey(), user.getId());
+    answerDispatcher.dispatch(
+        AnswerType.PERSONAL,
+        dto.questionId(),
+        user.getId(),
+        media.mediaKey(),
+        media.durationMs()
+    );
+    return ApiResponse.successResponseWithMessage(
+        "개인화 질문 답변 업로드 확인 완료, 평가를 진행 중입니다.", null
+    );
+  }
+
   @Operation(
       summary     = "개인화 질문 조회",
       description = "유저가 마지막으로 답변한 questionId 이후부터 3개씩 순차 조회합니다. "
@@ -1,5 +1,8 @@
 package com.ssafy.recode.domain.personal.entity;
 
+import com.ssafy.recode.domain.common.answer.AnswerRecord;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -7,13 +10,15 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "personal_answers")
+@Table(name = "personal_answers", indexes = {
+    @Index(name = "idx_personal_answers_video_path", columnList = "video_path", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class PersonalAnswer {
+public class PersonalAnswer implements AnswerRecord {
 
   /** primary key */
   @Id
@@ -29,9 +34,9 @@ public class PersonalAnswer {
   @Column(name = "user_id", nullable = false)
   private Long userId;
 
-  /** STT로 변환된 원문 텍스트 */
+  /** STT로 변환된 원문 텍스트 (STT 완료 전에는 null) */
   @Lob
-  @Column(name = "answer", columnDefinition = "TEXT", nullable = false)
+  @Column(name = "answer", columnDefinition = "TEXT")
   private String answer;
 
   /** 코사인 유사도 점수 */
@@ -47,8 +52,23 @@ public class PersonalAnswer {
   @Column(name = "video_path", length = 255, nullable = false)
   private String videoPath;
 
+  /** 영상 길이(ms), 헤더로 알 수 없으면 null */
+  @Column(name = "duration_ms")
+  private Long durationMs;
+
+  /** 처리 상태 (UPLOADED → TRANSCRIBED → SCORED | FAILED) */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20, nullable = false)
+  @Builder.Default
+  private AnswerStatus status = AnswerStatus.UPLOADED;
+
   /** 생성 시각 (insert 시점에 자동으로 채워짐) */
   @CreationTimestamp
   @Column(name = "created_at", updatable = false)
   private LocalDateTime createdAt;
+
+  @Override
+  public AnswerType answerType() {
+    return AnswerType.PERSONAL;
+  }
 }
@@ -2,6 +2,8 @@ package com.ssafy.recode.domain.personal.repository;
 
 import com.ssafy.recode.domain.personal.entity.PersonalQuestion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,4 +21,10 @@ public interface PersonalQuestionRepository extends JpaRepository<PersonalQuesti
    * 해당 유저의 모든 질문 중 ID 오름차순으로 상위 3개를 가져옵니다.
    */
   List<PersonalQuestion> findTop3ByUserIdOrderByQuestionIdAsc(Long userId);
+
+  /**
+   * 유사 중복 검사용: 해당 유저의 모든 질문 내용
+   */
+  @Query("SELECT p.content FROM PersonalQuestion p WHERE p.userId = :userId")
+  List<String> findContentsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,241 @@
+package com.ssafy.recode.domain.personal.scheduler;
+
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.auth.repository.UserRepository;
+import com.ssafy.recode.domain.personal.service.PersonalQuestionGenerationService;
+import com.ssafy.recode.domain.survey.repository.SurveyAnswerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * PersonalQuestionBatchScheduler
+ *
+ * 전날 일일 설문에 답한 사용자 전체의 개인화 질문을 새벽(사용이 적은 시간)에 미리 생성합니다.
+ * - 대상: 전날 전사된 설문 답변이 있는 사용자 (user_id 키셋 페이지 단위 조회)
+ * - 실행: 전용 스레드(personalBatchExecutor) → 몇 시간 걸려도 다른 @Scheduled 작업을 막지 않음
+ * - 동시 실행: Redis 잠금으로 한 노드만 실행 → 아래 속도 제한이 전체 Gemini 호출 기준이 됨
+ * - 병렬도 concurrency, 호출 시작 간격 60s / rate-per-minute
+ * - 체크포인트: 시작할 때 만들고 페이지를 끝낼 때마다 마지막 user_id를 Redis에 기록, 완료하면 삭제
+ *   → 체크포인트가 남아 있는 날짜 = 중단된 날짜. 앱 시작 시와 매일 밤 최근 catch-up-days일 중
+ *     중단된 날짜를 그 다음 user_id부터 다시 실행
+ *   (중단된 페이지는 다시 돌지만 사용자별 생성 키로 이미 생성한 사용자는 건너뜀)
+ * - 사용자가 직접 요청해 이미 생성된 경우도 같은 키로 건너뜀
+ * - 진행 지표: personal.batch.users{outcome}, personal.batch.processed, personal.batch.checkpoint, personal.batch.duration
+ */
+@Slf4j
+@Component
+public class PersonalQuestionBatchScheduler {
+
+  private static final String KEY_PREFIX = "personal:batch:";
+
+  private final SurveyAnswerRepository surveyAnswerRepository;
+  private final UserRepository userRepository;
+  private final PersonalQuestionGenerationService generationService;
+  private final StringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Executor batchExecutor;
+
+  @Value("${personal.batch.enabled:true}")
+  private boolean enabled;
+
+  @Value("${personal.batch.page-size:100}")
+  private int pageSize;
+
+  @Value("${personal.batch.concurrency:4}")
+  private int concurrency;
+
+  /** Gemini 호출 시작 수 상한 (분당) */
+  @Value("${personal.batch.rate-per-minute:60}")
+  private int ratePerMinute;
+
+  @Value("${personal.batch.lock-ttl-minutes:180}")
+  private long lockTtlMinutes;
+
+  /** 중단된 실행을 이어서 처리할 최근 날짜 수 (체크포인트 보관 기간도 이 기준) */
+  @Value("${personal.batch.catch-up-days:2}")
+  private int catchUpDays;
+
+  /** 이번 실행에서 처리한 사용자 수 */
+  private final AtomicLong processed = new AtomicLong();
+  /** 마지막으로 끝낸 페이지의 user_id */
+  private final AtomicLong checkpoint = new AtomicLong();
+
+  public PersonalQuestionBatchScheduler(SurveyAnswerRepository surveyAnswerRepository,
+      UserRepository userRepository, PersonalQuestionGenerationService generationService,
+      StringRedisTemplate redisTemplate, MeterRegistry meterRegistry,
+      @Qualifier("personalBatchExecutor") Executor batchExecutor) {
+    this.surveyAnswerRepository = surveyAnswerRepository;
+    this.userRepository = userRepository;
+    this.generationService = generationService;
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.batchExecutor = batchExecutor;
+  }
+
+  @PostConstruct
+  void registerGauges() {
+    meterRegistry.gauge("personal.batch.processed", processed);
+    meterRegistry.gauge("personal.batch.checkpoint", checkpoint);
+  }
+
+  @Scheduled(cron = "${personal.batch.cron:0 0 3 * * *}", zone = "Asia/Seoul") // 매일 새벽 3시
+  public void generateForYesterday() {
+    if (!enabled) {
+      return;
+    }
+    LocalDate yesterday = LocalDate.now().minusDays(1);
+    resumeUnfinished(yesterday.minusDays(1));
+    submit(yesterday, false);
+  }
+
+  /**
+   * 앱 시작 시 중단된 실행 재개 (새벽 배치 중 노드가 재시작된 경우 어제 날짜 포함)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void resumeOnStartup() {
+    if (!enabled) {
+      return;
+    }
+    resumeUnfinished(LocalDate.now().minusDays(1));
+  }
+
+  /** through까지 최근 catch-up-days일 중 체크포인트가 남아 있는(완료되지 않은) 날짜 재실행 */
+  private void resumeUnfinished(LocalDate through) {
+    for (LocalDate date = through.minusDays(catchUpDays - 1L); !date.isAfter(through);
+        date = date.plusDays(1)) {
+      if (Boolean.TRUE.equals(redisTemplate.hasKey(checkpointKey(date)))) {
+        log.info("중단된 개인화 질문 일괄 생성 재개 예약 (date={})", date);
+        submit(date, true);
+      }
+    }
+  }
+
+  /** 전용 스레드에서 실행 (resumeOnly면 그사이 다른 노드가 끝낸 날짜는 다시 돌지 않음) */
+  private void submit(LocalDate answeredOn, boolean resumeOnly) {
+    try {
+      batchExecutor.execute(() -> {
+        try {
+          run(answeredOn, resumeOnly);
+        } catch (RuntimeException e) {
+          log.error("❌ 개인화 질문 일괄 생성 실패 (date={})", answeredOn, e);
+        }
+      });
+    } catch (TaskRejectedException e) {
+      log.warn("개인화 질문 일괄 생성 실행 거절 (date={})", answeredOn, e);
+    }
+  }
+
+  /**
+   * answeredOn 날짜에 설문을 답한 사용자 전체의 개인화 질문 생성 (체크포인트부터 이어서)
+   */
+  public void run(LocalDate answeredOn) {
+    run(answeredOn, false);
+  }
+
+  private void run(LocalDate answeredOn, boolean resumeOnly) {
+    String lockKey = KEY_PREFIX + answeredOn + ":lock";
+    String owner = UUID.randomUUID().toString();
+    Boolean locked = redisTemplate.opsForValue()
+        .setIfAbsent(lockKey, owner, Duration.ofMinutes(lockTtlMinutes));
+    if (!Boolean.TRUE.equals(locked)) {
+      log.info("개인화 질문 일괄 생성이 다른 노드에서 진행 중 (date={})", answeredOn);
+      return;
+    }
+
+    String checkpointKey = checkpointKey(answeredOn);
+    String saved = redisTemplate.opsForValue().get(checkpointKey);
+    if (resumeOnly && saved == null) {
+      log.info("개인화 질문 일괄 생성이 이미 완료됨 (date={})", answeredOn);
+      unlock(lockKey, owner);
+      return;
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      // 체크포인트 보관: catch-up 대상 기간 + 하루
+      Duration checkpointTtl = Duration.ofDays(catchUpDays + 1L);
+      long afterUserId = saved != null ? Long.parseLong(saved) : 0L;
+      if (afterUserId > 0) {
+        log.info("개인화 질문 일괄 생성 재개 (date={}, after userId={})", answeredOn, afterUserId);
+      } else {
+        log.info("⏰ 개인화 질문 일괄 생성 시작 (date={})", answeredOn);
+        // 첫 페이지 전에 중단돼도 catch-up 대상이 되도록 시작 표시
+        redisTemplate.opsForValue().set(checkpointKey, "0", checkpointTtl);
+      }
+      processed.set(0);
+      checkpoint.set(afterUserId);
+
+      LocalDateTime start = answeredOn.atStartOfDay();
+      LocalDateTime end = start.plusDays(1);
+      Duration interval = Duration.ofMillis(Math.max(1, 60_000L / Math.max(1, ratePerMinute)));
+
+      List<Long> userIds;
+      while (!(userIds = surveyAnswerRepository.findAnsweredUserIds(
+          start, end, afterUserId, PageRequest.of(0, pageSize))).isEmpty()) {
+        processPage(userIds, answeredOn, interval);
+        afterUserId = userIds.get(userIds.size() - 1);
+        redisTemplate.opsForValue().set(checkpointKey, String.valueOf(afterUserId), checkpointTtl);
+        checkpoint.set(afterUserId);
+      }
+      redisTemplate.delete(checkpointKey); // 완료 → catch-up 대상에서 제외
+      log.info("✅ 개인화 질문 일괄 생성 완료 (date={}, 처리 {}명)", answeredOn, processed.get());
+    } finally {
+      sample.stop(meterRegistry.timer("personal.batch.duration"));
+      unlock(lockKey, owner);
+    }
+  }
+
+  private void unlock(String lockKey, String owner) {
+    if (owner.equals(redisTemplate.opsForValue().get(lockKey))) {
+      redisTemplate.delete(lockKey);
+    }
+  }
+
+  private static String checkpointKey(LocalDate answeredOn) {
+    return KEY_PREFIX + answeredOn + ":checkpoint";
+  }
+
+  private void processPage(List<Long> userIds, LocalDate answeredOn, Duration interval) {
+    List<User> users = userRepository.findAllById(userIds);
+    Flux.fromIterable(users)
+        .delayElements(interval) // 호출 시작 속도 제한
+        .flatMap(user -> Mono.fromCallable(() -> generate(user, answeredOn))
+            .subscribeOn(Schedulers.boundedElastic()), concurrency)
+        .doOnNext(outcome -> {
+          processed.incrementAndGet();
+          meterRegistry.counter("personal.batch.users", "outcome", outcome).increment();
+        })
+        .then()
+        .block();
+  }
+
+  private String generate(User user, LocalDate answeredOn) {
+    try {
+      return generationService.generateIfAbsent(user, answeredOn) ? "generated" : "skipped";
+    } catch (Exception e) {
+      log.warn("개인화 질문 일괄 생성 실패 (userId={})", user.getId(), e);
+      return "failed";
+    }
+  }
+}
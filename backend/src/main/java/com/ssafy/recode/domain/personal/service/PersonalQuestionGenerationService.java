@@ -0,0 +1,120 @@
+package com.ssafy.recode.domain.personal.service;
+
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.common.service.AiPromptService;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * PersonalQuestionGenerationService
+ *
+ * 일일 설문 완료 후 개인화 질문 생성을 요청 스레드에서 분리해 백그라운드에서 실행합니다.
+ * - (userId, 날짜)당 한 번만 실행: Redis personal:generate:{userId}:{date} 키를 SET NX로 선점
+ * - 생성 중(PENDING)에는 pending-ttl-minutes 동안만 키 유지 → 노드가 죽어도 잠금이 풀림
+ * - 완료(DONE)되면 다음날 자정까지 유지(야간 일괄 생성이 건너뛸 수 있도록), 실패하면 키를 지워 다시 요청할 수 있게 함
+ * - 야간 일괄 생성(PersonalQuestionBatchScheduler)도 같은 키로 generateIfAbsent를 호출
+ */
+@Slf4j
+@Service
+public class PersonalQuestionGenerationService {
+
+  private static final String KEY_PREFIX = "personal:generate:";
+  private static final String PENDING = "PENDING";
+  private static final String DONE = "DONE";
+
+  private final AiPromptService aiPromptService;
+  private final StringRedisTemplate redisTemplate;
+  private final Executor executor;
+
+  @Value("${personal.generation.pending-ttl-minutes:10}")
+  private long pendingTtlMinutes;
+
+  public PersonalQuestionGenerationService(AiPromptService aiPromptService,
+      StringRedisTemplate redisTemplate,
+      @Qualifier("personalQuestionExecutor") Executor executor) {
+    this.aiPromptService = aiPromptService;
+    this.redisTemplate = redisTemplate;
+    this.executor = executor;
+  }
+
+  /**
+   * 오늘 개인화 질문 생성을 예약
+   * @return 새로 예약했으면 true, 이미 생성 중이거나 오늘 생성을 마쳤으면 false
+   */
+  public boolean requestGeneration(User user) {
+    LocalDate today = LocalDate.now();
+    String key = key(user.getId(), today);
+    if (!claim(user.getId(), key)) {
+      return false;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          generate(user, today, key);
+        } catch (Exception e) {
+          log.error("❌ 개인화 질문 생성 실패 (userId={})", user.getId(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      redisTemplate.delete(key);
+      throw new CustomException(ErrorCode.PERSONAL_QUESTION_BUSY);
+    }
+    return true;
+  }
+
+  /**
+   * answeredOn 날짜 답변 기준 개인화 질문을 호출 스레드에서 생성 (이미 생성/진행 중이면 건너뜀)
+   * @return 이번 호출에서 생성했으면 true
+   */
+  public boolean generateIfAbsent(User user, LocalDate answeredOn) throws Exception {
+    String key = key(user.getId(), answeredOn);
+    if (!claim(user.getId(), key)) {
+      return false;
+    }
+    generate(user, answeredOn, key);
+    return true;
+  }
+
+  private boolean claim(Long userId, String key) {
+    Boolean acquired = redisTemplate.opsForValue()
+        .setIfAbsent(key, PENDING, Duration.ofMinutes(pendingTtlMinutes));
+    if (!Boolean.TRUE.equals(acquired)) {
+      log.info("개인화 질문 생성 중복 요청 무시 (userId={}, state={})",
+          userId, redisTemplate.opsForValue().get(key));
+      return false;
+    }
+    return true;
+  }
+
+  private void generate(User user, LocalDate answeredOn, String key) throws Exception {
+    try {
+      aiPromptService.generatePersonalQuestions(user, answeredOn);
+    } catch (Exception e) {
+      redisTemplate.delete(key);
+      throw e;
+    }
+    redisTemplate.opsForValue().set(key, DONE, doneTtl(answeredOn));
+    log.info("✅ 개인화 질문 생성 완료 (userId={}, date={})", user.getId(), answeredOn);
+  }
+
+  /** 답변일 다음날 자정까지 남은 시간 (최소 1분) */
+  private static Duration doneTtl(LocalDate answeredOn) {
+    Duration remaining = Duration.between(LocalDateTime.now(), answeredOn.plusDays(2).atStartOfDay());
+    return remaining.compareTo(Duration.ofMinutes(1)) < 0 ? Duration.ofMinutes(1) : remaining;
+  }
+
+  private static String key(Long userId, LocalDate date) {
+    return KEY_PREFIX + userId + ":" + date;
+  }
+}
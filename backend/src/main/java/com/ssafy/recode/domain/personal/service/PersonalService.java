@@ -3,22 +3,23 @@ package com.ssafy.recode.domain.personal.service;
 import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.calender.entity.DailyEmotionSummary;
 import com.ssafy.recode.domain.calender.repository.DailyEmotionSummaryRepository;
-import com.ssafy.recode.domain.common.service.AiPromptService;
-import com.ssafy.recode.domain.common.service.GenericPersistenceService;
+import com.ssafy.recode.domain.common.scoring.ScoringQuestion;
+import com.ssafy.recode.domain.common.service.AnswerLifecycleService;
+import com.ssafy.recode.domain.common.service.AnswerScoringBatcher;
+import com.ssafy.recode.domain.common.service.DeferredScoringService;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.MediaProbeService;
 import com.ssafy.recode.domain.common.service.S3UploaderService;
+import com.ssafy.recode.domain.common.service.SttJobService;
 import com.ssafy.recode.domain.common.service.VideoTranscriptionService;
-import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
 import com.ssafy.recode.domain.personal.entity.PersonalAnswer;
 import com.ssafy.recode.domain.personal.entity.PersonalQuestion;
 import com.ssafy.recode.domain.personal.repository.PersonalAnswerRepository;
-import com.ssafy.recode.domain.personal.repository.PersonalAnswerRepository.PersonalVideoRow;
 import com.ssafy.recode.domain.personal.repository.PersonalQuestionRepository;
 import com.ssafy.recode.global.dto.request.EmotionRequset;
-import com.ssafy.recode.global.dto.response.calendar.VideoListResponse;
-import com.ssafy.recode.global.dto.response.calendar.VideoUrlItem;
-import com.ssafy.recode.global.dto.response.link.ElderSummaryResponse;
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
+import com.ssafy.recode.global.enums.AnswerStatus;
 import com.ssafy.recode.global.enums.AnswerType;
-import com.ssafy.recode.global.enums.Role;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,60 +33,133 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class PersonalService {
 
-  private static final String FOLDER = "personal";
+  public static final String FOLDER = "personal";
   private static final double MATCH_THRESHOLD = 70.0;
 
   private final VideoTranscriptionService    transcriptionService;
+  private final SttJobService                sttJobService;
   private final S3UploaderService            uploader;
-  private final AiPromptService              aiPromptService;
+  private final MediaProbeService            mediaProbeService;
+  private final DeferredScoringService deferredScoringService;
+  private final AnswerScoringBatcher         scoringBatcher;
   private final PersonalQuestionRepository   questionRepo;
   private final PersonalAnswerRepository     answerRepo;
-  private final GenericPersistenceService    genericPersistenceService;
+  private final AnswerLifecycleService answerLifecycle;
   private final PersonalAnswerRepository personalAnswerRepository;
   private final DailyEmotionSummaryRepository dailyEmotionSummaryRepository;
-  private final GuardianElderRepository guardianElderRepository;
 
-  /**
-   * MP4 파일을 S3에 올리고 key 반환
-   */
-  public String uploadMedia(MultipartFile file) {
-    return uploader.uploadRawMedia(file, FOLDER);
+  /** 영상 헤더를 검사하면서 S3에 업로드하고 key/길이 반환 */
+  public ProbedMedia uploadMedia(MultipartFile file) {
+    return mediaProbeService.uploadProbed(file, FOLDER);
+  }
+
+  /** 클라이언트가 S3로 직접 업로드할 Presigned PUT URL 발급 */
+  public PresignedUploadResponse createUploadUrl(String fileName, String contentType,
+      long contentLength, Long userId) {
+    return uploader.presignUpload(FOLDER, fileName, contentType, contentLength, userId);
+  }
+
+  /** 직접 업로드된 미디어가 이 폴더에 존재하는지 확인하고 헤더 검사 (통과하면 발급 기록 소비) */
+  public ProbedMedia verifyUploadedMedia(String mediaKey, Long userId) {
+    uploader.verifyUploaded(mediaKey, FOLDER, userId);
+    ProbedMedia media = mediaProbeService.probeStored(mediaKey);
+    uploader.consumeGrant(mediaKey, userId);
+    return media;
   }
 
   /**
    * 비동기로 영상 STT 처리 → 평가 → 저장
    */
   @Async
-  public void processAnswerAsync(Long questionId, Long userId, String mediaKey) {
+  public void processAnswerAsync(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    String answerText;
     try {
+      if (sttJobService.isAsync()) {
+        sttJobService.submit(AnswerType.PERSONAL, questionId, userId, mediaKey, durationMs);
+        return;
+      }
       // 1) 영상 → 텍스트 변환
-      String answerText = transcriptionService.transcribeVideo(mediaKey);
+      answerText = transcriptionService.transcribeVideo(mediaKey);
+    } catch (RuntimeException e) {
+      // Clova 장애(동시 호출 초과, 서킷 열림 등)로 전사하지 못한 경우: UPLOADED로 두고 나중에 STT부터 다시
+      if (deferredScoringService.deferTranscription(AnswerType.PERSONAL, questionId, userId, mediaKey,
+          durationMs, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(AnswerType.PERSONAL, mediaKey);
+      throw e;
+    }
+    completeAnswer(questionId, userId, mediaKey, durationMs, answerText);
+  }
+
+  /**
+   * STT 결과로 평가 → 저장 (비동기 STT 완료 시에도 호출)
+   */
+  public void completeAnswer(Long questionId, Long userId, String mediaKey, Long durationMs,
+      String answerText) {
+    try {
+      answerLifecycle.markTranscribed(AnswerType.PERSONAL, mediaKey, answerText);
 
       // 2) 질문 조회
-      PersonalQuestion question = questionRepo.findById(questionId)
-          .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId));
+      ScoringQuestion question = getScoringQuestion(questionId);
 
-      // 3) LLM 평가 → 점수, 매칭 여부
-      double score = aiPromptService.evaluateAnswer(question.getContent(), answerText);
-      boolean isMatch = score >= MATCH_THRESHOLD;
+      // 3) LLM 평가 → 점수 (다른 답변과 묶어 일괄 채점)
+      double score = scoringBatcher.scoreBlocking(question, answerText);
 
       // 4) 결과 엔티티 생성 및 저장
-      PersonalAnswer answer = PersonalAnswer.builder()
-          .questionId(questionId)
-          .userId(userId)
-          .answer(answerText)
-          .score(score)
-          .isMatch(isMatch)
-          .videoPath(mediaKey)
-          .build();
-
-      genericPersistenceService.save(answer);
+      saveAnswer(questionId, userId, mediaKey, durationMs, answerText, score);
 
     } catch (Exception e) {
+      // Gemini 장애로 채점만 못 한 경우: 전사 결과는 TRANSCRIBED로 두고 나중에 다시 채점
+      if (deferredScoringService.defer(AnswerType.PERSONAL, questionId, userId, mediaKey, durationMs,
+          answerText, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(AnswerType.PERSONAL, mediaKey);
       throw new RuntimeException(
           "PersonalAnswer 처리 중 오류 (questionId=" + questionId + ")", e);
     }
   }
+
+  /** 평가에 사용할 질문 내용 (개인화 질문은 정해진 정답이 없음) */
+  public ScoringQuestion getScoringQuestion(Long questionId) {
+    return ScoringQuestion.of(questionRepo.findById(questionId)
+        .orElseThrow(() -> new IllegalArgumentException("Invalid questionId=" + questionId))
+        .getContent());
+  }
+
+  /** 평가 점수와 함께 답변 행 갱신 → SCORED (매칭 여부는 점수로 판단) */
+  public void saveAnswer(Long questionId, Long userId, String mediaKey, Long durationMs,
+      String answerText, double score) {
+    PersonalAnswer answer = answerRepo.findByVideoPath(mediaKey)
+        .orElseGet(() -> newAnswer(questionId, userId, mediaKey, durationMs));
+    answer.setAnswer(answerText);
+    answer.setScore(score);
+    answer.setIsMatch(score >= MATCH_THRESHOLD);
+    answer.setStatus(AnswerStatus.SCORED);
+
+    answerLifecycle.saveAndNotify(answer);
+  }
+
+  /**
+   * 업로드 직후 UPLOADED 상태의 답변 행 생성
+   * (같은 mediaKey 행이 있으면 그대로 두고, 실패한 행이면 UPLOADED로 되돌려 재처리)
+   * @return 처리를 새로 시작해야 하면 true
+   */
+  public boolean createUploadedAnswer(Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    return answerLifecycle.createUploaded(AnswerType.PERSONAL, mediaKey,
+        () -> newAnswer(questionId, userId, mediaKey, durationMs));
+  }
+
+  private PersonalAnswer newAnswer(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    return PersonalAnswer.builder()
+        .questionId(questionId)
+        .userId(userId)
+        .videoPath(mediaKey)
+        .durationMs(durationMs)
+        .build();
+  }
   /**
    * 유저가 마지막으로 답변한 questionId 이후의 질문 3개를 반환.
    * (답변이 없으면 처음 3개, 모자랄 경우 앞에서 채움)
@@ -113,8 +187,8 @@ public class PersonalService {
     LocalDateTime startOfDay = today.atStartOfDay();
     LocalDateTime endOfDay = today.plusDays(1).atStartOfDay().minusNanos(1);
 
-    return personalAnswerRepository.existsByUserIdAndCreatedAtBetween(
-            userId, startOfDay, endOfDay
+    return personalAnswerRepository.existsByUserIdAndCreatedAtBetweenAndStatusNot(
+            userId, startOfDay, endOfDay, AnswerStatus.FAILED
     );
   }
 
@@ -131,31 +205,4 @@ public class PersonalService {
 
     dailyEmotionSummaryRepository.save(dailyEmotionSummary);
   }
-
-  public VideoListResponse getPersonalVideosByDate(User user, LocalDate date) {
-    Long elderId = user.getId();
-    if(user.getRole() != Role.ELDER){
-      List<ElderSummaryResponse> list = guardianElderRepository.findLinkedEldersByGuardianId(user.getId());
-      elderId = list.get(0).id();
-    }
-
-    // 1) DB에서 저장된 video_path(키 또는 URL) 조회
-    List<PersonalVideoRow> rows = personalAnswerRepository.findVideoPathsByDate(elderId, date);
-
-    // 2) videoPath → S3 key 정규화 후 presign, answerId와 함께 DTO로
-    List<VideoUrlItem> items = rows.stream()
-        .filter(r -> r.getVideoPath() != null)
-        .map(r -> new VideoUrlItem(
-            r.getAnswerId(),
-            r.getQuestionId(),
-            r.getContent(),
-            transcriptionService.presign(transcriptionService.toS3Key(r.getVideoPath()),"video/mp4", 60),
-            r.getScore(),
-            r.getIsMatch(),
-            r.getCreatedAt()
-        ))
-        .toList();
-
-    return new VideoListResponse(date, !items.isEmpty(), items);
-  }
 }
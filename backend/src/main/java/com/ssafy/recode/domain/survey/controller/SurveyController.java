@@ -1,16 +1,20 @@
 package com.ssafy.recode.domain.survey.controller;
 
 import com.ssafy.recode.domain.auth.entity.User;
-import com.ssafy.recode.domain.common.service.AiPromptService;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
+import com.ssafy.recode.domain.personal.service.PersonalQuestionGenerationService;
 import com.ssafy.recode.domain.survey.service.SurveyService;
+import com.ssafy.recode.global.dto.request.AnswerCommitRequest;
 import com.ssafy.recode.global.dto.request.AnswerRequestDto;
+import com.ssafy.recode.global.dto.request.UploadUrlRequest;
 import com.ssafy.recode.global.dto.request.survey.SurveyAnswerRequestDto;
 import com.ssafy.recode.global.dto.response.ApiResponse;
+import com.ssafy.recode.global.enums.AnswerType;
 import com.ssafy.recode.global.security.annotation.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -29,7 +34,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class SurveyController {
 
   private final SurveyService surveyService;
-  private final AiPromptService aiPromptService;
+  private final AnswerProcessingDispatcher answerDispatcher;
+  private final PersonalQuestionGenerationService personalQuestionGenerationService;
 
   /**
    * 일일 설문 질문 조회
@@ -55,7 +61,7 @@ public class SurveyController {
       summary     = "일일 설문 질문 답변 제출",
       description = "1) 클라이언트가 업로드한 MP4 비디오 파일을 S3에 저장합니다.  \n"
           + "2) 저장된 영상을 STT로 텍스트 변환하고, DB에 저장합니다.",
-      requestBody = @RequestBody(
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
           required = true,
           content  = @Content(
               mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
@@ -67,14 +73,16 @@ public class SurveyController {
       @LoginUser User user,
       @Valid @ModelAttribute SurveyAnswerRequestDto reqDto
   ) {
-    // 1) MP4 파일을 S3에 업로드하고, 업로드된 파일의 키를 반환합니다.
-    String mediaKey = surveyService.uploadMedia(reqDto.getVideoFile());
+    // 1) MP4 헤더를 검사하면서 S3에 업로드하고, 업로드된 파일의 키와 길이를 반환합니다.
+    ProbedMedia media = surveyService.uploadMedia(reqDto.getVideoFile());
 
     // 2) 변환된 미디어 키와 함께 비동기 파이프라인(STT → 요약 → 유사도 계산 → DB 저장)을 실행합니다.
-    surveyService.processAnswerAsync(
+    answerDispatcher.dispatch(
+        AnswerType.SURVEY,
         reqDto.getQuestionId(),
         user.getId(),
-        mediaKey
+        media.mediaKey(),
+        media.durationMs()
     );
 
     // 3) 즉시 200 OK 응답을 반환하여 클라이언트에 업로드 성공 및 저장 진행 중임을 알립니다.
@@ -83,17 +91,66 @@ public class SurveyController {
     );
   }
 
+  /**
+   * 일일 설문 답변 직접 업로드 URL 발급
+   * - 클라이언트는 발급받은 URL로 S3에 PUT 한 뒤 mediaKey로 /answers/commit 을 호출합니다.
+   */
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      path = "/answers/upload-url"
+  )
+  public ResponseEntity<?> createUploadUrl(
+      @LoginUser User user,
+      @Valid @RequestBody UploadUrlRequest reqDto
+  ) {
+    return ResponseEntity.ok(
+        ApiResponse.successResponse(
+            surveyService.createUploadUrl(reqDto.fileName(), reqDto.contentType(),
+                reqDto.contentLength(), user.getId())
+        )
+    );
+  }
+
+  /**
+   * 일일 설문 답변 직접 업로드 완료 처리
+   * - S3에 객체가 올라왔는지 확인한 뒤 비동기 파이프라인을 시작합니다.
+   */
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE,
+      path = "/answers/commit"
+  )
+  public ResponseEntity<?> commitAnswer(
+      @LoginUser User user,
+      @Valid @RequestBody AnswerCommitRequest reqDto
+  ) {
+    ProbedMedia media = surveyService.verifyUploadedMedia(reqDto.mediaKey(), user.getId());
+    answerDispatcher.dispatch(
+        AnswerType.SURVEY,
+        reqDto.questionId(),
+        user.getId(),
+        media.mediaKey(),
+        media.durationMs()
+    );
+    return ResponseEntity.ok(
+        ApiResponse.successResponseWithMessage("업로드 확인 완료, 답변 내용을 저장합니다.", null)
+    );
+  }
+
   /**
    * 일일 설문 진행 완료 후 개인화 질문 생성
+   * - 생성은 백그라운드에서 진행하고 바로 202 응답
+   * - 같은 날 중복 요청(재시도, 연속 클릭)은 한 번만 생성
    * @param user
    * @return
-   * @throws Exception
    */
   @PostMapping("/generate/personal")
-  public ResponseEntity<?> generatePersonalQuestions(@LoginUser User user) throws Exception {
-    aiPromptService.generatePersonalQuestions(user);
-    return ResponseEntity.ok(
-        ApiResponse.successResponse(
+  public ResponseEntity<?> generatePersonalQuestions(@LoginUser User user) {
+    boolean requested = personalQuestionGenerationService.requestGeneration(user);
+    return ResponseEntity.accepted().body(
+        ApiResponse.successResponseWithMessage(
+            requested ? "개인화 질문 생성을 시작합니다." : "오늘 개인화 질문 생성이 이미 요청되었습니다.",
             null
         )
     );
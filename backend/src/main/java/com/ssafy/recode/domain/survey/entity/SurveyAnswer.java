@@ -2,25 +2,34 @@ package com.ssafy.recode.domain.survey.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import com.ssafy.recode.domain.common.answer.AnswerRecord;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
-@Table(name = "survey_answers")
+@Table(name = "survey_answers", indexes = {
+    @Index(name = "idx_survey_answers_video_path", columnList = "video_path", unique = true)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-public class SurveyAnswer {
+public class SurveyAnswer implements AnswerRecord {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,13 +42,52 @@ public class SurveyAnswer {
   @Column(name = "user_id", nullable = false)
   private Long userId;
 
-  @Column(nullable = false)
+  /** STT로 변환된 답변 텍스트 (STT 완료 전에는 null) */
+  @Column
+  @Setter
   private String answer;
 
+  /** S3에 저장된 비디오 경로(키) */
+  @Column(name = "video_path", length = 255)
+  private String videoPath;
+
+  /** 영상 길이(ms), 헤더로 알 수 없으면 null */
+  @Column(name = "duration_ms")
+  private Long durationMs;
+
+  /** 처리 상태 (UPLOADED → SCORED | FAILED, 설문은 평가 단계 없음) */
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", length = 20, nullable = false)
+  @Builder.Default
+  @Setter
+  private AnswerStatus status = AnswerStatus.UPLOADED;
+
   private LocalDateTime createdAt;
 
   @PrePersist
   protected void onCreate() {
     this.createdAt = LocalDateTime.now();
   }
+
+  /** STT 결과 저장 → 완료 */
+  public void complete(String answer) {
+    this.answer = answer;
+    this.status = AnswerStatus.SCORED;
+  }
+
+  @Override
+  public AnswerType answerType() {
+    return AnswerType.SURVEY;
+  }
+
+  @Override
+  public Long getAnswerId() {
+    return id;
+  }
+
+  /** 설문은 평가하지 않음 */
+  @Override
+  public Double getScore() {
+    return null;
+  }
 }
@@ -1,19 +1,18 @@
 package com.ssafy.recode.domain.survey.repository;
 
+import com.ssafy.recode.domain.common.answer.AnswerRecordRepository;
 import com.ssafy.recode.domain.survey.entity.SurveyAnswer;
+import com.ssafy.recode.global.enums.AnswerStatus;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Integer> {
-
-    // ✅ native 결과 타입에 맞춘 Projection
-    interface MonthlyCalendarRow {
-        java.sql.Date getCalDate(); // DB DATE → java.sql.Date
-        Integer getHasData();       // TINYINT(0/1) → Integer
-    }
+public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Integer>,
+    AnswerRecordRepository<SurveyAnswer> {
 
     /**
      *
@@ -22,57 +21,34 @@ public interface SurveyAnswerRepository extends JpaRepository<SurveyAnswer, Inte
      *@param userId 사용자 아이디
      *@param start 당일 0시
      *@param end 당일 24시
+     *@param status 제외할 상태 (FAILED)
      *@return true: 존재함, false: 없음
      *
      */
-    boolean existsByUserIdAndCreatedAtBetween(
+    boolean existsByUserIdAndCreatedAtBetweenAndStatusNot(
             Long userId,
             LocalDateTime start,
-            LocalDateTime end);
+            LocalDateTime end,
+            AnswerStatus status);
+
+    /**
+     * 기간 안에 전사된 답변이 있는 사용자 ID (afterUserId 이후, 오름차순)
+     * - 야간 개인화 질문 일괄 생성에서 키셋 페이지 단위로 사용
+     */
+    @Query("""
+        SELECT DISTINCT a.userId FROM SurveyAnswer a
+        WHERE a.answer IS NOT NULL
+          AND a.createdAt >= :start AND a.createdAt < :end
+          AND a.userId > :afterUserId
+        ORDER BY a.userId
+    """)
+    List<Long> findAnsweredUserIds(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        @Param("afterUserId") Long afterUserId,
+        Pageable pageable);
 
-    // 특정 달에 해당 유저의 모든 답변 리스트 조회
-    @Query(value = """
-        WITH RECURSIVE date_range AS (
-          SELECT DATE(CONCAT(:year, '-', LPAD(:month, 2, '0'), '-01')) AS cal_date
-          UNION ALL
-          SELECT DATE_ADD(cal_date, INTERVAL 1 DAY)
-          FROM date_range
-          WHERE cal_date < LAST_DAY(DATE(CONCAT(:year, '-', LPAD(:month, 2, '0'), '-01')))
-        )
-        SELECT
-          dr.cal_date,
-          (
-            EXISTS (
-              SELECT 1
-              FROM basic_answers ba
-              WHERE ba.user_id = :userId
-                AND ba.created_at >= dr.cal_date
-                AND ba.created_at <  DATE_ADD(dr.cal_date, INTERVAL 1 DAY)
-            )
-            OR EXISTS (
-              SELECT 1
-              FROM personal_answers pa
-              WHERE pa.user_id = :userId
-                AND pa.created_at >= dr.cal_date
-                AND pa.created_at <  DATE_ADD(dr.cal_date, INTERVAL 1 DAY)
-            )
-            OR EXISTS (
-              SELECT 1
-              FROM cognitive_answers ca
-              JOIN cognitive_questions cq ON cq.question_id = ca.question_id
-              WHERE ca.user_id = :userId
-                AND cq.media_type IN ('AUDIO','IMAGE')  -- 사운드/사진만 표시
-                AND ca.created_at >= dr.cal_date
-                AND ca.created_at <  DATE_ADD(dr.cal_date, INTERVAL 1 DAY)
-            )
-          ) AS has_data
-        FROM date_range dr
-        ORDER BY dr.cal_date;
-    """, nativeQuery = true)
-    List<MonthlyCalendarRow> findMonthlyCalendarWithFlags(
-        @Param("userId") Long userId,
-        @Param("year") int year,
-        @Param("month") int month
-    );
+    /** 업로드된 미디어 키로 답변 행 조회 (video_path 인덱스) */
+    Optional<SurveyAnswer> findByVideoPath(String videoPath);
 
 }
\ No newline at end of file
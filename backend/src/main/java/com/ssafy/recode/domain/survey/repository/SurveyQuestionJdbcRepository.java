@@ -0,0 +1,49 @@
+package com.ssafy.recode.domain.survey.repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * SurveyQuestionJdbcRepository
+ *
+ * 생성된 설문 질문을 JDBC 배치 INSERT IGNORE로 저장합니다.
+ * - 중복(uq_content)은 DB가 건너뛰므로 예외가 나지 않고 트랜잭션도 rollback-only가 되지 않음
+ * - 묶음 하나가 트랜잭션 하나 (rewriteBatchedStatements=true면 다중 VALUES 한 번으로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyQuestionJdbcRepository {
+
+  private static final String INSERT_IGNORE =
+      "INSERT IGNORE INTO survey_questions (content, created_at) VALUES (?, ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * @return 실제로 저장된 질문 수 (중복 제외)
+   */
+  @Transactional
+  public int insertIgnore(List<String> questions) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    int[][] results = jdbcTemplate.batchUpdate(INSERT_IGNORE, questions, questions.size(),
+        (ps, question) -> {
+          ps.setString(1, question);
+          ps.setTimestamp(2, now);
+        });
+
+    int inserted = 0;
+    for (int[] batch : results) {
+      for (int count : batch) {
+        // 드라이버가 개별 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려줌 → 저장된 것으로 계산
+        inserted += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+      }
+    }
+    return inserted;
+  }
+}
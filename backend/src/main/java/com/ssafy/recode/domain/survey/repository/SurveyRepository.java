@@ -27,6 +27,12 @@ public interface SurveyRepository extends JpaRepository<SurveyQuestion, Long> {
    */
   List<SurveyQuestion> findTop3ByOrderByQuestionIdAsc();
 
+  /**
+   * 유사 중복 검사용: 모든 설문 질문 내용
+   */
+  @Query("SELECT s.content FROM SurveyQuestion s")
+  List<String> findAllContents();
+
   @Query("""
         SELECT new com.ssafy.recode.global.dto.response.survey.SurveyQAResponse(
             q.questionId,
@@ -37,6 +43,7 @@ public interface SurveyRepository extends JpaRepository<SurveyQuestion, Long> {
         FROM SurveyAnswer a
         JOIN SurveyQuestion q ON a.questionId = q.questionId
         WHERE a.userId = :userId
+          AND a.answer IS NOT NULL
           AND a.createdAt BETWEEN :startOfDay AND :endOfDay
         ORDER BY a.createdAt DESC
     """)
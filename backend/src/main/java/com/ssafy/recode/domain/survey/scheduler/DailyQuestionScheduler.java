@@ -1,43 +1,59 @@
 package com.ssafy.recode.domain.survey.scheduler;
 
 import com.ssafy.recode.domain.common.service.AiPromptService;
-import com.ssafy.recode.domain.survey.entity.SurveyQuestion;
-import com.ssafy.recode.domain.survey.repository.SurveyRepository;
-import java.util.List;
+import com.ssafy.recode.domain.common.service.QuestionDeduplicator;
+import com.ssafy.recode.domain.survey.repository.SurveyQuestionJdbcRepository;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DailyQuestionScheduler {
 
-  private final SurveyRepository surveyRepository;
+  private final SurveyQuestionJdbcRepository surveyQuestionJdbcRepository;
   private final AiPromptService aiPromptService;
+  private final QuestionDeduplicator questionDeduplicator;
 
-  @Scheduled(cron = "0 0 0 1 * *", zone = "Asia/Seoul") // 매월 1일 자정
-  @Transactional
-  public void generateDailySurveyQuestions() throws Exception {
-    log.info("⏰ 일일 설문 생성 시작");
-
-    List<String> questions = aiPromptService.generateDailyQuestions();
+  /** 한 번에 INSERT할 질문 수 */
+  @Value("${survey.generation.batch-size:20}")
+  private int batchSize;
 
-    int successCount = 0;
-    for (String q : questions) {
-      try {
-        surveyRepository.save(new SurveyQuestion(q));
-        successCount++;
-        log.info("✅ 저장된 질문: {}", q);
-      } catch (DataIntegrityViolationException e) {
-        log.warn("⚠️ 중복 질문 무시: {}", q);
-      }
-    }
+  @Value("${survey.generation.timeout-minutes:10}")
+  private long timeoutMinutes;
 
-    log.info("✅ 총 {}개의 질문 저장 완료", successCount);
+  /**
+   * 스트리밍으로 받은 질문을 batch-size개씩 모아 바로 저장
+   * (유사 중복은 저장 전에 제외, 완전히 같은 질문은 INSERT IGNORE로 건너뜀)
+   * - 구독만 하고 바로 반환 → 최대 timeout-minutes 걸리는 생성이 다른 @Scheduled 작업을 막지 않음
+   */
+  @Scheduled(cron = "0 0 0 1 * *", zone = "Asia/Seoul") // 매월 1일 자정
+  public void generateDailySurveyQuestions() {
+    log.info("⏰ 일일 설문 생성 시작");
+    // 다른 노드에서 저장된 질문까지 반영 (DB 조회라 스케줄러 스레드 밖에서)
+    Mono.fromRunnable(questionDeduplicator::rebuildSurveyIndex)
+        .subscribeOn(Schedulers.boundedElastic())
+        .thenMany(Flux.defer(aiPromptService::streamDailyQuestions))
+        .filter(questionDeduplicator::acceptSurveyQuestion)
+        .buffer(batchSize)
+        .publishOn(Schedulers.boundedElastic()) // JDBC 저장은 네트워크 스레드 밖에서
+        .map(batch -> {
+          int inserted = surveyQuestionJdbcRepository.insertIgnore(batch);
+          log.info("✅ 질문 {}개 중 {}개 저장", batch.size(), inserted);
+          return inserted;
+        })
+        .reduce(0, Integer::sum)
+        .timeout(Duration.ofMinutes(timeoutMinutes))
+        .subscribe(
+            saved -> log.info("✅ 총 {}개의 질문 저장 완료", saved),
+            e -> log.error("❌ 일일 설문 생성 실패", e));
   }
 
 }
@@ -2,18 +2,23 @@
 package com.ssafy.recode.domain.survey.service;
 
 import com.ssafy.recode.domain.auth.entity.User;
-import com.ssafy.recode.domain.common.service.GenericPersistenceService;
+import com.ssafy.recode.domain.calender.service.UserActivityService;
+import com.ssafy.recode.domain.common.service.AnswerLifecycleService;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.service.DeferredScoringService;
+import com.ssafy.recode.domain.common.service.MediaProbeService;
 import com.ssafy.recode.domain.common.service.S3UploaderService;
+import com.ssafy.recode.domain.common.service.SttJobService;
 import com.ssafy.recode.domain.common.service.VideoTranscriptionService;
-import com.ssafy.recode.domain.link.repository.GuardianElderRepository;
 import com.ssafy.recode.domain.survey.entity.SurveyAnswer;
 import com.ssafy.recode.domain.survey.entity.SurveyQuestion;
 import com.ssafy.recode.domain.survey.repository.SurveyAnswerRepository;
 import com.ssafy.recode.domain.survey.repository.SurveyRepository;
+import com.ssafy.recode.global.dto.response.PresignedUploadResponse;
 import com.ssafy.recode.global.dto.response.calendar.MonthlyCalendarResponse;
-import com.ssafy.recode.global.dto.response.link.ElderSummaryResponse;
 import com.ssafy.recode.global.dto.response.survey.SurveyQAResponse;
-import com.ssafy.recode.global.enums.Role;
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,14 +34,17 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class SurveyService {
 
-  private static final String FOLDER = "servey";
+  public static final String FOLDER = "servey";
 
   private final SurveyRepository surveyRepository;
   private final SurveyAnswerRepository surveyAnswerRepository;
   private final VideoTranscriptionService transcriptionService;
+  private final SttJobService sttJobService;
+  private final DeferredScoringService deferredScoringService;
   private final S3UploaderService uploader;
-  private final GenericPersistenceService genericPersistenceService;
-  private final GuardianElderRepository guardianElderRepository;
+  private final MediaProbeService mediaProbeService;
+  private final AnswerLifecycleService answerLifecycle;
+  private final UserActivityService userActivityService;
 
   /**
    * 일일 설문 질문 조회
@@ -59,39 +67,92 @@ public class SurveyService {
     return next;
   }
 
-  /**
-   * MP4 파일을 S3에 올리고 key 반환
-   */
-  public String uploadMedia(MultipartFile file) {
-    return uploader.uploadRawMedia(file, FOLDER);
+  /** 영상 헤더를 검사하면서 S3에 업로드하고 key/길이 반환 */
+  public ProbedMedia uploadMedia(MultipartFile file) {
+    return mediaProbeService.uploadProbed(file, FOLDER);
+  }
+
+  /** 클라이언트가 S3로 직접 업로드할 Presigned PUT URL 발급 */
+  public PresignedUploadResponse createUploadUrl(String fileName, String contentType,
+      long contentLength, Long userId) {
+    return uploader.presignUpload(FOLDER, fileName, contentType, contentLength, userId);
+  }
+
+  /** 직접 업로드된 미디어가 이 폴더에 존재하는지 확인하고 헤더 검사 (통과하면 발급 기록 소비) */
+  public ProbedMedia verifyUploadedMedia(String mediaKey, Long userId) {
+    uploader.verifyUploaded(mediaKey, FOLDER, userId);
+    ProbedMedia media = mediaProbeService.probeStored(mediaKey);
+    uploader.consumeGrant(mediaKey, userId);
+    return media;
   }
 
   /**
    * 비동기로 영상 STT 처리 → 평가 → 저장
    */
   @Async
-  public void processAnswerAsync(Long questionId, Long userId, String mediaKey) {
+  public void processAnswerAsync(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    String answerText;
     try {
+      if (sttJobService.isAsync()) {
+        sttJobService.submit(AnswerType.SURVEY, questionId, userId, mediaKey, durationMs);
+        return;
+      }
       // 1) 영상 → 텍스트 변환
-      String answerText = transcriptionService.transcribeVideo(mediaKey);
+      answerText = transcriptionService.transcribeVideo(mediaKey);
+    } catch (RuntimeException e) {
+      // Clova 장애(동시 호출 초과, 서킷 열림 등)로 전사하지 못한 경우: UPLOADED로 두고 나중에 STT부터 다시
+      if (deferredScoringService.deferTranscription(AnswerType.SURVEY, questionId, userId, mediaKey,
+          durationMs, e)) {
+        return;
+      }
+      answerLifecycle.markFailed(AnswerType.SURVEY, mediaKey);
+      throw e;
+    }
+    completeAnswer(questionId, userId, mediaKey, durationMs, answerText);
+  }
 
-      // 2) 결과 엔티티 생성 및 저장
-      SurveyAnswer answer = SurveyAnswer.builder()
-              .questionId(questionId)
-              .userId(userId)
-              .answer(answerText) // 실제 유저의 답변 텍스트
-              .build();
+  /**
+   * STT 결과 저장 (비동기 STT 완료 시에도 호출)
+   */
+  public void completeAnswer(Long questionId, Long userId, String mediaKey, Long durationMs,
+      String answerText) {
+    try {
+      // 2) 업로드 시 만든 행에 답변 텍스트 기록 → 완료
+      SurveyAnswer answer = surveyAnswerRepository.findByVideoPath(mediaKey)
+          .orElseGet(() -> newAnswer(questionId, userId, mediaKey, durationMs));
+      answer.complete(answerText); // 실제 유저의 답변 텍스트
 
-      genericPersistenceService.save(answer);
+      answerLifecycle.saveAndNotify(answer);
 
       // 개인화 질문 생성
 
     } catch (Exception e) {
+      answerLifecycle.markFailed(AnswerType.SURVEY, mediaKey);
       throw new RuntimeException(
               "SurveyAnswer 처리 중 오류 (questionId=" + questionId + ")", e);
     }
   }
 
+  /**
+   * 업로드 직후 UPLOADED 상태의 답변 행 생성
+   * (같은 mediaKey 행이 있으면 그대로 두고, 실패한 행이면 UPLOADED로 되돌려 재처리)
+   * @return 처리를 새로 시작해야 하면 true
+   */
+  public boolean createUploadedAnswer(Long questionId, Long userId, String mediaKey,
+      Long durationMs) {
+    return answerLifecycle.createUploaded(AnswerType.SURVEY, mediaKey,
+        () -> newAnswer(questionId, userId, mediaKey, durationMs));
+  }
+
+  private SurveyAnswer newAnswer(Long questionId, Long userId, String mediaKey, Long durationMs) {
+    return SurveyAnswer.builder()
+        .questionId(questionId)
+        .userId(userId)
+        .videoPath(mediaKey)
+        .durationMs(durationMs)
+        .build();
+  }
+
   /**
    * 당일 기초 설문 달성 여부
    */
@@ -101,8 +162,8 @@ public class SurveyService {
     LocalDateTime endOfDay = today.plusDays(1).atStartOfDay().minusNanos(1);
 
     // 단순 응답 존재 여부
-    return surveyAnswerRepository.existsByUserIdAndCreatedAtBetween(
-            userId, startOfDay, endOfDay
+    return surveyAnswerRepository.existsByUserIdAndCreatedAtBetweenAndStatusNot(
+            userId, startOfDay, endOfDay, AnswerStatus.FAILED
     );
   }
     /**
@@ -111,24 +172,21 @@ public class SurveyService {
      * @return
      */
   public List<SurveyQAResponse> getTodayPersonalQA (Long userId){
-    LocalDateTime start = LocalDate.now().atStartOfDay();         // 오늘 00:00
-    LocalDateTime end = start.plusDays(1);                        // 내일 00:00
+    return getPersonalQA(userId, LocalDate.now());
+  }
+
+  /**
+   * 특정 날짜의 일일 설문 답변 조회
+   */
+  public List<SurveyQAResponse> getPersonalQA(Long userId, LocalDate date) {
+    LocalDateTime start = date.atStartOfDay();                    // 해당일 00:00
+    LocalDateTime end = start.plusDays(1);                        // 다음날 00:00
 
     return surveyRepository.findTodayQAByUserId(userId, start, end);
   }
 
-  public List<MonthlyCalendarResponse> getMonthlyCalendar(User user, int year, int month) {
-    Long elderId = user.getId();
-    if(user.getRole() != Role.ELDER){
-      List<ElderSummaryResponse> list = guardianElderRepository.findLinkedEldersByGuardianId(user.getId());
-      elderId = list.get(0).id();
-    }
-
-    return surveyAnswerRepository.findMonthlyCalendarWithFlags(elderId, year, month).stream()
-        .map(r -> new MonthlyCalendarResponse(
-            r.getCalDate().toLocalDate(),
-            r.getHasData() != null && r.getHasData() == 1
-        ))
-        .toList();
+  public List<MonthlyCalendarResponse> getMonthlyCalendar(Long elderId, int year, int month) {
+    // 월간 활동 비트마스크(user_activity_month)에서 PK 조회 한 번으로 계산
+    return userActivityService.getMonthlyCalendar(elderId, year, month);
   }
 }
@@ -0,0 +1,128 @@
+package com.ssafy.recode.domain.upload.controller;
+
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.upload.service.ResumableUploadService;
+import com.ssafy.recode.global.dto.request.upload.UploadSessionRequest;
+import com.ssafy.recode.global.dto.response.ApiResponse;
+import com.ssafy.recode.global.security.annotation.LoginUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * UploadController
+ * - 불안정한 모바일 네트워크를 위한 이어 올리기(resumable) 업로드 API
+ * - 세션 생성 → 청크 PUT(offset 지정) → 상태 조회로 누락 청크 확인 → 완료
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+@Tag(name = "Upload", description = "이어 올리기 업로드 API")
+public class UploadController {
+
+  private final ResumableUploadService resumableUploadService;
+
+  @Operation(
+      summary     = "업로드 세션 생성",
+      description = "답변 유형/질문/파일 크기를 받아 세션을 만들고 sessionId, chunkSize, 누락 오프셋 목록을 반환합니다."
+  )
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ResponseEntity<?> createSession(
+      @Parameter(hidden = true) @LoginUser User user,
+      @Valid @RequestBody UploadSessionRequest request
+  ) {
+    return ResponseEntity.ok(
+        ApiResponse.successResponse(resumableUploadService.createSession(user.getId(), request))
+    );
+  }
+
+  @Operation(
+      summary     = "업로드 세션 상태 조회",
+      description = "아직 받지 못한 청크의 오프셋 목록(missingOffsets)을 반환합니다. 재시도 시 이 청크만 다시 보내면 됩니다."
+  )
+  @GetMapping(
+      path     = "/{sessionId}",
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ResponseEntity<?> getStatus(
+      @Parameter(hidden = true) @LoginUser User user,
+      @PathVariable String sessionId
+  ) {
+    return ResponseEntity.ok(
+        ApiResponse.successResponse(resumableUploadService.getStatus(user.getId(), sessionId))
+    );
+  }
+
+  @Operation(
+      summary     = "청크 업로드",
+      description = "요청 본문(application/octet-stream)을 offset 위치의 청크로 저장합니다. "
+          + "offset은 chunkSize의 배수, 길이는 마지막 청크를 제외하고 chunkSize와 같아야 합니다."
+  )
+  @PutMapping(
+      path     = "/{sessionId}",
+      consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ResponseEntity<?> uploadChunk(
+      @Parameter(hidden = true) @LoginUser User user,
+      @PathVariable String sessionId,
+      @RequestParam long offset,
+      HttpServletRequest request
+  ) throws IOException {
+    try (InputStream in = request.getInputStream()) {
+      return ResponseEntity.ok(
+          ApiResponse.successResponse(
+              resumableUploadService.uploadChunk(
+                  user.getId(), sessionId, offset, request.getContentLengthLong(), in)
+          )
+      );
+    }
+  }
+
+  @Operation(
+      summary     = "업로드 완료",
+      description = "모든 청크가 도착했으면 파일을 조립하고, 백그라운드 평가 파이프라인을 시작합니다."
+  )
+  @PostMapping(
+      path     = "/{sessionId}/complete",
+      produces = MediaType.APPLICATION_JSON_VALUE
+  )
+  public ResponseEntity<?> complete(
+      @Parameter(hidden = true) @LoginUser User user,
+      @PathVariable String sessionId
+  ) {
+    String mediaKey = resumableUploadService.complete(user.getId(), sessionId);
+    return ResponseEntity.ok(
+        ApiResponse.successResponseWithMessage("업로드 완료, 백그라운드에서 평가를 진행합니다.", mediaKey)
+    );
+  }
+
+  @Operation(summary = "업로드 취소", description = "업로드된 청크와 세션을 삭제합니다.")
+  @DeleteMapping("/{sessionId}")
+  public ResponseEntity<?> abort(
+      @Parameter(hidden = true) @LoginUser User user,
+      @PathVariable String sessionId
+  ) {
+    resumableUploadService.abort(user.getId(), sessionId);
+    return ResponseEntity.ok(ApiResponse.successResponseWithMessage("업로드를 취소했습니다.", null));
+  }
+}
@@ -0,0 +1,291 @@
+package com.ssafy.recode.domain.upload.service;
+
+import com.ssafy.recode.domain.common.media.Mp4HeaderProbe;
+import com.ssafy.recode.domain.common.media.ProbedMedia;
+import com.ssafy.recode.domain.common.media.ProbingInputStream;
+import com.ssafy.recode.domain.common.service.AnswerProcessingDispatcher;
+import com.ssafy.recode.domain.common.service.MediaProbeService;
+import com.ssafy.recode.domain.common.service.S3UploaderService;
+import com.ssafy.recode.global.dto.request.upload.UploadSessionRequest;
+import com.ssafy.recode.global.dto.response.upload.UploadSessionResponse;
+import com.ssafy.recode.global.enums.AnswerType;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * ResumableUploadService
+ *
+ * 끊긴 업로드를 이어서 올릴 수 있는 청크 업로드 세션을 관리합니다.
+ * - 세션 정보와 청크별 ETag는 Redis에 저장 (노드가 바뀌어도 이어 올리기 가능)
+ * - 각 청크는 S3 멀티파트 업로드의 파트 하나로 바로 전송되어 서버에 쌓이지 않습니다.
+ * - 첫 청크는 전송하면서 MP4 헤더를 검사해, 잘못된 파일이면 나머지 청크를 받기 전에 세션을 중단합니다.
+ * - 완료 시 멀티파트를 조립하고 헤더 검사(길이 포함)를 통과한 mediaKey만 답변 파이프라인으로 넘깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+  // Redis 키: upload:session:{id} (세션 정보), upload:session:{id}:parts (청크 인덱스 → ETag)
+  private static final String PREFIX = "upload:session:";
+  private static final String PARTS_SUFFIX = ":parts";
+  // 세션 유효 기간: 마지막 청크 수신 후 24시간
+  private static final Duration TTL = Duration.ofHours(24);
+  // S3 멀티파트 제약: 마지막을 제외한 파트는 5MB 이상, 최대 10,000개
+  private static final int MIN_CHUNK_SIZE = 5 * 1024 * 1024;
+  private static final int MAX_CHUNKS = 10_000;
+
+  private final StringRedisTemplate redisTemplate;
+  private final S3UploaderService uploader;
+  private final AnswerProcessingDispatcher dispatcher;
+  private final MediaProbeService mediaProbeService;
+
+  @Value("${upload.resumable.chunk-size:8388608}")
+  private int defaultChunkSize;
+
+  @Value("${upload.resumable.max-size:1073741824}")
+  private long maxSize;
+
+  /**
+   * 업로드 세션 생성: S3 멀티파트 업로드를 시작하고 세션 정보를 Redis에 저장
+   */
+  public UploadSessionResponse createSession(Long userId, UploadSessionRequest request) {
+    int chunkSize = request.chunkSize() != null ? request.chunkSize() : defaultChunkSize;
+    long totalSize = request.totalSize();
+    if (chunkSize < MIN_CHUNK_SIZE || totalSize <= 0 || totalSize > maxSize) {
+      throw new CustomException(ErrorCode.UPLOAD_SIZE_INVALID);
+    }
+    long totalChunks = (totalSize + chunkSize - 1) / chunkSize;
+    if (totalChunks > MAX_CHUNKS) {
+      throw new CustomException(ErrorCode.UPLOAD_SIZE_INVALID);
+    }
+
+    String mediaKey = uploader.createKey(dispatcher.folderOf(request.answerType()), request.fileName());
+    String uploadId = uploader.startMultipartUpload(mediaKey, request.contentType());
+    String sessionId = UUID.randomUUID().toString();
+
+    Session session = new Session(userId, request.answerType(), request.questionId(),
+        mediaKey, uploadId, totalSize, chunkSize, (int) totalChunks);
+
+    String sessionKey = PREFIX + sessionId;
+    hash().putAll(sessionKey, session.toHash());
+    redisTemplate.expire(sessionKey, TTL);
+
+    return toResponse(sessionId, session, Map.of());
+  }
+
+  /**
+   * 세션 진행 상황 조회 (재접속 시 누락된 청크 확인용)
+   */
+  public UploadSessionResponse getStatus(Long userId, String sessionId) {
+    Session session = loadSession(userId, sessionId);
+    return toResponse(sessionId, session, hash().entries(PREFIX + sessionId + PARTS_SUFFIX));
+  }
+
+  /**
+   * 청크 하나를 받아 S3 파트로 바로 전송
+   * - offset은 chunkSize의 배수여야 하며, 길이는 마지막 청크를 제외하고 chunkSize와 같아야 합니다.
+   * - 같은 offset을 다시 보내면 해당 파트를 덮어씁니다.
+   */
+  public UploadSessionResponse uploadChunk(Long userId, String sessionId, long offset, long length,
+      InputStream in) {
+    Session session = loadSession(userId, sessionId);
+    if (isAssembled(PREFIX + sessionId)) {
+      // 이미 조립된 세션은 완료 재시도만 가능
+      throw new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+
+    if (offset < 0 || offset % session.chunkSize() != 0 || offset >= session.totalSize()) {
+      throw new CustomException(ErrorCode.UPLOAD_CHUNK_INVALID);
+    }
+    long expectedLength = Math.min(session.chunkSize(), session.totalSize() - offset);
+    if (length != expectedLength) {
+      throw new CustomException(ErrorCode.UPLOAD_CHUNK_INVALID);
+    }
+
+    int index = (int) (offset / session.chunkSize());
+    String eTag;
+    if (index == 0) {
+      eTag = uploadFirstChunk(sessionId, session, in, length);
+    } else {
+      eTag = uploader.uploadPart(session.mediaKey(), session.uploadId(), index + 1, in, length);
+    }
+
+    String partsKey = PREFIX + sessionId + PARTS_SUFFIX;
+    hash().put(partsKey, String.valueOf(index), eTag);
+    redisTemplate.expire(partsKey, TTL);
+    redisTemplate.expire(PREFIX + sessionId, TTL);
+
+    return toResponse(sessionId, session, hash().entries(partsKey));
+  }
+
+  /**
+   * 모든 청크가 도착했으면 멀티파트를 조립하고 답변 파이프라인 시작
+   * - 세션은 헤더 검사와 파이프라인 시작까지 성공한 뒤에 삭제 (S3 일시 오류 등으로 실패하면 같은 요청으로 재시도)
+   * - 이미 조립된 세션을 재시도하면 조립은 건너뛰고 검사부터 다시
+   * - 헤더 검사에서 거절되면 조립된 객체는 probeStored가 지우고 세션도 정리
+   * @return 조립된 mediaKey
+   */
+  public String complete(Long userId, String sessionId) {
+    Session session = loadSession(userId, sessionId);
+    String sessionKey = PREFIX + sessionId;
+    String partsKey = sessionKey + PARTS_SUFFIX;
+
+    Map<Object, Object> parts = hash().entries(partsKey);
+    if (parts.size() < session.totalChunks()) {
+      throw new CustomException(ErrorCode.UPLOAD_INCOMPLETE);
+    }
+
+    // 중복 완료 요청 방지 (먼저 플래그를 세운 요청만 진행, 실패하면 플래그를 내려 재시도 허용)
+    if (!Boolean.TRUE.equals(hash().putIfAbsent(sessionKey, "completing", "1"))) {
+      throw new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+
+    ProbedMedia media;
+    try {
+      if (!isAssembled(sessionKey)) {
+        Map<Integer, String> eTags = new HashMap<>();
+        parts.forEach((index, eTag) ->
+            eTags.put(Integer.parseInt((String) index) + 1, (String) eTag));
+        uploader.completeMultipartUpload(session.mediaKey(), session.uploadId(), eTags);
+        hash().put(sessionKey, "assembled", "1");
+      }
+      // 조립된 파일 전체 기준으로 컨테이너/길이 검사 (moov가 파일 끝에 있는 경우 포함)
+      media = mediaProbeService.probeStored(session.mediaKey());
+    } catch (CustomException e) {
+      // 형식 오류/길이 초과: 객체는 이미 삭제됐으므로 세션도 정리
+      redisTemplate.delete(List.of(sessionKey, partsKey));
+      throw e;
+    } catch (RuntimeException e) {
+      hash().delete(sessionKey, "completing");
+      throw e;
+    }
+
+    try {
+      dispatcher.dispatch(session.answerType(), session.questionId(), userId,
+          media.mediaKey(), media.durationMs());
+    } catch (RuntimeException e) {
+      hash().delete(sessionKey, "completing");
+      throw e;
+    }
+    redisTemplate.delete(List.of(sessionKey, partsKey));
+    return session.mediaKey();
+  }
+
+  /**
+   * 첫 청크는 S3로 보내면서 헤더를 검사하고, MP4/WebM이 아니거나 너무 길면 세션을 바로 중단
+   */
+  private String uploadFirstChunk(String sessionId, Session session, InputStream in, long length) {
+    Mp4HeaderProbe probe = mediaProbeService.newProbe();
+    try {
+      return uploader.uploadPart(session.mediaKey(), session.uploadId(), 1,
+          new ProbingInputStream(in, probe), length);
+    } catch (RuntimeException e) {
+      if (probe.getState() == Mp4HeaderProbe.State.REJECTED) {
+        log.info("업로드 세션 중단 sessionId={}, reason={}", sessionId, probe.getRejectReason());
+        uploader.abortMultipartUpload(session.mediaKey(), session.uploadId());
+        redisTemplate.delete(List.of(PREFIX + sessionId, PREFIX + sessionId + PARTS_SUFFIX));
+        throw mediaProbeService.rejection(probe);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * 업로드 취소: S3 파트(조립된 뒤면 조립된 객체)와 Redis 세션 정리
+   */
+  public void abort(Long userId, String sessionId) {
+    Session session = loadSession(userId, sessionId);
+    if (isAssembled(PREFIX + sessionId)) {
+      uploader.deleteObject(session.mediaKey());
+    } else {
+      uploader.abortMultipartUpload(session.mediaKey(), session.uploadId());
+    }
+    redisTemplate.delete(List.of(PREFIX + sessionId, PREFIX + sessionId + PARTS_SUFFIX));
+  }
+
+  private boolean isAssembled(String sessionKey) {
+    return hash().hasKey(sessionKey, "assembled");
+  }
+
+  private Session loadSession(Long userId, String sessionId) {
+    Map<Object, Object> fields = hash().entries(PREFIX + sessionId);
+    if (fields.isEmpty() || fields.containsKey("completing")) {
+      throw new CustomException(ErrorCode.UPLOAD_SESSION_NOT_FOUND);
+    }
+    Session session = Session.fromHash(fields);
+    if (!session.userId().equals(userId)) {
+      throw new CustomException(ErrorCode.UPLOAD_SESSION_FORBIDDEN);
+    }
+    return session;
+  }
+
+  private UploadSessionResponse toResponse(String sessionId, Session session, Map<Object, Object> parts) {
+    List<Long> missing = new ArrayList<>();
+    for (int i = 0; i < session.totalChunks(); i++) {
+      if (!parts.containsKey(String.valueOf(i))) {
+        missing.add((long) i * session.chunkSize());
+      }
+    }
+    return new UploadSessionResponse(sessionId, session.mediaKey(), session.totalSize(),
+        session.chunkSize(), session.totalChunks(), missing);
+  }
+
+  private HashOperations<String, Object, Object> hash() {
+    return redisTemplate.opsForHash();
+  }
+
+  /**
+   * Redis 해시에 저장되는 세션 정보
+   */
+  private record Session(
+      Long userId,
+      AnswerType answerType,
+      Long questionId,
+      String mediaKey,
+      String uploadId,
+      long totalSize,
+      int chunkSize,
+      int totalChunks
+  ) {
+
+    Map<String, String> toHash() {
+      Map<String, String> map = new HashMap<>();
+      map.put("userId", String.valueOf(userId));
+      map.put("answerType", answerType.name());
+      map.put("questionId", String.valueOf(questionId));
+      map.put("mediaKey", mediaKey);
+      map.put("uploadId", uploadId);
+      map.put("totalSize", String.valueOf(totalSize));
+      map.put("chunkSize", String.valueOf(chunkSize));
+      map.put("totalChunks", String.valueOf(totalChunks));
+      return map;
+    }
+
+    static Session fromHash(Map<Object, Object> map) {
+      return new Session(
+          Long.valueOf((String) map.get("userId")),
+          AnswerType.valueOf((String) map.get("answerType")),
+          Long.valueOf((String) map.get("questionId")),
+          (String) map.get("mediaKey"),
+          (String) map.get("uploadId"),
+          Long.parseLong((String) map.get("totalSize")),
+          Integer.parseInt((String) map.get("chunkSize")),
+          Integer.parseInt((String) map.get("totalChunks"))
+      );
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.recode.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * CacheInvalidationBus
+ *
+ * 노드 내부(Caffeine) 캐시의 항목 무효화를 Redis pub/sub(cache:invalidate)으로 모든 노드에 전파합니다.
+ * - 캐시는 이름과 무효화 함수를 register
+ * - invalidate: 이 노드는 즉시 제거, 트랜잭션이 있으면 커밋 후 한 번 더 제거하고 발행 (커밋 전에 다른 노드가 옛 값을 다시 채우지 않도록)
+ * - Redis 발행이 실패하면 다른 노드는 각 캐시의 TTL까지 옛 값을 볼 수 있음
+ *
+ * 무효화 수는 cache.invalidations{cache, source=local|remote}로 노출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus implements MessageListener {
+
+  public static final String CHANNEL = "cache:invalidate";
+
+  private final StringRedisTemplate redisTemplate;
+  private final RedisMessageListenerContainer listenerContainer;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<String, Consumer<String>> invalidators = new ConcurrentHashMap<>();
+
+  record InvalidationMessage(String cache, String key) {}
+
+  @PostConstruct
+  void listen() {
+    listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+  }
+
+  /** 캐시 이름별 무효화 함수 등록 */
+  public void register(String cache, Consumer<String> invalidator) {
+    invalidators.put(cache, invalidator);
+  }
+
+  /**
+   * cache의 key 항목을 모든 노드에서 무효화
+   */
+  public void invalidate(String cache, String key) {
+    evictLocal(cache, key, "local");
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictLocal(cache, key, "local");
+          publish(cache, key);
+        }
+      });
+    } else {
+      publish(cache, key);
+    }
+  }
+
+  private void publish(String cache, String key) {
+    try {
+      redisTemplate.convertAndSend(CHANNEL,
+          objectMapper.writeValueAsString(new InvalidationMessage(cache, key)));
+    } catch (Exception e) {
+      log.warn("캐시 무효화 발행 실패 cache={} key={}", cache, key, e);
+    }
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    InvalidationMessage event;
+    try {
+      event = objectMapper.readValue(message.getBody(), InvalidationMessage.class);
+    } catch (IOException e) {
+      log.warn("캐시 무효화 메시지 파싱 실패", e);
+      return;
+    }
+    evictLocal(event.cache(), event.key(), "remote");
+  }
+
+  private void evictLocal(String cache, String key, String source) {
+    Consumer<String> invalidator = invalidators.get(cache);
+    if (invalidator == null) {
+      return;
+    }
+    invalidator.accept(key);
+    meterRegistry.counter("cache.invalidations", "cache", cache, "source", source).increment();
+  }
+}
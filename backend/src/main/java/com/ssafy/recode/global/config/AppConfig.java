@@ -5,7 +5,6 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -25,13 +24,6 @@ public class AppConfig {
   @Value("${cloud.aws.credentials.secret-key}")
   private String awsSecretKey;
 
-  @Value("${clova.invoke-url-base}")
-  private String invokeUrlBase;
-
-  /** Clova Speech 서비스용 Secret Key */
-  @Value("${clova.secret-key}")
-  private String clovaSecretKey;
-
   @Bean
   public AwsCredentialsProvider awsCredentialsProvider() {
     return StaticCredentialsProvider.create(
@@ -59,15 +51,4 @@ public class AppConfig {
         .region(region)
         .build();
   }
-  /**
-   * Clova Speech 호출용 WebClient 설정
-   */
-  @Bean
-  public WebClient clovaWebClient() {
-    return WebClient.builder()
-        .baseUrl(invokeUrlBase)
-        // Clova Speech는 Secret Key 하나로 인증
-        .defaultHeader("X-CLOVASPEECH-API-KEY", clovaSecretKey)
-        .build();
-  }
 }
@@ -1,6 +1,9 @@
 package com.ssafy.recode.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,4 +23,77 @@ public class AsyncConfig implements AsyncConfigurer {
     executor.initialize();
     return executor;
   }
-}
\ No newline at end of file
+
+  /**
+   * S3 멀티파트 파트 전송 전용 풀
+   * - 큐가 차면 호출 스레드에서 실행하여 자연스럽게 읽기 속도를 늦춥니다.
+   */
+  @Bean(name = "s3UploadExecutor")
+  public Executor s3UploadExecutor(
+      @Value("${aws.s3.multipart.upload-threads:8}") int uploadThreads
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(uploadThreads);
+    executor.setMaxPoolSize(uploadThreads);
+    executor.setQueueCapacity(uploadThreads * 2);
+    executor.setThreadNamePrefix("s3-upload-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 개인화 질문 생성(Gemini 호출) 전용 풀
+   * - 큐가 차면 거절(AbortPolicy)하여 요청 스레드가 Gemini 호출을 떠안지 않게 합니다.
+   */
+  @Bean(name = "personalQuestionExecutor")
+  public Executor personalQuestionExecutor(
+      @Value("${personal.generation.threads:4}") int threads,
+      @Value("${personal.generation.queue-capacity:200}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("personal-gen-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Clova 비동기 STT 상태 조회 전용 풀
+   * - 스케줄러 스레드가 HTTP 응답을 기다리지 않도록 조회만 여기서 실행
+   * - 큐가 차면 거절하고 작업은 다음 폴링 주기로 미룹니다.
+   */
+  @Bean(name = "sttPollExecutor")
+  public Executor sttPollExecutor(
+      @Value("${clova.poll.threads:4}") int threads,
+      @Value("${clova.poll.queue-capacity:40}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("stt-poll-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 개인화 질문 야간 일괄 생성 전용 스레드
+   * - 몇 시간씩 걸리는 배치가 공용 @Scheduled 스레드를 붙잡지 않도록 여기서 실행
+   * - 한 번에 하나만 실행하고, 밀린 실행은 큐에서 차례로 기다립니다.
+   */
+  @Bean(name = "personalBatchExecutor")
+  public Executor personalBatchExecutor(
+      @Value("${personal.batch.queue-capacity:4}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("personal-batch-");
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.recode.global.config;
+
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * WebClientConfig
+ *
+ * 외부 API(Gemini, Clova) 호출용 WebClient를 한 곳에서 구성합니다.
+ * - 공용 커넥션 풀: 최대 연결 수, 대기 요청 수, 유휴/수명 시간, 백그라운드 정리
+ * - 연결/응답 타임아웃, TCP keep-alive, TLS에서는 ALPN으로 HTTP/2 우선 사용
+ * - Spring이 구성한 WebClient.Builder를 복제해서 사용하므로
+ *   · 코덱은 Spring ObjectMapper를 그대로 사용
+ *   · 호출마다 http.client.requests 타이머(client.name, uri, method, status)가 기록됨
+ */
+@Configuration
+public class WebClientConfig {
+
+  @Value("${outbound.http.max-connections:100}")
+  private int maxConnections;
+
+  @Value("${outbound.http.pending-acquire-max-count:500}")
+  private int pendingAcquireMaxCount;
+
+  @Value("${outbound.http.pending-acquire-timeout-ms:10000}")
+  private long pendingAcquireTimeoutMs;
+
+  @Value("${outbound.http.max-idle-time-ms:30000}")
+  private long maxIdleTimeMs;
+
+  @Value("${outbound.http.max-life-time-ms:300000}")
+  private long maxLifeTimeMs;
+
+  @Value("${outbound.http.connect-timeout-ms:3000}")
+  private int connectTimeoutMs;
+
+  @Value("${outbound.http.http2:true}")
+  private boolean http2;
+
+  /** LLM/STT 응답 대기 시간 (긴 영상의 동기 STT 포함) */
+  @Value("${outbound.http.gemini.response-timeout-ms:60000}")
+  private long geminiResponseTimeoutMs;
+
+  @Value("${outbound.http.clova.response-timeout-ms:600000}")
+  private long clovaResponseTimeoutMs;
+
+  @Value("${gms.base-url:https://gms.ssafy.io/gmsapi/generativelanguage.googleapis.com/v1beta/models}")
+  private String geminiBaseUrl;
+
+  @Value("${clova.invoke-url-base}")
+  private String clovaInvokeUrlBase;
+
+  /** Clova Speech 서비스용 Secret Key */
+  @Value("${clova.secret-key}")
+  private String clovaSecretKey;
+
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider outboundConnectionProvider() {
+    return ConnectionProvider.builder("outbound")
+        .maxConnections(maxConnections)
+        .pendingAcquireMaxCount(pendingAcquireMaxCount)
+        .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+        .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+        .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+        .evictInBackground(Duration.ofSeconds(30))
+        .metrics(true) // reactor.netty.connection.provider.* (풀 사용량)
+        .build();
+  }
+
+  /**
+   * Gemini(GMS 프록시) 호출용 WebClient
+   */
+  @Bean
+  public WebClient geminiWebClient(WebClient.Builder builder, ConnectionProvider outboundConnectionProvider) {
+    return builder.clone()
+        .baseUrl(geminiBaseUrl)
+        .clientConnector(connector(outboundConnectionProvider, geminiResponseTimeoutMs))
+        .build();
+  }
+
+  /**
+   * Clova Speech 호출용 WebClient
+   */
+  @Bean
+  public WebClient clovaWebClient(WebClient.Builder builder, ConnectionProvider outboundConnectionProvider) {
+    return builder.clone()
+        .baseUrl(clovaInvokeUrlBase)
+        // Clova Speech는 Secret Key 하나로 인증
+        .defaultHeader("X-CLOVASPEECH-API-KEY", clovaSecretKey)
+        .clientConnector(connector(outboundConnectionProvider, clovaResponseTimeoutMs))
+        .build();
+  }
+
+  private ReactorClientHttpConnector connector(ConnectionProvider provider, long responseTimeoutMs) {
+    HttpClient client = HttpClient.create(provider)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .keepAlive(true)
+        .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+    if (http2) {
+      // https는 ALPN으로 HTTP/2 협상, 지원하지 않거나 http(스텁 등)면 HTTP/1.1
+      client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+    }
+    return new ReactorClientHttpConnector(client);
+  }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.recode.global.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(name = "AnswerCommitRequest", description = "직접 업로드 완료 후 답변 처리 요청 DTO")
+public record AnswerCommitRequest(
+    @NotNull
+    @Schema(description = "테이블의 질문 ID", example = "1")
+    Long questionId,
+    @NotBlank
+    @Schema(description = "upload-url 발급 시 받은 S3 키", example = "answer/basic/uuid_answer.mp4")
+    String mediaKey,
+    @Schema(description = "인지 질문 미디어 타입 (\"audio\" 또는 \"image\")", example = "audio")
+    String mediaType
+) {
+
+}
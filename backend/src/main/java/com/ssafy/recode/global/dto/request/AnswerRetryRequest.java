@@ -0,0 +1,18 @@
+package com.ssafy.recode.global.dto.request;
+
+import com.ssafy.recode.global.enums.AnswerType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(name = "AnswerRetryRequest", description = "실패한 답변 처리 재시도 요청 DTO")
+public record AnswerRetryRequest(
+    @NotNull
+    @Schema(description = "답변 유형", example = "BASIC")
+    AnswerType answerType,
+    @NotBlank
+    @Schema(description = "업로드 시 받은 S3 키", example = "answer/basic/uuid_answer.mp4")
+    String mediaKey
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.ssafy.recode.global.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(name = "UploadUrlRequest", description = "Presigned 업로드 URL 발급 요청 DTO")
+public record UploadUrlRequest(
+    @Schema(description = "원본 파일명 (확장자 추출용)", example = "answer.mp4")
+    String fileName,
+    @Schema(description = "업로드할 파일의 Content-Type", example = "video/mp4")
+    String contentType,
+    @Schema(description = "업로드할 파일 크기(바이트) — PUT 요청의 Content-Length와 같아야 함", example = "10485760")
+    @NotNull @Positive
+    Long contentLength,
+    @Schema(description = "인지 질문 미디어 타입 (\"audio\" 또는 \"image\")", example = "audio")
+    String mediaType
+) {
+
+}
@@ -0,0 +1,21 @@
+package com.ssafy.recode.global.dto.request.stt;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Clova Speech 비동기 인식 완료 콜백 본문 (필요한 필드만 사용)
+ * 인식 요청/상태 조회 응답도 같은 형태라 함께 사용합니다 (segments 등 큰 필드는 읽지 않고 건너뜀).
+ *
+ * @param token   작업 토큰
+ * @param result  COMPLETED | FAILED
+ * @param message 실패 사유
+ * @param text    인식된 전체 텍스트
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ClovaCallbackRequest(
+    String token,
+    String result,
+    String message,
+    String text
+) {
+}
@@ -0,0 +1,27 @@
+package com.ssafy.recode.global.dto.request.upload;
+
+import com.ssafy.recode.global.enums.AnswerType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(name = "UploadSessionRequest", description = "이어 올리기(resumable) 업로드 세션 생성 요청 DTO")
+public record UploadSessionRequest(
+    @NotNull
+    @Schema(description = "답변 유형", example = "BASIC")
+    AnswerType answerType,
+    @NotNull
+    @Schema(description = "테이블의 질문 ID", example = "1")
+    Long questionId,
+    @Schema(description = "원본 파일명", example = "answer.mp4")
+    String fileName,
+    @Schema(description = "Content-Type", example = "video/mp4")
+    String contentType,
+    @NotNull @Positive
+    @Schema(description = "전체 파일 크기(byte)", example = "314572800")
+    Long totalSize,
+    @Schema(description = "청크 크기(byte, 최소 5MB). 생략 시 서버 기본값", example = "8388608")
+    Integer chunkSize
+) {
+
+}
@@ -0,0 +1,9 @@
+package com.ssafy.recode.global.dto.response;
+
+public record PresignedUploadResponse(
+    String mediaKey,   // 업로드 완료 후 commit 시 그대로 전달할 S3 키
+    String uploadUrl,  // PUT 요청을 보낼 Presigned URL
+    int expiresIn      // URL 유효 시간(초)
+) {
+
+}
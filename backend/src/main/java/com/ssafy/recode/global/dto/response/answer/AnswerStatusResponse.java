@@ -0,0 +1,24 @@
+package com.ssafy.recode.global.dto.response.answer;
+
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.time.LocalDateTime;
+
+/**
+ * 답변 처리 상태 조회 응답
+ * answerText: STT 결과 (TRANSCRIBED 이후), score: 평가 점수 (SCORED 이후, 설문은 null)
+ */
+public record AnswerStatusResponse(
+    AnswerType answerType,
+    Long answerId,
+    Long questionId,
+    Long userId,
+    String mediaKey,
+    AnswerStatus status,
+    String answerText,
+    Double score,
+    Long durationMs,
+    LocalDateTime createdAt
+) {
+
+}
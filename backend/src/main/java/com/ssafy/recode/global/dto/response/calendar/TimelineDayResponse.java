@@ -0,0 +1,13 @@
+package com.ssafy.recode.global.dto.response.calendar;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주/월 기록 조회의 하루 단위 묶음
+ */
+public record TimelineDayResponse(
+    LocalDate date,
+    List<TimelineEntryResponse> entries
+) {
+}
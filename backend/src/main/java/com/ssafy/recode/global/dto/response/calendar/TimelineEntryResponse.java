@@ -0,0 +1,20 @@
+package com.ssafy.recode.global.dto.response.calendar;
+
+import com.ssafy.recode.global.enums.AnswerStatus;
+import com.ssafy.recode.global.enums.AnswerType;
+import java.time.LocalDateTime;
+
+/**
+ * 기간 기록 조회의 답변 한 건 (영상 URL은 날짜별 영상 조회에서 발급)
+ */
+public record TimelineEntryResponse(
+    AnswerType answerType,
+    Long answerId,
+    Long questionId,
+    String content,
+    Double score,
+    Boolean isMatch,
+    AnswerStatus status,
+    LocalDateTime createdAt
+) {
+}
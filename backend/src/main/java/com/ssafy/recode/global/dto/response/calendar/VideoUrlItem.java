@@ -16,4 +16,5 @@ public class VideoUrlItem {
   private int score;
   private boolean isMatch;
   private LocalDateTime createdAt;
+  private String status;  // 처리 상태 (UPLOADED | TRANSCRIBED | SCORED | FAILED)
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.ssafy.recode.global.dto.response.upload;
+
+import java.util.List;
+
+public record UploadSessionResponse(
+    String sessionId,
+    String mediaKey,
+    long totalSize,
+    int chunkSize,
+    int totalChunks,
+    List<Long> missingOffsets  // 아직 받지 못한 청크의 시작 오프셋 (재시도 시 이 청크만 전송)
+) {
+
+}
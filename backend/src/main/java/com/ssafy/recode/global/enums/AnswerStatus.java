@@ -0,0 +1,12 @@
+package com.ssafy.recode.global.enums;
+
+/**
+ * 답변 처리 상태
+ * UPLOADED → TRANSCRIBED → SCORED, 어느 단계든 실패하면 FAILED
+ */
+public enum AnswerStatus {
+  UPLOADED,    // 업로드 완료, STT 대기/진행 중
+  TRANSCRIBED, // STT 완료, 평가 대기/진행 중
+  SCORED,      // 평가·저장 완료 (설문은 STT 결과 저장 시 완료)
+  FAILED       // 처리 실패 (답변 텍스트가 있으면 평가 단계, 없으면 STT 단계에서 실패)
+}
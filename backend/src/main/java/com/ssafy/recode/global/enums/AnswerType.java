@@ -7,5 +7,6 @@ public enum AnswerType {
   BASIC,
   PERSONAL,
   COGNITIVE_AUDIO,
-  COGNITIVE_IMAGE
+  COGNITIVE_IMAGE,
+  SURVEY
 }
@@ -32,7 +32,30 @@ public enum ErrorCode {
     ROLE_ELDER_ONLY_ACCESS_ERROR(HttpStatus.FORBIDDEN, "해당 기능은 노인 사용자만 사용할 수 있습니다."),
     LINK_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 연동 요청을 찾을 수 없습니다."),
     LINK_NOT_FOUND(HttpStatus.NOT_FOUND, "연동된 관계를 찾을 수 없습니다."),
-    LINK_ALREADY_RESPONDED(HttpStatus.BAD_REQUEST, "이미 처리된 연동 요청입니다.");
+    LINK_ALREADY_RESPONDED(HttpStatus.BAD_REQUEST, "이미 처리된 연동 요청입니다."),
+
+    //MEDIA
+    MEDIA_KEY_INVALID(HttpStatus.BAD_REQUEST, "업로드 경로가 올바르지 않습니다."),
+    MEDIA_KEY_FORBIDDEN(HttpStatus.FORBIDDEN, "본인이 발급받은 업로드만 등록할 수 있습니다."),
+    MEDIA_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "업로드된 미디어를 찾을 수 없습니다."),
+    MEDIA_FORMAT_INVALID(HttpStatus.BAD_REQUEST, "지원하지 않거나 손상된 영상 파일입니다."),
+    MEDIA_TOO_LONG(HttpStatus.BAD_REQUEST, "영상 길이가 허용 범위를 초과했습니다."),
+
+    //UPLOAD
+    UPLOAD_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "업로드 세션이 없거나 만료되었습니다."),
+    UPLOAD_SESSION_FORBIDDEN(HttpStatus.FORBIDDEN, "본인의 업로드 세션만 사용할 수 있습니다."),
+    UPLOAD_SIZE_INVALID(HttpStatus.BAD_REQUEST, "업로드 크기 또는 청크 크기가 올바르지 않습니다."),
+    UPLOAD_CHUNK_INVALID(HttpStatus.BAD_REQUEST, "청크 오프셋 또는 길이가 올바르지 않습니다."),
+    UPLOAD_INCOMPLETE(HttpStatus.CONFLICT, "아직 업로드되지 않은 청크가 있습니다."),
+    UPLOAD_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    //ANSWER
+    ANSWER_NOT_FOUND(HttpStatus.NOT_FOUND, "답변을 찾을 수 없습니다."),
+    ANSWER_NOT_RETRYABLE(HttpStatus.CONFLICT, "실패한 답변만 다시 처리할 수 있습니다."),
+    ANSWER_PIPELINE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "답변 처리 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+    //PERSONAL
+    PERSONAL_QUESTION_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "개인화 질문 생성 요청이 많습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -4,6 +4,7 @@ import static com.ssafy.recode.global.constant.AuthConstant.KAKAO;
 
 import com.ssafy.recode.domain.auth.entity.User;
 import com.ssafy.recode.domain.auth.repository.UserRepository;
+import com.ssafy.recode.domain.auth.service.UserPrincipalCache;
 import com.ssafy.recode.global.enums.Provider;
 import com.ssafy.recode.global.enums.Role;
 import com.ssafy.recode.global.oauth.oauthResponse.KakaoResponse;
@@ -33,6 +34,7 @@ import org.springframework.stereotype.Service;
 public class OAuth2UserServiceImpl extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * OAuth2 로그인 성공 후 호출되는 메서드
@@ -71,6 +73,7 @@ public class OAuth2UserServiceImpl extends DefaultOAuth2UserService {
             regularUser.setProviderId(providerId);
             regularUser.setName(oAuth2User.getName());
             userRepository.save(regularUser);
+            userPrincipalCache.evict(regularUser.getUuid());
             return new OAuth2UserImpl(regularUser);
         }else {
             // 1-2. 일반 계정이 없다면, 소셜 정보로 신규 가입 처리
@@ -0,0 +1,158 @@
+package com.ssafy.recode.global.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+/**
+ * ExternalApiResilience
+ *
+ * Gemini/Clova 호출에 공급자별 서킷 브레이커, 동시 호출 제한(bulkhead), 재시도를 적용합니다.
+ * - 재시도: 429/5xx·연결 실패만, 지수 백오프 + 지터 (시도마다 서킷/벌크헤드를 다시 통과)
+ * - 서킷이 열려 있거나 동시 호출이 가득 차면 네트워크 호출 없이 바로 실패 → 스레드를 붙잡지 않음
+ * - 서킷/벌크헤드 설정은 resilience4j.* 프로퍼티, 상태/호출 수는 resilience4j_* 메트릭
+ * - 상태 전환은 external.circuitbreaker.transitions{name, from, to}, 재시도는 external.retries{provider}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalApiResilience {
+
+  public static final String GEMINI = "gemini";
+  public static final String CLOVA = "clova";
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+  private final MeterRegistry meterRegistry;
+
+  @Value("${external.retry.max-attempts:3}")
+  private int maxAttempts;
+
+  @Value("${external.retry.min-backoff-ms:500}")
+  private long minBackoffMs;
+
+  @Value("${external.retry.max-backoff-ms:5000}")
+  private long maxBackoffMs;
+
+  @Value("${external.retry.jitter:0.5}")
+  private double jitter;
+
+  @PostConstruct
+  void registerTransitionMetrics() {
+    for (String name : new String[]{GEMINI, CLOVA}) {
+      circuitBreakerRegistry.circuitBreaker(name).getEventPublisher()
+          .onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("⚡ {} 서킷 상태 전환 {} → {}", name,
+                transition.getFromState(), transition.getToState());
+            meterRegistry.counter("external.circuitbreaker.transitions",
+                "name", name,
+                "from", transition.getFromState().name(),
+                "to", transition.getToState().name()).increment();
+          });
+    }
+  }
+
+  /** Gemini 단건 호출 (재시도 포함) */
+  public <T> Mono<T> gemini(Mono<T> call) {
+    return guard(GEMINI, call).retryWhen(retry(GEMINI));
+  }
+
+  /**
+   * Gemini 스트리밍 호출 — 이미 일부를 내보낸 뒤 재시도하면 중복이 생기므로 재시도하지 않음
+   */
+  public <T> Flux<T> gemini(Flux<T> call) {
+    return call
+        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker(GEMINI)))
+        .transformDeferred(BulkheadOperator.of(bulkhead(GEMINI)));
+  }
+
+  /** Clova 호출 (재시도 포함) */
+  public <T> Mono<T> clova(Mono<T> call) {
+    return guard(CLOVA, call).retryWhen(retry(CLOVA));
+  }
+
+  /** 서킷이 열려 있어 호출이 바로 거절되는 상태인지 */
+  public boolean isOpen(String name) {
+    CircuitBreaker.State state = circuitBreaker(name).getState();
+    return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+  }
+
+  /**
+   * 외부 서비스 장애(서킷 열림, 동시 호출 초과, 재시도 소진, 429/5xx, 연결 실패/타임아웃)로 인한 실패인지
+   * — 요청을 보관했다가 나중에 다시 처리할 수 있는 경우
+   */
+  public static boolean isUnavailable(Throwable throwable) {
+    for (Throwable t = throwable; t != null; t = t.getCause()) {
+      if (t instanceof CallNotPermittedException
+          || t instanceof BulkheadFullException
+          || t instanceof WebClientRequestException
+          || t instanceof TimeoutException
+          || Exceptions.isRetryExhausted(t)) {
+        return true;
+      }
+      if (t instanceof WebClientResponseException e && isRetryableStatus(e.getStatusCode().value())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isRetryableStatus(int status) {
+    return status == 429 || status >= 500;
+  }
+
+  private <T> Mono<T> guard(String name, Mono<T> call) {
+    return call
+        .transformDeferred(CircuitBreakerOperator.of(circuitBreaker(name)))
+        .transformDeferred(BulkheadOperator.of(bulkhead(name)));
+  }
+
+  private RetryBackoffSpec retry(String name) {
+    return Retry.backoff(Math.max(0, maxAttempts - 1), Duration.ofMillis(minBackoffMs))
+        .maxBackoff(Duration.ofMillis(maxBackoffMs))
+        .jitter(jitter)
+        .filter(ExternalApiResilience::isRetryable)
+        .doBeforeRetry(signal -> {
+          meterRegistry.counter("external.retries", "provider", name).increment();
+          log.warn("{} 호출 재시도 #{}: {}", name, signal.totalRetries() + 1,
+              signal.failure().toString());
+        });
+  }
+
+  /** 재시도 대상: 429/5xx 응답, 연결 실패 (서킷 열림/동시 호출 초과는 바로 실패) */
+  private static boolean isRetryable(Throwable t) {
+    if (t instanceof WebClientResponseException e) {
+      return isRetryableStatus(e.getStatusCode().value());
+    }
+    return t instanceof WebClientRequestException;
+  }
+
+  private CircuitBreaker circuitBreaker(String name) {
+    return circuitBreakerRegistry.circuitBreaker(name);
+  }
+
+  private Bulkhead bulkhead(String name) {
+    return bulkheadRegistry.bulkhead(name);
+  }
+}
@@ -0,0 +1,21 @@
+package com.ssafy.recode.global.resilience;
+
+import java.util.function.Predicate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * 서킷 브레이커 실패율에 포함할 예외 판단
+ * - 429/5xx, 연결 실패, 타임아웃 등은 외부 서비스 장애로 기록
+ * - 그 밖의 4xx는 요청 자체의 문제이므로 장애로 보지 않음
+ * (resilience4j.circuitbreaker.configs.default.record-failure-predicate)
+ */
+public class ExternalFailurePredicate implements Predicate<Throwable> {
+
+  @Override
+  public boolean test(Throwable throwable) {
+    if (throwable instanceof WebClientResponseException e) {
+      return ExternalApiResilience.isRetryableStatus(e.getStatusCode().value());
+    }
+    return true;
+  }
+}
@@ -0,0 +1,38 @@
+package com.ssafy.recode.global.resilience;
+
+/**
+ * HedgeBudget
+ *
+ * 헤지(중복) 요청 수를 전체 요청 수의 일정 비율 이하로 제한합니다.
+ * - 요청마다 onRequest, 헤지를 보내기 직전에 tryAcquire
+ * - window건마다 두 카운터를 절반으로 줄여 최근 비율 기준으로 판단
+ */
+public class HedgeBudget {
+
+  private final double maxRatio;
+  private final int window;
+  private double requests;
+  private double hedges;
+
+  public HedgeBudget(double maxRatio, int window) {
+    this.maxRatio = maxRatio;
+    this.window = window;
+  }
+
+  public synchronized void onRequest() {
+    requests++;
+    if (requests >= window) {
+      requests /= 2;
+      hedges /= 2;
+    }
+  }
+
+  /** 헤지 요청을 보내도 비율 상한을 넘지 않으면 차감하고 true */
+  public synchronized boolean tryAcquire() {
+    if (hedges + 1 > maxRatio * requests) {
+      return false;
+    }
+    hedges++;
+    return true;
+  }
+}
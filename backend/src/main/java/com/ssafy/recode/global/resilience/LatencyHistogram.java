@@ -0,0 +1,93 @@
+package com.ssafy.recode.global.resilience;
+
+import java.util.Arrays;
+
+/**
+ * LatencyHistogram
+ *
+ * 최근 응답 시간 분포를 고정 크기 메모리로 추적하는 가벼운 히스토그램입니다.
+ * - 버킷 경계는 1ms부터 25%씩 커지는 로그 스케일 (상대 오차 ≤ 25%, 최대 약 2분)
+ * - decay-every건을 기록할 때마다 모든 버킷을 절반으로 줄여 오래된 표본의 영향을 낮춤
+ * - percentile은 해당 분위수가 속한 버킷의 상한을 반환 (과소 추정하지 않도록)
+ */
+public class LatencyHistogram {
+
+  private static final double GROWTH = 1.25;
+  private static final long MAX_MILLIS = 120_000;
+  private static final long[] BOUNDS = bounds();
+
+  private final long[] counts = new long[BOUNDS.length];
+  private final int decayEvery;
+  private long total;
+  private long sinceDecay;
+
+  public LatencyHistogram(int decayEvery) {
+    if (decayEvery < 1) {
+      throw new IllegalArgumentException("decayEvery must be positive");
+    }
+    this.decayEvery = decayEvery;
+  }
+
+  /** 응답 시간(ms) 기록 */
+  public synchronized void record(long millis) {
+    counts[bucketOf(millis)]++;
+    total++;
+    if (++sinceDecay >= decayEvery) {
+      decay();
+    }
+  }
+
+  /** 현재 반영된 표본 수 (감쇠 후 값) */
+  public synchronized long count() {
+    return total;
+  }
+
+  /**
+   * p 분위수 응답 시간(ms), 표본이 없으면 -1
+   * @param p 0 초과 1 이하 (예: 0.95)
+   */
+  public synchronized long percentile(double p) {
+    if (total == 0) {
+      return -1;
+    }
+    long rank = (long) Math.ceil(p * total);
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return BOUNDS[i];
+      }
+    }
+    return BOUNDS[BOUNDS.length - 1];
+  }
+
+  private void decay() {
+    total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] >>= 1;
+      total += counts[i];
+    }
+    sinceDecay = 0;
+  }
+
+  /** millis 이상인 첫 경계의 버킷 */
+  static int bucketOf(long millis) {
+    int index = Arrays.binarySearch(BOUNDS, Math.max(1, millis));
+    int bucket = index >= 0 ? index : -index - 1;
+    return Math.min(bucket, BOUNDS.length - 1);
+  }
+
+  private static long[] bounds() {
+    long[] bounds = new long[64];
+    int n = 0;
+    double bound = 1;
+    long last = 0;
+    while (last < MAX_MILLIS) {
+      long rounded = Math.max(last + 1, Math.round(bound));
+      bounds[n++] = rounded;
+      last = rounded;
+      bound *= GROWTH;
+    }
+    return Arrays.copyOf(bounds, n);
+  }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.recode.global.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RequestHedger
+ *
+ * 꼬리 지연(p99)을 줄이기 위해, 응답이 최근 지연 분포의 percentile보다 늦으면 같은 요청을 한 번 더 보내고
+ * 먼저 도착한 응답을 사용합니다. 늦은 쪽은 취소합니다.
+ * - 분포: LatencyHistogram (성공 응답만 기록), min-samples 미만이면 헤지하지 않음
+ * - 비용 상한: HedgeBudget으로 헤지 요청 수를 전체의 max-ratio 이하로 제한
+ * - 헤지 요청의 실패는 무시하고 원 요청 결과를 기다림, 원 요청이 실패하면 그대로 실패
+ * - 지표: llm.hedge{result=sent|won|denied}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RequestHedger {
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${gemini.hedge.enabled:false}")
+  private boolean enabled;
+
+  /** 이 분위수의 지연을 넘으면 헤지 요청 */
+  @Value("${gemini.hedge.percentile:0.95}")
+  private double percentile;
+
+  @Value("${gemini.hedge.max-ratio:0.05}")
+  private double maxRatio;
+
+  @Value("${gemini.hedge.min-samples:50}")
+  private int minSamples;
+
+  /** 헤지 대기 시간 하한 (ms) — 분포가 매우 짧을 때 불필요한 중복 요청 방지 */
+  @Value("${gemini.hedge.min-delay-ms:200}")
+  private long minDelayMs;
+
+  @Value("${gemini.hedge.decay-every:1000}")
+  private int decayEvery;
+
+  private LatencyHistogram histogram;
+  private HedgeBudget budget;
+
+  @PostConstruct
+  void init() {
+    histogram = new LatencyHistogram(decayEvery);
+    budget = new HedgeBudget(maxRatio, decayEvery);
+    meterRegistry.gauge("llm.hedge.delay.ms", this, hedger -> hedger.histogram.percentile(percentile));
+  }
+
+  /**
+   * call을 실행하고, 느리면 한 번 더 실행해 먼저 온 값을 반환
+   * @param call 호출할 때마다 새 요청을 만드는 Mono 공급자 (값 또는 오류로 끝나야 함)
+   */
+  public <T> Mono<T> hedge(Supplier<Mono<T>> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    budget.onRequest();
+    Mono<T> primary = timed(call);
+    if (histogram.count() < minSamples) {
+      return primary;
+    }
+    Duration delay = Duration.ofMillis(Math.max(minDelayMs, histogram.percentile(percentile)));
+
+    Mono<T> backup = Mono.delay(delay)
+        .flatMap(tick -> {
+          if (!budget.tryAcquire()) {
+            count("denied");
+            return Mono.<T>never();
+          }
+          count("sent");
+          return timed(call)
+              .doOnNext(value -> count("won"))
+              .onErrorResume(e -> {
+                log.debug("헤지 요청 실패 (무시): {}", e.toString());
+                return Mono.never();
+              });
+        });
+
+    // 먼저 값을 낸 쪽을 사용하고 나머지는 취소 (원 요청의 오류는 바로 전파)
+    return Flux.merge(primary, backup).next();
+  }
+
+  private <T> Mono<T> timed(Supplier<Mono<T>> call) {
+    return Mono.defer(() -> {
+      long start = System.nanoTime();
+      return call.get()
+          .doOnNext(value -> histogram.record((System.nanoTime() - start) / 1_000_000));
+    });
+  }
+
+  private void count(String result) {
+    meterRegistry.counter("llm.hedge", "result", result).increment();
+  }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.recode.global.security.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 조회 대상 노인 ID (Long)
+ * - 노인: 본인 ID
+ * - 보호자: ?elderId= 로 고른 연동 노인, 없으면 가장 먼저 연동된 노인
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SubjectElder {
+}
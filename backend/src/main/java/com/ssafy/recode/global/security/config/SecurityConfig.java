@@ -10,9 +10,12 @@ import com.ssafy.recode.global.security.filter.JWTLogoutFilter;
 import com.ssafy.recode.global.security.filter.JWTRefreshFilter;
 import com.ssafy.recode.global.security.util.FilterResponseUtils;
 import com.ssafy.recode.global.security.util.JWTUtils;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -55,6 +58,8 @@ public class SecurityConfig {
 
   private final FilterResponseUtils filterResponseUtils;
 
+  private final Environment environment;
+
   /**
    * 비밀번호 암호화를 위한 BCrypt 빈 등록
    */
@@ -83,6 +88,11 @@ public class SecurityConfig {
                                          RefreshTokenService refreshTokenService) throws Exception {
 
     JWTLoginFilter jwtLoginFilter = new JWTLoginFilter(authenticationManager, jwtUtil, refreshTokenService);
+    // 로컬 Clova 대역은 clova-stub 프로파일에서만 인증 없이 열어 둠 (아래 anyRequest보다 먼저 등록)
+    boolean clovaStub = environment.acceptsProfiles(Profiles.of("clova-stub"));
+    if (clovaStub) {
+      http.authorizeHttpRequests(auth -> auth.requestMatchers("/stub/clova/**").permitAll());
+    }
 
     // JWT 커스텀 필터 등록
 //    http
@@ -114,7 +124,7 @@ public class SecurityConfig {
 
             // 커스텀 JWT 필터 등록
             .addFilterBefore(jwtLoginFilter, UsernamePasswordAuthenticationFilter.class)
-            .addFilterAfter(new JWTAccessFilter(jwtUtil, filterResponseUtils),
+            .addFilterAfter(new JWTAccessFilter(jwtUtil, filterResponseUtils, clovaStub),
                     OAuth2LoginAuthenticationFilter.class)
             .addFilterAfter(new JWTRefreshFilter(refreshTokenRepository, filterResponseUtils),
                     OAuth2LoginAuthenticationFilter.class)
@@ -130,6 +140,8 @@ public class SecurityConfig {
 
             // 인가 정책
             .authorizeHttpRequests(auth -> auth
+                    // SSE 등 비동기 디스패치는 최초 요청에서 이미 인증됨
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                     // Swagger & Docs & favicon & error 페이지
                     .requestMatchers(
                             "/favicon.ico",
@@ -147,7 +159,8 @@ public class SecurityConfig {
                             "/api/user/register",
                             "/api/reissue",
                             "/login/oauth2/code/**",
-                            "/index.html"
+                            "/index.html",
+                            "/api/stt/callback"
                     ).permitAll()
                     // 나머지 요청은 인증 필요
                     .anyRequest().authenticated()
@@ -1,6 +1,7 @@
 package com.ssafy.recode.global.security.config;
 
 import com.ssafy.recode.global.security.resolver.CustomAuthenticationPrincipalArgumentResolver;
+import com.ssafy.recode.global.security.resolver.SubjectElderArgumentResolver;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer{
 
     private final CustomAuthenticationPrincipalArgumentResolver argumentResolver;
+    private final SubjectElderArgumentResolver subjectElderArgumentResolver;
 
     /**
      * URL 경로 슬래시 허용 여부 설정
@@ -43,6 +45,7 @@ public class WebConfig implements WebMvcConfigurer{
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(argumentResolver);
+        resolvers.add(subjectElderArgumentResolver);
     }
 
     // Filter 수준에서 동작하기 위한 CorsConfigurationSource를 구성하고 적용하자.
@@ -41,6 +41,8 @@ public class JWTAccessFilter extends OncePerRequestFilter {
 
     private final JWTUtils jwtUtils;
     private final FilterResponseUtils filterResponseUtils;
+    // clova-stub 프로파일일 때만 로컬 Clova 대역 경로를 인증에서 제외
+    private final boolean clovaStubEnabled;
 
     /**
      * 요청마다 JWT 토큰을 검사하고, 유효한 경우 인증 정보를 SecurityContext에 등록합니다.
@@ -53,7 +55,7 @@ public class JWTAccessFilter extends OncePerRequestFilter {
         String uri = request.getRequestURI();
 
         // 인증 제외 대상 경로
-        if (isUrlLogin(uri) || isUrlOAuth2(uri) || isReissue(uri)) {
+        if (isUrlLogin(uri) || isUrlOAuth2(uri) || isReissue(uri) || isExternalCallback(uri)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -150,4 +152,12 @@ public class JWTAccessFilter extends OncePerRequestFilter {
         return requestUri.matches("^\\/api/reissue(?:\\/.*)?$");
     }
 
+    /**
+     * 외부 서비스 콜백(자체 시크릿으로 검증)과 로컬 Clova 대역(clova-stub 프로파일)은 필터 적용 제외
+     */
+    private boolean isExternalCallback(String requestUri) {
+        return requestUri.equals("/api/stt/callback")
+                || (clovaStubEnabled && requestUri.startsWith("/stub/clova/"));
+    }
+
 }
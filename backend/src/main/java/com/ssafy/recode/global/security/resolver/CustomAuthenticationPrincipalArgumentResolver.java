@@ -1,8 +1,10 @@
 package com.ssafy.recode.global.security.resolver;
 
 import com.ssafy.recode.domain.auth.entity.User;
-import com.ssafy.recode.domain.auth.repository.UserRepository;
+import com.ssafy.recode.domain.auth.service.UserPrincipalCache;
 import com.ssafy.recode.global.dto.CustomUserDetails;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
 import com.ssafy.recode.global.security.annotation.LoginUser;
 import com.ssafy.recode.global.security.util.JWTUtils;
 import lombok.AllArgsConstructor;
@@ -14,6 +16,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -22,9 +25,12 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Slf4j
 public class CustomAuthenticationPrincipalArgumentResolver implements HandlerMethodArgumentResolver {
 
+    /** 한 요청 안에서 조회한 로그인 사용자 (@LoginUser, @SubjectElder 공용) */
+    private static final String LOGIN_USER_ATTRIBUTE = CustomAuthenticationPrincipalArgumentResolver.class.getName() + ".user";
+
     private final JWTUtils jwtUtils;
 
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -34,6 +40,18 @@ public class CustomAuthenticationPrincipalArgumentResolver implements HandlerMet
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        return resolveUser(webRequest);
+    }
+
+    /**
+     * 로그인 사용자 조회 — 같은 요청에서 두 번째부터는 요청 속성에 담아 둔 값을 재사용
+     */
+    public User resolveUser(NativeWebRequest webRequest) {
+        Object cached = webRequest.getAttribute(LOGIN_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User cachedUser) {
+            return cachedUser;
+        }
+
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (isAuthenticationUser(authentication)) {
@@ -45,6 +63,7 @@ public class CustomAuthenticationPrincipalArgumentResolver implements HandlerMet
 
         log.info("user name = {}", user.getName());
 
+        webRequest.setAttribute(LOGIN_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
         return user;
     }
 
@@ -56,7 +75,12 @@ public class CustomAuthenticationPrincipalArgumentResolver implements HandlerMet
 
         String uuid = userDetails.getUUID();
 
-        return userRepository.findByUuid(uuid).orElseThrow();
+        // uuid → User 조회는 노드 캐시 경유 (회원 정보 변경 시 무효화)
+        User user = userPrincipalCache.get(uuid);
+        if (user == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND_ERROR);
+        }
+        return user;
     }
 
     private boolean isAuthenticationUser(Authentication authentication) {
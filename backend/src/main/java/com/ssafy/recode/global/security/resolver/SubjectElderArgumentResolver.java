@@ -0,0 +1,69 @@
+package com.ssafy.recode.global.security.resolver;
+
+import com.ssafy.recode.domain.auth.entity.User;
+import com.ssafy.recode.domain.link.service.GuardianLinkCache;
+import com.ssafy.recode.global.error.CustomException;
+import com.ssafy.recode.global.error.ErrorCode;
+import com.ssafy.recode.global.security.annotation.SubjectElder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @SubjectElder Long 파라미터 리졸버
+ * - 로그인 사용자는 @LoginUser 리졸버가 요청 안에서 조회한 값을 재사용
+ * - 보호자의 연동 목록은 GuardianLinkCache에서 조회 (요청마다 조인하지 않음)
+ * - 결정된 노인 ID는 요청 속성에 담아 같은 요청에서 다시 계산하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class SubjectElderArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String ELDER_ID_PARAM = "elderId";
+    private static final String SUBJECT_ELDER_ATTRIBUTE = SubjectElderArgumentResolver.class.getName() + ".elderId";
+
+    private final CustomAuthenticationPrincipalArgumentResolver loginUserResolver;
+    private final GuardianLinkCache guardianLinkCache;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(SubjectElder.class)
+            && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(SUBJECT_ELDER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof Long cachedElderId) {
+            return cachedElderId;
+        }
+
+        User user = loginUserResolver.resolveUser(webRequest);
+        if (user == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED_USER_ERROR);
+        }
+
+        Long elderId = guardianLinkCache.resolveElderId(user, requestedElderId(webRequest));
+        webRequest.setAttribute(SUBJECT_ELDER_ATTRIBUTE, elderId, RequestAttributes.SCOPE_REQUEST);
+        return elderId;
+    }
+
+    /** 보호자가 고른 노인 (?elderId=), 없으면 null */
+    private Long requestedElderId(NativeWebRequest webRequest) {
+        String value = webRequest.getParameter(ELDER_ID_PARAM);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorCode.LINK_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ssafy.recode.global.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * JsonStreamReader
+ *
+ * 응답 JSON 전체를 트리(JsonNode)로 만들지 않고, 경로 하나의 문자열 값만 스트리밍으로 읽습니다.
+ * - 경로 요소는 필드 이름 또는 배열 인덱스("0", "1" …)
+ * - 경로에 없는 객체/배열은 skipChildren으로 건너뛰어, 큰 응답(Clova segments 등)도 할당 없이 통과
+ *
+ * 예) Gemini 응답 텍스트: readText(factory, json, "candidates", "0", "content", "parts", "0", "text")
+ */
+public final class JsonStreamReader {
+
+  private JsonStreamReader() {
+  }
+
+  /**
+   * @return 경로의 값 (문자열이 아니면 텍스트 표현), 경로가 없거나 null이면 null
+   */
+  public static String readText(JsonFactory factory, String json, String... path) throws IOException {
+    try (JsonParser parser = factory.createParser(json)) {
+      if (parser.nextToken() == null) {
+        return null;
+      }
+      for (String element : path) {
+        if (!moveTo(parser, element)) {
+          return null;
+        }
+      }
+      JsonToken token = parser.currentToken();
+      if (token == JsonToken.VALUE_NULL || token.isStructStart()) {
+        return null;
+      }
+      return parser.getText();
+    }
+  }
+
+  /**
+   * 현재 컨테이너(객체/배열) 안에서 element 위치의 값으로 이동
+   */
+  private static boolean moveTo(JsonParser parser, String element) throws IOException {
+    JsonToken container = parser.currentToken();
+    if (container == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        parser.nextToken();
+        if (name.equals(element)) {
+          return true;
+        }
+        parser.skipChildren();
+      }
+      return false;
+    }
+    if (container == JsonToken.START_ARRAY) {
+      int index;
+      try {
+        index = Integer.parseInt(element);
+      } catch (NumberFormatException e) {
+        return false;
+      }
+      for (int i = 0; parser.nextToken() != JsonToken.END_ARRAY; i++) {
+        if (i == index) {
+          return true;
+        }
+        parser.skipChildren();
+      }
+      return false;
+    }
+    return false;
+  }
+}
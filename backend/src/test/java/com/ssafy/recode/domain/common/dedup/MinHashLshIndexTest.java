@@ -0,0 +1,60 @@
+package com.ssafy.recode.domain.common.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.recode.domain.common.dedup.MinHashLshIndex.Match;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MinHashLshIndexTest {
+
+  private static MinHashLshIndex newIndex() {
+    return new MinHashLshIndex(20, 4, 0.65);
+  }
+
+  @Test
+  @DisplayName("표현만 바뀐 질문을 유사 중복으로 찾는다")
+  void findsRewordedDuplicate() {
+    MinHashLshIndex index = newIndex();
+    index.add("다니셨던 초등학교 이름은?");
+
+    Optional<Match> match = index.findNearDuplicate("당신이 다녔던 초등학교의 이름은 무엇이었나요?");
+
+    assertThat(match.isPresent()).isTrue();
+    assertThat(match.get().question()).isEqualTo("다니셨던 초등학교 이름은?");
+    assertThat(match.get().similarity()).isGreaterThan(0.65);
+  }
+
+  @Test
+  @DisplayName("대상이 다른 질문은 중복으로 보지 않는다")
+  void keepsDifferentQuestions() {
+    MinHashLshIndex index = newIndex();
+    index.add("당신이 다녔던 초등학교의 이름은 무엇이었나요?");
+    index.add("결혼하신 해는 언제였나요?");
+
+    assertThat(index.findNearDuplicate("당신이 다녔던 중학교의 이름은 무엇이었나요?").isPresent())
+        .isFalse();
+    assertThat(index.findNearDuplicate("처음 일했던 회사 이름은 무엇이었나요?").isPresent())
+        .isFalse();
+  }
+
+  @Test
+  @DisplayName("addIfAbsent는 새 질문만 추가하고 이후 조회에 바로 반영한다")
+  void addsIncrementally() {
+    MinHashLshIndex index = newIndex();
+
+    assertThat(index.addIfAbsent("자녀는 몇 명인가요?").isPresent()).isFalse();
+    assertThat(index.addIfAbsent("자녀가 몇 명이었나요?").isPresent()).isTrue();
+    assertThat(index.addIfAbsent("고향은 어디인가요?").isPresent()).isFalse();
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("정렬된 shingle 집합의 Jaccard 유사도")
+  void computesJaccard() {
+    assertThat(MinHashLshIndex.jaccard(new int[]{1, 2, 3, 4}, new int[]{3, 4, 5, 6}))
+        .isEqualTo(2.0 / 6);
+    assertThat(MinHashLshIndex.jaccard(new int[]{}, new int[]{})).isEqualTo(0.0);
+  }
+}
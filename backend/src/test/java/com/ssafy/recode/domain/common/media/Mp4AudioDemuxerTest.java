@@ -0,0 +1,164 @@
+package com.ssafy.recode.domain.common.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.recode.domain.common.media.Mp4AudioDemuxer.AudioTrack;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Mp4AudioDemuxerTest {
+
+  // 오디오 샘플 5개: 청크1 = [0,1,2], 청크2 = [3,4]
+  private static final int[] AUDIO_SIZES = {10, 12, 9, 11, 8};
+
+  @Test
+  @DisplayName("비디오와 섞인 AAC 청크만 순서대로 모아 M4A로 쓴다")
+  void extractsInterleavedAudio() throws Exception {
+    byte[] source = sampleMp4();
+    AudioTrack track = Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(source));
+    assertThat(track).isNotNull();
+    assertThat(track.sampleCount()).isEqualTo(5);
+    assertThat(track.dataSize()).isEqualTo(50L);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long written = Mp4AudioDemuxer.writeM4a(ByteBuffer.wrap(source), track, Channels.newChannel(out));
+    byte[] m4a = out.toByteArray();
+    assertThat(written).isEqualTo((long) m4a.length);
+    assertThat(new String(m4a, 8, 4, StandardCharsets.US_ASCII)).isEqualTo("M4A ");
+
+    // 결과물을 다시 읽으면 하나의 청크에 같은 오디오 바이트가 들어 있어야 한다
+    AudioTrack rewritten = Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(m4a));
+    assertThat(rewritten).isNotNull();
+    assertThat(rewritten.chunkOffsets().length).isEqualTo(1);
+    int offset = (int) rewritten.chunkOffsets()[0];
+    byte[] audio = Arrays.copyOfRange(m4a, offset, offset + (int) rewritten.dataSize());
+    assertThat(Arrays.equals(audio, audioBytes())).isTrue();
+    assertThat(m4a.length).isLessThan(source.length);
+  }
+
+  @Test
+  @DisplayName("오디오 트랙이 없거나 조각 MP4면 null을 반환한다")
+  void returnsNullWhenUnsupported() {
+    byte[] videoOnly = concat(ftyp(), box("moov", concat(mvhd(), videoTrak(0))));
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(videoOnly))).isNull();
+
+    byte[] fragmented = concat(ftyp(), box("moov", concat(mvhd(), box("mvex", new byte[8]))));
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(fragmented))).isNull();
+
+    byte[] garbage = "not an mp4 at all".getBytes(StandardCharsets.US_ASCII);
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(garbage))).isNull();
+  }
+
+  @Test
+  @DisplayName("박스 크기로 담을 수 없는 entry_count는 배열을 만들기 전에 거절한다")
+  void rejectsEntryCountsLargerThanBox() {
+    byte[] hugeStco = concat(ftyp(), box("moov", concat(mvhd(), trak("soun", "mp4a",
+        box("stsc", ints(0, 1, 1, 1, 1)),
+        box("stsz", ints(0, 0, 1, 10)),
+        box("stco", ints(0, 0x7fffffff, 0))))));
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(hugeStco))).isNull();
+
+    byte[] negativeStsc = concat(ftyp(), box("moov", concat(mvhd(), trak("soun", "mp4a",
+        box("stsc", ints(0, 0x80000001, 1, 1, 1)),
+        box("stsz", ints(0, 0, 1, 10)),
+        box("stco", ints(0, 1, 0))))));
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(negativeStsc))).isNull();
+
+    byte[] hugeFixedSize = concat(ftyp(), box("moov", concat(mvhd(), trak("soun", "mp4a",
+        box("stsc", ints(0, 1, 1, 0x7fffffff, 1)),
+        box("stsz", ints(0, 1, 0x7fffffff)),
+        box("stco", ints(0, 1, 0))))));
+    assertThat(Mp4AudioDemuxer.findAudioTrack(ByteBuffer.wrap(hugeFixedSize))).isNull();
+  }
+
+  /**
+   * ftyp | moov(video trak, audio trak) | mdat(video 100B, audio 31B, video 100B, audio 19B)
+   */
+  private static byte[] sampleMp4() {
+    byte[] audio = audioBytes();
+    byte[] video = new byte[100];
+    Arrays.fill(video, (byte) 0x55);
+
+    byte[] ftyp = ftyp();
+    // moov 크기는 오프셋 값과 무관하므로 한 번 만들어 길이를 구한 뒤 다시 만든다
+    int moovSize = box("moov", concat(mvhd(), videoTrak(0), audioTrak(0, 0))).length;
+    int mdatStart = ftyp.length + moovSize + 8;
+    int audio1 = mdatStart + 100;
+    int audio2 = audio1 + 31 + 100;
+
+    byte[] moov = box("moov", concat(mvhd(), videoTrak(mdatStart), audioTrak(audio1, audio2)));
+    byte[] mdat = box("mdat", concat(video, Arrays.copyOfRange(audio, 0, 31),
+        video, Arrays.copyOfRange(audio, 31, 50)));
+    return concat(ftyp, moov, mdat);
+  }
+
+  private static byte[] audioBytes() {
+    byte[] audio = new byte[50];
+    for (int i = 0; i < audio.length; i++) {
+      audio[i] = (byte) (i + 1);
+    }
+    return audio;
+  }
+
+  private static byte[] videoTrak(int offset) {
+    return trak("vide", "avc1",
+        box("stsc", ints(0, 1, 1, 1, 1)),
+        box("stsz", ints(0, 100, 1)),
+        box("stco", ints(0, 1, offset)));
+  }
+
+  private static byte[] audioTrak(int chunk1, int chunk2) {
+    int[] stsz = new int[3 + AUDIO_SIZES.length];
+    stsz[2] = AUDIO_SIZES.length;
+    System.arraycopy(AUDIO_SIZES, 0, stsz, 3, AUDIO_SIZES.length);
+    return trak("soun", "mp4a",
+        box("stsc", ints(0, 2, 1, 3, 1, 2, 2, 1)),
+        box("stsz", ints(stsz)),
+        box("stco", ints(0, 2, chunk1, chunk2)));
+  }
+
+  private static byte[] trak(String handler, String codec, byte[] stsc, byte[] stsz, byte[] stco) {
+    byte[] hdlr = box("hdlr", concat(ints(0, 0), handler.getBytes(StandardCharsets.US_ASCII),
+        new byte[13]));
+    byte[] mdhd = box("mdhd", ints(0, 0, 0, 44100, 44100 * 2, 0));
+    byte[] stsd = box("stsd", concat(ints(0, 1), box(codec, new byte[28])));
+    byte[] stbl = box("stbl", concat(stsd, box("stts", ints(0, 1, 5, 1024)), stsc, stsz, stco));
+    return box("trak", box("mdia", concat(mdhd, hdlr, box("minf", stbl))));
+  }
+
+  private static byte[] ftyp() {
+    return box("ftyp", concat("isom".getBytes(StandardCharsets.US_ASCII), ints(512),
+        "isom".getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  private static byte[] mvhd() {
+    return box("mvhd", new byte[100]);
+  }
+
+  private static byte[] ints(int... values) {
+    ByteBuffer buf = ByteBuffer.allocate(values.length * 4);
+    for (int v : values) {
+      buf.putInt(v);
+    }
+    return buf.array();
+  }
+
+  private static byte[] box(String type, byte[] body) {
+    ByteBuffer buf = ByteBuffer.allocate(8 + body.length);
+    buf.putInt(8 + body.length).put(type.getBytes(StandardCharsets.US_ASCII)).put(body);
+    return buf.array();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+}
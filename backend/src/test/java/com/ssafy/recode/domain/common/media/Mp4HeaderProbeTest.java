@@ -0,0 +1,164 @@
+package com.ssafy.recode.domain.common.media;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ssafy.recode.domain.common.media.Mp4HeaderProbe.State;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class Mp4HeaderProbeTest {
+
+  private static final long MAX_MS = 10 * 60 * 1000;
+
+  @Test
+  @DisplayName("faststart MP4: ftyp/moov를 읽고 길이를 계산한다")
+  void acceptsFaststartMp4() {
+    byte[] file = concat(ftyp(), moov(mvhd(1000, 42_500)), box("mdat", new byte[1024]));
+
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(feedOneByOne(probe, file)).isEqualTo(State.ACCEPTED);
+    assertThat(probe.getContainer()).isEqualTo("mp4");
+    assertThat(probe.getMajorBrand()).isEqualTo("isom");
+    assertThat(probe.getDurationMs()).isEqualTo(42_500L);
+    // mdat을 읽기 전에 결론이 나야 한다
+    assertThat(probe.getPosition()).isLessThan(file.length - 1024);
+  }
+
+  @Test
+  @DisplayName("moov가 mdat 뒤에 있으면 mdat을 건너뛰고 판별한다")
+  void skipsMdatBeforeMoov() {
+    byte[] file = concat(ftyp(), box("mdat", new byte[4096]), moov(mvhd(600, 600 * 5)));
+
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    probe.feed(file, 0, 64);
+    assertThat(probe.getState()).isEqualTo(State.NEED_MORE);
+    long next = probe.nextBoxOffset();
+    assertThat(next).isEqualTo(ftyp().length + 8 + 4096);
+
+    probe.skipToNextBox();
+    assertThat(probe.feed(file, (int) next, file.length - (int) next)).isEqualTo(State.ACCEPTED);
+    assertThat(probe.getDurationMs()).isEqualTo(5_000L);
+  }
+
+  @Test
+  @DisplayName("최대 길이를 넘는 영상은 거절한다")
+  void rejectsTooLong() {
+    byte[] file = concat(ftyp(), moov(mvhd(1000, MAX_MS + 1)));
+
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(probe.feed(file, 0, file.length)).isEqualTo(State.REJECTED);
+    assertThat(probe.getRejectReason()).contains("길이");
+  }
+
+  @Test
+  @DisplayName("ms로 바꾸면 넘치거나 0이 되는 길이 값은 최대 길이 설정과 관계없이 거절한다")
+  void rejectsOverflowingOrZeroDuration() {
+    byte[] overflow = concat(ftyp(), moov(mvhdV1(1, Long.MAX_VALUE / 10)));
+    Mp4HeaderProbe unlimited = new Mp4HeaderProbe(0);
+    assertThat(unlimited.feed(overflow, 0, overflow.length)).isEqualTo(State.REJECTED);
+    assertThat(unlimited.getRejectReason()).contains("길이");
+    assertThat(unlimited.getDurationMs()).isNull();
+
+    byte[] subMillisecond = concat(ftyp(), moov(mvhd(1_000_000, 1)));
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(probe.feed(subMillisecond, 0, subMillisecond.length)).isEqualTo(State.REJECTED);
+  }
+
+  @Test
+  @DisplayName("MP4가 아닌 파일은 첫 헤더에서 거절한다")
+  void rejectsNonMp4() {
+    byte[] file = "<html><body>not a video</body></html>".getBytes(StandardCharsets.US_ASCII);
+
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(probe.feed(file, 0, file.length)).isEqualTo(State.REJECTED);
+    assertThat(probe.getPosition()).isEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("WebM(EBML)과 길이 0인 조각 MP4는 길이 미상으로 통과한다")
+  void acceptsWebmAndFragmentedMp4() {
+    Mp4HeaderProbe webm = new Mp4HeaderProbe(MAX_MS);
+    byte[] ebml = {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3, 0x01, 0x00};
+    assertThat(webm.feed(ebml, 0, ebml.length)).isEqualTo(State.ACCEPTED);
+    assertThat(webm.getContainer()).isEqualTo("webm");
+    assertThat(webm.getDurationMs()).isNull();
+
+    byte[] fragmented = concat(ftyp(), moov(mvhd(1000, 0)), box("moof", new byte[16]));
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(probe.feed(fragmented, 0, fragmented.length)).isEqualTo(State.ACCEPTED);
+    assertThat(probe.getDurationMs()).isNull();
+  }
+
+  @Test
+  @DisplayName("파일 앞 4바이트로 STT에 보낼 컨테이너를 판별한다")
+  void detectsContainerFromHead() {
+    assertThat(Mp4HeaderProbe.containerOf(new byte[] {0x1A, 0x45, (byte) 0xDF, (byte) 0xA3}))
+        .isEqualTo("webm");
+    assertThat(Mp4HeaderProbe.containerOf(Arrays.copyOf(ftyp(), 4))).isEqualTo("mp4");
+    assertThat(Mp4HeaderProbe.containerOf(new byte[2])).isEqualTo("mp4");
+  }
+
+  @Test
+  @DisplayName("moov 없이 끝난 파일은 finish에서 거절한다")
+  void rejectsMissingMoovOnFinish() {
+    byte[] file = concat(ftyp(), box("mdat", new byte[128]));
+
+    Mp4HeaderProbe probe = new Mp4HeaderProbe(MAX_MS);
+    assertThat(probe.feed(file, 0, file.length)).isEqualTo(State.NEED_MORE);
+    assertThat(probe.finish()).isEqualTo(State.REJECTED);
+  }
+
+  private static State feedOneByOne(Mp4HeaderProbe probe, byte[] data) {
+    for (int i = 0; i < data.length && probe.getState() == State.NEED_MORE; i++) {
+      probe.feed(data, i, 1);
+    }
+    return probe.getState();
+  }
+
+  private static byte[] ftyp() {
+    ByteBuffer body = ByteBuffer.allocate(16);
+    body.put("isom".getBytes(StandardCharsets.US_ASCII)).putInt(512);
+    body.put("isom".getBytes(StandardCharsets.US_ASCII)).put("mp41".getBytes(StandardCharsets.US_ASCII));
+    return box("ftyp", body.array());
+  }
+
+  private static byte[] mvhd(int timescale, long duration) {
+    ByteBuffer body = ByteBuffer.allocate(100);
+    body.putInt(0);              // version 0 + flags
+    body.putInt(0).putInt(0);    // creation / modification time
+    body.putInt(timescale);
+    body.putInt((int) duration);
+    return box("mvhd", body.array());
+  }
+
+  private static byte[] mvhdV1(int timescale, long duration) {
+    ByteBuffer body = ByteBuffer.allocate(112);
+    body.putInt(1 << 24);        // version 1 + flags
+    body.putLong(0).putLong(0);  // creation / modification time
+    body.putInt(timescale);
+    body.putLong(duration);
+    return box("mvhd", body.array());
+  }
+
+  private static byte[] moov(byte[] mvhd) {
+    return box("moov", concat(mvhd, box("trak", new byte[32])));
+  }
+
+  private static byte[] box(String type, byte[] body) {
+    ByteBuffer buf = ByteBuffer.allocate(8 + body.length);
+    buf.putInt(8 + body.length).put(type.getBytes(StandardCharsets.US_ASCII)).put(body);
+    return buf.array();
+  }
+
+  private static byte[] concat(byte[]... parts) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (byte[] part : parts) {
+      out.writeBytes(part);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.recode.domain.common.scoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KoreanAnswerMatcherTest {
+
+  @Test
+  @DisplayName("한글 음절을 초성/중성/종성 자모로 분해한다")
+  void decomposesSyllables() {
+    assertThat(KoreanAnswerMatcher.decompose("한글")).isEqualTo("ㅎㅏㄴㄱㅡㄹ");
+    assertThat(KoreanAnswerMatcher.decompose("a1가")).isEqualTo("a1ㄱㅏ");
+  }
+
+  @Test
+  @DisplayName("공백, 문장부호, 어절 끝 조사를 지우고 비교한다")
+  void normalizesParticlesAndSpaces() {
+    assertThat(KoreanAnswerMatcher.normalize("서울이에요!"))
+        .isEqualTo(KoreanAnswerMatcher.normalize("서울"));
+    assertThat(KoreanAnswerMatcher.normalize("사과 를"))
+        .isEqualTo(KoreanAnswerMatcher.normalize("사과"));
+    // 한 글자만 남는 경우 조사로 보지 않음
+    assertThat(KoreanAnswerMatcher.normalize("나이"))
+        .isEqualTo(KoreanAnswerMatcher.decompose("나이"));
+  }
+
+  @Test
+  @DisplayName("문장 안에 정답이 들어 있으면 유사도 1.0")
+  void matchesAnswerInsideSentence() {
+    assertThat(KoreanAnswerMatcher.similarity("음 그건 아마 사과였던 것 같아요", "사과"))
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("정답 후보 중 가장 가까운 것을 사용한다")
+  void usesBestAlternative() {
+    assertThat(KoreanAnswerMatcher.similarity("강아지요", "고양이|강아지|개"))
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("STT 오인식 한 글자는 높은 부분 점수를 받는다")
+  void toleratesSmallTranscriptionErrors() {
+    double similarity = KoreanAnswerMatcher.similarity("무궁화꼿", "무궁화꽃");
+    assertThat(similarity).isGreaterThan(0.8);
+    assertThat(similarity < 1.0).isTrue();
+  }
+
+  @Test
+  @DisplayName("관련 없는 답변은 낮은 유사도")
+  void rejectsUnrelatedAnswer() {
+    assertThat(KoreanAnswerMatcher.similarity("바다", "무궁화") < 0.3).isTrue();
+  }
+
+  @Test
+  @DisplayName("부정/모름 표현을 감지한다")
+  void detectsNegation() {
+    assertThat(KoreanAnswerMatcher.containsNegation("사과는 아니에요")).isTrue();
+    assertThat(KoreanAnswerMatcher.containsNegation("잘 모르겠어요")).isTrue();
+    assertThat(KoreanAnswerMatcher.containsNegation("사과입니다")).isFalse();
+  }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.recode.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  @DisplayName("표본이 없으면 분위수는 -1")
+  void emptyHistogram() {
+    assertThat(new LatencyHistogram(1000).percentile(0.95)).isEqualTo(-1L);
+  }
+
+  @Test
+  @DisplayName("p95는 꼬리 표본이 속한 버킷의 상한으로, 실제 값보다 25% 이상 크지 않다")
+  void percentileWithinBucketError() {
+    LatencyHistogram histogram = new LatencyHistogram(10_000);
+    for (int i = 0; i < 95; i++) {
+      histogram.record(800);
+    }
+    for (int i = 0; i < 5; i++) {
+      histogram.record(6000);
+    }
+
+    long p50 = histogram.percentile(0.5);
+    long p99 = histogram.percentile(0.99);
+    assertThat(p50 >= 800 && p50 <= 1000).isTrue();
+    assertThat(p99 >= 6000 && p99 <= 7500).isTrue();
+  }
+
+  @Test
+  @DisplayName("decay-every건마다 오래된 표본의 비중이 절반으로 줄어 최근 분포를 따라간다")
+  void decaysOldSamples() {
+    LatencyHistogram histogram = new LatencyHistogram(100);
+    for (int i = 0; i < 100; i++) {
+      histogram.record(5000);
+    }
+    for (int i = 0; i < 300; i++) {
+      histogram.record(500);
+    }
+
+    assertThat(histogram.percentile(0.9)).isLessThan(1000L);
+    assertThat(histogram.count()).isLessThan(200L);
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 값은 양 끝 버킷에 들어간다")
+  void clampsOutOfRange() {
+    assertThat(LatencyHistogram.bucketOf(0)).isEqualTo(0);
+    assertThat(LatencyHistogram.bucketOf(10_000_000)).isEqualTo(LatencyHistogram.bucketOf(120_000));
+  }
+}
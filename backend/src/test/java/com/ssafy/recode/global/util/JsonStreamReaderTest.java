@@ -0,0 +1,48 @@
+package com.ssafy.recode.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class JsonStreamReaderTest {
+
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  @Test
+  @DisplayName("Gemini 응답에서 candidates[0].content.parts[0].text를 읽는다")
+  void readsGeminiCandidateText() throws Exception {
+    String json = """
+        {"candidates":[{"content":{"role":"model","parts":[{"text":"85"},{"text":"x"}]},
+          "safetyRatings":[{"category":"A","probability":"NEGLIGIBLE"}]}],
+         "usageMetadata":{"promptTokenCount":10}}
+        """;
+
+    assertThat(JsonStreamReader.readText(FACTORY, json,
+        "candidates", "0", "content", "parts", "0", "text")).isEqualTo("85");
+  }
+
+  @Test
+  @DisplayName("앞에 있는 큰 배열/객체는 건너뛰고 뒤의 필드를 읽는다")
+  void skipsPrecedingStructures() throws Exception {
+    String json = """
+        {"segments":[{"start":0,"words":[[0,1,"a"],[1,2,"b"]]},{"start":2}],
+         "result":"COMPLETED","text":"서울입니다"}
+        """;
+
+    assertThat(JsonStreamReader.readText(FACTORY, json, "text")).isEqualTo("서울입니다");
+    assertThat(JsonStreamReader.readText(FACTORY, json, "segments", "1", "start")).isEqualTo("2");
+  }
+
+  @Test
+  @DisplayName("경로가 없거나 값이 null/객체이면 null")
+  void returnsNullForMissingPath() throws Exception {
+    String json = "{\"candidates\":[],\"token\":null,\"content\":{\"a\":1}}";
+
+    assertThat(JsonStreamReader.readText(FACTORY, json, "candidates", "0", "text")).isNull();
+    assertThat(JsonStreamReader.readText(FACTORY, json, "token")).isNull();
+    assertThat(JsonStreamReader.readText(FACTORY, json, "content")).isNull();
+    assertThat(JsonStreamReader.readText(FACTORY, json, "missing")).isNull();
+  }
+}
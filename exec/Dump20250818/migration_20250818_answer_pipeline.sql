@@ -0,0 +1,78 @@
+-- 2025-08-18 덤프 이후 스키마 변경 (기존 DB 업그레이드용, 한 번만 실행)
+-- 새로 설치하는 경우에는 이 디렉터리의 project_*.sql 덤프에 이미 반영되어 있으므로 실행하지 않음
+-- answer_timeline / user_activity_month 데이터는 애플리케이션 시작 시 기존 답변으로 백필됨
+
+--
+-- 답변 처리 상태: 업로드 직후 행 생성(answer NULL) → STT → 채점
+-- 기존 행은 모두 처리가 끝난 답변이므로 SCORED로 채운 뒤 기본값을 UPLOADED로 바꿈
+-- video_path는 mediaKey 하나당 한 행만 허용(UNIQUE) → 기존 데이터에 같은 video_path가 여러 행이면 먼저 정리
+--
+
+ALTER TABLE `basic_answers`
+  MODIFY `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
+  ADD COLUMN `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)' AFTER `video_path`,
+  ADD COLUMN `status` varchar(20) NOT NULL DEFAULT 'SCORED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)' AFTER `duration_ms`,
+  ADD UNIQUE KEY `idx_basic_answers_video_path` (`video_path`);
+ALTER TABLE `basic_answers` ALTER COLUMN `status` SET DEFAULT 'UPLOADED';
+
+ALTER TABLE `personal_answers`
+  MODIFY `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
+  ADD COLUMN `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)' AFTER `video_path`,
+  ADD COLUMN `status` varchar(20) NOT NULL DEFAULT 'SCORED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)' AFTER `duration_ms`,
+  ADD UNIQUE KEY `idx_personal_answers_video_path` (`video_path`);
+ALTER TABLE `personal_answers` ALTER COLUMN `status` SET DEFAULT 'UPLOADED';
+
+ALTER TABLE `cognitive_answers`
+  MODIFY `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
+  ADD COLUMN `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)' AFTER `video_path`,
+  ADD COLUMN `status` varchar(20) NOT NULL DEFAULT 'SCORED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)' AFTER `duration_ms`,
+  ADD UNIQUE KEY `idx_cognitive_answers_video_path` (`video_path`);
+ALTER TABLE `cognitive_answers` ALTER COLUMN `status` SET DEFAULT 'UPLOADED';
+
+ALTER TABLE `survey_answers`
+  MODIFY `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
+  ADD COLUMN `video_path` varchar(255) DEFAULT NULL COMMENT '대답 영상(S3) 주소' AFTER `answer`,
+  ADD COLUMN `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)' AFTER `video_path`,
+  ADD COLUMN `status` varchar(20) NOT NULL DEFAULT 'SCORED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)' AFTER `duration_ms`,
+  ADD UNIQUE KEY `idx_survey_answers_video_path` (`video_path`);
+ALTER TABLE `survey_answers` ALTER COLUMN `status` SET DEFAULT 'UPLOADED';
+
+--
+-- 로컬 선채점용 정답 후보
+--
+
+ALTER TABLE `basic_questions`
+  ADD COLUMN `expected_answers` text COMMENT '정답 후보 (로컬 선채점용, 없으면 NULL)' AFTER `content`;
+
+ALTER TABLE `cognitive_questions`
+  ADD COLUMN `expected_answers` text COMMENT '정답 후보 (로컬 선채점용, 없으면 NULL)' AFTER `content`;
+
+--
+-- 캘린더 읽기 모델 (구조는 project_answer_timeline.sql / project_user_activity_month.sql과 동일)
+--
+
+CREATE TABLE IF NOT EXISTS `answer_timeline` (
+  `timeline_id` bigint NOT NULL AUTO_INCREMENT COMMENT '타임라인 ID',
+  `user_id` bigint NOT NULL COMMENT 'users.id',
+  `created_date` date NOT NULL COMMENT '답변 날짜 (created_at의 날짜)',
+  `answer_type` varchar(32) NOT NULL COMMENT 'BASIC/PERSONAL/COGNITIVE_AUDIO/COGNITIVE_IMAGE',
+  `answer_id` bigint NOT NULL COMMENT '각 답변 테이블의 answer_id',
+  `question_id` bigint NOT NULL COMMENT '각 질문 테이블의 question_id',
+  `question_content` text COMMENT '질문 내용 (조회 시 조인 없이 사용)',
+  `video_path` varchar(255) DEFAULT NULL COMMENT '대답 영상(S3) 주소',
+  `score` double DEFAULT NULL COMMENT '질문과 응답 유사도 점수',
+  `is_match` tinyint(1) DEFAULT NULL COMMENT '매칭 여부',
+  `status` varchar(20) NOT NULL COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)',
+  `created_at` datetime NOT NULL,
+  PRIMARY KEY (`timeline_id`),
+  UNIQUE KEY `uq_answer_timeline_answer` (`answer_type`,`answer_id`),
+  KEY `idx_answer_timeline_user_date_type` (`user_id`,`created_date`,`answer_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+
+CREATE TABLE IF NOT EXISTS `user_activity_month` (
+  `user_id` bigint NOT NULL COMMENT 'users.id',
+  `activity_month` int NOT NULL COMMENT 'yyyyMM',
+  `answer_type` varchar(32) NOT NULL COMMENT 'BASIC/PERSONAL/COGNITIVE_AUDIO/COGNITIVE_IMAGE',
+  `day_mask` int NOT NULL DEFAULT '0' COMMENT '(일-1)번째 비트: 그날 FAILED가 아닌 답변 존재',
+  PRIMARY KEY (`user_id`,`activity_month`,`answer_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -0,0 +1,62 @@
+-- MySQL dump 10.13  Distrib 8.0.42, for Win64 (x86_64)
+--
+-- Host: localhost    Database: project
+-- ------------------------------------------------------
+-- Server version	8.0.42
+
+/*!40101 SET @OLD_CHARACTER_SET_CLIENT=@@CHARACTER_SET_CLIENT */;
+/*!40101 SET @OLD_CHARACTER_SET_RESULTS=@@CHARACTER_SET_RESULTS */;
+/*!40101 SET @OLD_COLLATION_CONNECTION=@@COLLATION_CONNECTION */;
+/*!50503 SET NAMES utf8 */;
+/*!40103 SET @OLD_TIME_ZONE=@@TIME_ZONE */;
+/*!40103 SET TIME_ZONE='+00:00' */;
+/*!40014 SET @OLD_UNIQUE_CHECKS=@@UNIQUE_CHECKS, UNIQUE_CHECKS=0 */;
+/*!40014 SET @OLD_FOREIGN_KEY_CHECKS=@@FOREIGN_KEY_CHECKS, FOREIGN_KEY_CHECKS=0 */;
+/*!40101 SET @OLD_SQL_MODE=@@SQL_MODE, SQL_MODE='NO_AUTO_VALUE_ON_ZERO' */;
+/*!40111 SET @OLD_SQL_NOTES=@@SQL_NOTES, SQL_NOTES=0 */;
+
+--
+-- Table structure for table `answer_timeline`
+--
+
+DROP TABLE IF EXISTS `answer_timeline`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!50503 SET character_set_client = utf8mb4 */;
+CREATE TABLE `answer_timeline` (
+  `timeline_id` bigint NOT NULL AUTO_INCREMENT COMMENT '타임라인 ID',
+  `user_id` bigint NOT NULL COMMENT 'users.id',
+  `created_date` date NOT NULL COMMENT '답변 날짜 (created_at의 날짜)',
+  `answer_type` varchar(32) NOT NULL COMMENT 'BASIC/PERSONAL/COGNITIVE_AUDIO/COGNITIVE_IMAGE',
+  `answer_id` bigint NOT NULL COMMENT '각 답변 테이블의 answer_id',
+  `question_id` bigint NOT NULL COMMENT '각 질문 테이블의 question_id',
+  `question_content` text COMMENT '질문 내용 (조회 시 조인 없이 사용)',
+  `video_path` varchar(255) DEFAULT NULL COMMENT '대답 영상(S3) 주소',
+  `score` double DEFAULT NULL COMMENT '질문과 응답 유사도 점수',
+  `is_match` tinyint(1) DEFAULT NULL COMMENT '매칭 여부',
+  `status` varchar(20) NOT NULL COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)',
+  `created_at` datetime NOT NULL,
+  PRIMARY KEY (`timeline_id`),
+  UNIQUE KEY `uq_answer_timeline_answer` (`answer_type`,`answer_id`),
+  KEY `idx_answer_timeline_user_date_type` (`user_id`,`created_date`,`answer_type`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `answer_timeline`
+--
+
+LOCK TABLES `answer_timeline` WRITE;
+/*!40000 ALTER TABLE `answer_timeline` DISABLE KEYS */;
+/*!40000 ALTER TABLE `answer_timeline` ENABLE KEYS */;
+UNLOCK TABLES;
+/*!40103 SET TIME_ZONE=@OLD_TIME_ZONE */;
+
+/*!40101 SET SQL_MODE=@OLD_SQL_MODE */;
+/*!40014 SET FOREIGN_KEY_CHECKS=@OLD_FOREIGN_KEY_CHECKS */;
+/*!40014 SET UNIQUE_CHECKS=@OLD_UNIQUE_CHECKS */;
+/*!40101 SET CHARACTER_SET_CLIENT=@OLD_CHARACTER_SET_CLIENT */;
+/*!40101 SET CHARACTER_SET_RESULTS=@OLD_CHARACTER_SET_RESULTS */;
+/*!40101 SET COLLATION_CONNECTION=@OLD_COLLATION_CONNECTION */;
+/*!40111 SET SQL_NOTES=@OLD_SQL_NOTES */;
+
+-- Dump completed on 2025-08-18 11:25:22
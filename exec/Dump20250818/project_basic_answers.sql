@@ -26,14 +26,17 @@ CREATE TABLE `basic_answers` (
   `answer_id` int NOT NULL AUTO_INCREMENT COMMENT '답변 ID',
   `question_id` int NOT NULL COMMENT 'basic_questions.question_id',
   `user_id` bigint NOT NULL COMMENT 'users.id',
-  `answer` text NOT NULL COMMENT '대답',
+  `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
   `score` double DEFAULT NULL COMMENT '질문과 응답 유사도 점수',
   `is_match` tinyint(1) NOT NULL DEFAULT '0' COMMENT '매칭 여부',
   `video_path` varchar(255) NOT NULL COMMENT '대답 영상(S3) 주소',
+  `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)',
+  `status` varchar(20) NOT NULL DEFAULT 'UPLOADED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)',
   `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`answer_id`),
   KEY `idx_basic_q` (`question_id`),
   KEY `idx_basic_u` (`user_id`),
+  UNIQUE KEY `idx_basic_answers_video_path` (`video_path`),
   CONSTRAINT `fk_basic_answers_question` FOREIGN KEY (`question_id`) REFERENCES `basic_questions` (`question_id`) ON DELETE CASCADE,
   CONSTRAINT `fk_basic_answers_user` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=30 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -25,6 +25,7 @@ DROP TABLE IF EXISTS `basic_questions`;
 CREATE TABLE `basic_questions` (
   `question_id` int NOT NULL AUTO_INCREMENT COMMENT '질문 ID',
   `content` text NOT NULL COMMENT '질문 내용',
+  `expected_answers` text COMMENT '정답 후보 (로컬 선채점용, 없으면 NULL)',
   `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`question_id`)
 ) ENGINE=InnoDB AUTO_INCREMENT=61 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
@@ -36,7 +37,7 @@ CREATE TABLE `basic_questions` (
 
 LOCK TABLES `basic_questions` WRITE;
 /*!40000 ALTER TABLE `basic_questions` DISABLE KEYS */;
-INSERT INTO `basic_questions` VALUES (1,'어린 시절 살았던 집과 그곳에서의 일상을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(2,'학창 시절 가장 기억에 남는 선생님과 그 이유를 설명해주세요.','2025-08-08 03:34:36'),(3,'친구들과 함께 했던 놀이와 그때의 즐거움을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(4,'처음 구입했던 물건과 그것에 얽힌 사연을 설명해주세요.','2025-08-08 03:34:36'),(5,'가족과 보낸 특별한 명절의 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(6,'젊은 시절 첫 직장에서의 경험을 설명해주세요.','2025-08-08 03:34:36'),(7,'평생 간직해 온 소중한 물건에 관한 이야기를 풀어주세요.','2025-08-08 03:34:36'),(8,'좋아하던 취미 활동과 그 즐거움을 설명해주세요.','2025-08-08 03:34:36'),(9,'어린 시절 즐겨 먹던 간식과 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(10,'인생의 전환점이 되었던 사건을 설명해주세요.','2025-08-08 03:34:36'),(11,'살면서 가장 기뻤던 순간을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(12,'평상시 습관으로 해오던 일과 이유를 설명해주세요.','2025-08-08 03:34:36'),(13,'자주 이용하던 교통수단과 그때의 풍경을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(14,'젊은 시절 이상형이나 좋아했던 이성에 대해 설명해주세요.','2025-08-08 03:34:36'),(15,'사소하지만 행복했던 일상 속 순간을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(16,'어려운 시절을 이겨낸 방법을 설명해주세요.','2025-08-08 03:34:36'),(17,'특별히 기억에 남는 여행지와 경험을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(18,'살면서 배운 중요한 교훈을 설명해주세요.','2025-08-08 03:34:36'),(19,'옛날 동네 이웃과의 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(20,'즐겨 듣던 노래나 라디오 프로그램을 설명해주세요.','2025-08-08 03:34:36'),(21,'어린 시절 가보고 싶었던 곳과 실제 경험을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(22,'가족에게 들려주고 싶은 어린 시절 이야기를 설명해주세요.','2025-08-08 03:34:36'),(23,'생활 속에서 느낀 사회 변화에 대해 이야기로 풀어주세요.','2025-08-08 03:34:36'),(24,'가장 좋아했던 계절과 이유를 설명해주세요.','2025-08-08 03:34:36'),(25,'자녀나 조카에게 해주고 싶은 조언을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(26,'건강을 위해 꾸준히 해오던 일이 있다면 설명해주세요.','2025-08-08 03:34:36'),(27,'가장 감사했던 순간과 이유를 이야기로 풀어주세요.','2025-08-08 03:34:36'),(28,'종교나 신앙과 관련된 경험을 설명해주세요.','2025-08-08 03:34:36'),(29,'인생에서 가장 자랑스러웠던 성취를 이야기로 풀어주세요.','2025-08-08 03:34:36'),(30,'앞으로 이루고 싶은 소망이나 계획을 설명해주세요.','2025-08-08 03:34:36'),(31,'어린 시절 살았던 집과 그곳에서의 일상을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(32,'학창 시절 가장 기억에 남는 선생님과 그 이유를 설명해주세요.','2025-08-09 23:29:59'),(33,'친구들과 함께 했던 놀이와 그때의 즐거움을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(34,'처음 구입했던 물건과 그것에 얽힌 사연을 설명해주세요.','2025-08-09 23:29:59'),(35,'가족과 보낸 특별한 명절의 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(36,'젊은 시절 첫 직장에서의 경험을 설명해주세요.','2025-08-09 23:29:59'),(37,'평생 간직해 온 소중한 물건에 관한 이야기를 풀어주세요.','2025-08-09 23:29:59'),(38,'좋아하던 취미 활동과 그 즐거움을 설명해주세요.','2025-08-09 23:29:59'),(39,'어린 시절 즐겨 먹던 간식과 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(40,'인생의 전환점이 되었던 사건을 설명해주세요.','2025-08-09 23:29:59'),(41,'살면서 가장 기뻤던 순간을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(42,'평상시 습관으로 해오던 일과 이유를 설명해주세요.','2025-08-09 23:29:59'),(43,'자주 이용하던 교통수단과 그때의 풍경을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(44,'젊은 시절 이상형이나 좋아했던 이성에 대해 설명해주세요.','2025-08-09 23:29:59'),(45,'사소하지만 행복했던 일상 속 순간을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(46,'어려운 시절을 이겨낸 방법을 설명해주세요.','2025-08-09 23:29:59'),(47,'특별히 기억에 남는 여행지와 경험을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(48,'살면서 배운 중요한 교훈을 설명해주세요.','2025-08-09 23:29:59'),(49,'옛날 동네 이웃과의 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(50,'즐겨 듣던 노래나 라디오 프로그램을 설명해주세요.','2025-08-09 23:29:59'),(51,'어린 시절 가보고 싶었던 곳과 실제 경험을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(52,'가족에게 들려주고 싶은 어린 시절 이야기를 설명해주세요.','2025-08-09 23:29:59'),(53,'생활 속에서 느낀 사회 변화에 대해 이야기로 풀어주세요.','2025-08-09 23:29:59'),(54,'가장 좋아했던 계절과 이유를 설명해주세요.','2025-08-09 23:29:59'),(55,'자녀나 조카에게 해주고 싶은 조언을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(56,'건강을 위해 꾸준히 해오던 일이 있다면 설명해주세요.','2025-08-09 23:29:59'),(57,'가장 감사했던 순간과 이유를 이야기로 풀어주세요.','2025-08-09 23:29:59'),(58,'종교나 신앙과 관련된 경험을 설명해주세요.','2025-08-09 23:29:59'),(59,'인생에서 가장 자랑스러웠던 성취를 이야기로 풀어주세요.','2025-08-09 23:29:59'),(60,'앞으로 이루고 싶은 소망이나 계획을 설명해주세요.','2025-08-09 23:29:59');
+INSERT INTO `basic_questions` (`question_id`,`content`,`created_at`) VALUES (1,'어린 시절 살았던 집과 그곳에서의 일상을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(2,'학창 시절 가장 기억에 남는 선생님과 그 이유를 설명해주세요.','2025-08-08 03:34:36'),(3,'친구들과 함께 했던 놀이와 그때의 즐거움을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(4,'처음 구입했던 물건과 그것에 얽힌 사연을 설명해주세요.','2025-08-08 03:34:36'),(5,'가족과 보낸 특별한 명절의 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(6,'젊은 시절 첫 직장에서의 경험을 설명해주세요.','2025-08-08 03:34:36'),(7,'평생 간직해 온 소중한 물건에 관한 이야기를 풀어주세요.','2025-08-08 03:34:36'),(8,'좋아하던 취미 활동과 그 즐거움을 설명해주세요.','2025-08-08 03:34:36'),(9,'어린 시절 즐겨 먹던 간식과 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(10,'인생의 전환점이 되었던 사건을 설명해주세요.','2025-08-08 03:34:36'),(11,'살면서 가장 기뻤던 순간을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(12,'평상시 습관으로 해오던 일과 이유를 설명해주세요.','2025-08-08 03:34:36'),(13,'자주 이용하던 교통수단과 그때의 풍경을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(14,'젊은 시절 이상형이나 좋아했던 이성에 대해 설명해주세요.','2025-08-08 03:34:36'),(15,'사소하지만 행복했던 일상 속 순간을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(16,'어려운 시절을 이겨낸 방법을 설명해주세요.','2025-08-08 03:34:36'),(17,'특별히 기억에 남는 여행지와 경험을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(18,'살면서 배운 중요한 교훈을 설명해주세요.','2025-08-08 03:34:36'),(19,'옛날 동네 이웃과의 추억을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(20,'즐겨 듣던 노래나 라디오 프로그램을 설명해주세요.','2025-08-08 03:34:36'),(21,'어린 시절 가보고 싶었던 곳과 실제 경험을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(22,'가족에게 들려주고 싶은 어린 시절 이야기를 설명해주세요.','2025-08-08 03:34:36'),(23,'생활 속에서 느낀 사회 변화에 대해 이야기로 풀어주세요.','2025-08-08 03:34:36'),(24,'가장 좋아했던 계절과 이유를 설명해주세요.','2025-08-08 03:34:36'),(25,'자녀나 조카에게 해주고 싶은 조언을 이야기로 풀어주세요.','2025-08-08 03:34:36'),(26,'건강을 위해 꾸준히 해오던 일이 있다면 설명해주세요.','2025-08-08 03:34:36'),(27,'가장 감사했던 순간과 이유를 이야기로 풀어주세요.','2025-08-08 03:34:36'),(28,'종교나 신앙과 관련된 경험을 설명해주세요.','2025-08-08 03:34:36'),(29,'인생에서 가장 자랑스러웠던 성취를 이야기로 풀어주세요.','2025-08-08 03:34:36'),(30,'앞으로 이루고 싶은 소망이나 계획을 설명해주세요.','2025-08-08 03:34:36'),(31,'어린 시절 살았던 집과 그곳에서의 일상을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(32,'학창 시절 가장 기억에 남는 선생님과 그 이유를 설명해주세요.','2025-08-09 23:29:59'),(33,'친구들과 함께 했던 놀이와 그때의 즐거움을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(34,'처음 구입했던 물건과 그것에 얽힌 사연을 설명해주세요.','2025-08-09 23:29:59'),(35,'가족과 보낸 특별한 명절의 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(36,'젊은 시절 첫 직장에서의 경험을 설명해주세요.','2025-08-09 23:29:59'),(37,'평생 간직해 온 소중한 물건에 관한 이야기를 풀어주세요.','2025-08-09 23:29:59'),(38,'좋아하던 취미 활동과 그 즐거움을 설명해주세요.','2025-08-09 23:29:59'),(39,'어린 시절 즐겨 먹던 간식과 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(40,'인생의 전환점이 되었던 사건을 설명해주세요.','2025-08-09 23:29:59'),(41,'살면서 가장 기뻤던 순간을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(42,'평상시 습관으로 해오던 일과 이유를 설명해주세요.','2025-08-09 23:29:59'),(43,'자주 이용하던 교통수단과 그때의 풍경을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(44,'젊은 시절 이상형이나 좋아했던 이성에 대해 설명해주세요.','2025-08-09 23:29:59'),(45,'사소하지만 행복했던 일상 속 순간을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(46,'어려운 시절을 이겨낸 방법을 설명해주세요.','2025-08-09 23:29:59'),(47,'특별히 기억에 남는 여행지와 경험을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(48,'살면서 배운 중요한 교훈을 설명해주세요.','2025-08-09 23:29:59'),(49,'옛날 동네 이웃과의 추억을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(50,'즐겨 듣던 노래나 라디오 프로그램을 설명해주세요.','2025-08-09 23:29:59'),(51,'어린 시절 가보고 싶었던 곳과 실제 경험을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(52,'가족에게 들려주고 싶은 어린 시절 이야기를 설명해주세요.','2025-08-09 23:29:59'),(53,'생활 속에서 느낀 사회 변화에 대해 이야기로 풀어주세요.','2025-08-09 23:29:59'),(54,'가장 좋아했던 계절과 이유를 설명해주세요.','2025-08-09 23:29:59'),(55,'자녀나 조카에게 해주고 싶은 조언을 이야기로 풀어주세요.','2025-08-09 23:29:59'),(56,'건강을 위해 꾸준히 해오던 일이 있다면 설명해주세요.','2025-08-09 23:29:59'),(57,'가장 감사했던 순간과 이유를 이야기로 풀어주세요.','2025-08-09 23:29:59'),(58,'종교나 신앙과 관련된 경험을 설명해주세요.','2025-08-09 23:29:59'),(59,'인생에서 가장 자랑스러웠던 성취를 이야기로 풀어주세요.','2025-08-09 23:29:59'),(60,'앞으로 이루고 싶은 소망이나 계획을 설명해주세요.','2025-08-09 23:29:59');
 /*!40000 ALTER TABLE `basic_questions` ENABLE KEYS */;
 UNLOCK TABLES;
 /*!40103 SET TIME_ZONE=@OLD_TIME_ZONE */;
@@ -25,6 +25,7 @@ DROP TABLE IF EXISTS `cognitive_questions`;
 CREATE TABLE `cognitive_questions` (
   `question_id` int NOT NULL AUTO_INCREMENT COMMENT '질문 ID',
   `content` text NOT NULL COMMENT '질문 내용',
+  `expected_answers` text COMMENT '정답 후보 (로컬 선채점용, 없으면 NULL)',
   `media_url` varchar(255) NOT NULL COMMENT '미디어(S3) 주소',
   `media_type` enum('audio','image') NOT NULL COMMENT '미디어 타입',
   `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -38,7 +39,7 @@ CREATE TABLE `cognitive_questions` (
 
 LOCK TABLES `cognitive_questions` WRITE;
 /*!40000 ALTER TABLE `cognitive_questions` DISABLE KEYS */;
-INSERT INTO `cognitive_questions` VALUES (1,'정상회담 뉴스를 어디서 보셨나요? 어떤 기분이 드셨나요?','cognitive-image/6.15 남북정상회담.png','image','2025-08-13 08:01:40'),(2,'88 올림픽 당시 어떤 종목을 기억하시나요? 가장 인상 깊었던 장면은 무엇인가요?','cognitive-image/88서울올림픽.png','image','2025-08-13 08:01:40'),(3,'2002 월드컵때 거리 응원을 나가보신 적 있으신가요? 누구와 함께 응원하셨나요?','cognitive-image/2002 붉은 악마.png','image','2025-08-13 08:01:40'),(4,'자녀나 주변에 HOT나 젝스키스 팬이 있었나요? 당시에 어떤 그룹이 더 인기였나요?','cognitive-image/HOTvs젝스키스.png','image','2025-08-13 08:01:40'),(5,'그 시절 경제적으로 가장 기억에 남는 일이 있으셨나요? ','cognitive-image/IMF 여파.png','image','2025-08-13 08:01:40'),(6,'직접 LP판을 사거나 들어보신 기억이 있으신가요? 좋아했던 가수나 노래는 무엇인가요?','cognitive-image/LP판 가게.png','image','2025-08-13 08:01:40'),(7,'그 시절 본인의 옷차림은 어땠나요? 어떤 패션이 유행했었나요?','cognitive-image/X세대 문화 패션.png','image','2025-08-13 08:01:40'),(8,'공중전화로 연락했던 기억이 있으신가요? 동전이 부족했던 경험이 있으셨나요?','cognitive-image/공중전화.png','image','2025-08-13 08:01:40'),(9,'다방에서 친구를 만나거나 음악을 들으셨던 기억이 있으신가요? 기억나는 다방 이름이나 다방 DJ가 있나요?','cognitive-image/다방.png','image','2025-08-13 08:01:40'),(10,'어릴 때 달고나를 직접 만들어 먹어본 적 있으신가요? 어디서 주로 사드셨나요?','cognitive-image/달고나.png','image','2025-08-13 08:01:40'),(11,'당시 인터넷이나 주식에 관심이 있었나요? 닷컴 열풍에 대해 어떻게 느끼셨나요?','cognitive-image/닷컴 버블.png','image','2025-08-13 08:01:40'),(12,'학창시절에 야간자율학습이나 보충수업이 있었나요? 학교 분위기는 어땠나요?','cognitive-image/학교.png','image','2025-08-13 08:01:41'),(13,'무궁화호나 통일호 기차를 타본 기억이 있으신가요? 어디로 가셨고 어떤 풍경이 떠오르시나요?','cognitive-image/무궁화호.png','image','2025-08-13 08:01:41'),(14,'처음 휴대폰을 갖게 된 건 언제였나요? 첫 휴대폰 기종이나 색깔 기억나세요?','cognitive-image/피쳐폰.png','image','2025-08-13 08:01:41'),(15,'삐삐를 사용해보신 적 있으신가요? 삐삐 번호를 외우고 다녔던 기억이 있으신가요?','cognitive-image/삐삐.png','image','2025-08-13 08:01:41'),(16,'서태지와 아이들 데뷔 당시 어떤 문화적 충격이 있었나요? 반응은 어땠나요?','cognitive-image/서태지와 아이들.png','image','2025-08-13 08:01:41'),(17,'싸이월드를 자녀나 주변이 사용하는 걸 보신 적 있으신가요? 미니홈피나 배경음악이 기억나시나요?','cognitive-image/싸이월드.png','image','2025-08-13 08:01:41'),(18,'직접 손편지를 써보신 적 있으신가요? 기억나는 편지 내용이나 상대방이 있나요?','cognitive-image/연애편지.png','image','2025-08-13 08:01:41'),(19,'어릴 적 자주 사 먹었던 과자나 불량식품이 무엇이었나요? 어디서 사셨나요?','cognitive-image/추억의 불량식품.png','image','2025-08-13 08:01:41'),(20,'처음 컬러 TV를 봤을 때 어떤 느낌이었나요? TV에서 가장 기억에 남는 프로그램은 무엇인가요?','cognitive-image/컬러tv보급.png','image','2025-08-13 08:01:41'),(21,'저는 비가 오던 날 친구와 우산을 같이 쓰고 학교에서 집까지 걸어오면서 장난쳤던 기억이 나네요. 선생님께서는 비 오는 날 함께 했던 사람이 떠오르시나요? 어떤 즐거웠던 기억이 있으셨는지 편하게 이야기해주세요.\r ','cognitive-sound/rain-sound-188158.mp3','audio','2025-08-13 08:01:41'),(22,'저는 늦여름 밤 시골집 대청마루에 누워 귀뚜라미 소리를 들으며 부채질하던 기억이 정겹습니다. 귀뚜라미 소리를 들으시면 떠오르는 여름밤의 추억이나 느낌이 있으신가요? 편하게 이야기해 주세요.\n','cognitive-sound/cricket-250777.mp3','audio','2025-08-13 08:01:41'),(23,'저는 어머니가 칼로 채소를 썰며 ‘톡톡’ 소리를 내실 때 그 옆에서 재료를 건네드리던 기억이 납니다. 선생님께서도 부엌에서 들었던 요리 소리와 함께 떠오르는 따뜻한 기억이 있으신가요? 어떤 요리를 준비하셨는지 이야기해 주세요.\n','cognitive-sound/cutting-vegetables-325470.mp3','audio','2025-08-13 08:01:41'),(24,'저는 여름날 나무 그늘 아래서 매미 소리를 들으며 낮잠을 자던 기억이 참 좋아요. 매미 소리를 들으면 떠오르는 여름의 기억이 있으신가요? 그때의 기분이나 장소를 기억하신다면 들려주세요.\n','cognitive-sound/cicada-126650.mp3','audio','2025-08-13 08:01:41'),(25,'저는 처음 도시로 이사 왔을 때 자동차 소리나 사람들의 소리가 낯설지만 신기했던 기억이 납니다. 선생님께서는 도시의 소음을 들었을 때 어떤 느낌이 드셨나요? 특별히 기억에 남는 순간이 있으면 들려주세요.\n','cognitive-sound/crowd-noise-284490.mp3','audio','2025-08-13 08:01:41'),(26,'저는 라디오를 들으면서 좋아하는 노래가 나오면 녹음하려고 급하게 버튼을 눌렀던 기억이 있어요. 라디오와 관련하여 선생님께서도 기억나는 특별한 일이 있으신가요? 즐겨 들었던 방송이나 음악에 대한 이야기도 좋습니다.\n','cognitive-sound/tuning-radio-7150.mp3','audio','2025-08-13 08:01:41'),(27,'저는 좋아하는 노래가 담긴 카세트 테이프를 반복해서 듣다가 테이프가 늘어나 고생했던 기억이 있어요. 선생님께서도 카세트 테이프와 관련된 재미있는 기억이 있으신가요? 어떤 음악을 즐겨 들으셨는지 기억나시면 이야기해 주세요.\n','cognitive-sound/tape-player-sounds-90780.mp3','audio','2025-08-13 08:01:41'),(28,'저는 밤에 조용한 방에서 시계 초침 소리를 들으며 시험공부를 하던 때가 떠오릅니다. 선생님께서는 시계 초침 소리를 들으며 어떤 생각이나 일을 하셨던 기억이 있으신가요? 그때를 떠올리며 이야기해 주실 수 있나요?\n','cognitive-sound/clock-ticking-373556.mp3','audio','2025-08-13 08:01:41'),(29,'저는 할아버지 댁 거실에 있던 큰 괘종시계가 ‘땡’ 하고 시간을 알리면 모두가 밥 먹을 시간이라며 모였던 기억이 나요. 선생님께서는 괘종시계 소리와 함께 떠오르는 추억이 있으신가요? 시계가 알려준 특별한 순간이 있었다면 들려주세요.\n','cognitive-sound/grandfather-clock-79107.mp3','audio','2025-08-13 08:01:41'),(30,'따르릉 하는 집전화 벨소리를 듣고 달려가 첫사랑 친구와 수줍게 통화했던 기억이 납니다. 선생님도 전화벨 소리가 울릴 때 설레거나 놀랐던 순간이 있으셨나요? 그때 이야기를 들려주실 수 있을까요?\n','cognitive-sound/sound-effect-old-phone-191761.mp3','audio','2025-08-13 08:01:41'),(31,'저는 공중전화에서 번호를 누르고 연결되는 ‘뚜루루루’ 음을 들으며 상대방을 기다리던 추억이 있어요. 전화번호를 돌리거나 누르며 기다리던 경험이 있으신가요? 그때 느끼셨던 감정이나 상황을 말씀해 주세요.','cognitive-sound/old-phone-dialing-101973.mp3','audio','2025-08-13 08:01:41'),(32,'저는 다이얼을 돌릴 때 ‘찰칵찰칵’ 소리가 돌아오는 그 손맛이 참 좋았어요. 선생님께서도 다이얼 전화기를 사용하시던 시절, 잊지 못할 통화나 순간이 있으신가요? 들려주시면 좋겠습니다.','cognitive-sound/old-phone-72428.mp3','audio','2025-08-13 08:01:41'),(33,'저는 겨울 아침 아버지가 장작을 패며 ‘퍽퍽’ 소리를 내시던 뒤에 아궁이에서 따뜻한 연기가 피어오르던 장면이 떠오릅니다. 장작 패는 소리와 함께 떠오르는 겨울 풍경이나 가족의 추억이 있으신가요? 그때를 떠올리며 말씀해 주세요.\n','cognitive-sound/chopping-logs-73222.mp3','audio','2025-08-13 08:01:41'),(35,'저는 봄이 오면 나무 창문을 열 때 나던 삐걱 소리와 함께 방 안으로 싱그러운 꽃향기가 스며들던 기억이 떠오릅니다. 선생님께서는 창문을 열며 들었던 소리나 함께 떠오르던 풍경이 있으셨나요? 그때의 느낌을 들려주실 수 있을까요?\n','cognitive-sound/opening-window-107097.mp3','audio','2025-08-13 08:01:41'),(36,'저는 어릴 적 자전거를 타고 동네를 돌며 벨을 ‘따르릉’ 울리려다 잘 안 울려 살짝 당황했던 추억이 있어요. 선생님께서도 자전거 벨 소리와 함께 떠오르는 재미있는 경험이나 기억에 남는 장소가 있으신가요?\n','cognitive-sound/bicycle-bell-65829.mp3','audio','2025-08-13 08:01:41'),(37,'저는 도서관에서 시험 공부를 할 때, 종이를 ‘팔랑팔랑’ 넘기며 노트에 필기를 하던 기억이 생생합니다. 선생님께서는 종이 넘기는 소리와 함께 떠오르는 책이나 특별한 순간이 있으신가요?','cognitive-sound/paper-flutter-5933.mp3','audio','2025-08-13 08:01:41'),(38,'저는 선생님이 칠판에 분필로 ‘끼익’ 하며 글씨를 쓰실 때 친구들과 숨죽여 듣던 교실의 분위기가 아직도 기억나요. 선생님께서는 칠판 소리가 들릴 때 떠오르는 학창시절의 추억이나 인상 깊은 수업이 있으신가요?\n','cognitive-sound/chalk-on-blackboard-68086.mp3','audio','2025-08-13 08:01:41'),(39,'저는 아버지께서 밤늦게 타자기로 ‘딸깍딸깍’ 문서를 쓰시던 소리를 들으며 옆에서 졸린 눈을 비비던 기억이 나요. 선생님께서도 타자기 소리를 들으시며 떠오르는 사람이나 장면이 있으신가요? 그때 이야기를 들려주세요.\n','cognitive-sound/typewriter-typing-68696.mp3','audio','2025-08-13 08:01:41'),(40,'저는 시골집에서 택배 아저씨가 오실 때마다 마당의 강아지가 ‘멍멍’ 짖으며 반겼던 모습이 떠오릅니다. 선생님께서는 개 짖는 소리와 함께 기억나는 사건이나 사랑스러운 반려견의 모습이 있으신가요?\n','cognitive-sound/dog-barking-70772.mp3','audio','2025-08-13 08:01:41'),(41,'저는 새벽에 강아지 목줄이 ‘찰랑’ 소리를 내며 산책길을 걷던 쌀쌀한 공기가 기억에 남아요. 선생님께서도 강아지와 산책하시면서 들었던 소리나 행복했던 순간이 있으시다면 들려주실 수 있나요?\n','cognitive-sound/dogs-walking-96801.mp3','audio','2025-08-13 08:01:41'),(42,'저는 어린 시절 시골 개울가에서 발을 담그고 물수제비를 뜨며 노는 동안 졸졸 흐르던 물소리가 귓가에 맴돌아요. 선생님께서는 개울물 소리를 들으며 떠오르는 장면이나 추억이 있으신가요? 그때를 떠올리며 들려주실 수 있을까요?\n','cognitive-sound/river-in-the-heart-of-nature_nature-sound-222599.mp3','audio','2025-08-13 08:01:41'),(43,'저는 여름 방학에 가족들과 해변에 가서 파도에 발이 잠길 때마다 차가운 물을 맞으며 파도소리를 들었던 기억이 나요. 선생님께서는 파도소리와 함께 기억나는 해변의 추억이나 즐거웠던 일이 있으신가요? 이야기해 주세요.\n','cognitive-sound/beach-23580.mp3','audio','2025-08-13 08:01:41'),(44,'저는 외갓집 마당에서 소가 ‘음머’ 하고 울면 외할아버지가 여물을 주시던 장면이 떠오릅니다. 선생님께서도 소 울음소리를 들으며 떠오르는 농촌의 풍경이나 특별한 기억이 있으신가요? 들려주시면 좋겠습니다.\n','cognitive-sound/cow-mooing-343423.mp3','audio','2025-08-13 08:01:41'),(45,'저는 산속 오솔길을 걸을 때 멀리서 뻐꾸기 울음소리가 들려오면 여름이 깊어졌다는 걸 느끼곤 했어요. 선생님께서는 뻐꾸기 울음소리를 들으며 떠오르는 자연 풍경이나 추억이 있으신가요? 그 이야기를 나눠주세요.\n','cognitive-sound/cuckoo1-82978.mp3','audio','2025-08-13 08:01:41'),(46,'저는 벽에 걸린 뻐꾸기 시계에서 정각마다 새 모형이 나와 ‘뻐꾹’ 하고 울던 모습이 재미있었어요. 선생님께서도 뻐꾸기 시계와 관련된 흥미로운 기억이나 가족과의 추억이 있으신가요? 들려주세요.\n','cognitive-sound/cuckoo-clock-64213.mp3','audio','2025-08-13 08:01:41'),(48,'저는 장마가 지나간 뒤 논길을 걸을 때 여기저기서 들리던 개구리 합창이 시원하게 느껴졌어요. 선생님께서는 개구리 소리와 함께 떠오르는 자연 속 추억이나 재밌었던 일이 있으신가요? 들려주시면 좋겠습니다.\n','cognitive-sound/frogs-48410.mp3','audio','2025-08-13 08:01:41'),(49,'저는 산길을 오르며 촉촉한 흙과 풀을 밟을 때마다 ‘사각사각’ 들리던 소리에 가슴이 탁 트이던 기억이 납니다. 선생님께서는 산길을 걸으며 들었던 풀 밟는 소리와 함께 떠오르는 추억이 있으신가요? 그때의 경치나 동행했던 사람 이야기를 들려주시면 좋겠습니다.\n','cognitive-sound/leafs-96574.mp3','audio','2025-08-13 08:01:41'),(50,'는 들판에서 친구들과 공을 차다 발끝으로 풀을 스치며 ‘바스락’ 소리가 나던 순간이 아직도 생생해요. 선생님께서는 넓은 들이나 공원에서 풀을 밟으며 느꼈던 즐거운 순간이 있으신가요? 그때 이야기를 들려주세요.\n','cognitive-sound/045246_steps-on-leafs-67637.mp3','audio','2025-08-13 08:01:41'),(51,'저는 여름 오후, 그늘 아래 앉아 바람이 지나갈 때마다 풀잎이 ‘휘파람’ 부는 듯이 흔들리던 소리를 들으며 한가로이 책을 읽던 기억이 떠오릅니다. 선생님께서는 풀잎이 바람에 흔들리는 소리를 들으며 떠오르는 풍경이나 기분이 있으신가요? 편하게 말씀해 주세요.\"\n','cognitive-sound/ambience-wind-blowing-through-trees-01-186986.mp3','audio','2025-08-13 08:01:41'),(52,'저는 처음 큰 도시에 갔을 때 수많은 자동차의 ‘빵빵’ 경적과 도로 위 소리에 마음이 들뜨고 약간은 어지러웠던 기억이 있어요. 선생님께서는 도시의 자동차 소리를 들으면 어떤 추억이 떠오르시나요? 특별히 기억나는 거리나 순간이 있으시면 들려주세요.\n','cognitive-sound/cars-on-a-road-city-ambience-319964.mp3','audio','2025-08-13 08:01:41'),(53,'저는 기차 안에서 ‘달그락달그락’ 레일을 달리는 소리와 차창 너머 지나가는 풍경을 바라보며 도시락을 먹던 추억이 참 좋았습니다. 선생님께서도 기차 안에서 들었던 소리와 함께 기억나는 여행이나 만남이 있으신가요? 그때의 이야기를 들려주시면 좋겠습니다.\n','cognitive-sound/inside-old-train-169418.mp3','audio','2025-08-13 08:01:41'),(54,'저는 시장 골목을 걸을 때 상인들의 \"어서오세요!\" 외침과 사람들의 흥정 소리가 어우러져 활기찬 분위기가 느껴졌던 기억이 납니다. 선생님께서는 시장 소리에 얽힌 추억이나 잊지 못할 물건, 음식이 있으신가요? 그때의 풍경을 들려주세요.\"\n','cognitive-sound/시장.mp3','audio','2025-08-13 08:01:41'),(56,'저는 천둥과 번개가 심하게 치던 날, 가족들과 촛불을 켜놓고 옛날 이야기를 나눴던 기억이 생생해요. 선생님께서는 천둥번개가 칠 때 어떻게 시간을 보내셨는지 기억나시나요? 혹시 가족들과 나누었던 이야기가 있으시면 들려주세요.','cognitive-sound/rain-weather-lightning-thunder-151314.mp3','audio','2025-08-13 08:01:41'),(57,'저는 어릴 적 시골에서 지낼 때 아침마다 닭 울음소리에 잠을 깨던 기억이 아직도 선명해요. 선생님도 닭 울음소리와 관련된 아침이나 특별한 기억이 있으신가요? 어떤 상황이셨는지 이야기해주실 수 있나요?','cognitive-sound/chicken-noises-223056.mp3','audio','2025-08-13 08:01:41');
+INSERT INTO `cognitive_questions` (`question_id`,`content`,`media_url`,`media_type`,`created_at`) VALUES (1,'정상회담 뉴스를 어디서 보셨나요? 어떤 기분이 드셨나요?','cognitive-image/6.15 남북정상회담.png','image','2025-08-13 08:01:40'),(2,'88 올림픽 당시 어떤 종목을 기억하시나요? 가장 인상 깊었던 장면은 무엇인가요?','cognitive-image/88서울올림픽.png','image','2025-08-13 08:01:40'),(3,'2002 월드컵때 거리 응원을 나가보신 적 있으신가요? 누구와 함께 응원하셨나요?','cognitive-image/2002 붉은 악마.png','image','2025-08-13 08:01:40'),(4,'자녀나 주변에 HOT나 젝스키스 팬이 있었나요? 당시에 어떤 그룹이 더 인기였나요?','cognitive-image/HOTvs젝스키스.png','image','2025-08-13 08:01:40'),(5,'그 시절 경제적으로 가장 기억에 남는 일이 있으셨나요? ','cognitive-image/IMF 여파.png','image','2025-08-13 08:01:40'),(6,'직접 LP판을 사거나 들어보신 기억이 있으신가요? 좋아했던 가수나 노래는 무엇인가요?','cognitive-image/LP판 가게.png','image','2025-08-13 08:01:40'),(7,'그 시절 본인의 옷차림은 어땠나요? 어떤 패션이 유행했었나요?','cognitive-image/X세대 문화 패션.png','image','2025-08-13 08:01:40'),(8,'공중전화로 연락했던 기억이 있으신가요? 동전이 부족했던 경험이 있으셨나요?','cognitive-image/공중전화.png','image','2025-08-13 08:01:40'),(9,'다방에서 친구를 만나거나 음악을 들으셨던 기억이 있으신가요? 기억나는 다방 이름이나 다방 DJ가 있나요?','cognitive-image/다방.png','image','2025-08-13 08:01:40'),(10,'어릴 때 달고나를 직접 만들어 먹어본 적 있으신가요? 어디서 주로 사드셨나요?','cognitive-image/달고나.png','image','2025-08-13 08:01:40'),(11,'당시 인터넷이나 주식에 관심이 있었나요? 닷컴 열풍에 대해 어떻게 느끼셨나요?','cognitive-image/닷컴 버블.png','image','2025-08-13 08:01:40'),(12,'학창시절에 야간자율학습이나 보충수업이 있었나요? 학교 분위기는 어땠나요?','cognitive-image/학교.png','image','2025-08-13 08:01:41'),(13,'무궁화호나 통일호 기차를 타본 기억이 있으신가요? 어디로 가셨고 어떤 풍경이 떠오르시나요?','cognitive-image/무궁화호.png','image','2025-08-13 08:01:41'),(14,'처음 휴대폰을 갖게 된 건 언제였나요? 첫 휴대폰 기종이나 색깔 기억나세요?','cognitive-image/피쳐폰.png','image','2025-08-13 08:01:41'),(15,'삐삐를 사용해보신 적 있으신가요? 삐삐 번호를 외우고 다녔던 기억이 있으신가요?','cognitive-image/삐삐.png','image','2025-08-13 08:01:41'),(16,'서태지와 아이들 데뷔 당시 어떤 문화적 충격이 있었나요? 반응은 어땠나요?','cognitive-image/서태지와 아이들.png','image','2025-08-13 08:01:41'),(17,'싸이월드를 자녀나 주변이 사용하는 걸 보신 적 있으신가요? 미니홈피나 배경음악이 기억나시나요?','cognitive-image/싸이월드.png','image','2025-08-13 08:01:41'),(18,'직접 손편지를 써보신 적 있으신가요? 기억나는 편지 내용이나 상대방이 있나요?','cognitive-image/연애편지.png','image','2025-08-13 08:01:41'),(19,'어릴 적 자주 사 먹었던 과자나 불량식품이 무엇이었나요? 어디서 사셨나요?','cognitive-image/추억의 불량식품.png','image','2025-08-13 08:01:41'),(20,'처음 컬러 TV를 봤을 때 어떤 느낌이었나요? TV에서 가장 기억에 남는 프로그램은 무엇인가요?','cognitive-image/컬러tv보급.png','image','2025-08-13 08:01:41'),(21,'저는 비가 오던 날 친구와 우산을 같이 쓰고 학교에서 집까지 걸어오면서 장난쳤던 기억이 나네요. 선생님께서는 비 오는 날 함께 했던 사람이 떠오르시나요? 어떤 즐거웠던 기억이 있으셨는지 편하게 이야기해주세요.\r ','cognitive-sound/rain-sound-188158.mp3','audio','2025-08-13 08:01:41'),(22,'저는 늦여름 밤 시골집 대청마루에 누워 귀뚜라미 소리를 들으며 부채질하던 기억이 정겹습니다. 귀뚜라미 소리를 들으시면 떠오르는 여름밤의 추억이나 느낌이 있으신가요? 편하게 이야기해 주세요.\n','cognitive-sound/cricket-250777.mp3','audio','2025-08-13 08:01:41'),(23,'저는 어머니가 칼로 채소를 썰며 ‘톡톡’ 소리를 내실 때 그 옆에서 재료를 건네드리던 기억이 납니다. 선생님께서도 부엌에서 들었던 요리 소리와 함께 떠오르는 따뜻한 기억이 있으신가요? 어떤 요리를 준비하셨는지 이야기해 주세요.\n','cognitive-sound/cutting-vegetables-325470.mp3','audio','2025-08-13 08:01:41'),(24,'저는 여름날 나무 그늘 아래서 매미 소리를 들으며 낮잠을 자던 기억이 참 좋아요. 매미 소리를 들으면 떠오르는 여름의 기억이 있으신가요? 그때의 기분이나 장소를 기억하신다면 들려주세요.\n','cognitive-sound/cicada-126650.mp3','audio','2025-08-13 08:01:41'),(25,'저는 처음 도시로 이사 왔을 때 자동차 소리나 사람들의 소리가 낯설지만 신기했던 기억이 납니다. 선생님께서는 도시의 소음을 들었을 때 어떤 느낌이 드셨나요? 특별히 기억에 남는 순간이 있으면 들려주세요.\n','cognitive-sound/crowd-noise-284490.mp3','audio','2025-08-13 08:01:41'),(26,'저는 라디오를 들으면서 좋아하는 노래가 나오면 녹음하려고 급하게 버튼을 눌렀던 기억이 있어요. 라디오와 관련하여 선생님께서도 기억나는 특별한 일이 있으신가요? 즐겨 들었던 방송이나 음악에 대한 이야기도 좋습니다.\n','cognitive-sound/tuning-radio-7150.mp3','audio','2025-08-13 08:01:41'),(27,'저는 좋아하는 노래가 담긴 카세트 테이프를 반복해서 듣다가 테이프가 늘어나 고생했던 기억이 있어요. 선생님께서도 카세트 테이프와 관련된 재미있는 기억이 있으신가요? 어떤 음악을 즐겨 들으셨는지 기억나시면 이야기해 주세요.\n','cognitive-sound/tape-player-sounds-90780.mp3','audio','2025-08-13 08:01:41'),(28,'저는 밤에 조용한 방에서 시계 초침 소리를 들으며 시험공부를 하던 때가 떠오릅니다. 선생님께서는 시계 초침 소리를 들으며 어떤 생각이나 일을 하셨던 기억이 있으신가요? 그때를 떠올리며 이야기해 주실 수 있나요?\n','cognitive-sound/clock-ticking-373556.mp3','audio','2025-08-13 08:01:41'),(29,'저는 할아버지 댁 거실에 있던 큰 괘종시계가 ‘땡’ 하고 시간을 알리면 모두가 밥 먹을 시간이라며 모였던 기억이 나요. 선생님께서는 괘종시계 소리와 함께 떠오르는 추억이 있으신가요? 시계가 알려준 특별한 순간이 있었다면 들려주세요.\n','cognitive-sound/grandfather-clock-79107.mp3','audio','2025-08-13 08:01:41'),(30,'따르릉 하는 집전화 벨소리를 듣고 달려가 첫사랑 친구와 수줍게 통화했던 기억이 납니다. 선생님도 전화벨 소리가 울릴 때 설레거나 놀랐던 순간이 있으셨나요? 그때 이야기를 들려주실 수 있을까요?\n','cognitive-sound/sound-effect-old-phone-191761.mp3','audio','2025-08-13 08:01:41'),(31,'저는 공중전화에서 번호를 누르고 연결되는 ‘뚜루루루’ 음을 들으며 상대방을 기다리던 추억이 있어요. 전화번호를 돌리거나 누르며 기다리던 경험이 있으신가요? 그때 느끼셨던 감정이나 상황을 말씀해 주세요.','cognitive-sound/old-phone-dialing-101973.mp3','audio','2025-08-13 08:01:41'),(32,'저는 다이얼을 돌릴 때 ‘찰칵찰칵’ 소리가 돌아오는 그 손맛이 참 좋았어요. 선생님께서도 다이얼 전화기를 사용하시던 시절, 잊지 못할 통화나 순간이 있으신가요? 들려주시면 좋겠습니다.','cognitive-sound/old-phone-72428.mp3','audio','2025-08-13 08:01:41'),(33,'저는 겨울 아침 아버지가 장작을 패며 ‘퍽퍽’ 소리를 내시던 뒤에 아궁이에서 따뜻한 연기가 피어오르던 장면이 떠오릅니다. 장작 패는 소리와 함께 떠오르는 겨울 풍경이나 가족의 추억이 있으신가요? 그때를 떠올리며 말씀해 주세요.\n','cognitive-sound/chopping-logs-73222.mp3','audio','2025-08-13 08:01:41'),(35,'저는 봄이 오면 나무 창문을 열 때 나던 삐걱 소리와 함께 방 안으로 싱그러운 꽃향기가 스며들던 기억이 떠오릅니다. 선생님께서는 창문을 열며 들었던 소리나 함께 떠오르던 풍경이 있으셨나요? 그때의 느낌을 들려주실 수 있을까요?\n','cognitive-sound/opening-window-107097.mp3','audio','2025-08-13 08:01:41'),(36,'저는 어릴 적 자전거를 타고 동네를 돌며 벨을 ‘따르릉’ 울리려다 잘 안 울려 살짝 당황했던 추억이 있어요. 선생님께서도 자전거 벨 소리와 함께 떠오르는 재미있는 경험이나 기억에 남는 장소가 있으신가요?\n','cognitive-sound/bicycle-bell-65829.mp3','audio','2025-08-13 08:01:41'),(37,'저는 도서관에서 시험 공부를 할 때, 종이를 ‘팔랑팔랑’ 넘기며 노트에 필기를 하던 기억이 생생합니다. 선생님께서는 종이 넘기는 소리와 함께 떠오르는 책이나 특별한 순간이 있으신가요?','cognitive-sound/paper-flutter-5933.mp3','audio','2025-08-13 08:01:41'),(38,'저는 선생님이 칠판에 분필로 ‘끼익’ 하며 글씨를 쓰실 때 친구들과 숨죽여 듣던 교실의 분위기가 아직도 기억나요. 선생님께서는 칠판 소리가 들릴 때 떠오르는 학창시절의 추억이나 인상 깊은 수업이 있으신가요?\n','cognitive-sound/chalk-on-blackboard-68086.mp3','audio','2025-08-13 08:01:41'),(39,'저는 아버지께서 밤늦게 타자기로 ‘딸깍딸깍’ 문서를 쓰시던 소리를 들으며 옆에서 졸린 눈을 비비던 기억이 나요. 선생님께서도 타자기 소리를 들으시며 떠오르는 사람이나 장면이 있으신가요? 그때 이야기를 들려주세요.\n','cognitive-sound/typewriter-typing-68696.mp3','audio','2025-08-13 08:01:41'),(40,'저는 시골집에서 택배 아저씨가 오실 때마다 마당의 강아지가 ‘멍멍’ 짖으며 반겼던 모습이 떠오릅니다. 선생님께서는 개 짖는 소리와 함께 기억나는 사건이나 사랑스러운 반려견의 모습이 있으신가요?\n','cognitive-sound/dog-barking-70772.mp3','audio','2025-08-13 08:01:41'),(41,'저는 새벽에 강아지 목줄이 ‘찰랑’ 소리를 내며 산책길을 걷던 쌀쌀한 공기가 기억에 남아요. 선생님께서도 강아지와 산책하시면서 들었던 소리나 행복했던 순간이 있으시다면 들려주실 수 있나요?\n','cognitive-sound/dogs-walking-96801.mp3','audio','2025-08-13 08:01:41'),(42,'저는 어린 시절 시골 개울가에서 발을 담그고 물수제비를 뜨며 노는 동안 졸졸 흐르던 물소리가 귓가에 맴돌아요. 선생님께서는 개울물 소리를 들으며 떠오르는 장면이나 추억이 있으신가요? 그때를 떠올리며 들려주실 수 있을까요?\n','cognitive-sound/river-in-the-heart-of-nature_nature-sound-222599.mp3','audio','2025-08-13 08:01:41'),(43,'저는 여름 방학에 가족들과 해변에 가서 파도에 발이 잠길 때마다 차가운 물을 맞으며 파도소리를 들었던 기억이 나요. 선생님께서는 파도소리와 함께 기억나는 해변의 추억이나 즐거웠던 일이 있으신가요? 이야기해 주세요.\n','cognitive-sound/beach-23580.mp3','audio','2025-08-13 08:01:41'),(44,'저는 외갓집 마당에서 소가 ‘음머’ 하고 울면 외할아버지가 여물을 주시던 장면이 떠오릅니다. 선생님께서도 소 울음소리를 들으며 떠오르는 농촌의 풍경이나 특별한 기억이 있으신가요? 들려주시면 좋겠습니다.\n','cognitive-sound/cow-mooing-343423.mp3','audio','2025-08-13 08:01:41'),(45,'저는 산속 오솔길을 걸을 때 멀리서 뻐꾸기 울음소리가 들려오면 여름이 깊어졌다는 걸 느끼곤 했어요. 선생님께서는 뻐꾸기 울음소리를 들으며 떠오르는 자연 풍경이나 추억이 있으신가요? 그 이야기를 나눠주세요.\n','cognitive-sound/cuckoo1-82978.mp3','audio','2025-08-13 08:01:41'),(46,'저는 벽에 걸린 뻐꾸기 시계에서 정각마다 새 모형이 나와 ‘뻐꾹’ 하고 울던 모습이 재미있었어요. 선생님께서도 뻐꾸기 시계와 관련된 흥미로운 기억이나 가족과의 추억이 있으신가요? 들려주세요.\n','cognitive-sound/cuckoo-clock-64213.mp3','audio','2025-08-13 08:01:41'),(48,'저는 장마가 지나간 뒤 논길을 걸을 때 여기저기서 들리던 개구리 합창이 시원하게 느껴졌어요. 선생님께서는 개구리 소리와 함께 떠오르는 자연 속 추억이나 재밌었던 일이 있으신가요? 들려주시면 좋겠습니다.\n','cognitive-sound/frogs-48410.mp3','audio','2025-08-13 08:01:41'),(49,'저는 산길을 오르며 촉촉한 흙과 풀을 밟을 때마다 ‘사각사각’ 들리던 소리에 가슴이 탁 트이던 기억이 납니다. 선생님께서는 산길을 걸으며 들었던 풀 밟는 소리와 함께 떠오르는 추억이 있으신가요? 그때의 경치나 동행했던 사람 이야기를 들려주시면 좋겠습니다.\n','cognitive-sound/leafs-96574.mp3','audio','2025-08-13 08:01:41'),(50,'는 들판에서 친구들과 공을 차다 발끝으로 풀을 스치며 ‘바스락’ 소리가 나던 순간이 아직도 생생해요. 선생님께서는 넓은 들이나 공원에서 풀을 밟으며 느꼈던 즐거운 순간이 있으신가요? 그때 이야기를 들려주세요.\n','cognitive-sound/045246_steps-on-leafs-67637.mp3','audio','2025-08-13 08:01:41'),(51,'저는 여름 오후, 그늘 아래 앉아 바람이 지나갈 때마다 풀잎이 ‘휘파람’ 부는 듯이 흔들리던 소리를 들으며 한가로이 책을 읽던 기억이 떠오릅니다. 선생님께서는 풀잎이 바람에 흔들리는 소리를 들으며 떠오르는 풍경이나 기분이 있으신가요? 편하게 말씀해 주세요.\"\n','cognitive-sound/ambience-wind-blowing-through-trees-01-186986.mp3','audio','2025-08-13 08:01:41'),(52,'저는 처음 큰 도시에 갔을 때 수많은 자동차의 ‘빵빵’ 경적과 도로 위 소리에 마음이 들뜨고 약간은 어지러웠던 기억이 있어요. 선생님께서는 도시의 자동차 소리를 들으면 어떤 추억이 떠오르시나요? 특별히 기억나는 거리나 순간이 있으시면 들려주세요.\n','cognitive-sound/cars-on-a-road-city-ambience-319964.mp3','audio','2025-08-13 08:01:41'),(53,'저는 기차 안에서 ‘달그락달그락’ 레일을 달리는 소리와 차창 너머 지나가는 풍경을 바라보며 도시락을 먹던 추억이 참 좋았습니다. 선생님께서도 기차 안에서 들었던 소리와 함께 기억나는 여행이나 만남이 있으신가요? 그때의 이야기를 들려주시면 좋겠습니다.\n','cognitive-sound/inside-old-train-169418.mp3','audio','2025-08-13 08:01:41'),(54,'저는 시장 골목을 걸을 때 상인들의 \"어서오세요!\" 외침과 사람들의 흥정 소리가 어우러져 활기찬 분위기가 느껴졌던 기억이 납니다. 선생님께서는 시장 소리에 얽힌 추억이나 잊지 못할 물건, 음식이 있으신가요? 그때의 풍경을 들려주세요.\"\n','cognitive-sound/시장.mp3','audio','2025-08-13 08:01:41'),(56,'저는 천둥과 번개가 심하게 치던 날, 가족들과 촛불을 켜놓고 옛날 이야기를 나눴던 기억이 생생해요. 선생님께서는 천둥번개가 칠 때 어떻게 시간을 보내셨는지 기억나시나요? 혹시 가족들과 나누었던 이야기가 있으시면 들려주세요.','cognitive-sound/rain-weather-lightning-thunder-151314.mp3','audio','2025-08-13 08:01:41'),(57,'저는 어릴 적 시골에서 지낼 때 아침마다 닭 울음소리에 잠을 깨던 기억이 아직도 선명해요. 선생님도 닭 울음소리와 관련된 아침이나 특별한 기억이 있으신가요? 어떤 상황이셨는지 이야기해주실 수 있나요?','cognitive-sound/chicken-noises-223056.mp3','audio','2025-08-13 08:01:41');
 /*!40000 ALTER TABLE `cognitive_questions` ENABLE KEYS */;
 UNLOCK TABLES;
 /*!40103 SET TIME_ZONE=@OLD_TIME_ZONE */;
@@ -26,11 +26,15 @@ CREATE TABLE `survey_answers` (
   `answer_id` int NOT NULL AUTO_INCREMENT COMMENT '답변 ID',
   `question_id` int NOT NULL COMMENT 'survey_questions.question_id',
   `user_id` bigint NOT NULL COMMENT 'users.id',
-  `answer` text NOT NULL COMMENT '대답',
+  `answer` text COMMENT '대답 (STT 완료 전에는 NULL)',
+  `video_path` varchar(255) DEFAULT NULL COMMENT '대답 영상(S3) 주소',
+  `duration_ms` bigint DEFAULT NULL COMMENT '영상 길이(ms)',
+  `status` varchar(20) NOT NULL DEFAULT 'UPLOADED' COMMENT '처리 상태 (UPLOADED/TRANSCRIBED/SCORED/FAILED)',
   `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP,
   PRIMARY KEY (`answer_id`),
   KEY `idx_survey_q` (`question_id`),
   KEY `idx_survey_u` (`user_id`),
+  UNIQUE KEY `idx_survey_answers_video_path` (`video_path`),
   CONSTRAINT `fk_survey_answers_question` FOREIGN KEY (`question_id`) REFERENCES `survey_questions` (`question_id`) ON DELETE CASCADE,
   CONSTRAINT `fk_survey_answers_user` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON DELETE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=87 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;